@@ -1,15 +1,20 @@
 package com.turntabl.bonarda;
 
 import com.turntabl.bonarda.config.AzureAdProperties;
+import com.turntabl.bonarda.config.GraphSimulatorProperties;
 import com.turntabl.bonarda.config.SharePointProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableJpaAuditing
-@EnableConfigurationProperties({SharePointProperties.class, AzureAdProperties.class})
+@EnableAsync
+@EnableScheduling
+@EnableConfigurationProperties({SharePointProperties.class, AzureAdProperties.class, GraphSimulatorProperties.class})
 public class BonardaHrApplication {
 
     public static void main(String[] args) {
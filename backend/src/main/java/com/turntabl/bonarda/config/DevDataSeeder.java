@@ -6,6 +6,7 @@ import com.turntabl.bonarda.domain.employee.model.Role;
 import com.turntabl.bonarda.domain.employee.repository.EmployeeRepository;
 import com.turntabl.bonarda.domain.employee.repository.RoleRepository;
 import com.turntabl.bonarda.domain.timeoff.model.*;
+import com.turntabl.bonarda.domain.timeoff.repository.TimeOffAbsenceRepository;
 import com.turntabl.bonarda.domain.timeoff.repository.TimeOffBalanceRepository;
 import com.turntabl.bonarda.domain.timeoff.repository.TimeOffRequestRepository;
 import com.turntabl.bonarda.domain.timeoff.repository.TimeOffTypeRepository;
@@ -19,6 +20,7 @@ import com.turntabl.bonarda.domain.project.repository.ProjectRepository;
 import com.turntabl.bonarda.domain.project.repository.ProjectAssignmentRepository;
 import com.turntabl.bonarda.domain.project.repository.ProjectTimeLogRepository;
 import com.turntabl.bonarda.domain.document.model.*;
+import com.turntabl.bonarda.domain.document.repository.DocumentInboxCounterRepository;
 import com.turntabl.bonarda.domain.document.repository.DocumentRepository;
 import com.turntabl.bonarda.domain.document.repository.DocumentShareRepository;
 import com.turntabl.bonarda.domain.document.repository.DocumentSignatureRepository;
@@ -51,6 +53,7 @@ public class DevDataSeeder implements CommandLineRunner {
     private final TimeOffTypeRepository timeOffTypeRepository;
     private final TimeOffBalanceRepository timeOffBalanceRepository;
     private final TimeOffRequestRepository timeOffRequestRepository;
+    private final TimeOffAbsenceRepository timeOffAbsenceRepository;
     private final TimesheetRepository timesheetRepository;
     private final ClientRepository clientRepository;
     private final ProjectRepository projectRepository;
@@ -59,6 +62,7 @@ public class DevDataSeeder implements CommandLineRunner {
     private final DocumentRepository documentRepository;
     private final DocumentShareRepository documentShareRepository;
     private final DocumentSignatureRepository documentSignatureRepository;
+    private final DocumentInboxCounterRepository documentInboxCounterRepository;
     private final CompanyEventRepository companyEventRepository;
 
     @Override
@@ -292,6 +296,7 @@ public class DevDataSeeder implements CommandLineRunner {
                 .reviewedAt(LocalDateTime.now().minusDays(35))
                 .calendarEventId("mock-event-seed-akua-annual")
                 .build());
+        timeOffAbsenceRepository.addRequest(akuaRequest.getId());
 
         // Update Akua's annual leave balance: used=5
         timeOffBalanceRepository.findByEmployeeIdAndTimeOffTypeIdAndYear(
@@ -677,6 +682,10 @@ public class DevDataSeeder implements CommandLineRunner {
                 .uploadedBy(vpHr)
                 .build());
 
+        documentShareRepository.flush();
+        documentInboxCounterRepository.recalculate(
+                List.of(vpHr.getId(), engManager.getId(), akua.getId(), yaw.getId(), abena.getId(), efua.getId()));
+
         log.info("Document sample data created: 6 documents with shares, signatures, and company-wide docs");
     }
 
@@ -696,19 +705,7 @@ public class DevDataSeeder implements CommandLineRunner {
                 .createdByEmployee(engManager)
                 .build());
 
-        // 2. Birthday Celebrations — CELEBRATION, Friday this week
-        companyEventRepository.save(CompanyEvent.builder()
-                .title("February Birthday Celebrations")
-                .description("Celebrating all team members with February birthdays. Cake and refreshments provided!")
-                .eventDate(thisMonday.plusDays(4))
-                .startTime(LocalTime.of(15, 0))
-                .endTime(LocalTime.of(16, 30))
-                .location("Break Room")
-                .eventType(EventType.CELEBRATION)
-                .createdByEmployee(vpHr)
-                .build());
-
-        // 3. Cloud Architecture Workshop — TRAINING, next week Wednesday
+        // 2. Cloud Architecture Workshop — TRAINING, next week Wednesday
         companyEventRepository.save(CompanyEvent.builder()
                 .title("Cloud Architecture Workshop")
                 .description("Hands-on workshop covering AWS best practices, microservices patterns, and deployment strategies.")
@@ -720,7 +717,7 @@ public class DevDataSeeder implements CommandLineRunner {
                 .createdByEmployee(engManager)
                 .build());
 
-        // 4. Q1 Results Town Hall — COMPANY_WIDE, Thursday this week
+        // 3. Q1 Results Town Hall — COMPANY_WIDE, Thursday this week
         companyEventRepository.save(CompanyEvent.builder()
                 .title("Q1 Results Town Hall")
                 .description("Quarterly results presentation and Q&A session with leadership.")
@@ -0,0 +1,34 @@
+package com.turntabl.bonarda.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Tuning for the local Graph simulator (profile {@code graph-sim}). Defaults are
+ * roughly what a busy tenant sees; override them per load-test scenario.
+ */
+@Data
+@ConfigurationProperties(prefix = "microsoft.graph.simulator")
+public class GraphSimulatorProperties {
+    /** Median request latency. */
+    private Duration latencyMedian = Duration.ofMillis(120);
+    /** 99th percentile request latency; together with the median this shapes a log-normal tail. */
+    private Duration latencyP99 = Duration.ofMillis(1500);
+    /** Probability that a request fails with 503 Service Unavailable. */
+    private double errorRate = 0.01;
+    /** Sustained request rate before throttling kicks in; 0 disables throttling. */
+    private int requestsPerSecond = 20;
+    /** Requests allowed in a burst above the sustained rate. */
+    private int burst = 40;
+    /** Retry-After returned with 429 responses; further requests are rejected until it elapses. */
+    private Duration retryAfter = Duration.ofSeconds(5);
+    /** Items per page for list operations; each extra page costs a request via @odata.nextLink. */
+    private int pageSize = 5;
+    /** Simulated upload throughput per second. */
+    private DataSize uploadThroughput = DataSize.ofMegabytes(5);
+    /** Fixed random seed for reproducible runs; random when unset. */
+    private Long seed;
+}
@@ -5,6 +5,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -44,6 +45,8 @@ public class SecurityConfig {
                     auth.requestMatchers("/api/v1/auth/me").authenticated();
                     auth.requestMatchers("/api/v1/auth/**").permitAll();
                     auth.requestMatchers("/actuator/health").permitAll();
+                    // Calendar feeds authenticate with the signed token in the path
+                    auth.requestMatchers(HttpMethod.GET, "/api/v1/calendar/*/feed.ics").permitAll();
 
                     if (clientRegistrationRepository != null) {
                         auth.requestMatchers(
@@ -2,6 +2,7 @@ package com.turntabl.bonarda.config;
 
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 
 import java.util.HashMap;
 import java.util.List;
@@ -16,6 +17,7 @@ public class SharePointProperties {
     private List<String> scopes;
     private boolean mockEnabled = true;
     private Map<String, LibraryConfig> libraries = new HashMap<>();
+    private UploadConfig upload = new UploadConfig();
 
     @Data
     public static class LibraryConfig {
@@ -23,4 +25,16 @@ public class SharePointProperties {
         private String driveId;
         private String name;
     }
+
+    @Data
+    public static class UploadConfig {
+        /** Slice size for upload sessions. Graph requires a multiple of 320 KiB. */
+        private DataSize sliceSize = DataSize.ofKilobytes(320L * 16);
+        /** Slices read ahead of the one in flight; bounds heap use per upload. */
+        private int maxBufferedSlices = 3;
+        /** Attempts per slice before the upload is abandoned. */
+        private int maxRetries = 4;
+        /** Upper bound for streamed uploads, which bypass the multipart limits. */
+        private DataSize maxFileSize = DataSize.ofMegabytes(250);
+    }
 }
@@ -0,0 +1,68 @@
+package com.turntabl.bonarda.domain.calendar.controller;
+
+import com.turntabl.bonarda.domain.calendar.dto.CalendarFeedDto;
+import com.turntabl.bonarda.domain.calendar.model.CalendarFeedToken;
+import com.turntabl.bonarda.domain.calendar.model.CalendarFeedVersion;
+import com.turntabl.bonarda.domain.calendar.service.CalendarFeedService;
+import com.turntabl.bonarda.security.CurrentUser;
+import com.turntabl.bonarda.security.UserPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/calendar")
+@RequiredArgsConstructor
+public class CalendarFeedController {
+
+    private static final MediaType TEXT_CALENDAR = new MediaType("text", "calendar", StandardCharsets.UTF_8);
+
+    private final CalendarFeedService calendarFeedService;
+
+    @GetMapping("/feeds")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<List<CalendarFeedDto>> getFeeds(@CurrentUser UserPrincipal currentUser) {
+        return ResponseEntity.ok(calendarFeedService.getFeeds(currentUser.getId()));
+    }
+
+    @PostMapping("/feeds/reset")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<List<CalendarFeedDto>> resetFeeds(@CurrentUser UserPrincipal currentUser) {
+        return ResponseEntity.ok(calendarFeedService.resetFeeds(currentUser.getId()));
+    }
+
+    /**
+     * Public: the signed token in the path is the credential, as calendar clients cannot
+     * send a bearer token. A matching {@code If-None-Match} is answered with 304 before
+     * any feed row is loaded; {@code If-Modified-Since} alone cannot see removed rows, so
+     * it is not honoured.
+     */
+    @GetMapping("/{token}/feed.ics")
+    public ResponseEntity<StreamingResponseBody> getFeed(@PathVariable String token, WebRequest request) {
+        CalendarFeedToken feedToken = calendarFeedService.resolveToken(token);
+        CalendarFeedVersion version = calendarFeedService.getVersion(feedToken);
+
+        if (request.checkNotModified(version.etag())) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .contentType(TEXT_CALENDAR)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"feed.ics\"")
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(out -> calendarFeedService.writeFeed(feedToken, out));
+    }
+}
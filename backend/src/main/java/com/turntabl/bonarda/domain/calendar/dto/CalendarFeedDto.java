@@ -0,0 +1,13 @@
+package com.turntabl.bonarda.domain.calendar.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class CalendarFeedDto {
+    private String scope;
+    private String name;
+    /** Subscription URL; anyone holding it can read the feed. */
+    private String url;
+}
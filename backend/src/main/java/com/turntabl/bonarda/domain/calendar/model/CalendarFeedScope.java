@@ -0,0 +1,10 @@
+package com.turntabl.bonarda.domain.calendar.model;
+
+public enum CalendarFeedScope {
+    /** Company events plus everyone's approved time off. */
+    COMPANY,
+    /** Approved time off of a manager and their direct reports. */
+    TEAM,
+    /** Approved time off of one employee. */
+    EMPLOYEE
+}
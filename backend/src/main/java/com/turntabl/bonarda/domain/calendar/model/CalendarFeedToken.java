@@ -0,0 +1,13 @@
+package com.turntabl.bonarda.domain.calendar.model;
+
+import java.util.UUID;
+
+/**
+ * What a feed URL grants access to. {@code subjectId} is the manager's public id for
+ * {@link CalendarFeedScope#TEAM}, the employee's for {@link CalendarFeedScope#EMPLOYEE},
+ * and {@code null} for {@link CalendarFeedScope#COMPANY}. {@code holderId} is the
+ * employee the URL was issued to and {@code generation} their feed generation at the
+ * time; the URL stops working when either no longer checks out.
+ */
+public record CalendarFeedToken(CalendarFeedScope scope, UUID subjectId, Long holderId, int generation) {
+}
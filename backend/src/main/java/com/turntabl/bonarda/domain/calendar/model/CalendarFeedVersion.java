@@ -0,0 +1,9 @@
+package com.turntabl.bonarda.domain.calendar.model;
+
+/**
+ * Validator for a feed's current content, computed without rendering it. There is no
+ * Last-Modified: the newest {@code updated_at} in a feed does not move when a row leaves
+ * it, while the tag also covers the row count.
+ */
+public record CalendarFeedVersion(String etag) {
+}
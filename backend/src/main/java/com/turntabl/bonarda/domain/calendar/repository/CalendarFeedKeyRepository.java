@@ -0,0 +1,55 @@
+package com.turntabl.bonarda.domain.calendar.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/** Per-employee feed generations, and the holders feed tokens are checked against. */
+@Repository
+@RequiredArgsConstructor
+public class CalendarFeedKeyRepository {
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public int currentGeneration(Long employeeId) {
+        return jdbc.queryForList("""
+                SELECT generation FROM calendar_feed_keys WHERE employee_id = :employeeId
+                """, new MapSqlParameterSource("employeeId", employeeId), Integer.class)
+                .stream().findFirst().orElse(0);
+    }
+
+    /** Moves the employee to a new generation and returns it. */
+    public int resetGeneration(Long employeeId) {
+        return jdbc.queryForObject("""
+                INSERT INTO calendar_feed_keys (employee_id, generation)
+                VALUES (:employeeId, 1)
+                ON CONFLICT (employee_id) DO UPDATE
+                    SET generation = calendar_feed_keys.generation + 1,
+                        reset_at = CURRENT_TIMESTAMP
+                RETURNING generation
+                """, new MapSqlParameterSource("employeeId", employeeId), Integer.class);
+    }
+
+    /** What a holder's tokens are checked against; {@code managerPublicId} is null without a manager. */
+    public record Holder(Long employeeId, UUID publicId, UUID managerPublicId, int generation) {
+    }
+
+    /** Every employee who may currently hold feed URLs, with their generation. */
+    public List<Holder> findHolders() {
+        return jdbc.query("""
+                SELECT h.id, h.public_id, m.public_id, COALESCE(k.generation, 0)
+                FROM employees h
+                LEFT JOIN employees m ON m.id = h.reports_to_id
+                LEFT JOIN calendar_feed_keys k ON k.employee_id = h.id
+                WHERE h.status IN ('ACTIVE', 'ON_LEAVE')
+                """, (rs, rowNum) -> new Holder(
+                        rs.getLong(1),
+                        rs.getObject(2, UUID.class),
+                        rs.getObject(3, UUID.class),
+                        rs.getInt(4)));
+    }
+}
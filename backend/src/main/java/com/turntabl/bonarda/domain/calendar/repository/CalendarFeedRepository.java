@@ -0,0 +1,62 @@
+package com.turntabl.bonarda.domain.calendar.repository;
+
+import com.turntabl.bonarda.domain.calendar.model.CalendarFeedScope;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Cheap aggregate over the rows a feed would render, used to answer conditional
+ * requests without loading them. Renamed employees and time-off types change what a
+ * feed says, so their {@code updated_at} counts too; the row count catches deletions
+ * and rows leaving the window or the approved state.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CalendarFeedRepository {
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public record Fingerprint(LocalDateTime lastModified, long rows) {
+    }
+
+    public Fingerprint fingerprint(CalendarFeedScope scope, UUID subjectId, LocalDate from, LocalDate to) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("from", from)
+                .addValue("to", to)
+                .addValue("subjectId", subjectId);
+
+        String timeOffFilter = switch (scope) {
+            case COMPANY -> "";
+            case TEAM -> "AND (emp.public_id = :subjectId OR mgr.public_id = :subjectId)";
+            case EMPLOYEE -> "AND emp.public_id = :subjectId";
+        };
+        String events = scope == CalendarFeedScope.COMPANY ? """
+                SELECT e.updated_at
+                FROM company_events e
+                WHERE e.event_date BETWEEN :from AND :to
+                UNION ALL
+                """ : "";
+
+        return jdbc.queryForObject("""
+                SELECT max(updated_at) AS last_modified, count(*) AS row_count
+                FROM (
+                """ + events + """
+                    SELECT GREATEST(r.updated_at, emp.updated_at, t.updated_at) AS updated_at
+                    FROM time_off_requests r
+                    JOIN employees emp ON emp.id = r.employee_id
+                    LEFT JOIN employees mgr ON mgr.id = emp.reports_to_id
+                    JOIN time_off_types t ON t.id = r.time_off_type_id
+                    WHERE r.status = 'APPROVED'
+                      AND r.start_date <= :to AND r.end_date >= :from
+                """ + timeOffFilter + """
+                ) feed
+                """, params,
+                (rs, i) -> new Fingerprint(rs.getObject("last_modified", LocalDateTime.class), rs.getLong("row_count")));
+    }
+}
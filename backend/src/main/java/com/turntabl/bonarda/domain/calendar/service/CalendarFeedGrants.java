@@ -0,0 +1,82 @@
+package com.turntabl.bonarda.domain.calendar.service;
+
+import com.turntabl.bonarda.domain.calendar.model.CalendarFeedToken;
+import com.turntabl.bonarda.domain.calendar.repository.CalendarFeedKeyRepository;
+import com.turntabl.bonarda.domain.calendar.repository.CalendarFeedKeyRepository.Holder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory snapshot of who may hold feed URLs, so a feed poll is verified without a
+ * database hit. The snapshot is reloaded in one query on a fixed delay; a reset on this
+ * instance takes effect at once, while terminations, reporting-line changes and resets
+ * on other instances take effect within one refresh interval.
+ */
+@Component
+@Slf4j
+public class CalendarFeedGrants {
+
+    private final CalendarFeedKeyRepository keyRepository;
+    private volatile Map<Long, Holder> holders;
+
+    public CalendarFeedGrants(CalendarFeedKeyRepository keyRepository) {
+        this.keyRepository = keyRepository;
+    }
+
+    /**
+     * Honoured while the holder is still employed, still on the generation the token was
+     * issued with, and still the subject of (or reporting to) a personal or team feed.
+     */
+    public boolean isHonoured(CalendarFeedToken token) {
+        Holder holder = snapshot().get(token.holderId());
+        if (holder == null || holder.generation() != token.generation()) {
+            return false;
+        }
+        return switch (token.scope()) {
+            case COMPANY -> true;
+            case EMPLOYEE -> holder.publicId().equals(token.subjectId());
+            case TEAM -> holder.publicId().equals(token.subjectId())
+                    || Objects.equals(holder.managerPublicId(), token.subjectId());
+        };
+    }
+
+    /** Applies a reset made on this instance without waiting for the next refresh. */
+    public void generationChanged(Long employeeId, int generation) {
+        snapshot().computeIfPresent(employeeId, (id, holder) -> holder.generation() >= generation
+                ? holder
+                : new Holder(id, holder.publicId(), holder.managerPublicId(), generation));
+    }
+
+    @Scheduled(fixedDelayString = "${app.calendar.grant-refresh-interval:PT1M}")
+    public void refresh() {
+        Map<Long, Holder> previous = holders;
+        Map<Long, Holder> loaded = new ConcurrentHashMap<>();
+        for (Holder holder : keyRepository.findHolders()) {
+            // Generations only grow; keep a local reset the query may have read past
+            Holder known = previous != null ? previous.get(holder.employeeId()) : null;
+            loaded.put(holder.employeeId(), known != null && known.generation() > holder.generation()
+                    ? new Holder(holder.employeeId(), holder.publicId(), holder.managerPublicId(), known.generation())
+                    : holder);
+        }
+        holders = loaded;
+        log.debug("Loaded {} calendar feed holders", loaded.size());
+    }
+
+    private Map<Long, Holder> snapshot() {
+        Map<Long, Holder> current = holders;
+        if (current == null) {
+            synchronized (this) {
+                if (holders == null) {
+                    refresh();
+                }
+                current = holders;
+            }
+        }
+        return current;
+    }
+}
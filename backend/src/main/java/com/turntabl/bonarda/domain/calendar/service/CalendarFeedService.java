@@ -0,0 +1,29 @@
+package com.turntabl.bonarda.domain.calendar.service;
+
+import com.turntabl.bonarda.domain.calendar.dto.CalendarFeedDto;
+import com.turntabl.bonarda.domain.calendar.model.CalendarFeedToken;
+import com.turntabl.bonarda.domain.calendar.model.CalendarFeedVersion;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+public interface CalendarFeedService {
+
+    /** Subscription URLs the employee may use: company, own time off, and their team(s). */
+    List<CalendarFeedDto> getFeeds(Long employeeId);
+
+    /** Issues new subscription URLs for the employee, revoking every URL they were given before. */
+    List<CalendarFeedDto> resetFeeds(Long employeeId);
+
+    /**
+     * Verifies a feed token from a URL; throws ResourceNotFoundException when it is not
+     * genuine, has been reset, or its holder has left or lost access to the scope.
+     */
+    CalendarFeedToken resolveToken(String token);
+
+    CalendarFeedVersion getVersion(CalendarFeedToken token);
+
+    /** Renders the feed as iCalendar, writing events as they are produced. */
+    void writeFeed(CalendarFeedToken token, OutputStream out) throws IOException;
+}
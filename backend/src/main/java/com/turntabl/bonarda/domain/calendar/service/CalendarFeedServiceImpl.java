@@ -0,0 +1,201 @@
+package com.turntabl.bonarda.domain.calendar.service;
+
+import com.turntabl.bonarda.domain.calendar.dto.CalendarFeedDto;
+import com.turntabl.bonarda.domain.calendar.model.CalendarFeedScope;
+import com.turntabl.bonarda.domain.calendar.model.CalendarFeedToken;
+import com.turntabl.bonarda.domain.calendar.model.CalendarFeedVersion;
+import com.turntabl.bonarda.domain.calendar.repository.CalendarFeedKeyRepository;
+import com.turntabl.bonarda.domain.calendar.repository.CalendarFeedRepository;
+import com.turntabl.bonarda.domain.employee.model.Employee;
+import com.turntabl.bonarda.domain.employee.repository.EmployeeRepository;
+import com.turntabl.bonarda.domain.event.model.CompanyEvent;
+import com.turntabl.bonarda.domain.event.repository.CompanyEventRepository;
+import com.turntabl.bonarda.domain.timeoff.model.HalfDayPeriod;
+import com.turntabl.bonarda.domain.timeoff.model.TimeOffRequest;
+import com.turntabl.bonarda.domain.timeoff.repository.TimeOffRequestRepository;
+import com.turntabl.bonarda.exception.ResourceNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Feeds cover a fixed window around today. Conditional requests are answered from an
+ * aggregate over the window's rows; only a changed feed is loaded and rendered.
+ */
+@Service
+@Transactional(readOnly = true)
+public class CalendarFeedServiceImpl implements CalendarFeedService {
+
+    private static final int PAST_DAYS = 90;
+    private static final int FUTURE_DAYS = 365;
+
+    private final CalendarFeedTokenCodec tokenCodec;
+    private final CalendarFeedRepository calendarFeedRepository;
+    private final CalendarFeedKeyRepository calendarFeedKeyRepository;
+    private final CalendarFeedGrants calendarFeedGrants;
+    private final CompanyEventRepository companyEventRepository;
+    private final TimeOffRequestRepository timeOffRequestRepository;
+    private final EmployeeRepository employeeRepository;
+    private final String baseUrl;
+
+    public CalendarFeedServiceImpl(CalendarFeedTokenCodec tokenCodec,
+                                   CalendarFeedRepository calendarFeedRepository,
+                                   CalendarFeedKeyRepository calendarFeedKeyRepository,
+                                   CalendarFeedGrants calendarFeedGrants,
+                                   CompanyEventRepository companyEventRepository,
+                                   TimeOffRequestRepository timeOffRequestRepository,
+                                   EmployeeRepository employeeRepository,
+                                   @Value("${app.calendar.base-url}") String baseUrl) {
+        this.tokenCodec = tokenCodec;
+        this.calendarFeedRepository = calendarFeedRepository;
+        this.calendarFeedKeyRepository = calendarFeedKeyRepository;
+        this.calendarFeedGrants = calendarFeedGrants;
+        this.companyEventRepository = companyEventRepository;
+        this.timeOffRequestRepository = timeOffRequestRepository;
+        this.employeeRepository = employeeRepository;
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    }
+
+    @Override
+    public List<CalendarFeedDto> getFeeds(Long employeeId) {
+        Employee employee = employeeRepository.findById(employeeId)
+                .orElseThrow(() -> new ResourceNotFoundException("Employee", "id", employeeId));
+        return feeds(employee, calendarFeedKeyRepository.currentGeneration(employeeId));
+    }
+
+    @Override
+    @Transactional
+    public List<CalendarFeedDto> resetFeeds(Long employeeId) {
+        Employee employee = employeeRepository.findById(employeeId)
+                .orElseThrow(() -> new ResourceNotFoundException("Employee", "id", employeeId));
+        int generation = calendarFeedKeyRepository.resetGeneration(employeeId);
+        calendarFeedGrants.generationChanged(employeeId, generation);
+        return feeds(employee, generation);
+    }
+
+    @Override
+    public CalendarFeedToken resolveToken(String token) {
+        return tokenCodec.decode(token)
+                .filter(calendarFeedGrants::isHonoured)
+                .orElseThrow(() -> new ResourceNotFoundException("Calendar feed not found"));
+    }
+
+    @Override
+    public CalendarFeedVersion getVersion(CalendarFeedToken token) {
+        LocalDate from = windowStart();
+        CalendarFeedRepository.Fingerprint fingerprint = calendarFeedRepository.fingerprint(
+                token.scope(), token.subjectId(), from, windowEnd(from));
+
+        // The window start is part of the tag: rows age out of the feed every day
+        String source = token.scope() + "|" + token.subjectId() + "|" + from + "|"
+                + fingerprint.lastModified() + "|" + fingerprint.rows();
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8));
+            String etag = "\"" + HexFormat.of().formatHex(Arrays.copyOf(digest, 16)) + "\"";
+            return new CalendarFeedVersion(etag);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 unavailable", e);
+        }
+    }
+
+    @Override
+    public void writeFeed(CalendarFeedToken token, OutputStream out) throws IOException {
+        LocalDate from = windowStart();
+        LocalDate to = windowEnd(from);
+        IcsWriter ics = new IcsWriter(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)));
+
+        ics.beginCalendar(switch (token.scope()) {
+            case COMPANY -> "Company calendar";
+            case TEAM -> "Team time off";
+            case EMPLOYEE -> "Time off";
+        });
+
+        if (token.scope() == CalendarFeedScope.COMPANY) {
+            for (CompanyEvent event : companyEventRepository.findByEventDateBetween(from, to)) {
+                writeEvent(ics, event);
+            }
+        }
+
+        List<TimeOffRequest> timeOff = switch (token.scope()) {
+            case COMPANY -> timeOffRequestRepository.findApprovedRequestsOverlappingDateRange(from, to);
+            case TEAM -> timeOffRequestRepository.findApprovedTeamRequestsOverlappingDateRange(
+                    token.subjectId(), from, to);
+            case EMPLOYEE -> timeOffRequestRepository.findApprovedEmployeeRequestsOverlappingDateRange(
+                    token.subjectId(), from, to);
+        };
+        for (TimeOffRequest request : timeOff) {
+            writeTimeOff(ics, request);
+        }
+
+        ics.endCalendar();
+    }
+
+    private List<CalendarFeedDto> feeds(Employee employee, int generation) {
+        Long holderId = employee.getId();
+        List<CalendarFeedDto> feeds = new ArrayList<>();
+        feeds.add(feed(new CalendarFeedToken(CalendarFeedScope.COMPANY, null, holderId, generation),
+                "Company calendar"));
+        feeds.add(feed(new CalendarFeedToken(CalendarFeedScope.EMPLOYEE, employee.getPublicId(), holderId, generation),
+                "My time off"));
+        if (employee.getReportsTo() != null) {
+            feeds.add(feed(new CalendarFeedToken(CalendarFeedScope.TEAM, employee.getReportsTo().getPublicId(),
+                    holderId, generation), "My team's time off"));
+        }
+        if (!employee.getDirectReports().isEmpty()) {
+            feeds.add(feed(new CalendarFeedToken(CalendarFeedScope.TEAM, employee.getPublicId(), holderId, generation),
+                    "My direct reports' time off"));
+        }
+        return feeds;
+    }
+
+    private CalendarFeedDto feed(CalendarFeedToken token, String name) {
+        return CalendarFeedDto.builder()
+                .scope(token.scope().name())
+                .name(name)
+                .url(baseUrl + "/api/v1/calendar/" + tokenCodec.encode(token) + "/feed.ics")
+                .build();
+    }
+
+    private static void writeEvent(IcsWriter ics, CompanyEvent event) throws IOException {
+        String uid = event.getPublicId() + "@events.bonarda";
+        if (event.getStartTime() == null) {
+            ics.allDayEvent(uid, event.getUpdatedAt(), event.getTitle(), event.getDescription(),
+                    event.getEventDate(), event.getEventDate());
+        } else {
+            ics.timedEvent(uid, event.getUpdatedAt(), event.getTitle(), event.getDescription(),
+                    event.getLocation(), event.getEventDate(), event.getStartTime(), event.getEndTime());
+        }
+    }
+
+    private static void writeTimeOff(IcsWriter ics, TimeOffRequest request) throws IOException {
+        Employee employee = request.getEmployee();
+        String summary = employee.getFirstName() + " " + employee.getLastName()
+                + " – " + request.getTimeOffType().getName();
+        if (Boolean.TRUE.equals(request.getHalfDay()) && request.getHalfDayPeriod() != null) {
+            summary += request.getHalfDayPeriod() == HalfDayPeriod.MORNING ? " (AM)" : " (PM)";
+        }
+        ics.allDayEvent(request.getPublicId() + "@time-off.bonarda", request.getUpdatedAt(), summary, null,
+                request.getStartDate(), request.getEndDate());
+    }
+
+    private static LocalDate windowStart() {
+        return LocalDate.now().minusDays(PAST_DAYS);
+    }
+
+    private static LocalDate windowEnd(LocalDate start) {
+        return start.plusDays(PAST_DAYS + FUTURE_DAYS);
+    }
+}
@@ -0,0 +1,107 @@
+package com.turntabl.bonarda.domain.calendar.service;
+
+import com.turntabl.bonarda.domain.calendar.model.CalendarFeedScope;
+import com.turntabl.bonarda.domain.calendar.model.CalendarFeedToken;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Feed tokens are a version byte, the scope, the subject id, the holder's id and their
+ * feed generation, followed by a truncated HMAC-SHA256 over them. The signature proves
+ * the token was issued here; whether the holder may still use it is checked separately
+ * against the generation. Rotating {@code app.calendar.feed-secret} revokes every issued
+ * feed URL at once.
+ */
+@Component
+public class CalendarFeedTokenCodec {
+
+    private static final byte VERSION = 2;
+    private static final int PAYLOAD_LENGTH = 30;
+    private static final int MAC_LENGTH = 16;
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+
+    public CalendarFeedTokenCodec(@Value("${app.calendar.feed-secret}") String secret) {
+        if (secret.getBytes(StandardCharsets.UTF_8).length < 32) {
+            throw new IllegalStateException("Calendar feed secret must be at least 32 bytes");
+        }
+        // Derive a key of its own so a feed token can never be mistaken for anything else
+        // signed with the same secret
+        byte[] derived = mac(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM),
+                "calendar-feed".getBytes(StandardCharsets.UTF_8));
+        this.key = new SecretKeySpec(derived, ALGORITHM);
+    }
+
+    public String encode(CalendarFeedToken token) {
+        UUID subject = token.subjectId() != null ? token.subjectId() : new UUID(0, 0);
+        byte[] payload = ByteBuffer.allocate(PAYLOAD_LENGTH)
+                .put(VERSION)
+                .put((byte) token.scope().ordinal())
+                .putLong(subject.getMostSignificantBits())
+                .putLong(subject.getLeastSignificantBits())
+                .putLong(token.holderId())
+                .putInt(token.generation())
+                .array();
+        return ENCODER.encodeToString(payload) + "." + ENCODER.encodeToString(signature(payload));
+    }
+
+    public Optional<CalendarFeedToken> decode(String encoded) {
+        int dot = encoded.indexOf('.');
+        if (dot < 0) {
+            return Optional.empty();
+        }
+        byte[] payload;
+        byte[] signature;
+        try {
+            payload = DECODER.decode(encoded.substring(0, dot));
+            signature = DECODER.decode(encoded.substring(dot + 1));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        if (payload.length != PAYLOAD_LENGTH || payload[0] != VERSION
+                || !MessageDigest.isEqual(signature, signature(payload))) {
+            return Optional.empty();
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(payload, 1, PAYLOAD_LENGTH - 1);
+        int ordinal = buffer.get();
+        if (ordinal < 0 || ordinal >= CalendarFeedScope.values().length) {
+            return Optional.empty();
+        }
+        CalendarFeedScope scope = CalendarFeedScope.values()[ordinal];
+        UUID subject = new UUID(buffer.getLong(), buffer.getLong());
+        long holderId = buffer.getLong();
+        int generation = buffer.getInt();
+        return Optional.of(new CalendarFeedToken(scope, scope == CalendarFeedScope.COMPANY ? null : subject,
+                holderId, generation));
+    }
+
+    private byte[] signature(byte[] payload) {
+        return Arrays.copyOf(mac(key, payload), MAC_LENGTH);
+    }
+
+    private static byte[] mac(SecretKeySpec key, byte[] data) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(data);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 unavailable", e);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.turntabl.bonarda.domain.calendar.service;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Minimal RFC 5545 writer: CRLF line endings, TEXT escaping, and content lines folded
+ * at 75 octets. Writes straight through to the underlying writer so a feed never has
+ * to be held in memory as a whole.
+ */
+class IcsWriter {
+
+    private static final int MAX_LINE_OCTETS = 75;
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+    private final Writer out;
+
+    IcsWriter(Writer out) {
+        this.out = out;
+    }
+
+    void beginCalendar(String name) throws IOException {
+        line("BEGIN:VCALENDAR");
+        line("VERSION:2.0");
+        line("PRODID:-//Bonarda HR//Calendar Feed//EN");
+        line("CALSCALE:GREGORIAN");
+        line("METHOD:PUBLISH");
+        line("X-WR-CALNAME:" + escape(name));
+    }
+
+    void endCalendar() throws IOException {
+        line("END:VCALENDAR");
+        out.flush();
+    }
+
+    /** An all-day event; {@code end} is inclusive. */
+    void allDayEvent(String uid, LocalDateTime stampUtc, String summary, String description,
+                     LocalDate start, LocalDate end) throws IOException {
+        beginEvent(uid, stampUtc, summary, description, null);
+        line("DTSTART;VALUE=DATE:" + DATE.format(start));
+        line("DTEND;VALUE=DATE:" + DATE.format(end.plusDays(1)));
+        line("TRANSP:TRANSPARENT");
+        line("END:VEVENT");
+    }
+
+    /** A timed event in floating local time; a missing end time leaves the duration unset. */
+    void timedEvent(String uid, LocalDateTime stampUtc, String summary, String description, String location,
+                    LocalDate date, LocalTime start, LocalTime end) throws IOException {
+        beginEvent(uid, stampUtc, summary, description, location);
+        line("DTSTART:" + DATE_TIME.format(date.atTime(start)));
+        if (end != null && end.isAfter(start)) {
+            line("DTEND:" + DATE_TIME.format(date.atTime(end)));
+        }
+        line("END:VEVENT");
+    }
+
+    private void beginEvent(String uid, LocalDateTime stampUtc, String summary, String description,
+                            String location) throws IOException {
+        line("BEGIN:VEVENT");
+        line("UID:" + uid);
+        line("DTSTAMP:" + DATE_TIME.format(stampUtc) + "Z");
+        line("SUMMARY:" + escape(summary));
+        if (description != null && !description.isBlank()) {
+            line("DESCRIPTION:" + escape(description));
+        }
+        if (location != null && !location.isBlank()) {
+            line("LOCATION:" + escape(location));
+        }
+    }
+
+    private void line(String content) throws IOException {
+        int octets = 0;
+        for (int i = 0; i < content.length(); ) {
+            int codePoint = content.codePointAt(i);
+            int width = utf8Length(codePoint);
+            // Continuation lines start with a space, which counts towards their length
+            if (octets + width > MAX_LINE_OCTETS) {
+                out.write("\r\n ");
+                octets = 1;
+            }
+            out.write(Character.toChars(codePoint));
+            octets += width;
+            i += Character.charCount(codePoint);
+        }
+        out.write("\r\n");
+    }
+
+    private static int utf8Length(int codePoint) {
+        if (codePoint < 0x80) {
+            return 1;
+        }
+        if (codePoint < 0x800) {
+            return 2;
+        }
+        return codePoint < 0x10000 ? 3 : 4;
+    }
+
+    private static String escape(String text) {
+        StringBuilder escaped = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\' -> escaped.append("\\\\");
+                case ';' -> escaped.append("\\;");
+                case ',' -> escaped.append("\\,");
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> { }
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,15 @@
+package com.turntabl.bonarda.domain.common.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class BulkReviewItemDto<T> {
+    private String id;
+    private Boolean success;
+    /** Why the item was skipped; null on success. */
+    private String message;
+    /** The reviewed item; null on failure. */
+    private T result;
+}
@@ -0,0 +1,24 @@
+package com.turntabl.bonarda.domain.common.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/** Per-item outcomes of a bulk review, in the order the ids were given. */
+@Getter
+@Builder
+public class BulkReviewResultDto<T> {
+    private Integer succeeded;
+    private Integer failed;
+    private List<BulkReviewItemDto<T>> items;
+
+    public static <T> BulkReviewResultDto<T> of(List<BulkReviewItemDto<T>> items) {
+        int succeeded = (int) items.stream().filter(BulkReviewItemDto::getSuccess).count();
+        return BulkReviewResultDto.<T>builder()
+                .succeeded(succeeded)
+                .failed(items.size() - succeeded)
+                .items(items)
+                .build();
+    }
+}
@@ -0,0 +1,30 @@
+package com.turntabl.bonarda.domain.common.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/** One page of a keyset-paginated list. */
+@Getter
+@Builder
+public class CursorPageDto<T> {
+    private List<T> items;
+    /** Opaque cursor for the next page; null on the last page. */
+    private String nextCursor;
+
+    /**
+     * Builds a page from rows read with a limit of {@code limit + 1}; the extra row only
+     * signals that another page exists and is not returned.
+     */
+    public static <E, T> CursorPageDto<T> of(List<E> rows, int limit,
+                                             Function<E, T> mapper, Function<E, KeysetCursor> position) {
+        boolean hasMore = rows.size() > limit;
+        List<E> page = hasMore ? rows.subList(0, limit) : rows;
+        return CursorPageDto.<T>builder()
+                .items(page.stream().map(mapper).toList())
+                .nextCursor(hasMore ? position.apply(page.get(page.size() - 1)).encode() : null)
+                .build();
+    }
+}
@@ -0,0 +1,64 @@
+package com.turntabl.bonarda.domain.common.dto;
+
+import com.turntabl.bonarda.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset position in a newest-first list: the last row's sort key and id. The first
+ * page starts after a sentinel beyond any real row, so every page is the same
+ * {@code (key, id) < (:key, :id)} range read off a composite index.
+ */
+public record KeysetCursor(String key, Long id) {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final KeysetCursor FIRST = new KeysetCursor(null, Long.MAX_VALUE);
+
+    public static KeysetCursor after(Object key, Long id) {
+        return new KeysetCursor(key.toString(), id);
+    }
+
+    /** Decodes a client cursor; a missing one means the first page. */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.indexOf('|');
+            return new KeysetCursor(raw.substring(0, sep), Long.parseLong(raw.substring(sep + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    public static int pageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    public String encode() {
+        String raw = key + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDate dateKey() {
+        try {
+            return key != null ? LocalDate.parse(key) : ListFilter.LATEST;
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    public LocalDateTime dateTimeKey() {
+        try {
+            return key != null ? LocalDateTime.parse(key) : ListFilter.LATEST.atStartOfDay();
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+}
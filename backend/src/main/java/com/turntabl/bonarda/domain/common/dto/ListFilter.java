@@ -0,0 +1,45 @@
+package com.turntabl.bonarda.domain.common.dto;
+
+import com.turntabl.bonarda.exception.BadRequestException;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Optional status and inclusive date-range filters for the keyset-paginated lists.
+ * Open bounds are replaced with far-off dates rather than nulls, so the queries keep a
+ * single shape and the range always lands on the index.
+ */
+public record ListFilter(String status, LocalDate from, LocalDate to) {
+
+    public static final LocalDate EARLIEST = LocalDate.of(1900, 1, 1);
+    public static final LocalDate LATEST = LocalDate.of(9999, 12, 31);
+
+    public static ListFilter of(String status, String from, String to) {
+        ListFilter filter = new ListFilter(status != null && !status.isBlank() ? status : null,
+                parse(from, "from"), parse(to, "to"));
+        if (filter.from() != null && filter.to() != null && filter.to().isBefore(filter.from())) {
+            throw new BadRequestException("'to' must not be before 'from'");
+        }
+        return filter;
+    }
+
+    public LocalDate fromOrEarliest() {
+        return from != null ? from : EARLIEST;
+    }
+
+    public LocalDate toOrLatest() {
+        return to != null ? to : LATEST;
+    }
+
+    private static LocalDate parse(String value, String name) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("Invalid '" + name + "' date: '" + value + "'");
+        }
+    }
+}
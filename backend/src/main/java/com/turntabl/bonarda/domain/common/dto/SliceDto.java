@@ -0,0 +1,31 @@
+package com.turntabl.bonarda.domain.common.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/** A page read without a count query; {@code last} comes from fetching one extra row. */
+@Getter
+@Builder
+public class SliceDto<T> {
+    private List<T> content;
+    private int number;
+    private int size;
+    private boolean first;
+    private boolean last;
+    /** Approximate number of rows across all pages; null unless requested. */
+    private Long estimatedTotal;
+
+    public static <T> SliceDto<T> of(Slice<T> slice, Long estimatedTotal) {
+        return SliceDto.<T>builder()
+                .content(slice.getContent())
+                .number(slice.getNumber())
+                .size(slice.getSize())
+                .first(slice.isFirst())
+                .last(slice.isLast())
+                .estimatedTotal(estimatedTotal)
+                .build();
+    }
+}
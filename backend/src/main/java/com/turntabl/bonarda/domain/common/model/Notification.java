@@ -0,0 +1,10 @@
+package com.turntabl.bonarda.domain.common.model;
+
+import java.util.List;
+
+/**
+ * A message for one employee. {@code lines} are the individual items of a digest;
+ * sinks decide how to render them.
+ */
+public record Notification(String recipientEmail, String recipientName, String subject, List<String> lines) {
+}
@@ -0,0 +1,25 @@
+package com.turntabl.bonarda.domain.common.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Reads the planner's row estimates. {@code pg_class.reltuples} is kept current by
+ * VACUUM, ANALYZE and autovacuum, so it costs one catalog lookup however large the table.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TableStatisticsRepository {
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    /** Estimated live rows, or -1 when the table has never been analyzed. */
+    public long estimateRows(String table) {
+        Long estimate = jdbc.queryForObject("""
+                SELECT COALESCE((SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass(CAST(:table AS text))), -1)
+                """, new MapSqlParameterSource("table", table), Long.class);
+        return estimate != null ? estimate : -1;
+    }
+}
@@ -0,0 +1,49 @@
+package com.turntabl.bonarda.domain.common.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turntabl.bonarda.domain.common.model.Notification;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Appends each notification as one JSON line to {@code app.notifications.file}, so
+ * local runs and demos can inspect what would have been sent.
+ */
+@Component
+@ConditionalOnProperty(name = "app.notifications.sink", havingValue = "file")
+@Slf4j
+public class FileNotificationSink implements NotificationSink {
+
+    private final ObjectMapper objectMapper;
+    private final Path file;
+
+    public FileNotificationSink(ObjectMapper objectMapper,
+                                @Value("${app.notifications.file:notifications.ndjson}") String file) {
+        this.objectMapper = objectMapper;
+        this.file = Path.of(file);
+        log.info("Notifications will be appended to {}", this.file.toAbsolutePath());
+    }
+
+    @Override
+    public synchronized void send(Notification notification) {
+        try {
+            String line = objectMapper.writeValueAsString(notification) + System.lineSeparator();
+            Files.writeString(file, line, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialise notification", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write notification to " + file, e);
+        }
+    }
+}
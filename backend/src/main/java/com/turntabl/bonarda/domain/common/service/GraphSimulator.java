@@ -0,0 +1,203 @@
+package com.turntabl.bonarda.domain.common.service;
+
+import com.turntabl.bonarda.config.GraphSimulatorProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Imitates the cost of talking to Microsoft Graph for the mock integrations: every
+ * simulated request pays a log-normal latency, is subject to a tenant-wide token
+ * bucket (429 + Retry-After once exhausted) and a random 503 rate. List calls return
+ * real pages with a next link, so callers have to follow every {@code @odata.nextLink}
+ * hop, each a request of its own that may be throttled or fail.
+ * Call counts per operation are kept for the {@code graphsim} actuator endpoint.
+ */
+@Component
+@Profile("graph-sim")
+@Slf4j
+public class GraphSimulator {
+
+    private static final double Z_99 = 2.326348;
+    private static final String NEXT_LINK_PREFIX = "graphsim:";
+
+    private final GraphSimulatorProperties properties;
+    private final Random random;
+    private final Map<String, OperationStats> stats = new ConcurrentHashMap<>();
+
+    private double tokens;
+    private long lastRefillNanos = System.nanoTime();
+    private long throttledUntilNanos;
+
+    public GraphSimulator(GraphSimulatorProperties properties) {
+        this.properties = properties;
+        this.random = properties.getSeed() != null ? new Random(properties.getSeed()) : new Random();
+        this.tokens = properties.getBurst();
+        log.info("Graph simulator active — median {} ms, p99 {} ms, {} req/s, error rate {}",
+                properties.getLatencyMedian().toMillis(), properties.getLatencyP99().toMillis(),
+                properties.getRequestsPerSecond(), properties.getErrorRate());
+    }
+
+    /** Runs {@code action} as a single simulated Graph request. */
+    public <T> T call(String operation, Supplier<T> action) {
+        request(operation);
+        return action.get();
+    }
+
+    /** Runs {@code action} as a single simulated Graph request with no result. */
+    public void run(String operation, Runnable action) {
+        request(operation);
+        action.run();
+    }
+
+    /** One page of a simulated list response; {@code nextLink} is null on the last page. */
+    public record Page<T>(List<T> items, String nextLink) {
+    }
+
+    /**
+     * Returns one page of {@code source} as a single simulated Graph request: the first
+     * page when {@code nextLink} is null, otherwise the page the link points at. The
+     * source is re-read for every page, as Graph serves each hop from live data, so the
+     * caller has to follow the links until one is null to see every item.
+     */
+    public <T> Page<T> callPage(String operation, String nextLink, Supplier<List<T>> source) {
+        int offset = 0;
+        if (nextLink != null) {
+            String prefix = NEXT_LINK_PREFIX + operation + ":";
+            if (!nextLink.startsWith(prefix)) {
+                throw new IllegalArgumentException("nextLink " + nextLink + " does not belong to " + operation);
+            }
+            offset = Integer.parseInt(nextLink.substring(prefix.length()));
+        }
+        request(operation);
+        if (nextLink != null) {
+            stats(operation).nextLinks.increment();
+        }
+
+        List<T> items = source.get();
+        int pageSize = Math.max(1, properties.getPageSize());
+        int from = Math.min(offset, items.size());
+        int to = Math.min(from + pageSize, items.size());
+        String next = to < items.size() ? NEXT_LINK_PREFIX + operation + ":" + to : null;
+        return new Page<>(List.copyOf(items.subList(from, to)), next);
+    }
+
+    /** Charges a request that carries {@code bytes} of payload at the configured throughput. */
+    public void transfer(String operation, long bytes) {
+        request(operation);
+        long bytesPerSecond = Math.max(1, properties.getUploadThroughput().toBytes());
+        sleep(bytes * 1000 / bytesPerSecond);
+        stats(operation).bytes.add(bytes);
+    }
+
+    public Map<String, Map<String, Long>> snapshot() {
+        Map<String, Map<String, Long>> result = new TreeMap<>();
+        stats.forEach((operation, s) -> result.put(operation, s.toMap()));
+        return result;
+    }
+
+    public void reset() {
+        stats.clear();
+        synchronized (this) {
+            tokens = properties.getBurst();
+            throttledUntilNanos = 0;
+        }
+    }
+
+    private void request(String operation) {
+        OperationStats s = stats(operation);
+        s.calls.increment();
+
+        long latency = sampleLatencyMillis();
+        s.latencyMillis.add(latency);
+        sleep(latency);
+
+        Long retryAfter = acquire();
+        if (retryAfter != null) {
+            s.throttled.increment();
+            throw new SimulatedGraphException(operation, 429, retryAfter);
+        }
+        if (random.nextDouble() < properties.getErrorRate()) {
+            s.failed.increment();
+            throw new SimulatedGraphException(operation, 503, null);
+        }
+        s.succeeded.increment();
+    }
+
+    /** Takes a token from the bucket; returns the Retry-After in seconds when throttled. */
+    private synchronized Long acquire() {
+        int rate = properties.getRequestsPerSecond();
+        if (rate <= 0) {
+            return null;
+        }
+        long now = System.nanoTime();
+        if (now < throttledUntilNanos) {
+            return Math.max(1, (throttledUntilNanos - now) / 1_000_000_000L);
+        }
+        tokens = Math.min(properties.getBurst(), tokens + (now - lastRefillNanos) / 1e9 * rate);
+        lastRefillNanos = now;
+        if (tokens >= 1) {
+            tokens -= 1;
+            return null;
+        }
+        throttledUntilNanos = now + properties.getRetryAfter().toNanos();
+        return Math.max(1, properties.getRetryAfter().toSeconds());
+    }
+
+    private long sampleLatencyMillis() {
+        double median = properties.getLatencyMedian().toMillis();
+        double p99 = Math.max(median, properties.getLatencyP99().toMillis());
+        if (median <= 0) {
+            return 0;
+        }
+        double sigma = Math.log(p99 / median) / Z_99;
+        double sample = median * Math.exp(sigma * random.nextGaussian());
+        return (long) Math.min(sample, p99 * 3);
+    }
+
+    private OperationStats stats(String operation) {
+        return stats.computeIfAbsent(operation, k -> new OperationStats());
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class OperationStats {
+        final LongAdder calls = new LongAdder();
+        final LongAdder succeeded = new LongAdder();
+        final LongAdder throttled = new LongAdder();
+        final LongAdder failed = new LongAdder();
+        final LongAdder nextLinks = new LongAdder();
+        final LongAdder bytes = new LongAdder();
+        final LongAdder latencyMillis = new LongAdder();
+
+        Map<String, Long> toMap() {
+            Map<String, Long> map = new LinkedHashMap<>();
+            map.put("calls", calls.sum());
+            map.put("succeeded", succeeded.sum());
+            map.put("throttled", throttled.sum());
+            map.put("failed", failed.sum());
+            map.put("nextLinks", nextLinks.sum());
+            map.put("bytes", bytes.sum());
+            map.put("latencyMillis", latencyMillis.sum());
+            return map;
+        }
+    }
+}
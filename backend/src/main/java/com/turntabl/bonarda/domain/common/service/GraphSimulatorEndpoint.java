@@ -0,0 +1,33 @@
+package com.turntabl.bonarda.domain.common.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * {@code GET /actuator/graphsim} returns simulated Graph call counts per operation;
+ * {@code DELETE} resets them between load-test runs.
+ */
+@Component
+@Profile("graph-sim")
+@Endpoint(id = "graphsim")
+@RequiredArgsConstructor
+public class GraphSimulatorEndpoint {
+
+    private final GraphSimulator simulator;
+
+    @ReadOperation
+    public Map<String, Map<String, Long>> stats() {
+        return simulator.snapshot();
+    }
+
+    @DeleteOperation
+    public void reset() {
+        simulator.reset();
+    }
+}
@@ -0,0 +1,20 @@
+package com.turntabl.bonarda.domain.common.service;
+
+import com.turntabl.bonarda.domain.common.model.Notification;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/** Default sink: writes each notification to the application log. */
+@Component
+@ConditionalOnProperty(name = "app.notifications.sink", havingValue = "log", matchIfMissing = true)
+@Slf4j
+public class LoggingNotificationSink implements NotificationSink {
+
+    @Override
+    public void send(Notification notification) {
+        log.info("[NOTIFICATION] To: {} <{}> — {}\n  {}", notification.recipientName(),
+                notification.recipientEmail(), notification.subject(),
+                String.join("\n  ", notification.lines()));
+    }
+}
@@ -0,0 +1,12 @@
+package com.turntabl.bonarda.domain.common.service;
+
+import com.turntabl.bonarda.domain.common.model.Notification;
+
+/**
+ * Where outgoing notifications go. Selected with {@code app.notifications.sink};
+ * an email or Teams sink can be added alongside the local stand-ins.
+ */
+public interface NotificationSink {
+
+    void send(Notification notification);
+}
@@ -0,0 +1,49 @@
+package com.turntabl.bonarda.domain.common.service;
+
+import com.turntabl.bonarda.domain.common.repository.TableStatisticsRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Approximate totals for the admin tables, so paging never pays for an exact count.
+ * Whole-table totals come from planner statistics; filtered totals, and tables not yet
+ * analyzed, fall back to an exact count that is reused until the TTL expires.
+ */
+@Component
+public class RowCountEstimator {
+
+    private final TableStatisticsRepository statistics;
+    private final Duration ttl;
+    private final Map<String, CachedCount> counts = new ConcurrentHashMap<>();
+
+    public RowCountEstimator(TableStatisticsRepository statistics,
+                             @Value("${app.pagination.count-cache-ttl:PT5M}") Duration ttl) {
+        this.statistics = statistics;
+        this.ttl = ttl;
+    }
+
+    private record CachedCount(long count, Instant expiresAt) {
+    }
+
+    public long estimateTable(String table, LongSupplier exactCount) {
+        long estimate = statistics.estimateRows(table);
+        // 0 is also what an unanalyzed table reports on older Postgres versions
+        return estimate > 0 ? estimate : cachedCount(table, exactCount);
+    }
+
+    public long cachedCount(String key, LongSupplier exactCount) {
+        Instant now = Instant.now();
+        CachedCount cached = counts.get(key);
+        if (cached == null || cached.expiresAt().isBefore(now)) {
+            cached = new CachedCount(exactCount.getAsLong(), now.plus(ttl));
+            counts.put(key, cached);
+        }
+        return cached.count();
+    }
+}
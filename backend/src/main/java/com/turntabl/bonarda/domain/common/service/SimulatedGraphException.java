@@ -0,0 +1,25 @@
+package com.turntabl.bonarda.domain.common.service;
+
+import lombok.Getter;
+
+/**
+ * A failure injected by {@link GraphSimulator}, carrying the HTTP status Graph would
+ * have returned and, for 429s, the Retry-After delay in seconds.
+ */
+@Getter
+public class SimulatedGraphException extends RuntimeException {
+
+    private final int status;
+    private final Long retryAfterSeconds;
+
+    public SimulatedGraphException(String operation, int status, Long retryAfterSeconds) {
+        super("Simulated Graph " + status + " on " + operation
+                + (retryAfterSeconds != null ? " (Retry-After: " + retryAfterSeconds + "s)" : ""));
+        this.status = status;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public boolean isThrottled() {
+        return status == 429;
+    }
+}
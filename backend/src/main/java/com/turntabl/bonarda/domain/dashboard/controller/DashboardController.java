@@ -1,9 +1,12 @@
 package com.turntabl.bonarda.domain.dashboard.controller;
 
+import com.turntabl.bonarda.domain.dashboard.dto.CelebrationDto;
 import com.turntabl.bonarda.domain.dashboard.dto.DashboardWeekDto;
-import com.turntabl.bonarda.domain.event.service.CompanyEventService;
-import com.turntabl.bonarda.domain.timeoff.service.TimeOffRequestService;
+import com.turntabl.bonarda.domain.dashboard.dto.DashboardWeekSnapshot;
+import com.turntabl.bonarda.domain.dashboard.service.CelebrationService;
+import com.turntabl.bonarda.domain.dashboard.service.DashboardService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,15 +15,20 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.time.LocalDate;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/dashboard")
 @RequiredArgsConstructor
 public class DashboardController {
 
-    private final CompanyEventService companyEventService;
-    private final TimeOffRequestService timeOffRequestService;
+    private final DashboardService dashboardService;
+    private final CelebrationService celebrationService;
 
+    /**
+     * Carries a strong ETag; Spring answers a matching {@code If-None-Match} with
+     * 304 Not Modified and skips writing the body.
+     */
     @GetMapping("/week")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<DashboardWeekDto> getWeekData(
@@ -29,11 +37,22 @@ public class DashboardController {
         LocalDate start = LocalDate.parse(startDate);
         LocalDate end = LocalDate.parse(endDate);
 
-        DashboardWeekDto dashboard = DashboardWeekDto.builder()
-                .upcomingEvents(companyEventService.getEventsForDateRange(start, end))
-                .approvedTimeOff(timeOffRequestService.getApprovedRequestsForDateRange(start, end))
-                .build();
+        DashboardWeekSnapshot snapshot = dashboardService.getWeek(start, end);
 
-        return ResponseEntity.ok(dashboard);
+        return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(snapshot.week());
+    }
+
+    @GetMapping("/celebrations")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<List<CelebrationDto>> getCelebrations(
+            @RequestParam String startDate,
+            @RequestParam String endDate) {
+        LocalDate start = LocalDate.parse(startDate);
+        LocalDate end = LocalDate.parse(endDate);
+
+        return ResponseEntity.ok(celebrationService.getCelebrations(start, end));
     }
 }
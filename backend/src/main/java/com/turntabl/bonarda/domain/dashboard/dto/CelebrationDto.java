@@ -0,0 +1,18 @@
+package com.turntabl.bonarda.domain.dashboard.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class CelebrationDto {
+    private String employeeId;
+    private String employeeName;
+    private String position;
+    /** BIRTHDAY or WORK_ANNIVERSARY. */
+    private String type;
+    /** The day it is celebrated; 29 February falls on 28 February in common years. */
+    private String date;
+    /** Work anniversaries only: completed years of service. */
+    private Integer years;
+}
@@ -12,4 +12,5 @@ import java.util.List;
 public class DashboardWeekDto {
     private List<CompanyEventDto> upcomingEvents;
     private List<TimeOffRequestDto> approvedTimeOff;
+    private List<CelebrationDto> celebrations;
 }
@@ -0,0 +1,5 @@
+package com.turntabl.bonarda.domain.dashboard.dto;
+
+/** A cached week view together with the strong ETag of its JSON representation. */
+public record DashboardWeekSnapshot(DashboardWeekDto week, String etag) {
+}
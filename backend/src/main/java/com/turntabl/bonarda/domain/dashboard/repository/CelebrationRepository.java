@@ -0,0 +1,56 @@
+package com.turntabl.bonarda.domain.dashboard.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Finds active employees whose birthday or hire date falls on given month-days, using
+ * the {@code month * 100 + day} expression indexes from V21 rather than a table scan.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CelebrationRepository {
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public enum Kind { BIRTHDAY, WORK_ANNIVERSARY }
+
+    public record Match(UUID publicId, String firstName, String lastName, String position, Kind kind, LocalDate date) {
+    }
+
+    /**
+     * Month-day keys are matched against up to two inclusive ranges plus one extra
+     * key; pass an empty range ({@code from > to}) or {@code -1} for the parts not needed.
+     */
+    public List<Match> findByMonthDay(int from1, int to1, int from2, int to2, int extraKey) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("from1", from1).addValue("to1", to1)
+                .addValue("from2", from2).addValue("to2", to2)
+                .addValue("extraKey", extraKey);
+
+        return jdbc.query("""
+                SELECT public_id, first_name, last_name, position, 'BIRTHDAY' AS kind, birthday AS date
+                FROM employees
+                WHERE status = 'ACTIVE' AND birthday IS NOT NULL
+                  AND ((EXTRACT(MONTH FROM birthday)::int * 100 + EXTRACT(DAY FROM birthday)::int) BETWEEN :from1 AND :to1
+                    OR (EXTRACT(MONTH FROM birthday)::int * 100 + EXTRACT(DAY FROM birthday)::int) BETWEEN :from2 AND :to2
+                    OR (EXTRACT(MONTH FROM birthday)::int * 100 + EXTRACT(DAY FROM birthday)::int) = :extraKey)
+                UNION ALL
+                SELECT public_id, first_name, last_name, position, 'WORK_ANNIVERSARY' AS kind, hire_date AS date
+                FROM employees
+                WHERE status = 'ACTIVE'
+                  AND ((EXTRACT(MONTH FROM hire_date)::int * 100 + EXTRACT(DAY FROM hire_date)::int) BETWEEN :from1 AND :to1
+                    OR (EXTRACT(MONTH FROM hire_date)::int * 100 + EXTRACT(DAY FROM hire_date)::int) BETWEEN :from2 AND :to2
+                    OR (EXTRACT(MONTH FROM hire_date)::int * 100 + EXTRACT(DAY FROM hire_date)::int) = :extraKey)
+                """, params,
+                (rs, i) -> new Match(rs.getObject("public_id", UUID.class), rs.getString("first_name"),
+                        rs.getString("last_name"), rs.getString("position"),
+                        Kind.valueOf(rs.getString("kind")), rs.getObject("date", LocalDate.class)));
+    }
+}
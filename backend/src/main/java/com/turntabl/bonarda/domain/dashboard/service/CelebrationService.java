@@ -0,0 +1,12 @@
+package com.turntabl.bonarda.domain.dashboard.service;
+
+import com.turntabl.bonarda.domain.dashboard.dto.CelebrationDto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface CelebrationService {
+
+    /** Birthdays and work anniversaries of active employees between the dates, inclusive, in date order. */
+    List<CelebrationDto> getCelebrations(LocalDate start, LocalDate end);
+}
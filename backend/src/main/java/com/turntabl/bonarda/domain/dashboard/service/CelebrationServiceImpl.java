@@ -0,0 +1,94 @@
+package com.turntabl.bonarda.domain.dashboard.service;
+
+import com.turntabl.bonarda.domain.dashboard.dto.CelebrationDto;
+import com.turntabl.bonarda.domain.dashboard.repository.CelebrationRepository;
+import com.turntabl.bonarda.domain.dashboard.repository.CelebrationRepository.Kind;
+import com.turntabl.bonarda.domain.dashboard.repository.CelebrationRepository.Match;
+import com.turntabl.bonarda.exception.BadRequestException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.time.Year;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Birthdays and work anniversaries falling within a date window. The window may wrap
+ * the year end; 29 February celebrations move to 28 February in common years.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class CelebrationServiceImpl implements CelebrationService {
+
+    private static final long MAX_WINDOW_DAYS = 92;
+    private static final int LEAP_DAY_KEY = 229;
+
+    private final CelebrationRepository celebrationRepository;
+
+    @Override
+    public List<CelebrationDto> getCelebrations(LocalDate start, LocalDate end) {
+        if (end.isBefore(start)) {
+            throw new BadRequestException("endDate must not be before startDate");
+        }
+        if (ChronoUnit.DAYS.between(start, end) > MAX_WINDOW_DAYS) {
+            throw new BadRequestException("Date range must not exceed " + MAX_WINDOW_DAYS + " days");
+        }
+
+        int startKey = key(MonthDay.from(start));
+        int endKey = key(MonthDay.from(end));
+        boolean wraps = start.getYear() != end.getYear();
+        List<Match> matches = celebrationRepository.findByMonthDay(
+                startKey, wraps ? 1231 : endKey,
+                wraps ? 101 : 0, wraps ? endKey : -1,
+                includesCommonYearFeb28(start, end) ? LEAP_DAY_KEY : -1);
+
+        List<CelebrationDto> celebrations = new ArrayList<>();
+        for (Match match : matches) {
+            MonthDay monthDay = MonthDay.from(match.date());
+            for (int year = start.getYear(); year <= end.getYear(); year++) {
+                // atYear maps 29 February to 28 February in common years
+                LocalDate occurrence = monthDay.atYear(year);
+                if (occurrence.isBefore(start) || occurrence.isAfter(end)) {
+                    continue;
+                }
+                int years = year - match.date().getYear();
+                if (match.kind() == Kind.WORK_ANNIVERSARY && years <= 0) {
+                    continue;
+                }
+                celebrations.add(CelebrationDto.builder()
+                        .employeeId(match.publicId().toString())
+                        .employeeName(match.firstName() + " " + match.lastName())
+                        .position(match.position())
+                        .type(match.kind().name())
+                        .date(occurrence.toString())
+                        .years(match.kind() == Kind.WORK_ANNIVERSARY ? years : null)
+                        .build());
+            }
+        }
+        celebrations.sort(Comparator.comparing(CelebrationDto::getDate)
+                .thenComparing(CelebrationDto::getEmployeeName));
+        return celebrations;
+    }
+
+    private static int key(MonthDay monthDay) {
+        return monthDay.getMonthValue() * 100 + monthDay.getDayOfMonth();
+    }
+
+    private static boolean includesCommonYearFeb28(LocalDate start, LocalDate end) {
+        for (int year = start.getYear(); year <= end.getYear(); year++) {
+            if (!Year.isLeap(year)) {
+                LocalDate feb28 = LocalDate.of(year, 2, 28);
+                if (!feb28.isBefore(start) && !feb28.isAfter(end)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,11 @@
+package com.turntabl.bonarda.domain.dashboard.service;
+
+import com.turntabl.bonarda.domain.dashboard.dto.DashboardWeekSnapshot;
+
+import java.time.LocalDate;
+
+public interface DashboardService {
+
+    /** Events and approved time off for the range; identical for every caller, so shared and cached. */
+    DashboardWeekSnapshot getWeek(LocalDate start, LocalDate end);
+}
@@ -0,0 +1,170 @@
+package com.turntabl.bonarda.domain.dashboard.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turntabl.bonarda.domain.dashboard.dto.CelebrationDto;
+import com.turntabl.bonarda.domain.dashboard.dto.DashboardWeekDto;
+import com.turntabl.bonarda.domain.dashboard.dto.DashboardWeekSnapshot;
+import com.turntabl.bonarda.domain.event.dto.CompanyEventDto;
+import com.turntabl.bonarda.domain.event.model.CompanyEventChanged;
+import com.turntabl.bonarda.domain.event.service.CompanyEventService;
+import com.turntabl.bonarda.domain.timeoff.dto.TimeOffRequestDto;
+import com.turntabl.bonarda.domain.timeoff.model.ApprovedTimeOffChanged;
+import com.turntabl.bonarda.domain.timeoff.service.TimeOffRequestService;
+import com.turntabl.bonarda.exception.BadRequestException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Week views are cached per date range. Concurrent misses for the same range share one
+ * load, and a load runs its three reads in parallel. Entries are evicted after commit of
+ * any change overlapping their range; the TTL bounds staleness for changes made on
+ * other nodes.
+ */
+@Service
+@Slf4j
+public class DashboardServiceImpl implements DashboardService {
+
+    private static final long MAX_RANGE_DAYS = 92;
+    private static final int MAX_CACHED_RANGES = 256;
+
+    private final CompanyEventService companyEventService;
+    private final TimeOffRequestService timeOffRequestService;
+    private final CelebrationService celebrationService;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<DateRange, CompletableFuture<CachedWeek>> cache = new ConcurrentHashMap<>();
+
+    public DashboardServiceImpl(CompanyEventService companyEventService,
+                                TimeOffRequestService timeOffRequestService,
+                                CelebrationService celebrationService,
+                                ObjectMapper objectMapper,
+                                @Value("${app.dashboard.cache-ttl:PT60S}") Duration ttl) {
+        this.companyEventService = companyEventService;
+        this.timeOffRequestService = timeOffRequestService;
+        this.celebrationService = celebrationService;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+    }
+
+    private record DateRange(LocalDate start, LocalDate end) {
+
+        boolean overlaps(LocalDate from, LocalDate to) {
+            return !start.isAfter(to) && !end.isBefore(from);
+        }
+    }
+
+    private record CachedWeek(DashboardWeekSnapshot snapshot, Instant expiresAt) {
+    }
+
+    @Override
+    public DashboardWeekSnapshot getWeek(LocalDate start, LocalDate end) {
+        if (end.isBefore(start)) {
+            throw new BadRequestException("endDate must not be before startDate");
+        }
+        if (ChronoUnit.DAYS.between(start, end) > MAX_RANGE_DAYS) {
+            throw new BadRequestException("Date range must not exceed " + MAX_RANGE_DAYS + " days");
+        }
+
+        DateRange range = new DateRange(start, end);
+        CachedWeek cached = await(range, lookup(range));
+        if (cached.expiresAt().isBefore(Instant.now())) {
+            cache.computeIfPresent(range, (key, current) -> isExpired(current) ? null : current);
+            cached = await(range, lookup(range));
+        }
+        return cached.snapshot();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCompanyEventChanged(CompanyEventChanged event) {
+        evict(event.fromDate(), event.toDate());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApprovedTimeOffChanged(ApprovedTimeOffChanged event) {
+        evict(event.startDate(), event.endDate());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private CompletableFuture<CachedWeek> lookup(DateRange range) {
+        if (cache.size() >= MAX_CACHED_RANGES && !cache.containsKey(range)) {
+            cache.clear();
+        }
+        return cache.computeIfAbsent(range, this::load);
+    }
+
+    private CompletableFuture<CachedWeek> load(DateRange range) {
+        CompletableFuture<List<CompanyEventDto>> events = CompletableFuture.supplyAsync(
+                () -> companyEventService.getEventsForDateRange(range.start(), range.end()), executor);
+        CompletableFuture<List<TimeOffRequestDto>> timeOff = CompletableFuture.supplyAsync(
+                () -> timeOffRequestService.getApprovedRequestsForDateRange(range.start(), range.end()), executor);
+        CompletableFuture<List<CelebrationDto>> celebrations = CompletableFuture.supplyAsync(
+                () -> celebrationService.getCelebrations(range.start(), range.end()), executor);
+        return CompletableFuture.allOf(events, timeOff, celebrations).thenApply(done -> {
+            DashboardWeekDto week = DashboardWeekDto.builder()
+                    .upcomingEvents(events.join())
+                    .approvedTimeOff(timeOff.join())
+                    .celebrations(celebrations.join())
+                    .build();
+            return new CachedWeek(new DashboardWeekSnapshot(week, etag(week)), Instant.now().plus(ttl));
+        });
+    }
+
+    private CachedWeek await(DateRange range, CompletableFuture<CachedWeek> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // Never cache a failed load
+            cache.remove(range, future);
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void evict(LocalDate from, LocalDate to) {
+        int before = cache.size();
+        cache.keySet().removeIf(range -> range.overlaps(from, to));
+        log.debug("Dashboard cache: evicted {} range(s) overlapping {}..{}", before - cache.size(), from, to);
+    }
+
+    private static boolean isExpired(CompletableFuture<CachedWeek> future) {
+        return future.isDone() && !future.isCompletedExceptionally()
+                && future.join().expiresAt().isBefore(Instant.now());
+    }
+
+    private String etag(DashboardWeekDto week) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(week));
+            return "\"" + HexFormat.of().formatHex(Arrays.copyOf(digest, 16)) + "\"";
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Failed to compute dashboard ETag", e);
+        }
+    }
+}
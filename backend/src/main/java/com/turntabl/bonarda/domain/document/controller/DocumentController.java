@@ -1,14 +1,17 @@
 package com.turntabl.bonarda.domain.document.controller;
 
+import com.turntabl.bonarda.domain.common.dto.SliceDto;
 import com.turntabl.bonarda.domain.document.dto.*;
+import com.turntabl.bonarda.domain.document.service.DocumentAudienceService;
+import com.turntabl.bonarda.domain.document.service.DocumentReadReceiptService;
 import com.turntabl.bonarda.domain.document.service.DocumentService;
 import com.turntabl.bonarda.security.CurrentUser;
 import com.turntabl.bonarda.security.UserPrincipal;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -22,11 +25,14 @@ import java.util.UUID;
 public class DocumentController {
 
     private final DocumentService documentService;
+    private final DocumentAudienceService audienceService;
+    private final DocumentReadReceiptService readReceiptService;
 
     @GetMapping
     @PreAuthorize("hasAuthority('DOCUMENT_READ_ALL')")
-    public ResponseEntity<Page<DocumentDto>> getAll(@PageableDefault(size = 20) Pageable pageable) {
-        return ResponseEntity.ok(documentService.getAll(pageable));
+    public ResponseEntity<SliceDto<DocumentDto>> getAll(@PageableDefault(size = 20) Pageable pageable,
+                                                        @RequestParam(defaultValue = "false") boolean estimateTotal) {
+        return ResponseEntity.ok(documentService.getAll(pageable, estimateTotal));
     }
 
     @GetMapping("/me")
@@ -35,10 +41,34 @@ public class DocumentController {
         return ResponseEntity.ok(documentService.getMyDocuments(currentUser.getPublicId()));
     }
 
+    @GetMapping("/inbox")
+    @PreAuthorize("hasAuthority('DOCUMENT_READ_OWN')")
+    public ResponseEntity<DocumentInboxDto> getInbox(@RequestParam(required = false) String cursor,
+                                                     @RequestParam(defaultValue = "20") int size,
+                                                     @CurrentUser UserPrincipal currentUser) {
+        return ResponseEntity.ok(documentService.getInbox(currentUser.getPublicId(), cursor, size));
+    }
+
+    @GetMapping("/inbox/counts")
+    @PreAuthorize("hasAuthority('DOCUMENT_READ_OWN')")
+    public ResponseEntity<DocumentInboxCountsDto> getInboxCounts(@CurrentUser UserPrincipal currentUser) {
+        return ResponseEntity.ok(documentService.getInboxCounts(currentUser.getPublicId()));
+    }
+
+    @GetMapping("/search")
+    @PreAuthorize("hasAuthority('DOCUMENT_READ_OWN')")
+    public ResponseEntity<DocumentSearchResultDto> search(@RequestParam("q") String query,
+                                                          @RequestParam(required = false) String cursor,
+                                                          @RequestParam(defaultValue = "20") int size,
+                                                          @CurrentUser UserPrincipal currentUser) {
+        return ResponseEntity.ok(documentService.searchDocuments(query, cursor, size, currentUser));
+    }
+
     @GetMapping("/company-wide")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<Page<DocumentDto>> getCompanyWide(@PageableDefault(size = 20) Pageable pageable) {
-        return ResponseEntity.ok(documentService.getCompanyWideDocuments(pageable));
+    public ResponseEntity<SliceDto<DocumentDto>> getCompanyWide(@PageableDefault(size = 20) Pageable pageable,
+                                                                @RequestParam(defaultValue = "false") boolean estimateTotal) {
+        return ResponseEntity.ok(documentService.getCompanyWideDocuments(pageable, estimateTotal));
     }
 
     @GetMapping("/my-uploads")
@@ -85,6 +115,15 @@ public class DocumentController {
         return ResponseEntity.ok(documentService.shareDocument(id, request, currentUser));
     }
 
+    @PostMapping("/{id}/shares/audience")
+    @PreAuthorize("hasAuthority('DOCUMENT_SHARE')")
+    public ResponseEntity<DocumentAudienceResultDto> shareWithAudience(@PathVariable UUID id,
+                                                                       @Valid @RequestBody DocumentAudienceRequest request,
+                                                                       @CurrentUser UserPrincipal currentUser) {
+        DocumentAudienceResultDto result = audienceService.distribute(id, request, false, currentUser);
+        return ResponseEntity.status(result.isQueued() ? HttpStatus.ACCEPTED : HttpStatus.OK).body(result);
+    }
+
     @GetMapping("/{id}/shares")
     @PreAuthorize("hasAuthority('DOCUMENT_READ_ALL')")
     public ResponseEntity<List<DocumentShareDto>> getShares(@PathVariable UUID id) {
@@ -102,6 +141,13 @@ public class DocumentController {
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<Void> markViewed(@PathVariable UUID id, @CurrentUser UserPrincipal currentUser) {
         documentService.markViewed(id, currentUser);
-        return ResponseEntity.ok().build();
+        return ResponseEntity.accepted().build();
+    }
+
+    @GetMapping("/{id}/read-receipts")
+    @PreAuthorize("hasAuthority('DOCUMENT_READ_ALL')")
+    public ResponseEntity<DocumentReadReceiptDto> getReadReceipts(@PathVariable UUID id,
+                                                                  @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(readReceiptService.getReadReceipts(id, limit));
     }
 }
@@ -1,12 +1,16 @@
 package com.turntabl.bonarda.domain.document.controller;
 
+import com.turntabl.bonarda.domain.common.dto.CursorPageDto;
+import com.turntabl.bonarda.domain.common.dto.ListFilter;
 import com.turntabl.bonarda.domain.document.dto.*;
+import com.turntabl.bonarda.domain.document.service.DocumentAudienceService;
 import com.turntabl.bonarda.domain.document.service.DocumentSignatureService;
 import com.turntabl.bonarda.security.CurrentUser;
 import com.turntabl.bonarda.security.UserPrincipal;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -20,6 +24,7 @@ import java.util.UUID;
 public class DocumentSignatureController {
 
     private final DocumentSignatureService signatureService;
+    private final DocumentAudienceService audienceService;
 
     @GetMapping("/me/pending")
     @PreAuthorize("hasAuthority('DOCUMENT_SIGN_OWN')")
@@ -29,8 +34,15 @@ public class DocumentSignatureController {
 
     @GetMapping("/me")
     @PreAuthorize("hasAuthority('DOCUMENT_SIGN_OWN')")
-    public ResponseEntity<List<DocumentSignatureDto>> getMySignatures(@CurrentUser UserPrincipal currentUser) {
-        return ResponseEntity.ok(signatureService.getAllMySignatures(currentUser.getPublicId()));
+    public ResponseEntity<CursorPageDto<DocumentSignatureDto>> getMySignatures(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @CurrentUser UserPrincipal currentUser) {
+        return ResponseEntity.ok(signatureService.getAllMySignatures(currentUser.getPublicId(),
+                ListFilter.of(status, from, to), cursor, size));
     }
 
     @GetMapping("/document/{docId}")
@@ -66,4 +78,13 @@ public class DocumentSignatureController {
                                                                          @CurrentUser UserPrincipal currentUser) {
         return ResponseEntity.ok(signatureService.requestSignatures(docId, request, currentUser));
     }
+
+    @PostMapping("/document/{docId}/request/audience")
+    @PreAuthorize("hasAuthority('DOCUMENT_SHARE')")
+    public ResponseEntity<DocumentAudienceResultDto> requestSignaturesFromAudience(@PathVariable UUID docId,
+                                                                                   @Valid @RequestBody DocumentAudienceRequest request,
+                                                                                   @CurrentUser UserPrincipal currentUser) {
+        DocumentAudienceResultDto result = audienceService.distribute(docId, request, true, currentUser);
+        return ResponseEntity.status(result.isQueued() ? HttpStatus.ACCEPTED : HttpStatus.OK).body(result);
+    }
 }
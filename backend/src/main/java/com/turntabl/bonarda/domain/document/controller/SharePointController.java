@@ -1,9 +1,12 @@
 package com.turntabl.bonarda.domain.document.controller;
 
+import com.turntabl.bonarda.config.SharePointProperties;
 import com.turntabl.bonarda.domain.document.dto.*;
 import com.turntabl.bonarda.domain.document.service.SharePointService;
 import com.turntabl.bonarda.exception.BadRequestException;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -20,6 +23,7 @@ import java.util.Map;
 public class SharePointController {
 
     private final SharePointService sharePointService;
+    private final SharePointProperties sharePointProperties;
 
     @GetMapping("/status")
     @PreAuthorize("isAuthenticated()")
@@ -76,6 +80,36 @@ public class SharePointController {
         }
     }
 
+    /**
+     * Streams the raw request body to SharePoint without spooling it through the
+     * multipart resolver, so large files never land in memory or on local disk.
+     */
+    @PutMapping(value = "/drives/{driveId}/upload/stream", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    @PreAuthorize("hasAuthority('DOCUMENT_CREATE')")
+    public ResponseEntity<SharePointItemDto> streamUpload(@PathVariable String driveId,
+                                                           @RequestParam String fileName,
+                                                           @RequestParam(required = false) String folderId,
+                                                           HttpServletRequest request) {
+        if (fileName.isBlank() || fileName.contains("/") || fileName.contains("\\")) {
+            throw new BadRequestException("Invalid file name");
+        }
+        long contentLength = request.getContentLengthLong();
+        if (contentLength <= 0) {
+            throw new BadRequestException("Content-Length is required and must be greater than zero");
+        }
+        long maxFileSize = sharePointProperties.getUpload().getMaxFileSize().toBytes();
+        if (contentLength > maxFileSize) {
+            throw new BadRequestException("File exceeds the maximum upload size of " + maxFileSize + " bytes");
+        }
+        try {
+            SharePointItemDto result = sharePointService.uploadFile(
+                    driveId, folderId, fileName, request.getInputStream(), contentLength);
+            return ResponseEntity.ok(result);
+        } catch (IOException e) {
+            throw new BadRequestException("Failed to read uploaded file: " + e.getMessage());
+        }
+    }
+
     @GetMapping("/drives/{driveId}/items/{itemId}/preview")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<SharePointPreviewDto> getPreviewUrl(@PathVariable String driveId,
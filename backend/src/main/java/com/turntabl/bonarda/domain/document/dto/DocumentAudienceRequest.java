@@ -0,0 +1,36 @@
+package com.turntabl.bonarda.domain.document.dto;
+
+import com.turntabl.bonarda.domain.document.model.DocumentAudience;
+import jakarta.validation.constraints.AssertTrue;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+public class DocumentAudienceRequest {
+
+    private List<UUID> employeeIds;
+
+    /** Role names, e.g. EMPLOYEE or MANAGER. */
+    private List<String> roles;
+
+    /** Share with this manager's reports. */
+    private UUID managerId;
+
+    /** With managerId: include the whole reporting tree, not just direct reports. */
+    private boolean includeIndirectReports;
+
+    private boolean allActiveEmployees;
+
+    @AssertTrue(message = "Select at least one employee, role, manager or all active employees")
+    public boolean isAudienceSpecified() {
+        return !toAudience().isEmpty();
+    }
+
+    public DocumentAudience toAudience() {
+        return new DocumentAudience(employeeIds, roles, managerId, includeIndirectReports, allActiveEmployees);
+    }
+}
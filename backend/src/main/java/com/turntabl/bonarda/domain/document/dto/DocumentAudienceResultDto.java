@@ -0,0 +1,15 @@
+package com.turntabl.bonarda.domain.document.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class DocumentAudienceResultDto {
+    private String documentId;
+    private int audienceSize;
+    /** True when the audience was large enough to be distributed in the background. */
+    private boolean queued;
+    private int sharesCreated;
+    private int signaturesCreated;
+}
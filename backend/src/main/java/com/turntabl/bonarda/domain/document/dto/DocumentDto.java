@@ -31,5 +31,15 @@ public class DocumentDto {
     private int pendingSignatureCount;
     private String mySignatureStatus;
     private String mySignatureId;
+    /** Inbox only: SHARED or COMPANY_WIDE. */
+    private String inboxSource;
+    /** Inbox only: when the document reached the employee's inbox. */
+    private String receivedAt;
+    /** Inbox only: when the employee first opened a shared document. */
+    private String viewedAt;
+    /** Search only: HTML-escaped title with matched terms wrapped in {@code <mark>}. */
+    private String titleHighlight;
+    /** Search only: best-matching description fragments, marked up like {@link #titleHighlight}. */
+    private String descriptionHighlight;
     private String createdAt;
 }
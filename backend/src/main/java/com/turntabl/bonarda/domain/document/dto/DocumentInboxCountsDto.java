@@ -0,0 +1,11 @@
+package com.turntabl.bonarda.domain.document.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class DocumentInboxCountsDto {
+    private int unreadCount;
+    private int pendingSignatureCount;
+}
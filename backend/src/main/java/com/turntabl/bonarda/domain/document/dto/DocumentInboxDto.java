@@ -0,0 +1,16 @@
+package com.turntabl.bonarda.domain.document.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class DocumentInboxDto {
+    private List<DocumentDto> items;
+    /** Opaque cursor for the next page; null on the last page. */
+    private String nextCursor;
+    private int unreadCount;
+    private int pendingSignatureCount;
+}
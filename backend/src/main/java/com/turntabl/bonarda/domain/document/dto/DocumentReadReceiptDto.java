@@ -0,0 +1,17 @@
+package com.turntabl.bonarda.domain.document.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class DocumentReadReceiptDto {
+    private String documentId;
+    private int activeEmployeeCount;
+    private int readCount;
+    private int unreadCount;
+    /** Active employees who have not opened the document, up to the requested limit. */
+    private List<DocumentReaderDto> unreadEmployees;
+}
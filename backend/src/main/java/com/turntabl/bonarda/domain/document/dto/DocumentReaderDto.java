@@ -0,0 +1,12 @@
+package com.turntabl.bonarda.domain.document.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class DocumentReaderDto {
+    private String employeeId;
+    private String name;
+    private String email;
+}
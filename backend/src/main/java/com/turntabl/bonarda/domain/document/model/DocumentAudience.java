@@ -0,0 +1,32 @@
+package com.turntabl.bonarda.domain.document.model;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Who a document is distributed to. Parts are unioned; role, report and all-employee
+ * parts only match ACTIVE employees, explicit ids match whoever they name.
+ */
+public record DocumentAudience(
+        List<UUID> employeeIds,
+        List<String> roles,
+        UUID managerId,
+        boolean includeIndirectReports,
+        boolean allActiveEmployees) {
+
+    public static DocumentAudience ofEmployees(List<UUID> employeeIds) {
+        return new DocumentAudience(employeeIds, List.of(), null, false, false);
+    }
+
+    public boolean hasEmployeeIds() {
+        return employeeIds != null && !employeeIds.isEmpty();
+    }
+
+    public boolean hasRoles() {
+        return roles != null && !roles.isEmpty();
+    }
+
+    public boolean isEmpty() {
+        return !hasEmployeeIds() && !hasRoles() && managerId == null && !allActiveEmployees;
+    }
+}
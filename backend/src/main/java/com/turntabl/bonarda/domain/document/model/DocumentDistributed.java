@@ -0,0 +1,9 @@
+package com.turntabl.bonarda.domain.document.model;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/** Published after shares and signature requests are created, with the internal ids of their recipients. */
+public record DocumentDistributed(UUID documentId, Collection<Long> shareRecipientIds,
+                                  Collection<Long> signatureRecipientIds) {
+}
@@ -0,0 +1,32 @@
+package com.turntabl.bonarda.domain.document.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Per-employee unread-share and pending-signature totals backing the inbox badge.
+ * Rows are maintained with atomic upserts in {@code DocumentInboxCounterRepository};
+ * the entity exists for reads only.
+ */
+@Entity
+@Table(name = "document_inbox_counters")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DocumentInboxCounter {
+
+    @Id
+    @Column(name = "employee_id")
+    private Long employeeId;
+
+    @Column(name = "unread_count", nullable = false)
+    private int unreadCount;
+
+    @Column(name = "pending_signature_count", nullable = false)
+    private int pendingSignatureCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -1,5 +1,5 @@
 package com.turntabl.bonarda.domain.document.model;
 
 public enum SignatureStatus {
-    PENDING, SIGNED, DECLINED
+    PENDING, SIGNED, DECLINED, EXPIRED
 }
@@ -0,0 +1,146 @@
+package com.turntabl.bonarda.domain.document.repository;
+
+import com.turntabl.bonarda.domain.document.model.DocumentAudience;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Set-based distribution of documents. The audience is expanded in SQL and shares,
+ * PENDING signatures and inbox counters are written by a single statement with
+ * {@code INSERT ... SELECT ... ON CONFLICT DO NOTHING}, so the cost no longer grows
+ * with one round trip per recipient.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DocumentAudienceRepository {
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public record InsertResult(List<Long> shareRecipientIds, List<Long> signatureRecipientIds) {
+    }
+
+    public List<UUID> findExistingEmployeePublicIds(Collection<UUID> publicIds) {
+        return jdbc.queryForList(
+                "SELECT public_id FROM employees WHERE public_id IN (:publicIds)",
+                new MapSqlParameterSource("publicIds", publicIds), UUID.class);
+    }
+
+    public int countAudience(DocumentAudience audience) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String sql = audienceCte(audience, params) + " SELECT COUNT(*) FROM audience";
+        Integer count = jdbc.queryForObject(sql, params, Integer.class);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * Shares the document with everyone in the audience and, when {@code withSignatures}
+     * is set, opens a PENDING signature for each. Existing rows are left untouched and
+     * inbox counters are bumped only for rows actually inserted.
+     */
+    public InsertResult insertSharesAndSignatures(Long documentId, Long sharedById,
+                                                  DocumentAudience audience, boolean withSignatures) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("documentId", documentId)
+                .addValue("sharedById", sharedById)
+                .addValue("withSignatures", withSignatures);
+        String sql = audienceCte(audience, params) + """
+                ,
+                inserted_shares AS (
+                    INSERT INTO document_shares (document_id, employee_id, shared_by_id)
+                    SELECT :documentId, a.id, :sharedById FROM audience a
+                    ON CONFLICT (document_id, employee_id) DO NOTHING
+                    RETURNING employee_id
+                ),
+                inserted_signatures AS (
+                    INSERT INTO document_signatures (document_id, employee_id, status)
+                    SELECT :documentId, a.id, 'PENDING' FROM audience a WHERE :withSignatures
+                    ON CONFLICT (document_id, employee_id) DO NOTHING
+                    RETURNING employee_id
+                ),
+                counter_deltas AS (
+                    SELECT employee_id, SUM(unread) AS unread, SUM(pending) AS pending
+                    FROM (SELECT employee_id, 1 AS unread, 0 AS pending FROM inserted_shares
+                          UNION ALL
+                          SELECT employee_id, 0, 1 FROM inserted_signatures) d
+                    -- the inbox hides archived documents, so they count as neither unread nor pending
+                    WHERE NOT EXISTS (SELECT 1 FROM documents
+                                      WHERE id = :documentId AND status = 'ARCHIVED')
+                    GROUP BY employee_id
+                ),
+                counters AS (
+                    INSERT INTO document_inbox_counters (employee_id, unread_count, pending_signature_count)
+                    SELECT employee_id, unread, pending FROM counter_deltas
+                    ON CONFLICT (employee_id) DO UPDATE SET
+                        unread_count = document_inbox_counters.unread_count + EXCLUDED.unread_count,
+                        pending_signature_count = document_inbox_counters.pending_signature_count + EXCLUDED.pending_signature_count
+                )
+                SELECT 'SHARE' AS kind, employee_id FROM inserted_shares
+                UNION ALL
+                SELECT 'SIGNATURE', employee_id FROM inserted_signatures
+                """;
+
+        List<Long> shares = new ArrayList<>();
+        List<Long> signatures = new ArrayList<>();
+        jdbc.query(sql, params, rs -> {
+            if ("SHARE".equals(rs.getString("kind"))) {
+                shares.add(rs.getLong("employee_id"));
+            } else {
+                signatures.add(rs.getLong("employee_id"));
+            }
+        });
+        return new InsertResult(shares, signatures);
+    }
+
+    private String audienceCte(DocumentAudience audience, MapSqlParameterSource params) {
+        StringBuilder sql = new StringBuilder("WITH RECURSIVE ");
+        List<String> parts = new ArrayList<>();
+
+        if (audience.managerId() != null) {
+            params.addValue("managerId", audience.managerId());
+            sql.append("""
+                    reports (id) AS (
+                        SELECT e.id FROM employees e
+                        JOIN employees m ON e.reports_to_id = m.id
+                        WHERE m.public_id = :managerId
+                    """);
+            if (audience.includeIndirectReports()) {
+                sql.append("""
+                            UNION
+                            SELECT e.id FROM employees e JOIN reports r ON e.reports_to_id = r.id
+                        """);
+            }
+            sql.append("), ");
+            parts.add("SELECT r.id FROM reports r JOIN employees e ON e.id = r.id WHERE e.status = 'ACTIVE'");
+        }
+        if (audience.hasEmployeeIds()) {
+            params.addValue("employeeIds", audience.employeeIds());
+            parts.add("SELECT id FROM employees WHERE public_id IN (:employeeIds)");
+        }
+        if (audience.hasRoles()) {
+            params.addValue("roles", audience.roles());
+            parts.add("""
+                    SELECT er.employee_id FROM employee_roles er
+                    JOIN roles ro ON ro.id = er.role_id
+                    JOIN employees e ON e.id = er.employee_id
+                    WHERE ro.name IN (:roles) AND e.status = 'ACTIVE'""");
+        }
+        if (audience.allActiveEmployees()) {
+            parts.add("SELECT id FROM employees WHERE status = 'ACTIVE'");
+        }
+        if (parts.isEmpty()) {
+            parts.add("SELECT id FROM employees WHERE false");
+        }
+
+        return sql.append("audience (id) AS (")
+                .append(String.join(" UNION ", parts))
+                .append(")")
+                .toString();
+    }
+}
@@ -0,0 +1,55 @@
+package com.turntabl.bonarda.domain.document.repository;
+
+import com.turntabl.bonarda.domain.document.model.DocumentInboxCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface DocumentInboxCounterRepository extends JpaRepository<DocumentInboxCounter, Long> {
+
+    /** Applies deltas atomically, creating the row on first use. Counters never drop below zero. */
+    @Modifying
+    @Query(value = """
+            INSERT INTO document_inbox_counters (employee_id, unread_count, pending_signature_count)
+            VALUES (:employeeId, GREATEST(:unreadDelta, 0), GREATEST(:pendingDelta, 0))
+            ON CONFLICT (employee_id) DO UPDATE SET
+                unread_count = GREATEST(document_inbox_counters.unread_count + :unreadDelta, 0),
+                pending_signature_count = GREATEST(document_inbox_counters.pending_signature_count + :pendingDelta, 0)
+            """, nativeQuery = true)
+    void adjust(@Param("employeeId") Long employeeId,
+                @Param("unreadDelta") int unreadDelta,
+                @Param("pendingDelta") int pendingDelta);
+
+    /**
+     * Recomputes counters from shares and signatures, for changes too broad to track as
+     * deltas. Like the inbox, shares and signatures of archived documents are not counted.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO document_inbox_counters (employee_id, unread_count, pending_signature_count)
+            SELECT e.id,
+                   (SELECT COUNT(*) FROM document_shares s JOIN documents d ON d.id = s.document_id
+                    WHERE s.employee_id = e.id AND s.viewed_at IS NULL AND d.status <> 'ARCHIVED'),
+                   (SELECT COUNT(*) FROM document_signatures g JOIN documents d ON d.id = g.document_id
+                    WHERE g.employee_id = e.id AND g.status = 'PENDING' AND d.status <> 'ARCHIVED')
+            FROM employees e
+            WHERE e.id IN (:employeeIds)
+            ON CONFLICT (employee_id) DO UPDATE SET
+                unread_count = EXCLUDED.unread_count,
+                pending_signature_count = EXCLUDED.pending_signature_count
+            """, nativeQuery = true)
+    void recalculate(@Param("employeeIds") Collection<Long> employeeIds);
+
+    @Query(value = """
+            SELECT employee_id FROM document_shares WHERE document_id = :documentId
+            UNION
+            SELECT employee_id FROM document_signatures WHERE document_id = :documentId
+            """, nativeQuery = true)
+    List<Long> findRecipientIdsByDocumentId(@Param("documentId") Long documentId);
+}
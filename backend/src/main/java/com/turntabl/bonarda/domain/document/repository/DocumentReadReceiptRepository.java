@@ -0,0 +1,78 @@
+package com.turntabl.bonarda.domain.document.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Read receipts for company-wide documents, one compressed reader bitmap per document.
+ * Bitmaps are merged in the application under a row lock, so concurrent flushes from
+ * several nodes never lose readers.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DocumentReadReceiptRepository {
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public record Reader(UUID publicId, String firstName, String lastName, String email) {
+    }
+
+    /** Creates empty rows for documents that have none yet; silently skips deleted documents. */
+    public void ensureRows(Collection<Long> documentIds) {
+        jdbc.update("""
+                INSERT INTO document_read_receipts (document_id, reader_bitmap, reader_count)
+                SELECT d.id, ''::bytea, 0 FROM documents d WHERE d.id IN (:documentIds)
+                ON CONFLICT (document_id) DO NOTHING
+                """, new MapSqlParameterSource("documentIds", documentIds));
+    }
+
+    public Map<Long, byte[]> lockBitmaps(Collection<Long> documentIds) {
+        Map<Long, byte[]> bitmaps = new HashMap<>();
+        jdbc.query("SELECT document_id, reader_bitmap FROM document_read_receipts WHERE document_id IN (:documentIds) ORDER BY document_id FOR UPDATE",
+                new MapSqlParameterSource("documentIds", documentIds),
+                rs -> {
+                    bitmaps.put(rs.getLong("document_id"), rs.getBytes("reader_bitmap"));
+                });
+        return bitmaps;
+    }
+
+    public void updateBitmaps(Map<Long, byte[]> bitmaps, Map<Long, Integer> counts) {
+        SqlParameterSource[] batch = bitmaps.entrySet().stream()
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("documentId", entry.getKey())
+                        .addValue("bitmap", entry.getValue())
+                        .addValue("count", counts.get(entry.getKey())))
+                .toArray(SqlParameterSource[]::new);
+        jdbc.batchUpdate("UPDATE document_read_receipts SET reader_bitmap = :bitmap, reader_count = :count WHERE document_id = :documentId",
+                batch);
+    }
+
+    public Optional<byte[]> findBitmap(Long documentId) {
+        List<byte[]> rows = jdbc.query("SELECT reader_bitmap FROM document_read_receipts WHERE document_id = :documentId",
+                new MapSqlParameterSource("documentId", documentId),
+                (rs, i) -> rs.getBytes("reader_bitmap"));
+        return rows.stream().findFirst();
+    }
+
+    public List<Long> findActiveEmployeeIds() {
+        return jdbc.queryForList("SELECT id FROM employees WHERE status = 'ACTIVE'",
+                new MapSqlParameterSource(), Long.class);
+    }
+
+    public List<Reader> findReaders(Collection<Long> employeeIds) {
+        return jdbc.query("SELECT public_id, first_name, last_name, email FROM employees WHERE id IN (:employeeIds) ORDER BY last_name, first_name",
+                new MapSqlParameterSource("employeeIds", employeeIds),
+                (rs, i) -> new Reader(rs.getObject("public_id", UUID.class), rs.getString("first_name"),
+                        rs.getString("last_name"), rs.getString("email")));
+    }
+}
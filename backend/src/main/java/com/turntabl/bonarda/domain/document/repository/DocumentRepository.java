@@ -1,15 +1,18 @@
 package com.turntabl.bonarda.domain.document.repository;
 
 import com.turntabl.bonarda.domain.document.model.Document;
+import com.turntabl.bonarda.domain.document.model.DocumentStatus;
 import jakarta.persistence.LockModeType;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -26,16 +29,28 @@ public interface DocumentRepository extends JpaRepository<Document, Long> {
     @Query("SELECT d FROM Document d JOIN FETCH d.uploadedBy WHERE d.publicId = :publicId")
     Optional<Document> findByPublicIdWithUploader(@Param("publicId") UUID publicId);
 
-    @Query(value = "SELECT d FROM Document d JOIN FETCH d.uploadedBy WHERE d.status <> com.turntabl.bonarda.domain.document.model.DocumentStatus.ARCHIVED",
-           countQuery = "SELECT count(d) FROM Document d WHERE d.status <> com.turntabl.bonarda.domain.document.model.DocumentStatus.ARCHIVED")
-    Page<Document> findAllActive(Pageable pageable);
+    @Query("SELECT d FROM Document d JOIN FETCH d.uploadedBy WHERE d.status <> com.turntabl.bonarda.domain.document.model.DocumentStatus.ARCHIVED")
+    Slice<Document> findAllActive(Pageable pageable);
+
+    long countByStatusNot(DocumentStatus status);
+
+    @Query("SELECT d FROM Document d JOIN FETCH d.uploadedBy WHERE d.id IN :ids")
+    List<Document> findAllWithUploaderByIdIn(@Param("ids") Collection<Long> ids);
 
     @Query("SELECT d FROM Document d JOIN FETCH d.uploadedBy WHERE d.uploadedBy.id = :employeeId ORDER BY d.createdAt DESC")
     List<Document> findByUploadedById(@Param("employeeId") Long employeeId);
 
-    @Query(value = "SELECT d FROM Document d JOIN FETCH d.uploadedBy WHERE d.companyWide = true AND d.status <> com.turntabl.bonarda.domain.document.model.DocumentStatus.ARCHIVED",
-           countQuery = "SELECT count(d) FROM Document d WHERE d.companyWide = true AND d.status <> com.turntabl.bonarda.domain.document.model.DocumentStatus.ARCHIVED")
-    Page<Document> findCompanyWide(Pageable pageable);
+    @Query("SELECT d FROM Document d JOIN FETCH d.uploadedBy WHERE d.companyWide = true AND d.status <> com.turntabl.bonarda.domain.document.model.DocumentStatus.ARCHIVED")
+    Slice<Document> findCompanyWide(Pageable pageable);
+
+    long countByCompanyWideTrueAndStatusNot(DocumentStatus status);
+
+    /** Company-wide documents for the inbox, except those also shared with the employee: the share lists them. */
+    @Query("SELECT d FROM Document d JOIN FETCH d.uploadedBy WHERE d.companyWide = true AND d.status <> com.turntabl.bonarda.domain.document.model.DocumentStatus.ARCHIVED AND NOT EXISTS (SELECT 1 FROM DocumentShare ds WHERE ds.document = d AND ds.employee.id = :employeeId) AND (d.createdAt < :beforeAt OR (d.createdAt = :beforeAt AND d.id < :beforeId)) ORDER BY d.createdAt DESC, d.id DESC")
+    List<Document> findCompanyWideInboxPage(@Param("employeeId") Long employeeId,
+                                            @Param("beforeAt") LocalDateTime beforeAt,
+                                            @Param("beforeId") Long beforeId,
+                                            Pageable pageable);
 
     @Query("SELECT d FROM Document d JOIN FETCH d.uploadedBy WHERE d.uploadedBy.publicId = :uploaderPublicId AND d.status <> com.turntabl.bonarda.domain.document.model.DocumentStatus.ARCHIVED ORDER BY d.createdAt DESC")
     List<Document> findByUploaderPublicId(@Param("uploaderPublicId") UUID uploaderPublicId);
@@ -0,0 +1,79 @@
+package com.turntabl.bonarda.domain.document.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Full-text search over document metadata. Access rules mirror
+ * {@code DocumentServiceImpl.verifyDocumentAccess} and are applied in the query, so
+ * every page is full and ranking never sees documents the caller cannot open.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DocumentSearchRepository {
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public record Hit(Long documentId, double rank, String titleHighlight, String descriptionHighlight) {
+    }
+
+    /**
+     * Returns up to {@code limit} matches ordered by rank then id, strictly after the
+     * ({@code afterRank}, {@code afterId}) keyset position. Highlights are produced for
+     * the returned page only, from HTML-escaped text, so the {@code <mark>} tags are the
+     * only markup in them.
+     */
+    public List<Hit> search(String query, Long callerId, boolean readAll,
+                            double afterRank, long afterId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("query", query)
+                .addValue("callerId", callerId)
+                .addValue("readAll", readAll)
+                .addValue("afterRank", afterRank)
+                .addValue("afterId", afterId)
+                .addValue("limit", limit);
+
+        return jdbc.query("""
+                WITH q AS (
+                    SELECT websearch_to_tsquery('english', :query) AS english,
+                           websearch_to_tsquery('simple', :query) AS simple
+                ),
+                page AS (
+                    SELECT id, rank FROM (
+                        SELECT d.id, ts_rank_cd(d.search_vector, q.english || q.simple)::float8 AS rank
+                        FROM documents d, q
+                        WHERE d.search_vector @@ (q.english || q.simple)
+                          AND d.status <> 'ARCHIVED'
+                          AND (:readAll
+                               OR d.company_wide
+                               OR d.uploaded_by_id = :callerId
+                               OR EXISTS (SELECT 1 FROM document_shares s
+                                          WHERE s.document_id = d.id AND s.employee_id = :callerId))
+                    ) ranked
+                    WHERE (rank, id) < (:afterRank, :afterId)
+                    ORDER BY rank DESC, id DESC
+                    LIMIT :limit
+                )
+                SELECT page.id, page.rank,
+                       ts_headline('english',
+                                   replace(replace(replace(d.title, '&', '&amp;'), '<', '&lt;'), '>', '&gt;'),
+                                   q.english,
+                                   'StartSel=<mark>, StopSel=</mark>, HighlightAll=true') AS title_highlight,
+                       ts_headline('english',
+                                   replace(replace(replace(coalesce(d.description, ''),
+                                                           '&', '&amp;'), '<', '&lt;'), '>', '&gt;'),
+                                   q.english,
+                                   'StartSel=<mark>, StopSel=</mark>, MaxFragments=2, MaxWords=20, MinWords=8') AS description_highlight
+                FROM page
+                JOIN documents d ON d.id = page.id
+                CROSS JOIN q
+                ORDER BY page.rank DESC, page.id DESC
+                """, params,
+                (rs, i) -> new Hit(rs.getLong("id"), rs.getDouble("rank"),
+                        rs.getString("title_highlight"), rs.getString("description_highlight")));
+    }
+}
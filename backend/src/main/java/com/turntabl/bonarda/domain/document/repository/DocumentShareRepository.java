@@ -1,11 +1,14 @@
 package com.turntabl.bonarda.domain.document.repository;
 
 import com.turntabl.bonarda.domain.document.model.DocumentShare;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -23,5 +26,23 @@ public interface DocumentShareRepository extends JpaRepository<DocumentShare, Lo
 
     Optional<DocumentShare> findByDocumentIdAndEmployeeId(Long documentId, Long employeeId);
 
+    @Query("SELECT ds FROM DocumentShare ds JOIN FETCH ds.document JOIN FETCH ds.employee JOIN FETCH ds.sharedBy WHERE ds.document.id = :documentId AND ds.employee.id IN :employeeIds")
+    List<DocumentShare> findByDocumentIdAndEmployeeIds(@Param("documentId") Long documentId,
+                                                       @Param("employeeIds") Collection<Long> employeeIds);
+
+    @Query("SELECT ds FROM DocumentShare ds JOIN FETCH ds.document d JOIN FETCH d.uploadedBy WHERE ds.employee.id = :employeeId AND d.status <> com.turntabl.bonarda.domain.document.model.DocumentStatus.ARCHIVED AND (ds.createdAt < :beforeAt OR (ds.createdAt = :beforeAt AND d.id < :beforeId)) ORDER BY ds.createdAt DESC, d.id DESC")
+    List<DocumentShare> findInboxPage(@Param("employeeId") Long employeeId,
+                                      @Param("beforeAt") LocalDateTime beforeAt,
+                                      @Param("beforeId") Long beforeId,
+                                      Pageable pageable);
+
     boolean existsByDocumentIdAndEmployeeId(Long documentId, Long employeeId);
+
+    @Query("SELECT ds.document.id AS documentId, COUNT(ds) AS total FROM DocumentShare ds WHERE ds.document.id IN :documentIds GROUP BY ds.document.id")
+    List<DocumentCount> countByDocumentIds(@Param("documentIds") Collection<Long> documentIds);
+
+    interface DocumentCount {
+        Long getDocumentId();
+        long getTotal();
+    }
 }
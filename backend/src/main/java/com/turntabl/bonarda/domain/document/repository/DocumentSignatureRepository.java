@@ -2,11 +2,14 @@ package com.turntabl.bonarda.domain.document.repository;
 
 import com.turntabl.bonarda.domain.document.model.DocumentSignature;
 import com.turntabl.bonarda.domain.document.model.SignatureStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -22,12 +25,35 @@ public interface DocumentSignatureRepository extends JpaRepository<DocumentSigna
     @Query("SELECT ds FROM DocumentSignature ds JOIN FETCH ds.employee WHERE ds.document.id = :documentId")
     List<DocumentSignature> findByDocumentIdWithEmployee(@Param("documentId") Long documentId);
 
-    @Query("SELECT ds FROM DocumentSignature ds JOIN FETCH ds.document d JOIN FETCH d.uploadedBy WHERE ds.employee.id = :employeeId ORDER BY ds.createdAt DESC")
-    List<DocumentSignature> findAllByEmployeeId(@Param("employeeId") Long employeeId);
+    @Query("SELECT ds FROM DocumentSignature ds JOIN FETCH ds.document d JOIN FETCH d.uploadedBy WHERE ds.employee.id = :employeeId AND ds.status IN :statuses AND ds.createdAt >= :fromAt AND ds.createdAt < :toAt AND (ds.createdAt < :afterAt OR (ds.createdAt = :afterAt AND ds.id < :afterId)) ORDER BY ds.createdAt DESC, ds.id DESC")
+    List<DocumentSignature> findEmployeePage(@Param("employeeId") Long employeeId,
+                                             @Param("statuses") Collection<SignatureStatus> statuses,
+                                             @Param("fromAt") LocalDateTime fromAt,
+                                             @Param("toAt") LocalDateTime toAt,
+                                             @Param("afterAt") LocalDateTime afterAt,
+                                             @Param("afterId") Long afterId,
+                                             Pageable pageable);
 
     boolean existsByDocumentIdAndEmployeeId(Long documentId, Long employeeId);
 
     Optional<DocumentSignature> findByDocumentIdAndEmployeeId(Long documentId, Long employeeId);
 
+    @Query("SELECT ds FROM DocumentSignature ds JOIN FETCH ds.document JOIN FETCH ds.employee WHERE ds.document.id = :documentId AND ds.employee.id IN :employeeIds")
+    List<DocumentSignature> findByDocumentIdAndEmployeeIds(@Param("documentId") Long documentId,
+                                                           @Param("employeeIds") Collection<Long> employeeIds);
+
+    @Query("SELECT ds FROM DocumentSignature ds WHERE ds.employee.id = :employeeId AND ds.document.id IN :documentIds")
+    List<DocumentSignature> findByEmployeeIdAndDocumentIds(@Param("employeeId") Long employeeId,
+                                                           @Param("documentIds") Collection<Long> documentIds);
+
     long countByDocumentIdAndStatus(Long documentId, SignatureStatus status);
+
+    @Query("SELECT ds.document.id AS documentId, ds.status AS status, COUNT(ds) AS total FROM DocumentSignature ds WHERE ds.document.id IN :documentIds GROUP BY ds.document.id, ds.status")
+    List<StatusCount> countByDocumentIdsGroupedByStatus(@Param("documentIds") Collection<Long> documentIds);
+
+    interface StatusCount {
+        Long getDocumentId();
+        SignatureStatus getStatus();
+        long getTotal();
+    }
 }
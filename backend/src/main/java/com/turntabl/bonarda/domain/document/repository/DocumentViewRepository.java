@@ -0,0 +1,76 @@
+package com.turntabl.bonarda.domain.document.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Applies buffered document views in a single statement per batch: shares get their
+ * first {@code viewed_at} and the recipients' unread counters drop accordingly.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DocumentViewRepository {
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public record View(UUID documentPublicId, Long employeeId, LocalDateTime viewedAt) {
+    }
+
+    /**
+     * Marks the matching unviewed shares as viewed and decrements the unread counters
+     * in the same statement; shares of archived documents were never counted as unread. Views of unknown documents are dropped. Company-wide
+     * documents have no shares; their views are returned by internal document id so
+     * the caller can record them as read receipts.
+     */
+    public Map<Long, Set<Long>> applyViews(List<View> views) {
+        List<Object[]> rows = views.stream()
+                .map(view -> new Object[]{view.documentPublicId(), view.employeeId(), Timestamp.valueOf(view.viewedAt())})
+                .toList();
+
+        Map<Long, Set<Long>> companyWideViews = new HashMap<>();
+        jdbc.query("""
+                WITH v (document_public_id, employee_id, viewed_at) AS (
+                    VALUES :views
+                ),
+                resolved AS (
+                    SELECT d.id AS document_id, d.company_wide, d.status = 'ARCHIVED' AS archived,
+                           v.employee_id::bigint AS employee_id, v.viewed_at::timestamp AS viewed_at
+                    FROM v
+                    JOIN documents d ON d.public_id = v.document_public_id::uuid
+                ),
+                viewed AS (
+                    UPDATE document_shares s SET viewed_at = r.viewed_at
+                    FROM resolved r
+                    WHERE s.document_id = r.document_id
+                      AND s.employee_id = r.employee_id
+                      AND s.viewed_at IS NULL
+                      AND NOT r.company_wide
+                    RETURNING s.employee_id, r.archived
+                ),
+                counters AS (
+                    UPDATE document_inbox_counters c
+                    SET unread_count = GREATEST(c.unread_count - n.viewed, 0)
+                    FROM (SELECT employee_id, COUNT(*) AS viewed FROM viewed
+                          WHERE NOT archived GROUP BY employee_id) n
+                    WHERE c.employee_id = n.employee_id
+                )
+                SELECT document_id, employee_id FROM resolved WHERE company_wide
+                """, new MapSqlParameterSource("views", rows),
+                rs -> {
+                    companyWideViews.computeIfAbsent(rs.getLong("document_id"), id -> new HashSet<>())
+                            .add(rs.getLong("employee_id"));
+                });
+        return companyWideViews;
+    }
+}
@@ -0,0 +1,83 @@
+package com.turntabl.bonarda.domain.document.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Set-based deadline handling for pending signatures. Both statements claim rows with
+ * a conditional UPDATE ... RETURNING, so nodes running the sweep concurrently each get
+ * a disjoint set of rows and a row is never reminded or expired twice.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SignatureDeadlineRepository {
+
+    private static final RowMapper<DueSignature> DUE_SIGNATURE = (rs, i) -> new DueSignature(
+            rs.getLong("employee_id"), rs.getString("email"), rs.getString("first_name"),
+            rs.getString("last_name"), rs.getString("title"), rs.getObject("signature_deadline", LocalDate.class));
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public record DueSignature(Long employeeId, String email, String firstName, String lastName,
+                               String documentTitle, LocalDate deadline) {
+    }
+
+    /**
+     * Stamps {@code reminder_sent_at} on pending signatures due between {@code today} and
+     * {@code until} that have not been reminded today, returning the claimed rows.
+     */
+    public List<DueSignature> claimReminders(LocalDate today, LocalDate until) {
+        return jdbc.query("""
+                UPDATE document_signatures g SET reminder_sent_at = CURRENT_TIMESTAMP
+                FROM documents d, employees e
+                WHERE g.document_id = d.id
+                  AND g.employee_id = e.id
+                  AND g.status = 'PENDING'
+                  AND d.requires_signature = true
+                  AND d.status = 'ACTIVE'
+                  AND d.signature_deadline BETWEEN :today AND :until
+                  AND e.status = 'ACTIVE'
+                  AND (g.reminder_sent_at IS NULL OR g.reminder_sent_at < :today)
+                RETURNING g.employee_id, e.email, e.first_name, e.last_name, d.title, d.signature_deadline
+                """, new MapSqlParameterSource()
+                        .addValue("today", today)
+                        .addValue("until", until), DUE_SIGNATURE);
+    }
+
+    /**
+     * Moves pending signatures whose deadline is before {@code today} to EXPIRED and
+     * drops them from the recipients' pending counters in the same statement (signatures
+     * on archived documents were never in those counters). The
+     * version bump makes any in-flight sign or decline fail its optimistic lock.
+     */
+    public List<DueSignature> expireOverdue(LocalDate today) {
+        return jdbc.query("""
+                WITH expired AS (
+                    UPDATE document_signatures g SET status = 'EXPIRED', version = g.version + 1
+                    FROM documents d
+                    WHERE g.document_id = d.id
+                      AND g.status = 'PENDING'
+                      AND d.requires_signature = true
+                      AND d.signature_deadline < :today
+                    RETURNING g.employee_id, d.title, d.signature_deadline, d.status AS document_status
+                ),
+                counters AS (
+                    UPDATE document_inbox_counters c
+                    SET pending_signature_count = GREATEST(c.pending_signature_count - n.expired, 0)
+                    FROM (SELECT employee_id, COUNT(*) AS expired FROM expired
+                          WHERE document_status <> 'ARCHIVED' GROUP BY employee_id) n
+                    WHERE c.employee_id = n.employee_id
+                )
+                SELECT x.employee_id, e.email, e.first_name, e.last_name, x.title, x.signature_deadline
+                FROM expired x
+                JOIN employees e ON e.id = x.employee_id
+                WHERE e.status = 'ACTIVE'
+                """, new MapSqlParameterSource("today", today), DUE_SIGNATURE);
+    }
+}
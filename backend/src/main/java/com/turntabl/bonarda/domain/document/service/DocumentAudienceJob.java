@@ -0,0 +1,45 @@
+package com.turntabl.bonarda.domain.document.service;
+
+import com.turntabl.bonarda.domain.document.model.DocumentAudience;
+import com.turntabl.bonarda.domain.document.model.DocumentDistributed;
+import com.turntabl.bonarda.domain.document.repository.DocumentAudienceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * Background distribution for large audiences, so the request thread returns at once
+ * and the insert runs in its own transaction.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class DocumentAudienceJob {
+
+    private final DocumentAudienceRepository audienceRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Async
+    @Transactional
+    public void distribute(Long documentId, UUID documentPublicId, Long sharedById,
+                           DocumentAudience audience, boolean withSignatures) {
+        long started = System.currentTimeMillis();
+        try {
+            DocumentAudienceRepository.InsertResult result =
+                    audienceRepository.insertSharesAndSignatures(documentId, sharedById, audience, withSignatures);
+            eventPublisher.publishEvent(new DocumentDistributed(documentPublicId,
+                    result.shareRecipientIds(), result.signatureRecipientIds()));
+            log.info("Document {} distributed: {} shares, {} signature requests in {} ms",
+                    documentId, result.shareRecipientIds().size(), result.signatureRecipientIds().size(),
+                    System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            log.error("Failed to distribute document {}: {}", documentId, e.getMessage(), e);
+            throw e;
+        }
+    }
+}
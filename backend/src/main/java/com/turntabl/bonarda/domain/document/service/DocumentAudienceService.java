@@ -0,0 +1,29 @@
+package com.turntabl.bonarda.domain.document.service;
+
+import com.turntabl.bonarda.domain.document.dto.DocumentAudienceRequest;
+import com.turntabl.bonarda.domain.document.dto.DocumentAudienceResultDto;
+import com.turntabl.bonarda.domain.document.model.Document;
+import com.turntabl.bonarda.domain.document.repository.DocumentAudienceRepository;
+import com.turntabl.bonarda.domain.employee.model.Employee;
+import com.turntabl.bonarda.security.UserPrincipal;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface DocumentAudienceService {
+
+    /**
+     * Shares a document with an audience, opening PENDING signatures when the document
+     * requires them or {@code requestSignatures} is set. Audiences above the async
+     * threshold are queued and the result reports {@code queued = true}.
+     */
+    DocumentAudienceResultDto distribute(UUID documentPublicId, DocumentAudienceRequest request,
+                                         boolean requestSignatures, UserPrincipal currentUser);
+
+    /**
+     * Synchronously shares a document with explicitly named employees in one statement.
+     * Throws ResourceNotFoundException if any id is unknown.
+     */
+    DocumentAudienceRepository.InsertResult shareWithEmployees(Document document, Employee sharer,
+                                                               List<UUID> employeeIds, boolean withSignatures);
+}
@@ -0,0 +1,113 @@
+package com.turntabl.bonarda.domain.document.service;
+
+import com.turntabl.bonarda.domain.common.service.EntityResolutionService;
+import com.turntabl.bonarda.domain.document.dto.DocumentAudienceRequest;
+import com.turntabl.bonarda.domain.document.dto.DocumentAudienceResultDto;
+import com.turntabl.bonarda.domain.document.model.Document;
+import com.turntabl.bonarda.domain.document.model.DocumentAudience;
+import com.turntabl.bonarda.domain.document.model.DocumentDistributed;
+import com.turntabl.bonarda.domain.document.repository.DocumentAudienceRepository;
+import com.turntabl.bonarda.domain.document.repository.DocumentRepository;
+import com.turntabl.bonarda.domain.employee.model.Employee;
+import com.turntabl.bonarda.domain.employee.repository.RoleRepository;
+import com.turntabl.bonarda.exception.BadRequestException;
+import com.turntabl.bonarda.exception.ResourceNotFoundException;
+import com.turntabl.bonarda.security.UserPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class DocumentAudienceServiceImpl implements DocumentAudienceService {
+
+    /** Audiences larger than this are distributed in the background. */
+    static final int ASYNC_AUDIENCE_THRESHOLD = 500;
+
+    private final DocumentRepository documentRepository;
+    private final DocumentAudienceRepository audienceRepository;
+    private final DocumentAudienceJob audienceJob;
+    private final RoleRepository roleRepository;
+    private final EntityResolutionService entityResolution;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public DocumentAudienceResultDto distribute(UUID documentPublicId, DocumentAudienceRequest request,
+                                                boolean requestSignatures, UserPrincipal currentUser) {
+        Document document = documentRepository.findByPublicId(documentPublicId)
+                .orElseThrow(() -> new ResourceNotFoundException("Document", "publicId", documentPublicId));
+
+        if (Boolean.TRUE.equals(document.getCompanyWide())) {
+            throw new BadRequestException("Company-wide documents cannot be shared individually");
+        }
+
+        DocumentAudience audience = request.toAudience();
+        validate(audience);
+        Employee sharer = entityResolution.resolveEmployee(currentUser.getPublicId());
+        boolean withSignatures = requestSignatures || Boolean.TRUE.equals(document.getRequiresSignature());
+
+        int audienceSize = audienceRepository.countAudience(audience);
+        DocumentAudienceResultDto.DocumentAudienceResultDtoBuilder result = DocumentAudienceResultDto.builder()
+                .documentId(documentPublicId.toString())
+                .audienceSize(audienceSize);
+
+        if (audienceSize > ASYNC_AUDIENCE_THRESHOLD) {
+            audienceJob.distribute(document.getId(), documentPublicId, sharer.getId(), audience, withSignatures);
+            return result.queued(true).build();
+        }
+
+        DocumentAudienceRepository.InsertResult inserted =
+                audienceRepository.insertSharesAndSignatures(document.getId(), sharer.getId(), audience, withSignatures);
+        publishDistributed(documentPublicId, inserted);
+        return result
+                .sharesCreated(inserted.shareRecipientIds().size())
+                .signaturesCreated(inserted.signatureRecipientIds().size())
+                .build();
+    }
+
+    @Override
+    public DocumentAudienceRepository.InsertResult shareWithEmployees(Document document, Employee sharer,
+                                                                      List<UUID> employeeIds, boolean withSignatures) {
+        DocumentAudience audience = DocumentAudience.ofEmployees(employeeIds);
+        validate(audience);
+        DocumentAudienceRepository.InsertResult inserted =
+                audienceRepository.insertSharesAndSignatures(document.getId(), sharer.getId(), audience, withSignatures);
+        publishDistributed(document.getPublicId(), inserted);
+        return inserted;
+    }
+
+    private void publishDistributed(UUID documentPublicId, DocumentAudienceRepository.InsertResult inserted) {
+        eventPublisher.publishEvent(new DocumentDistributed(documentPublicId,
+                inserted.shareRecipientIds(), inserted.signatureRecipientIds()));
+    }
+
+    private void validate(DocumentAudience audience) {
+        if (audience.isEmpty()) {
+            throw new BadRequestException("Select at least one employee, role, manager or all active employees");
+        }
+        if (audience.hasEmployeeIds()) {
+            Set<UUID> missing = new HashSet<>(audience.employeeIds());
+            missing.removeAll(audienceRepository.findExistingEmployeePublicIds(audience.employeeIds()));
+            if (!missing.isEmpty()) {
+                throw new ResourceNotFoundException("Employee", "publicId", missing.iterator().next());
+            }
+        }
+        if (audience.managerId() != null) {
+            entityResolution.resolveEmployee(audience.managerId());
+        }
+        if (audience.hasRoles()) {
+            for (String role : audience.roles()) {
+                if (roleRepository.findByName(role).isEmpty()) {
+                    throw new BadRequestException("Unknown role: " + role);
+                }
+            }
+        }
+    }
+}
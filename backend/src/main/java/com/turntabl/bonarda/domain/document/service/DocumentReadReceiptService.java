@@ -0,0 +1,16 @@
+package com.turntabl.bonarda.domain.document.service;
+
+import com.turntabl.bonarda.domain.document.dto.DocumentReadReceiptDto;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+public interface DocumentReadReceiptService {
+
+    /** Merges views flushed by {@link DocumentViewBuffer} into the stored reader bitmaps. */
+    void mergeViews(Map<Long, Set<Long>> readersByDocumentId);
+
+    /** Read/unread totals against active employees, plus up to {@code limit} unread employees. */
+    DocumentReadReceiptDto getReadReceipts(UUID documentPublicId, int limit);
+}
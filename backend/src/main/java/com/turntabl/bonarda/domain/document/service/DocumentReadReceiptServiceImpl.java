@@ -0,0 +1,105 @@
+package com.turntabl.bonarda.domain.document.service;
+
+import com.turntabl.bonarda.domain.document.dto.DocumentReadReceiptDto;
+import com.turntabl.bonarda.domain.document.dto.DocumentReaderDto;
+import com.turntabl.bonarda.domain.document.model.Document;
+import com.turntabl.bonarda.domain.document.repository.DocumentReadReceiptRepository;
+import com.turntabl.bonarda.domain.document.repository.DocumentRepository;
+import com.turntabl.bonarda.exception.BadRequestException;
+import com.turntabl.bonarda.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Tracks who has opened each company-wide document without a share row per employee.
+ * Views arrive in batches from {@link DocumentViewBuffer} and are merged into the stored
+ * bitmap, so receipts lag by up to one flush interval; "who has not read it" is the
+ * active-employee bitmap minus the readers.
+ */
+@Service
+@Transactional
+@Slf4j
+@RequiredArgsConstructor
+public class DocumentReadReceiptServiceImpl implements DocumentReadReceiptService {
+
+    private static final int MAX_UNREAD_LIMIT = 1000;
+
+    private final DocumentRepository documentRepository;
+    private final DocumentReadReceiptRepository readReceiptRepository;
+
+    @Override
+    public void mergeViews(Map<Long, Set<Long>> batch) {
+        readReceiptRepository.ensureRows(batch.keySet());
+        Map<Long, byte[]> stored = readReceiptRepository.lockBitmaps(batch.keySet());
+
+        Map<Long, byte[]> updated = new HashMap<>();
+        Map<Long, Integer> counts = new HashMap<>();
+        stored.forEach((documentId, bytes) -> {
+            BitSet readers = ReaderBitmap.decode(bytes);
+            int before = readers.cardinality();
+            batch.get(documentId).forEach(employeeId -> readers.set(Math.toIntExact(employeeId)));
+            if (readers.cardinality() != before) {
+                updated.put(documentId, ReaderBitmap.encode(readers));
+                counts.put(documentId, readers.cardinality());
+            }
+        });
+        if (!updated.isEmpty()) {
+            readReceiptRepository.updateBitmaps(updated, counts);
+        }
+        log.debug("Read receipts merged: {} documents, {} changed", batch.size(), updated.size());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public DocumentReadReceiptDto getReadReceipts(UUID documentPublicId, int limit) {
+        Document document = documentRepository.findByPublicId(documentPublicId)
+                .orElseThrow(() -> new ResourceNotFoundException("Document", "publicId", documentPublicId));
+        if (!Boolean.TRUE.equals(document.getCompanyWide())) {
+            throw new BadRequestException("Read receipts are tracked for company-wide documents only; use shares for others");
+        }
+
+        BitSet readers = readReceiptRepository.findBitmap(document.getId())
+                .map(ReaderBitmap::decode)
+                .orElseGet(BitSet::new);
+
+        BitSet active = new BitSet();
+        readReceiptRepository.findActiveEmployeeIds().forEach(id -> active.set(Math.toIntExact(id)));
+        BitSet unread = (BitSet) active.clone();
+        unread.andNot(readers);
+        BitSet activeReaders = (BitSet) active.clone();
+        activeReaders.and(readers);
+
+        int cap = Math.max(0, Math.min(limit, MAX_UNREAD_LIMIT));
+        List<Long> unreadIds = new ArrayList<>(cap);
+        for (int i = unread.nextSetBit(0); i >= 0 && unreadIds.size() < cap; i = unread.nextSetBit(i + 1)) {
+            unreadIds.add((long) i);
+        }
+        List<DocumentReaderDto> unreadEmployees = unreadIds.isEmpty()
+                ? List.of()
+                : readReceiptRepository.findReaders(unreadIds).stream()
+                        .map(reader -> DocumentReaderDto.builder()
+                                .employeeId(reader.publicId().toString())
+                                .name(reader.firstName() + " " + reader.lastName())
+                                .email(reader.email())
+                                .build())
+                        .toList();
+
+        return DocumentReadReceiptDto.builder()
+                .documentId(documentPublicId.toString())
+                .activeEmployeeCount(active.cardinality())
+                .readCount(activeReaders.cardinality())
+                .unreadCount(unread.cardinality())
+                .unreadEmployees(unreadEmployees)
+                .build();
+    }
+}
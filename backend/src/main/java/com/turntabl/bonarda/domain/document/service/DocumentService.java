@@ -1,8 +1,8 @@
 package com.turntabl.bonarda.domain.document.service;
 
+import com.turntabl.bonarda.domain.common.dto.SliceDto;
 import com.turntabl.bonarda.domain.document.dto.*;
 import com.turntabl.bonarda.security.UserPrincipal;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
@@ -12,13 +12,16 @@ public interface DocumentService {
     DocumentDto create(CreateDocumentRequest request, UserPrincipal currentUser);
     DocumentDto update(UUID publicId, CreateDocumentRequest request, UserPrincipal currentUser);
     DocumentDto getById(UUID publicId, UserPrincipal currentUser);
-    Page<DocumentDto> getAll(Pageable pageable);
+    SliceDto<DocumentDto> getAll(Pageable pageable, boolean estimateTotal);
     List<DocumentDto> getMyDocuments(UUID employeePublicId);
-    Page<DocumentDto> getCompanyWideDocuments(Pageable pageable);
+    DocumentInboxDto getInbox(UUID employeePublicId, String cursor, int size);
+    DocumentInboxCountsDto getInboxCounts(UUID employeePublicId);
+    SliceDto<DocumentDto> getCompanyWideDocuments(Pageable pageable, boolean estimateTotal);
     List<DocumentDto> getMyUploads(UUID employeePublicId);
     void delete(UUID publicId, UserPrincipal currentUser);
     List<DocumentShareDto> shareDocument(UUID documentPublicId, ShareDocumentRequest request, UserPrincipal currentUser);
     List<DocumentShareDto> getShares(UUID documentPublicId);
     void removeShare(UUID documentPublicId, UUID sharePublicId);
     void markViewed(UUID documentPublicId, UserPrincipal currentUser);
+    DocumentSearchResultDto searchDocuments(String query, String cursor, int size, UserPrincipal currentUser);
 }
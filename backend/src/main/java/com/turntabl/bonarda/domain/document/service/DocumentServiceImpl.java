@@ -1,10 +1,15 @@
 package com.turntabl.bonarda.domain.document.service;
 
+import com.turntabl.bonarda.domain.common.dto.SliceDto;
 import com.turntabl.bonarda.domain.common.service.EntityResolutionService;
 import com.turntabl.bonarda.domain.common.service.EnumParser;
+import com.turntabl.bonarda.domain.common.service.RowCountEstimator;
 import com.turntabl.bonarda.domain.document.dto.*;
 import com.turntabl.bonarda.domain.document.model.*;
+import com.turntabl.bonarda.domain.document.repository.DocumentAudienceRepository;
+import com.turntabl.bonarda.domain.document.repository.DocumentInboxCounterRepository;
 import com.turntabl.bonarda.domain.document.repository.DocumentRepository;
+import com.turntabl.bonarda.domain.document.repository.DocumentSearchRepository;
 import com.turntabl.bonarda.domain.document.repository.DocumentShareRepository;
 import com.turntabl.bonarda.domain.document.repository.DocumentSignatureRepository;
 import com.turntabl.bonarda.domain.employee.model.Employee;
@@ -13,18 +18,26 @@ import com.turntabl.bonarda.exception.ForbiddenException;
 import com.turntabl.bonarda.exception.ResourceNotFoundException;
 import com.turntabl.bonarda.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -32,11 +45,25 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class DocumentServiceImpl implements DocumentService {
 
+    private static final int MAX_INBOX_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_PAGE_SIZE = 50;
+    private static final int MAX_SEARCH_QUERY_LENGTH = 200;
+    private static final LocalDateTime INBOX_START = LocalDateTime.of(9999, 12, 31, 23, 59);
+    private static final Comparator<InboxEntry> INBOX_ORDER = Comparator
+            .comparing(InboxEntry::receivedAt)
+            .thenComparing(entry -> entry.document().getId())
+            .reversed();
+
     private final DocumentRepository documentRepository;
     private final DocumentShareRepository shareRepository;
     private final DocumentSignatureRepository signatureRepository;
+    private final DocumentInboxCounterRepository inboxCounterRepository;
+    private final DocumentAudienceService audienceService;
+    private final DocumentViewBuffer viewBuffer;
+    private final DocumentSearchRepository searchRepository;
     private final EntityResolutionService entityResolution;
     private final EnumParser enumParser;
+    private final RowCountEstimator rowCountEstimator;
 
     @Override
     public DocumentDto create(CreateDocumentRequest request, UserPrincipal currentUser) {
@@ -114,8 +141,10 @@ public class DocumentServiceImpl implements DocumentService {
 
     @Override
     @Transactional(readOnly = true)
-    public Page<DocumentDto> getAll(Pageable pageable) {
-        return documentRepository.findAllActive(pageable).map(this::toDto);
+    public SliceDto<DocumentDto> getAll(Pageable pageable, boolean estimateTotal) {
+        return SliceDto.of(toDtoSlice(documentRepository.findAllActive(pageable)),
+                estimateTotal ? rowCountEstimator.cachedCount("documents:active",
+                        () -> documentRepository.countByStatusNot(DocumentStatus.ARCHIVED)) : null);
     }
 
     @Override
@@ -123,21 +152,88 @@ public class DocumentServiceImpl implements DocumentService {
     public List<DocumentDto> getMyDocuments(UUID employeePublicId) {
         Employee employee = entityResolution.resolveEmployee(employeePublicId);
         List<DocumentShare> shares = shareRepository.findByEmployeeIdWithDocument(employee.getId());
+        List<Document> documents = shares.stream().map(DocumentShare::getDocument).toList();
+        Map<Long, DocumentStats> stats = loadStats(documents);
+        Map<Long, DocumentSignature> mySignatures = loadSignatures(employee.getId(), documents);
         return shares.stream()
                 .map(share -> {
-                    DocumentDto dto = toDto(share.getDocument());
-                    // Enrich with this employee's personal signature status
-                    signatureRepository.findByDocumentIdAndEmployeeId(
-                            share.getDocument().getId(), employee.getId()
-                    ).ifPresent(sig -> {
-                        dto.setMySignatureStatus(sig.getStatus().name());
-                        dto.setMySignatureId(sig.getPublicId().toString());
-                    });
+                    DocumentDto dto = toDto(share.getDocument(), stats);
+                    applySignature(dto, mySignatures.get(share.getDocument().getId()));
                     return dto;
                 })
                 .toList();
     }
 
+    /**
+     * Merges the employee's shares and company-wide documents, newest first. Each source
+     * is read with its own keyset query (limit size + 1) and the two sorted runs are merged
+     * here, so a page costs a fixed handful of statements however deep the cursor is. The
+     * sources are disjoint, a document shared with the employee being listed only by its
+     * share, so no document can turn up on two pages.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public DocumentInboxDto getInbox(UUID employeePublicId, String cursor, int size) {
+        Employee employee = entityResolution.resolveEmployee(employeePublicId);
+        int limit = Math.max(1, Math.min(size, MAX_INBOX_PAGE_SIZE));
+        InboxCursor after = cursor != null && !cursor.isBlank()
+                ? InboxCursor.decode(cursor)
+                : new InboxCursor(INBOX_START, Long.MAX_VALUE);
+        PageRequest window = PageRequest.of(0, limit + 1);
+
+        List<InboxEntry> entries = new ArrayList<>();
+        shareRepository.findInboxPage(employee.getId(), after.receivedAt(), after.documentId(), window)
+                .forEach(share -> entries.add(new InboxEntry(share.getDocument(), share.getCreatedAt(), share)));
+        documentRepository.findCompanyWideInboxPage(employee.getId(), after.receivedAt(), after.documentId(), window)
+                .forEach(doc -> entries.add(new InboxEntry(doc, doc.getCreatedAt(), null)));
+        entries.sort(INBOX_ORDER);
+
+        boolean hasMore = entries.size() > limit;
+        List<InboxEntry> page = hasMore ? entries.subList(0, limit) : entries;
+
+        List<Document> documents = page.stream().map(InboxEntry::document).toList();
+        Map<Long, DocumentStats> stats = loadStats(documents);
+        Map<Long, DocumentSignature> mySignatures = loadSignatures(employee.getId(), documents);
+        List<DocumentDto> items = page.stream()
+                .map(entry -> {
+                    DocumentDto dto = toDto(entry.document(), stats);
+                    dto.setInboxSource(entry.share() != null ? "SHARED" : "COMPANY_WIDE");
+                    dto.setReceivedAt(entry.receivedAt().toString());
+                    if (entry.share() != null && entry.share().getViewedAt() != null) {
+                        dto.setViewedAt(entry.share().getViewedAt().toString());
+                    }
+                    applySignature(dto, mySignatures.get(entry.document().getId()));
+                    return dto;
+                })
+                .toList();
+
+        InboxEntry last = page.isEmpty() ? null : page.get(page.size() - 1);
+        DocumentInboxCountsDto counts = getInboxCounts(employee.getId());
+        return DocumentInboxDto.builder()
+                .items(items)
+                .nextCursor(hasMore && last != null
+                        ? new InboxCursor(last.receivedAt(), last.document().getId()).encode()
+                        : null)
+                .unreadCount(counts.getUnreadCount())
+                .pendingSignatureCount(counts.getPendingSignatureCount())
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public DocumentInboxCountsDto getInboxCounts(UUID employeePublicId) {
+        return getInboxCounts(entityResolution.resolveEmployee(employeePublicId).getId());
+    }
+
+    private DocumentInboxCountsDto getInboxCounts(Long employeeId) {
+        return inboxCounterRepository.findById(employeeId)
+                .map(counter -> DocumentInboxCountsDto.builder()
+                        .unreadCount(counter.getUnreadCount())
+                        .pendingSignatureCount(counter.getPendingSignatureCount())
+                        .build())
+                .orElseGet(() -> DocumentInboxCountsDto.builder().build());
+    }
+
     @Override
     public void delete(UUID publicId, UserPrincipal currentUser) {
         Document document = documentRepository.findByPublicId(publicId)
@@ -145,7 +241,12 @@ public class DocumentServiceImpl implements DocumentService {
 
         verifyDocumentAccess(document, currentUser, true);
 
+        List<Long> recipientIds = inboxCounterRepository.findRecipientIdsByDocumentId(document.getId());
         documentRepository.delete(document);
+        if (!recipientIds.isEmpty()) {
+            documentRepository.flush();
+            inboxCounterRepository.recalculate(recipientIds);
+        }
     }
 
     @Override
@@ -159,33 +260,14 @@ public class DocumentServiceImpl implements DocumentService {
 
         Employee sharer = entityResolution.resolveEmployee(currentUser.getPublicId());
 
-        List<DocumentShareDto> results = new ArrayList<>();
-        for (UUID empPublicId : request.getEmployeeIds()) {
-            Employee emp = entityResolution.resolveEmployee(empPublicId);
-
-            if (shareRepository.existsByDocumentIdAndEmployeeId(document.getId(), emp.getId())) {
-                continue; // skip already shared
-            }
-
-            DocumentShare share = shareRepository.save(DocumentShare.builder()
-                    .document(document)
-                    .employee(emp)
-                    .sharedBy(sharer)
-                    .build());
-
-            // If document requires signature, create a PENDING signature record
-            if (Boolean.TRUE.equals(document.getRequiresSignature())
-                    && !signatureRepository.existsByDocumentIdAndEmployeeId(document.getId(), emp.getId())) {
-                signatureRepository.save(DocumentSignature.builder()
-                        .document(document)
-                        .employee(emp)
-                        .status(SignatureStatus.PENDING)
-                        .build());
-            }
-
-            results.add(toShareDto(share));
+        DocumentAudienceRepository.InsertResult inserted = audienceService.shareWithEmployees(
+                document, sharer, request.getEmployeeIds(), Boolean.TRUE.equals(document.getRequiresSignature()));
+        if (inserted.shareRecipientIds().isEmpty()) {
+            return List.of();
         }
-        return results;
+        return shareRepository.findByDocumentIdAndEmployeeIds(document.getId(), inserted.shareRecipientIds()).stream()
+                .map(this::toShareDto)
+                .toList();
     }
 
     @Override
@@ -206,34 +288,80 @@ public class DocumentServiceImpl implements DocumentService {
             throw new BadRequestException("Share does not belong to this document");
         }
         shareRepository.delete(share);
+        if (share.getViewedAt() == null && share.getDocument().getStatus() != DocumentStatus.ARCHIVED) {
+            inboxCounterRepository.adjust(share.getEmployee().getId(), -1, 0);
+        }
     }
 
     @Override
     public void markViewed(UUID documentPublicId, UserPrincipal currentUser) {
-        Document document = documentRepository.findByPublicId(documentPublicId)
-                .orElseThrow(() -> new ResourceNotFoundException("Document", "publicId", documentPublicId));
-        Employee employee = entityResolution.resolveEmployee(currentUser.getPublicId());
+        viewBuffer.record(documentPublicId, currentUser.getId());
+    }
 
-        shareRepository.findByDocumentIdAndEmployeeId(document.getId(), employee.getId())
-                .ifPresent(share -> {
-                    if (share.getViewedAt() == null) {
-                        share.setViewedAt(LocalDateTime.now());
-                        shareRepository.save(share);
-                    }
-                });
+    /**
+     * Ranked full-text search over title, description and file name. Access filtering
+     * happens in SQL, so pages are never short; highlights come back on each item.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public DocumentSearchResultDto searchDocuments(String query, String cursor, int size, UserPrincipal currentUser) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("Search query must not be blank");
+        }
+        if (query.length() > MAX_SEARCH_QUERY_LENGTH) {
+            throw new BadRequestException("Search query must be at most " + MAX_SEARCH_QUERY_LENGTH + " characters");
+        }
+        int limit = Math.max(1, Math.min(size, MAX_SEARCH_PAGE_SIZE));
+        SearchCursor after = cursor != null && !cursor.isBlank()
+                ? SearchCursor.decode(cursor)
+                : new SearchCursor(Double.MAX_VALUE, Long.MAX_VALUE);
+        boolean readAll = currentUser.getAuthorities().stream()
+                .anyMatch(authority -> "DOCUMENT_READ_ALL".equals(authority.getAuthority()));
+
+        List<DocumentSearchRepository.Hit> hits = searchRepository.search(
+                query.trim(), currentUser.getId(), readAll, after.rank(), after.documentId(), limit + 1);
+        boolean hasMore = hits.size() > limit;
+        List<DocumentSearchRepository.Hit> page = hasMore ? hits.subList(0, limit) : hits;
+        if (page.isEmpty()) {
+            return DocumentSearchResultDto.builder().items(List.of()).build();
+        }
+
+        Map<Long, Document> documents = documentRepository.findAllWithUploaderByIdIn(
+                        page.stream().map(DocumentSearchRepository.Hit::documentId).toList()).stream()
+                .collect(Collectors.toMap(Document::getId, Function.identity()));
+        Map<Long, DocumentStats> stats = loadStats(List.copyOf(documents.values()));
+        List<DocumentDto> items = page.stream()
+                .filter(hit -> documents.containsKey(hit.documentId()))
+                .map(hit -> {
+                    DocumentDto dto = toDto(documents.get(hit.documentId()), stats);
+                    dto.setTitleHighlight(hit.titleHighlight());
+                    dto.setDescriptionHighlight(hit.descriptionHighlight());
+                    return dto;
+                })
+                .toList();
+
+        DocumentSearchRepository.Hit last = page.get(page.size() - 1);
+        return DocumentSearchResultDto.builder()
+                .items(items)
+                .nextCursor(hasMore ? new SearchCursor(last.rank(), last.documentId()).encode() : null)
+                .build();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<DocumentDto> getCompanyWideDocuments(Pageable pageable) {
-        return documentRepository.findCompanyWide(pageable).map(this::toDto);
+    public SliceDto<DocumentDto> getCompanyWideDocuments(Pageable pageable, boolean estimateTotal) {
+        return SliceDto.of(toDtoSlice(documentRepository.findCompanyWide(pageable)),
+                estimateTotal ? rowCountEstimator.cachedCount("documents:company-wide",
+                        () -> documentRepository.countByCompanyWideTrueAndStatusNot(DocumentStatus.ARCHIVED)) : null);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<DocumentDto> getMyUploads(UUID employeePublicId) {
-        return documentRepository.findByUploaderPublicId(employeePublicId).stream()
-                .map(this::toDto)
+        List<Document> documents = documentRepository.findByUploaderPublicId(employeePublicId);
+        Map<Long, DocumentStats> stats = loadStats(documents);
+        return documents.stream()
+                .map(doc -> toDto(doc, stats))
                 .toList();
     }
 
@@ -279,8 +407,52 @@ public class DocumentServiceImpl implements DocumentService {
     // --- Helpers ---
 
     private DocumentDto toDto(Document doc) {
-        long signedCount = signatureRepository.countByDocumentIdAndStatus(doc.getId(), SignatureStatus.SIGNED);
-        long pendingCount = signatureRepository.countByDocumentIdAndStatus(doc.getId(), SignatureStatus.PENDING);
+        return toDto(doc, loadStats(List.of(doc)));
+    }
+
+    private Slice<DocumentDto> toDtoSlice(Slice<Document> slice) {
+        Map<Long, DocumentStats> stats = loadStats(slice.getContent());
+        return slice.map(doc -> toDto(doc, stats));
+    }
+
+    /**
+     * Loads share and signature counts for a batch of documents in two grouped queries,
+     * so mapping a page costs the same number of statements regardless of its size.
+     */
+    private Map<Long, DocumentStats> loadStats(List<Document> documents) {
+        Set<Long> ids = documents.stream().map(Document::getId).collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, DocumentStats> stats = new HashMap<>();
+        shareRepository.countByDocumentIds(ids).forEach(row ->
+                stats.computeIfAbsent(row.getDocumentId(), id -> new DocumentStats()).shares = (int) row.getTotal());
+        signatureRepository.countByDocumentIdsGroupedByStatus(ids).forEach(row -> {
+            DocumentStats s = stats.computeIfAbsent(row.getDocumentId(), id -> new DocumentStats());
+            if (row.getStatus() == SignatureStatus.SIGNED) s.signed = (int) row.getTotal();
+            if (row.getStatus() == SignatureStatus.PENDING) s.pending = (int) row.getTotal();
+        });
+        return stats;
+    }
+
+    private Map<Long, DocumentSignature> loadSignatures(Long employeeId, List<Document> documents) {
+        Set<Long> ids = documents.stream().map(Document::getId).collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return signatureRepository.findByEmployeeIdAndDocumentIds(employeeId, ids).stream()
+                .collect(Collectors.toMap(sig -> sig.getDocument().getId(), Function.identity()));
+    }
+
+    private void applySignature(DocumentDto dto, DocumentSignature signature) {
+        if (signature != null) {
+            dto.setMySignatureStatus(signature.getStatus().name());
+            dto.setMySignatureId(signature.getPublicId().toString());
+        }
+    }
+
+    private DocumentDto toDto(Document doc, Map<Long, DocumentStats> statsByDocument) {
+        DocumentStats stats = statsByDocument.getOrDefault(doc.getId(), DocumentStats.NONE);
 
         return DocumentDto.builder()
                 .id(doc.getPublicId().toString())
@@ -301,9 +473,9 @@ public class DocumentServiceImpl implements DocumentService {
                 .sharePointDocument(doc.isSharePointDocument())
                 .uploadedById(doc.getUploadedBy().getPublicId().toString())
                 .uploadedByName(doc.getUploadedBy().getFirstName() + " " + doc.getUploadedBy().getLastName())
-                .shareCount(doc.getShares() != null ? doc.getShares().size() : 0)
-                .signedCount((int) signedCount)
-                .pendingSignatureCount((int) pendingCount)
+                .shareCount(stats.shares)
+                .signedCount(stats.signed)
+                .pendingSignatureCount(stats.pending)
                 .createdAt(doc.getCreatedAt() != null ? doc.getCreatedAt().toString() : null)
                 .build();
     }
@@ -321,4 +493,55 @@ public class DocumentServiceImpl implements DocumentService {
                 .sharedAt(share.getCreatedAt() != null ? share.getCreatedAt().toString() : null)
                 .build();
     }
+
+    private static class DocumentStats {
+        static final DocumentStats NONE = new DocumentStats();
+
+        int shares;
+        int signed;
+        int pending;
+    }
+
+    private record InboxEntry(Document document, LocalDateTime receivedAt, DocumentShare share) {
+    }
+
+    /** Keyset position in the inbox: the last item's received time and document id. */
+    private record InboxCursor(LocalDateTime receivedAt, Long documentId) {
+
+        String encode() {
+            String raw = receivedAt + "|" + documentId;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static InboxCursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int sep = raw.indexOf('|');
+                return new InboxCursor(LocalDateTime.parse(raw.substring(0, sep)),
+                        Long.parseLong(raw.substring(sep + 1)));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+                throw new BadRequestException("Invalid inbox cursor");
+            }
+        }
+    }
+
+    /** Keyset position in search results: the last hit's rank and document id. */
+    private record SearchCursor(double rank, Long documentId) {
+
+        String encode() {
+            String raw = rank + "|" + documentId;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static SearchCursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int sep = raw.indexOf('|');
+                return new SearchCursor(Double.parseDouble(raw.substring(0, sep)),
+                        Long.parseLong(raw.substring(sep + 1)));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+                throw new BadRequestException("Invalid search cursor");
+            }
+        }
+    }
 }
@@ -1,5 +1,7 @@
 package com.turntabl.bonarda.domain.document.service;
 
+import com.turntabl.bonarda.domain.common.dto.CursorPageDto;
+import com.turntabl.bonarda.domain.common.dto.ListFilter;
 import com.turntabl.bonarda.domain.document.dto.*;
 import com.turntabl.bonarda.security.UserPrincipal;
 
@@ -8,7 +10,7 @@ import java.util.UUID;
 
 public interface DocumentSignatureService {
     List<DocumentSignatureDto> getPendingSignatures(UUID employeePublicId);
-    List<DocumentSignatureDto> getAllMySignatures(UUID employeePublicId);
+    CursorPageDto<DocumentSignatureDto> getAllMySignatures(UUID employeePublicId, ListFilter filter, String cursor, int size);
     List<DocumentSignatureDto> getSignaturesForDocument(UUID documentPublicId);
     DocumentSignatureDto sign(UUID signaturePublicId, SignDocumentRequest request,
                               String ipAddress, String userAgent, UserPrincipal currentUser);
@@ -1,21 +1,27 @@
 package com.turntabl.bonarda.domain.document.service;
 
+import com.turntabl.bonarda.domain.common.dto.CursorPageDto;
+import com.turntabl.bonarda.domain.common.dto.KeysetCursor;
+import com.turntabl.bonarda.domain.common.dto.ListFilter;
 import com.turntabl.bonarda.domain.common.service.EntityResolutionService;
+import com.turntabl.bonarda.domain.common.service.EnumParser;
 import com.turntabl.bonarda.domain.document.dto.*;
 import com.turntabl.bonarda.domain.document.model.*;
+import com.turntabl.bonarda.domain.document.repository.DocumentAudienceRepository;
+import com.turntabl.bonarda.domain.document.repository.DocumentInboxCounterRepository;
 import com.turntabl.bonarda.domain.document.repository.DocumentRepository;
-import com.turntabl.bonarda.domain.document.repository.DocumentShareRepository;
 import com.turntabl.bonarda.domain.document.repository.DocumentSignatureRepository;
 import com.turntabl.bonarda.domain.employee.model.Employee;
 import com.turntabl.bonarda.exception.BadRequestException;
 import com.turntabl.bonarda.exception.ResourceNotFoundException;
 import com.turntabl.bonarda.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.UUID;
 
@@ -26,8 +32,10 @@ public class DocumentSignatureServiceImpl implements DocumentSignatureService {
 
     private final DocumentSignatureRepository signatureRepository;
     private final DocumentRepository documentRepository;
-    private final DocumentShareRepository shareRepository;
+    private final DocumentInboxCounterRepository inboxCounterRepository;
+    private final DocumentAudienceService audienceService;
     private final EntityResolutionService entityResolution;
+    private final EnumParser enumParser;
 
     @Override
     @Transactional(readOnly = true)
@@ -40,11 +48,18 @@ public class DocumentSignatureServiceImpl implements DocumentSignatureService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<DocumentSignatureDto> getAllMySignatures(UUID employeePublicId) {
+    public CursorPageDto<DocumentSignatureDto> getAllMySignatures(UUID employeePublicId, ListFilter filter,
+                                                                  String cursor, int size) {
         Employee employee = entityResolution.resolveEmployee(employeePublicId);
-        return signatureRepository.findAllByEmployeeId(employee.getId()).stream()
-                .map(this::toDto)
-                .toList();
+        SignatureStatus status = enumParser.parseOptional(SignatureStatus.class, filter.status(), "status");
+        int limit = KeysetCursor.pageSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+
+        List<DocumentSignature> rows = signatureRepository.findEmployeePage(employee.getId(),
+                status != null ? EnumSet.of(status) : EnumSet.allOf(SignatureStatus.class),
+                filter.fromOrEarliest().atStartOfDay(), filter.toOrLatest().plusDays(1).atStartOfDay(),
+                after.dateTimeKey(), after.id(), PageRequest.of(0, limit + 1));
+        return CursorPageDto.of(rows, limit, this::toDto, s -> KeysetCursor.after(s.getCreatedAt(), s.getId()));
     }
 
     @Override
@@ -79,6 +94,7 @@ public class DocumentSignatureServiceImpl implements DocumentSignatureService {
         signature.setUserAgent(userAgent);
 
         DocumentSignature saved = signatureRepository.save(signature);
+        releasePendingCount(signature);
         return toDto(saved);
     }
 
@@ -100,6 +116,7 @@ public class DocumentSignatureServiceImpl implements DocumentSignatureService {
         signature.setDeclineReason(declineReason);
 
         DocumentSignature saved = signatureRepository.save(signature);
+        releasePendingCount(signature);
         return toDto(saved);
     }
 
@@ -108,38 +125,32 @@ public class DocumentSignatureServiceImpl implements DocumentSignatureService {
                                                          RequestSignatureRequest request, UserPrincipal currentUser) {
         Document document = documentRepository.findByPublicId(documentPublicId)
                 .orElseThrow(() -> new ResourceNotFoundException("Document", "publicId", documentPublicId));
+        if (Boolean.TRUE.equals(document.getCompanyWide())) {
+            throw new BadRequestException("Company-wide documents cannot require signatures");
+        }
         Employee sharer = entityResolution.resolveEmployee(currentUser.getPublicId());
 
-        List<DocumentSignatureDto> results = new ArrayList<>();
-        for (UUID empPublicId : request.getEmployeeIds()) {
-            Employee emp = entityResolution.resolveEmployee(empPublicId);
-
-            if (signatureRepository.existsByDocumentIdAndEmployeeId(document.getId(), emp.getId())) {
-                continue; // skip — already has signature request
-            }
-
-            // Ensure the employee has a share
-            if (!shareRepository.existsByDocumentIdAndEmployeeId(document.getId(), emp.getId())) {
-                shareRepository.save(DocumentShare.builder()
-                        .document(document)
-                        .employee(emp)
-                        .sharedBy(sharer)
-                        .build());
-            }
-
-            DocumentSignature sig = signatureRepository.save(DocumentSignature.builder()
-                    .document(document)
-                    .employee(emp)
-                    .status(SignatureStatus.PENDING)
-                    .build());
-
-            results.add(toDto(sig));
+        // Shares are created alongside so every signer can open the document
+        DocumentAudienceRepository.InsertResult inserted =
+                audienceService.shareWithEmployees(document, sharer, request.getEmployeeIds(), true);
+        if (inserted.signatureRecipientIds().isEmpty()) {
+            return List.of();
         }
-        return results;
+        return signatureRepository.findByDocumentIdAndEmployeeIds(document.getId(), inserted.signatureRecipientIds())
+                .stream()
+                .map(this::toDto)
+                .toList();
     }
 
     // --- Helpers ---
 
+    /** Archived documents are already out of the pending count, so only live ones give it back. */
+    private void releasePendingCount(DocumentSignature signature) {
+        if (signature.getDocument().getStatus() != DocumentStatus.ARCHIVED) {
+            inboxCounterRepository.adjust(signature.getEmployee().getId(), 0, -1);
+        }
+    }
+
     private DocumentSignatureDto toDto(DocumentSignature sig) {
         return DocumentSignatureDto.builder()
                 .id(sig.getPublicId().toString())
@@ -0,0 +1,123 @@
+package com.turntabl.bonarda.domain.document.service;
+
+import com.turntabl.bonarda.domain.document.repository.DocumentViewRepository;
+import com.turntabl.bonarda.domain.document.repository.DocumentViewRepository.View;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-behind buffer for document view events (see ADR-025). Views are coalesced per
+ * (document, employee), keeping the first timestamp, and written on a fixed delay as
+ * one batched update per chunk. When the buffer is full the recording thread performs
+ * the flush itself, so producers slow down to the database's pace instead of growing
+ * the buffer without bound. Views still buffered when the process dies are lost.
+ */
+@Component
+@Slf4j
+public class DocumentViewBuffer {
+
+    /** Keeps each statement well under Postgres' 32767 bind-parameter limit. */
+    private static final int FLUSH_CHUNK_SIZE = 5000;
+
+    private final DocumentViewRepository viewRepository;
+    private final DocumentReadReceiptService readReceiptService;
+    private final int capacity;
+
+    private final Map<ViewKey, LocalDateTime> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public DocumentViewBuffer(DocumentViewRepository viewRepository,
+                              DocumentReadReceiptService readReceiptService,
+                              @Value("${app.documents.views.capacity:50000}") int capacity) {
+        this.viewRepository = viewRepository;
+        this.readReceiptService = readReceiptService;
+        this.capacity = capacity;
+    }
+
+    private record ViewKey(UUID documentPublicId, Long employeeId) {
+    }
+
+    public void record(UUID documentPublicId, Long employeeId) {
+        if (pending.size() >= capacity) {
+            flush();
+            if (pending.size() >= capacity) {
+                // The database is not keeping up; shed the view rather than grow the buffer
+                log.warn("Document view buffer full ({} entries), dropping view of {}", capacity, documentPublicId);
+                return;
+            }
+        }
+        pending.putIfAbsent(new ViewKey(documentPublicId, employeeId), LocalDateTime.now());
+    }
+
+    @Scheduled(fixedDelayString = "${app.documents.views.flush-interval:PT5S}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            // A producer may have waited on the lock while another flush drained the buffer
+            if (pending.isEmpty()) {
+                return;
+            }
+            List<View> batch = drain();
+            for (int from = 0; from < batch.size(); from += FLUSH_CHUNK_SIZE) {
+                List<View> chunk = batch.subList(from, Math.min(from + FLUSH_CHUNK_SIZE, batch.size()));
+                try {
+                    write(chunk);
+                } catch (RuntimeException e) {
+                    log.warn("Failed to flush {} document views, re-queueing: {}", chunk.size(), e.getMessage());
+                    requeue(batch.subList(from, batch.size()));
+                    return;
+                }
+            }
+            log.debug("Flushed {} document views", batch.size());
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("Flushing {} buffered document views before shutdown", pending.size());
+        flush();
+        if (!pending.isEmpty()) {
+            log.warn("Dropping {} document views that could not be written on shutdown", pending.size());
+        }
+    }
+
+    private List<View> drain() {
+        List<View> batch = new ArrayList<>(pending.size());
+        for (ViewKey key : pending.keySet()) {
+            LocalDateTime viewedAt = pending.remove(key);
+            if (viewedAt != null) {
+                batch.add(new View(key.documentPublicId(), key.employeeId(), viewedAt));
+            }
+        }
+        return batch;
+    }
+
+    private void write(List<View> chunk) {
+        Map<Long, Set<Long>> companyWideViews = viewRepository.applyViews(chunk);
+        if (!companyWideViews.isEmpty()) {
+            readReceiptService.mergeViews(companyWideViews);
+        }
+    }
+
+    /** Puts unwritten views back, keeping any earlier timestamp recorded meanwhile. */
+    private void requeue(List<View> views) {
+        for (View view : views) {
+            pending.merge(new ViewKey(view.documentPublicId(), view.employeeId()), view.viewedAt(),
+                    (current, retried) -> retried.isBefore(current) ? retried : current);
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package com.turntabl.bonarda.domain.document.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.turntabl.bonarda.config.SharePointProperties;
+import com.turntabl.bonarda.exception.BadRequestException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Streams an {@link InputStream} into a Microsoft Graph upload session.
+ * <p>
+ * A reader thread cuts the source into fixed-size slices while the calling thread
+ * PUTs them to the pre-authenticated session URL. The slice queue is bounded, so an
+ * upload never holds more than {@code maxBufferedSlices + 1} slices in memory and
+ * never touches disk. Graph requires byte ranges to arrive in order, so the overlap
+ * is between reading from the client and sending to Graph, not between PUTs.
+ * <p>
+ * Transient failures (I/O errors, 429, 5xx) are retried with backoff. Before each
+ * retry the session is asked for {@code nextExpectedRanges} so the upload resumes
+ * from what Graph actually received. If the session reports the final slice as landed
+ * already, Graph has committed the file without handing back the item, and the caller
+ * has to look it up. A session that has disappeared is a failed upload: an expired or
+ * deleted session looks the same as a committed one, and no file may exist.
+ */
+@Slf4j
+class GraphUploadPipeline {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofMinutes(2);
+    private static final long BASE_BACKOFF_MS = 500;
+    private static final long MAX_BACKOFF_MS = 30_000;
+    private static final Slice END_OF_INPUT = new Slice(-1, new byte[0]);
+    /** Graph accepts slices in multiples of 320 KiB, up to 60 MiB. */
+    private static final long SLICE_UNIT = 320L * 1024;
+    private static final long MAX_SLICE_SIZE = 60L * 1024 * 1024;
+    /** {@link #nextExpectedOffset} result when the session reports it has every byte. */
+    private static final long NOTHING_EXPECTED = Long.MAX_VALUE;
+    /** {@link #nextExpectedOffset} result when the session no longer exists. */
+    private static final long SESSION_GONE = -2;
+    /** {@link #sendSlice} result when the final slice was committed on an earlier attempt. */
+    private static final JsonNode COMMITTED = MissingNode.getInstance();
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final int sliceSize;
+    private final int maxBufferedSlices;
+    private final int maxRetries;
+
+    GraphUploadPipeline(SharePointProperties.UploadConfig config, ObjectMapper objectMapper) {
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+        this.objectMapper = objectMapper;
+        long configuredSliceSize = config.getSliceSize().toBytes();
+        if (configuredSliceSize <= 0 || configuredSliceSize % SLICE_UNIT != 0 || configuredSliceSize > MAX_SLICE_SIZE) {
+            throw new IllegalStateException("microsoft.graph.upload.slice-size must be a multiple of 320KB"
+                    + " up to 60MB, was " + configuredSliceSize + " bytes");
+        }
+        this.sliceSize = (int) configuredSliceSize;
+        this.maxBufferedSlices = Math.max(1, config.getMaxBufferedSlices());
+        this.maxRetries = Math.max(1, config.getMaxRetries());
+    }
+
+    /**
+     * Uploads {@code contentLength} bytes from {@code content} and returns the
+     * completed driveItem as returned by Graph, or empty when Graph committed the file
+     * on a retried final slice and the item has to be looked up by path.
+     */
+    Optional<JsonNode> upload(String uploadUrl, String fileName, InputStream content, long contentLength)
+            throws IOException, InterruptedException {
+        BlockingQueue<Slice> queue = new ArrayBlockingQueue<>(maxBufferedSlices);
+        AtomicReference<Exception> readFailure = new AtomicReference<>();
+
+        Thread reader = Thread.ofVirtual()
+                .name("sharepoint-upload-reader")
+                .start(() -> readSlices(content, contentLength, queue, readFailure));
+
+        try {
+            int lastReportedQuarter = 0;
+            while (true) {
+                Slice slice = queue.poll(REQUEST_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+                if (slice == null) {
+                    throw new IOException("Timed out waiting for upload data from client");
+                }
+                if (slice == END_OF_INPUT) {
+                    Exception cause = readFailure.get();
+                    throw new IOException("Failed to read upload body: "
+                            + (cause != null ? cause.getMessage() : "unexpected end of input"), cause);
+                }
+
+                JsonNode item = sendSlice(uploadUrl, slice, contentLength);
+
+                long sent = slice.end() + 1;
+                int quarter = (int) (sent * 4 / contentLength);
+                if (quarter > lastReportedQuarter) {
+                    lastReportedQuarter = quarter;
+                    log.info("Upload {}: {}% ({} of {} bytes)", fileName, quarter * 25, sent, contentLength);
+                } else {
+                    log.debug("Upload {}: sent bytes {}-{}", fileName, slice.offset(), slice.end());
+                }
+
+                if (item == COMMITTED) {
+                    log.info("Upload {}: final slice was already committed, item must be resolved", fileName);
+                    return Optional.empty();
+                }
+                if (item != null) {
+                    return Optional.of(item);
+                }
+                if (sent >= contentLength) {
+                    throw new IOException("Upload session accepted all bytes but returned no item");
+                }
+            }
+        } finally {
+            stopReader(reader, content, queue);
+        }
+    }
+
+    /**
+     * Makes sure the reader is done with {@code content} before the request completes and
+     * the container recycles it. An interrupt does not unblock a servlet stream read, so
+     * the stream is closed under it, and the queue drained so a pending put returns.
+     */
+    private static void stopReader(Thread reader, InputStream content, BlockingQueue<Slice> queue)
+            throws InterruptedException {
+        if (!reader.isAlive()) {
+            return;
+        }
+        reader.interrupt();
+        try {
+            content.close();
+        } catch (IOException e) {
+            log.debug("Closing upload body failed: {}", e.getMessage());
+        }
+        queue.clear();
+        if (!reader.join(REQUEST_TIMEOUT)) {
+            log.warn("Upload reader did not stop within {}", REQUEST_TIMEOUT);
+        }
+    }
+
+    private void readSlices(InputStream content, long contentLength,
+                            BlockingQueue<Slice> queue, AtomicReference<Exception> readFailure) {
+        try {
+            long offset = 0;
+            while (offset < contentLength) {
+                int size = (int) Math.min(sliceSize, contentLength - offset);
+                byte[] data = content.readNBytes(size);
+                if (data.length < size) {
+                    throw new IOException("Request body ended after " + (offset + data.length)
+                            + " of " + contentLength + " bytes");
+                }
+                queue.put(new Slice(offset, data));
+                offset += size;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            readFailure.set(e);
+            try {
+                queue.put(END_OF_INPUT);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Sends one slice, retrying transient failures. Returns the driveItem when Graph
+     * reports the upload as complete, {@link #COMMITTED} when a retry finds the final
+     * slice already received, otherwise null.
+     */
+    private JsonNode sendSlice(String uploadUrl, Slice slice, long total) throws IOException, InterruptedException {
+        int from = 0;
+        for (int attempt = 1; ; attempt++) {
+            String failure;
+            Optional<String> retryAfter = Optional.empty();
+            try {
+                HttpResponse<String> response = put(uploadUrl, slice, from, total);
+                int status = response.statusCode();
+                if (status == 200 || status == 201) {
+                    return objectMapper.readTree(response.body());
+                }
+                if (status == 202) {
+                    return null;
+                }
+                if (!isTransient(status)) {
+                    throw new BadRequestException("Upload session rejected bytes " + (slice.offset() + from)
+                            + "-" + slice.end() + " with status " + status);
+                }
+                failure = "status " + status;
+                retryAfter = response.headers().firstValue("Retry-After");
+            } catch (IOException e) {
+                failure = e.getMessage();
+            }
+
+            if (attempt >= maxRetries) {
+                throw new IOException("Giving up on bytes " + slice.offset() + "-" + slice.end()
+                        + " after " + attempt + " attempts: " + failure);
+            }
+            long delay = backoffMillis(attempt, retryAfter);
+            log.warn("Upload slice {}-{} failed ({}), retrying in {} ms", slice.offset(), slice.end(), failure, delay);
+            Thread.sleep(delay);
+
+            long next = nextExpectedOffset(uploadUrl);
+            if (next == SESSION_GONE) {
+                throw new IOException("Upload session expired or was deleted at bytes "
+                        + slice.offset() + "-" + slice.end());
+            }
+            if (next < 0) {
+                continue; // session status unknown, resend from the same position
+            }
+            if (next > slice.end()) {
+                // Graph already has this slice; if it was the last one, the file is committed
+                return slice.end() == total - 1 ? COMMITTED : null;
+            }
+            if (next < slice.offset()) {
+                throw new IOException("Upload session expects offset " + next
+                        + " which precedes the buffered slice at " + slice.offset());
+            }
+            from = (int) (next - slice.offset());
+        }
+    }
+
+    private HttpResponse<String> put(String uploadUrl, Slice slice, int from, long total)
+            throws IOException, InterruptedException {
+        long start = slice.offset() + from;
+        HttpRequest request = HttpRequest.newBuilder(URI.create(uploadUrl))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Range", "bytes " + start + "-" + slice.end() + "/" + total)
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(slice.data(), from, slice.data().length - from))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * Asks the session which byte Graph expects next. Returns {@link #NOTHING_EXPECTED}
+     * once the session reports all bytes received, {@link #SESSION_GONE} when it no longer
+     * exists, and -1 if the session could not be queried.
+     */
+    private long nextExpectedOffset(String uploadUrl) throws InterruptedException {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(uploadUrl))
+                    .timeout(REQUEST_TIMEOUT)
+                    .GET()
+                    .build();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() == 404) {
+                return SESSION_GONE;
+            }
+            if (response.statusCode() != 200) {
+                return -1;
+            }
+            JsonNode ranges = objectMapper.readTree(response.body()).path("nextExpectedRanges");
+            if (!ranges.isArray()) {
+                return -1;
+            }
+            if (ranges.isEmpty()) {
+                return NOTHING_EXPECTED;
+            }
+            String first = ranges.get(0).asText();
+            return Long.parseLong(first.substring(0, first.indexOf('-')));
+        } catch (IOException | RuntimeException e) {
+            log.debug("Could not query upload session status: {}", e.getMessage());
+            return -1;
+        }
+    }
+
+    private static boolean isTransient(int status) {
+        return status == 429 || status == 500 || status == 502 || status == 503 || status == 504;
+    }
+
+    private static long backoffMillis(int attempt, Optional<String> retryAfter) {
+        if (retryAfter.isPresent()) {
+            try {
+                return Math.min(Long.parseLong(retryAfter.get().trim()) * 1000, MAX_BACKOFF_MS);
+            } catch (NumberFormatException ignored) {
+                // HTTP-date form; fall through to exponential backoff
+            }
+        }
+        long exponential = Math.min(BASE_BACKOFF_MS << (attempt - 1), MAX_BACKOFF_MS);
+        return exponential + ThreadLocalRandom.current().nextLong(BASE_BACKOFF_MS);
+    }
+
+    private record Slice(long offset, byte[] data) {
+        long end() {
+            return offset + data.length - 1;
+        }
+    }
+}
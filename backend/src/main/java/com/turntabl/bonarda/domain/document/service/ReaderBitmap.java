@@ -0,0 +1,60 @@
+package com.turntabl.bonarda.domain.document.service;
+
+import java.io.ByteArrayOutputStream;
+import java.util.BitSet;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Encodes a set of employee ids as a deflated bitset. Employee ids come from a
+ * sequence, so they are dense enough to index the bitset directly: a few thousand
+ * employees fit in a few hundred bytes before compression, and the mostly-empty or
+ * mostly-full bitsets typical of read tracking deflate to a handful of bytes.
+ */
+final class ReaderBitmap {
+
+    private ReaderBitmap() {
+    }
+
+    static BitSet decode(byte[] stored) {
+        if (stored == null || stored.length == 0) {
+            return new BitSet();
+        }
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(stored);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(stored.length * 4);
+            byte[] buffer = new byte[1024];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buffer);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                out.write(buffer, 0, n);
+            }
+            return BitSet.valueOf(out.toByteArray());
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupt reader bitmap", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    static byte[] encode(BitSet readers) {
+        byte[] raw = readers.toByteArray();
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(16, raw.length / 4));
+            byte[] buffer = new byte[1024];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.turntabl.bonarda.domain.document.service;
 
 import com.azure.identity.ClientSecretCredential;
 import com.azure.identity.ClientSecretCredentialBuilder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.microsoft.graph.serviceclient.GraphServiceClient;
 import com.microsoft.graph.drives.item.items.item.preview.PreviewPostRequestBody;
 import com.microsoft.graph.models.DriveItem;
@@ -22,6 +24,7 @@ import java.io.InputStream;
 import java.time.OffsetDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @ConditionalOnProperty(name = "microsoft.graph.mock-enabled", havingValue = "false")
@@ -32,10 +35,13 @@ public class SharePointServiceImpl implements SharePointService {
     private static final long SIMPLE_UPLOAD_LIMIT = 4L * 1024 * 1024; // 4MB
 
     private final SharePointProperties properties;
+    private final ObjectMapper objectMapper;
     private GraphServiceClient graphClient;
+    private GraphUploadPipeline uploadPipeline;
 
     @PostConstruct
     public void init() {
+        uploadPipeline = new GraphUploadPipeline(properties.getUpload(), objectMapper);
         if (isConfigured()) {
             try {
                 ClientSecretCredential credential = new ClientSecretCredentialBuilder()
@@ -151,22 +157,20 @@ public class SharePointServiceImpl implements SharePointService {
                     throw new BadRequestException("Failed to create upload session");
                 }
 
-                com.microsoft.graph.core.tasks.LargeFileUploadTask<DriveItem> task =
-                        new com.microsoft.graph.core.tasks.LargeFileUploadTask<>(
-                                graphClient.getRequestAdapter(),
-                                session,
-                                content,
-                                contentLength,
-                                DriveItem::createFromDiscriminatorValue);
-                var result = task.upload(10, null);
-                if (result.isUploadSuccessful() && result.itemResponse != null) {
-                    return toItemDto(result.itemResponse);
+                // Stream slices straight from the request body; nothing is buffered beyond
+                // the pipeline's bounded read-ahead.
+                Optional<JsonNode> item = uploadPipeline.upload(session.getUploadUrl(), fileName, content, contentLength);
+                if (item.isPresent()) {
+                    return toItemDto(item.get());
                 }
-                throw new BadRequestException("Large file upload failed");
+                return resolveUploadedItem(driveId, pathRef, contentLength);
             }
         } catch (BadRequestException e) {
             throw e;
         } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
             log.error("Failed to upload file {} to drive {}: {}", fileName, driveId, e.getMessage());
             throw new BadRequestException("Failed to upload file: " + e.getMessage());
         }
@@ -248,6 +252,20 @@ public class SharePointServiceImpl implements SharePointService {
                 .build();
     }
 
+    /**
+     * Looks up a file Graph committed without returning it, which happens when the final
+     * slice landed but its response was lost. The size check guards against picking up an
+     * older file at the same path.
+     */
+    private SharePointItemDto resolveUploadedItem(String driveId, String pathRef, long contentLength) {
+        DriveItem item = graphClient.drives().byDriveId(driveId)
+                .items().byDriveItemId(pathRef).get();
+        if (item == null || item.getSize() == null || item.getSize() != contentLength) {
+            throw new BadRequestException("Upload completed but the uploaded file could not be found");
+        }
+        return toItemDto(item);
+    }
+
     private SharePointItemDto toItemDto(DriveItem item) {
         OffsetDateTime lastModified = item.getLastModifiedDateTime();
         String lastModifiedBy = null;
@@ -265,4 +283,20 @@ public class SharePointServiceImpl implements SharePointService {
                 .lastModifiedBy(lastModifiedBy)
                 .build();
     }
+
+    /** Maps the raw driveItem JSON returned by the final upload-session request. */
+    private SharePointItemDto toItemDto(JsonNode item) {
+        JsonNode user = item.path("lastModifiedBy").path("user");
+        JsonNode file = item.path("file");
+        return SharePointItemDto.builder()
+                .itemId(item.path("id").asText(null))
+                .name(item.path("name").asText(null))
+                .webUrl(item.path("webUrl").asText(null))
+                .size(item.path("size").asLong())
+                .mimeType(file.isMissingNode() ? null : file.path("mimeType").asText(null))
+                .folder(item.has("folder"))
+                .lastModified(item.path("lastModifiedDateTime").asText(null))
+                .lastModifiedBy(user.path("displayName").asText(null))
+                .build();
+    }
 }
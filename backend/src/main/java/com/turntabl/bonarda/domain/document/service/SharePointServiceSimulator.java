@@ -0,0 +1,164 @@
+package com.turntabl.bonarda.domain.document.service;
+
+import com.turntabl.bonarda.config.SharePointProperties;
+import com.turntabl.bonarda.domain.common.service.GraphSimulator;
+import com.turntabl.bonarda.domain.common.service.SimulatedGraphException;
+import com.turntabl.bonarda.domain.document.dto.*;
+import com.turntabl.bonarda.exception.BadRequestException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Puts {@link SharePointServiceMockImpl} behind the {@link GraphSimulator} so the mock
+ * pays Graph-like latency, throttling and paging costs. Failures surface the same way
+ * {@link SharePointServiceImpl} surfaces them: reads degrade to empty results, uploads
+ * throw {@link BadRequestException}.
+ */
+@Service
+@Primary
+@Profile("graph-sim")
+@ConditionalOnProperty(name = "microsoft.graph.mock-enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+@RequiredArgsConstructor
+public class SharePointServiceSimulator implements SharePointService {
+
+    private static final long SIMPLE_UPLOAD_LIMIT = 4L * 1024 * 1024; // 4MB
+
+    private final SharePointServiceMockImpl delegate;
+    private final GraphSimulator simulator;
+    private final SharePointProperties properties;
+
+    @Override
+    public boolean isConfigured() {
+        return delegate.isConfigured();
+    }
+
+    @Override
+    public List<SharePointSiteDto> getSites() {
+        try {
+            return listAll("sharepoint.getSites", delegate::getSites);
+        } catch (SimulatedGraphException e) {
+            log.error("Failed to fetch SharePoint sites: {}", e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
+    @Override
+    public List<SharePointDriveDto> getDrives(String siteId) {
+        try {
+            return listAll("sharepoint.getDrives", () -> delegate.getDrives(siteId));
+        } catch (SimulatedGraphException e) {
+            log.error("Failed to fetch drives for site {}: {}", siteId, e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
+    @Override
+    public List<SharePointItemDto> getItems(String siteId, String driveId, String folderId) {
+        try {
+            return listAll("sharepoint.getItems", () -> delegate.getItems(siteId, driveId, folderId));
+        } catch (SimulatedGraphException e) {
+            log.error("Failed to fetch items for drive {}: {}", driveId, e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
+    @Override
+    public SharePointItemDto getItem(String siteId, String driveId, String itemId) {
+        try {
+            return simulator.call("sharepoint.getItem", () -> delegate.getItem(siteId, driveId, itemId));
+        } catch (SimulatedGraphException e) {
+            log.error("Failed to fetch item {} in drive {}: {}", itemId, driveId, e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public SharePointItemDto uploadFile(String driveId, String folderId, String fileName,
+                                        InputStream content, long contentLength) {
+        try {
+            if (contentLength <= SIMPLE_UPLOAD_LIMIT) {
+                content.skipNBytes(contentLength);
+                simulator.transfer("sharepoint.uploadSimple", contentLength);
+            } else {
+                simulator.run("sharepoint.createUploadSession", () -> { });
+                uploadSlices(content, contentLength);
+            }
+            return delegate.uploadFile(driveId, folderId, fileName, InputStream.nullInputStream(), contentLength);
+        } catch (SimulatedGraphException | IOException e) {
+            log.error("Failed to upload file {} to drive {}: {}", fileName, driveId, e.getMessage());
+            throw new BadRequestException("Failed to upload file: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public SharePointPreviewDto getPreviewUrl(String driveId, String itemId) {
+        try {
+            return simulator.call("sharepoint.preview", () -> delegate.getPreviewUrl(driveId, itemId));
+        } catch (SimulatedGraphException e) {
+            log.warn("Preview endpoint not available for item {}: {}", itemId, e.getMessage());
+            return SharePointPreviewDto.builder().available(false).build();
+        }
+    }
+
+    @Override
+    public List<SharePointLibraryDto> getConfiguredLibraries() {
+        return delegate.getConfiguredLibraries();
+    }
+
+    /** Follows next links until the last page, as a Graph client would. */
+    private <T> List<T> listAll(String operation, Supplier<List<T>> source) {
+        List<T> items = new ArrayList<>();
+        String nextLink = null;
+        do {
+            GraphSimulator.Page<T> page = simulator.callPage(operation, nextLink, source);
+            items.addAll(page.items());
+            nextLink = page.nextLink();
+        } while (nextLink != null);
+        return items;
+    }
+
+    /** Mirrors the upload-session pipeline: one request per slice, retried on transient failures. */
+    private void uploadSlices(InputStream content, long contentLength) throws IOException {
+        SharePointProperties.UploadConfig upload = properties.getUpload();
+        long sliceSize = upload.getSliceSize().toBytes();
+        for (long offset = 0; offset < contentLength; offset += sliceSize) {
+            long size = Math.min(sliceSize, contentLength - offset);
+            content.skipNBytes(size);
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    simulator.transfer("sharepoint.uploadSlice", size);
+                    break;
+                } catch (SimulatedGraphException e) {
+                    if (attempt >= upload.getMaxRetries()) {
+                        throw e;
+                    }
+                    backoff(e, attempt);
+                }
+            }
+        }
+    }
+
+    private static void backoff(SimulatedGraphException e, int attempt) throws IOException {
+        long millis = e.getRetryAfterSeconds() != null
+                ? e.getRetryAfterSeconds() * 1000
+                : 500L << (attempt - 1);
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Upload interrupted", ie);
+        }
+    }
+}
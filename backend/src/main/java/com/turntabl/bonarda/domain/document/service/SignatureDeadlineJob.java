@@ -0,0 +1,89 @@
+package com.turntabl.bonarda.domain.document.service;
+
+import com.turntabl.bonarda.domain.common.model.Notification;
+import com.turntabl.bonarda.domain.common.service.NotificationSink;
+import com.turntabl.bonarda.domain.document.repository.SignatureDeadlineRepository;
+import com.turntabl.bonarda.domain.document.repository.SignatureDeadlineRepository.DueSignature;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Daily sweep over signature deadlines: expires overdue pending signatures and reminds
+ * employees of those due within the lead window, one digest per employee. Rows are
+ * claimed by conditional updates, so the job can run on every node; a sink failure
+ * rolls the claim back and the rows are picked up again on the next run.
+ */
+@Component
+@Slf4j
+public class SignatureDeadlineJob {
+
+    private final SignatureDeadlineRepository deadlineRepository;
+    private final NotificationSink notificationSink;
+    private final int leadDays;
+
+    public SignatureDeadlineJob(SignatureDeadlineRepository deadlineRepository,
+                                NotificationSink notificationSink,
+                                @Value("${app.documents.signature-reminders.lead-days:3}") int leadDays) {
+        this.deadlineRepository = deadlineRepository;
+        this.notificationSink = notificationSink;
+        this.leadDays = leadDays;
+    }
+
+    @Scheduled(cron = "${app.documents.signature-reminders.cron:0 0 7 * * *}")
+    @Transactional
+    public void run() {
+        LocalDate today = LocalDate.now();
+        List<DueSignature> expired = deadlineRepository.expireOverdue(today);
+        List<DueSignature> due = deadlineRepository.claimReminders(today, today.plusDays(leadDays));
+
+        Map<Long, Digest> digests = new LinkedHashMap<>();
+        expired.forEach(sig -> digest(digests, sig).expired.add(sig));
+        due.forEach(sig -> digest(digests, sig).due.add(sig));
+        digests.values().forEach(digest -> notificationSink.send(digest.toNotification(today)));
+
+        if (!digests.isEmpty()) {
+            log.info("Signature deadlines: {} expired, {} reminded, {} digests sent",
+                    expired.size(), due.size(), digests.size());
+        }
+    }
+
+    private static Digest digest(Map<Long, Digest> digests, DueSignature sig) {
+        return digests.computeIfAbsent(sig.employeeId(), id -> new Digest(sig));
+    }
+
+    private static class Digest {
+        final DueSignature recipient;
+        final List<DueSignature> due = new ArrayList<>();
+        final List<DueSignature> expired = new ArrayList<>();
+
+        Digest(DueSignature recipient) {
+            this.recipient = recipient;
+        }
+
+        Notification toNotification(LocalDate today) {
+            List<String> lines = new ArrayList<>();
+            due.stream()
+                    .sorted(Comparator.comparing(DueSignature::deadline))
+                    .forEach(sig -> lines.add(sig.deadline().equals(today)
+                            ? "Due today: " + sig.documentTitle()
+                            : "Due " + sig.deadline() + ": " + sig.documentTitle()));
+            expired.forEach(sig -> lines.add("Expired (deadline " + sig.deadline() + "): " + sig.documentTitle()));
+
+            String subject = due.isEmpty()
+                    ? expired.size() + " signature request(s) expired"
+                    : due.size() + " document(s) awaiting your signature";
+            return new Notification(recipient.email(),
+                    recipient.firstName() + " " + recipient.lastName(), subject, lines);
+        }
+    }
+}
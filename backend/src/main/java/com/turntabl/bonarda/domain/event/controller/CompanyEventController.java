@@ -1,5 +1,6 @@
 package com.turntabl.bonarda.domain.event.controller;
 
+import com.turntabl.bonarda.domain.common.dto.SliceDto;
 import com.turntabl.bonarda.domain.event.dto.CompanyEventDto;
 import com.turntabl.bonarda.domain.event.dto.CreateEventRequest;
 import com.turntabl.bonarda.domain.event.dto.UpdateEventRequest;
@@ -8,7 +9,6 @@ import com.turntabl.bonarda.security.CurrentUser;
 import com.turntabl.bonarda.security.UserPrincipal;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
@@ -29,9 +29,10 @@ public class CompanyEventController {
 
     @GetMapping
     @PreAuthorize("hasAuthority('EVENT_READ')")
-    public ResponseEntity<Page<CompanyEventDto>> getAll(
-            @PageableDefault(size = 20) Pageable pageable) {
-        return ResponseEntity.ok(companyEventService.getAll(pageable));
+    public ResponseEntity<SliceDto<CompanyEventDto>> getAll(
+            @PageableDefault(size = 20) Pageable pageable,
+            @RequestParam(defaultValue = "false") boolean estimateTotal) {
+        return ResponseEntity.ok(companyEventService.getAll(pageable, estimateTotal));
     }
 
     @GetMapping("/{id}")
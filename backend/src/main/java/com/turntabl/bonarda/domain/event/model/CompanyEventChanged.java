@@ -0,0 +1,11 @@
+package com.turntabl.bonarda.domain.event.model;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Published after a company event is created, updated or deleted. The date span
+ * covers both the old and new event date, so listeners can invalidate precisely.
+ */
+public record CompanyEventChanged(UUID eventId, LocalDate fromDate, LocalDate toDate) {
+}
@@ -2,8 +2,8 @@ package com.turntabl.bonarda.domain.event.repository;
 
 import com.turntabl.bonarda.domain.event.model.CompanyEvent;
 import jakarta.persistence.LockModeType;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
@@ -31,7 +31,6 @@ public interface CompanyEventRepository extends JpaRepository<CompanyEvent, Long
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate);
 
-    @Query(value = "SELECT e FROM CompanyEvent e LEFT JOIN FETCH e.createdByEmployee ORDER BY e.eventDate DESC",
-           countQuery = "SELECT count(e) FROM CompanyEvent e")
-    Page<CompanyEvent> findAllWithCreator(Pageable pageable);
+    @Query("SELECT e FROM CompanyEvent e LEFT JOIN FETCH e.createdByEmployee ORDER BY e.eventDate DESC")
+    Slice<CompanyEvent> findAllWithCreator(Pageable pageable);
 }
@@ -1,9 +1,9 @@
 package com.turntabl.bonarda.domain.event.service;
 
+import com.turntabl.bonarda.domain.common.dto.SliceDto;
 import com.turntabl.bonarda.domain.event.dto.CompanyEventDto;
 import com.turntabl.bonarda.domain.event.dto.CreateEventRequest;
 import com.turntabl.bonarda.domain.event.dto.UpdateEventRequest;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
@@ -15,6 +15,6 @@ public interface CompanyEventService {
     CompanyEventDto update(UUID publicId, UpdateEventRequest request);
     void delete(UUID publicId);
     CompanyEventDto getById(UUID publicId);
-    Page<CompanyEventDto> getAll(Pageable pageable);
+    SliceDto<CompanyEventDto> getAll(Pageable pageable, boolean estimateTotal);
     List<CompanyEventDto> getEventsForDateRange(LocalDate start, LocalDate end);
 }
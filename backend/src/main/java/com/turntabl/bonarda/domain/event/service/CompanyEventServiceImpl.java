@@ -1,17 +1,20 @@
 package com.turntabl.bonarda.domain.event.service;
 
+import com.turntabl.bonarda.domain.common.dto.SliceDto;
 import com.turntabl.bonarda.domain.common.service.EntityResolutionService;
 import com.turntabl.bonarda.domain.common.service.EnumParser;
+import com.turntabl.bonarda.domain.common.service.RowCountEstimator;
 import com.turntabl.bonarda.domain.employee.model.Employee;
 import com.turntabl.bonarda.domain.event.dto.CompanyEventDto;
 import com.turntabl.bonarda.domain.event.dto.CreateEventRequest;
 import com.turntabl.bonarda.domain.event.dto.UpdateEventRequest;
 import com.turntabl.bonarda.domain.event.model.CompanyEvent;
+import com.turntabl.bonarda.domain.event.model.CompanyEventChanged;
 import com.turntabl.bonarda.domain.event.model.EventType;
 import com.turntabl.bonarda.domain.event.repository.CompanyEventRepository;
 import com.turntabl.bonarda.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -30,6 +33,8 @@ public class CompanyEventServiceImpl implements CompanyEventService {
     private final CompanyEventRepository eventRepository;
     private final EntityResolutionService entityResolution;
     private final EnumParser enumParser;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RowCountEstimator rowCountEstimator;
 
     @Override
     public CompanyEventDto create(UUID creatorPublicId, CreateEventRequest request) {
@@ -54,6 +59,7 @@ public class CompanyEventServiceImpl implements CompanyEventService {
         }
 
         CompanyEvent saved = eventRepository.save(event);
+        eventPublisher.publishEvent(new CompanyEventChanged(saved.getPublicId(), saved.getEventDate(), saved.getEventDate()));
         return toDto(saved);
     }
 
@@ -61,6 +67,7 @@ public class CompanyEventServiceImpl implements CompanyEventService {
     public CompanyEventDto update(UUID publicId, UpdateEventRequest request) {
         CompanyEvent event = eventRepository.findByPublicIdForUpdate(publicId)
                 .orElseThrow(() -> new ResourceNotFoundException("CompanyEvent", "publicId", publicId));
+        LocalDate previousDate = event.getEventDate();
 
         if (request.getTitle() != null) {
             event.setTitle(request.getTitle());
@@ -85,6 +92,10 @@ public class CompanyEventServiceImpl implements CompanyEventService {
         }
 
         CompanyEvent saved = eventRepository.save(event);
+        LocalDate newDate = saved.getEventDate();
+        eventPublisher.publishEvent(new CompanyEventChanged(saved.getPublicId(),
+                previousDate.isBefore(newDate) ? previousDate : newDate,
+                previousDate.isAfter(newDate) ? previousDate : newDate));
         return toDto(saved);
     }
 
@@ -93,6 +104,7 @@ public class CompanyEventServiceImpl implements CompanyEventService {
         CompanyEvent event = eventRepository.findByPublicId(publicId)
                 .orElseThrow(() -> new ResourceNotFoundException("CompanyEvent", "publicId", publicId));
         eventRepository.delete(event);
+        eventPublisher.publishEvent(new CompanyEventChanged(publicId, event.getEventDate(), event.getEventDate()));
     }
 
     @Override
@@ -105,8 +117,9 @@ public class CompanyEventServiceImpl implements CompanyEventService {
 
     @Override
     @Transactional(readOnly = true)
-    public Page<CompanyEventDto> getAll(Pageable pageable) {
-        return eventRepository.findAllWithCreator(pageable).map(this::toDto);
+    public SliceDto<CompanyEventDto> getAll(Pageable pageable, boolean estimateTotal) {
+        return SliceDto.of(eventRepository.findAllWithCreator(pageable).map(this::toDto),
+                estimateTotal ? rowCountEstimator.estimateTable("company_events", eventRepository::count) : null);
     }
 
     @Override
@@ -0,0 +1,27 @@
+package com.turntabl.bonarda.domain.live.controller;
+
+import com.turntabl.bonarda.domain.live.service.LiveUpdateHub;
+import com.turntabl.bonarda.security.CurrentUser;
+import com.turntabl.bonarda.security.UserPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/v1/live")
+@RequiredArgsConstructor
+public class LiveUpdateController {
+
+    private final LiveUpdateHub hub;
+
+    /** Server-sent change notifications for the caller; see {@link LiveUpdateHub}. */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("isAuthenticated()")
+    public SseEmitter stream(@CurrentUser UserPrincipal currentUser) {
+        return hub.connect(currentUser.getId());
+    }
+}
@@ -0,0 +1,18 @@
+package com.turntabl.bonarda.domain.live.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * Payload of one server-sent event. Events are change notifications, not data: the
+ * client refetches whatever {@code type} says is stale.
+ */
+@Getter
+@Builder
+public class LiveEventDto {
+    private String type;
+    private Map<String, String> data;
+    private String occurredAt;
+}
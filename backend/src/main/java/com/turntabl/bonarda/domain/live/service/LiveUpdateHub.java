@@ -0,0 +1,186 @@
+package com.turntabl.bonarda.domain.live.service;
+
+import com.turntabl.bonarda.domain.live.dto.LiveEventDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process bus behind {@code GET /api/v1/live}. Connections are async-servlet
+ * {@link SseEmitter}s, so an idle connection holds no thread. Publishing only enqueues:
+ * each connection has a small bounded queue drained on a virtual thread, and a client
+ * too slow to keep up has its backlog replaced by a single {@code resync} event.
+ */
+@Component
+@Slf4j
+public class LiveUpdateHub {
+
+    private static final int QUEUE_CAPACITY = 64;
+    private static final int MAX_CONNECTIONS_PER_EMPLOYEE = 5;
+
+    private final Duration timeout;
+    private final ExecutorService writers = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<Long, Deque<Connection>> connections = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    public LiveUpdateHub(@Value("${app.live.connection-timeout:PT30M}") Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    public SseEmitter connect(Long employeeId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Connection connection = new Connection(employeeId, emitter);
+        List<Connection> evicted = new ArrayList<>();
+        // Added inside compute so it cannot race remove() unmapping the same deque
+        connections.compute(employeeId, (id, own) -> {
+            Deque<Connection> deque = own != null ? own : new ConcurrentLinkedDeque<>();
+            deque.addLast(connection);
+            while (deque.size() > MAX_CONNECTIONS_PER_EMPLOYEE) {
+                evicted.add(deque.pollFirst());
+            }
+            return deque;
+        });
+        // Completed outside compute: completion callbacks re-enter the map through remove()
+        for (Connection oldest : evicted) {
+            oldest.closed = true;
+            oldest.emitter.complete();
+        }
+
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(() -> remove(connection));
+        emitter.onError(e -> remove(connection));
+
+        connection.offer(event("connected", Map.of()));
+        return emitter;
+    }
+
+    public void sendTo(Collection<Long> employeeIds, String type, Map<String, String> data) {
+        if (connections.isEmpty()) {
+            return;
+        }
+        Set<DataWithMediaType> event = event(type, data);
+        for (Long employeeId : employeeIds) {
+            Deque<Connection> own = employeeId != null ? connections.get(employeeId) : null;
+            if (own != null) {
+                own.forEach(connection -> connection.offer(event));
+            }
+        }
+    }
+
+    public void broadcast(String type, Map<String, String> data) {
+        if (connections.isEmpty()) {
+            return;
+        }
+        Set<DataWithMediaType> event = event(type, data);
+        connections.values().forEach(own -> own.forEach(connection -> connection.offer(event)));
+    }
+
+    /** Comment lines keep proxies from closing idle connections and surface dead ones. */
+    @Scheduled(fixedRateString = "${app.live.heartbeat-interval:PT25S}")
+    public void heartbeat() {
+        Set<DataWithMediaType> ping = SseEmitter.event().comment("ping").build();
+        connections.values().forEach(own -> own.forEach(connection -> connection.offer(ping)));
+    }
+
+    public int connectionCount() {
+        return connections.values().stream().mapToInt(Deque::size).sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        connections.values().forEach(own -> own.forEach(connection -> connection.emitter.complete()));
+        connections.clear();
+        writers.shutdownNow();
+    }
+
+    /** Builds the wire form once; the same frames are then written to every recipient. */
+    private Set<DataWithMediaType> event(String type, Map<String, String> data) {
+        LiveEventDto payload = LiveEventDto.builder()
+                .type(type)
+                .data(data)
+                .occurredAt(LocalDateTime.now().toString())
+                .build();
+        return SseEmitter.event()
+                .id(Long.toString(sequence.incrementAndGet()))
+                .name(type)
+                .data(payload, MediaType.APPLICATION_JSON)
+                .build();
+    }
+
+    private void remove(Connection connection) {
+        connection.closed = true;
+        connections.computeIfPresent(connection.employeeId, (id, own) -> {
+            own.remove(connection);
+            return own.isEmpty() ? null : own;
+        });
+    }
+
+    private final class Connection {
+        final Long employeeId;
+        final SseEmitter emitter;
+        final BlockingQueue<Set<DataWithMediaType>> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        final AtomicBoolean draining = new AtomicBoolean();
+        volatile boolean closed;
+
+        Connection(Long employeeId, SseEmitter emitter) {
+            this.employeeId = employeeId;
+            this.emitter = emitter;
+        }
+
+        void offer(Set<DataWithMediaType> event) {
+            if (closed) {
+                return;
+            }
+            if (!queue.offer(event)) {
+                // The client is not keeping up; collapse its backlog into one resync
+                queue.clear();
+                queue.offer(event("resync", Map.of()));
+            }
+            if (draining.compareAndSet(false, true)) {
+                writers.execute(this::drain);
+            }
+        }
+
+        void drain() {
+            try {
+                Set<DataWithMediaType> next;
+                while (!closed && (next = queue.poll()) != null) {
+                    emitter.send(next);
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Live connection for employee {} closed: {}", employeeId, e.getMessage());
+                remove(this);
+                emitter.completeWithError(e);
+            } finally {
+                draining.set(false);
+            }
+            // An offer may have landed between the last poll and the flag reset
+            if (!closed && !queue.isEmpty() && draining.compareAndSet(false, true)) {
+                writers.execute(this::drain);
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.turntabl.bonarda.domain.live.service;
+
+import com.turntabl.bonarda.domain.document.model.DocumentDistributed;
+import com.turntabl.bonarda.domain.event.model.CompanyEventChanged;
+import com.turntabl.bonarda.domain.timeoff.model.ApprovedTimeOffChanged;
+import com.turntabl.bonarda.domain.timeoff.model.TimeOffRequestStatus;
+import com.turntabl.bonarda.domain.timeoff.model.TimeOffRequestStatusChanged;
+import com.turntabl.bonarda.domain.timesheet.model.TimesheetHoursProjected;
+import com.turntabl.bonarda.domain.timesheet.model.TimesheetStatus;
+import com.turntabl.bonarda.domain.timesheet.model.TimesheetStatusChanged;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Turns committed domain events into live notifications: requests and cancellations
+ * go to the employee's manager, decisions to the employee, calendar changes to everyone.
+ */
+@Component
+@RequiredArgsConstructor
+public class LiveUpdateListener {
+
+    private final LiveUpdateHub hub;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTimeOffRequestStatusChanged(TimeOffRequestStatusChanged event) {
+        Map<String, String> data = Map.of("requestId", event.requestId().toString(), "status", event.status().name());
+        if (event.status() == TimeOffRequestStatus.PENDING) {
+            hub.sendTo(Collections.singletonList(event.managerId()), "time-off.requested", data);
+        } else if (event.status() == TimeOffRequestStatus.CANCELLED) {
+            hub.sendTo(Collections.singletonList(event.managerId()), "time-off.cancelled", data);
+        } else {
+            hub.sendTo(List.of(event.employeeId()), "time-off.decided", data);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTimesheetStatusChanged(TimesheetStatusChanged event) {
+        Map<String, String> data = Map.of("timesheetId", event.timesheetId().toString(), "status", event.status().name());
+        if (event.status() == TimesheetStatus.SUBMITTED) {
+            hub.sendTo(Collections.singletonList(event.managerId()), "timesheet.submitted", data);
+        } else {
+            hub.sendTo(List.of(event.employeeId()), "timesheet.decided", data);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTimesheetHoursProjected(TimesheetHoursProjected event) {
+        hub.sendTo(event.employeeIds(), "timesheet.updated", Map.of());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDocumentDistributed(DocumentDistributed event) {
+        Map<String, String> data = Map.of("documentId", event.documentId().toString());
+        hub.sendTo(event.shareRecipientIds(), "document.shared", data);
+        hub.sendTo(event.signatureRecipientIds(), "signature.requested", data);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCompanyEventChanged(CompanyEventChanged event) {
+        hub.broadcast("event.changed", Map.of(
+                "eventId", event.eventId().toString(),
+                "fromDate", event.fromDate().toString(),
+                "toDate", event.toDate().toString()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApprovedTimeOffChanged(ApprovedTimeOffChanged event) {
+        hub.broadcast("dashboard.changed", Map.of(
+                "fromDate", event.startDate().toString(),
+                "toDate", event.endDate().toString()));
+    }
+}
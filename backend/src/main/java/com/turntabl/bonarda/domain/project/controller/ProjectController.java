@@ -1,12 +1,12 @@
 package com.turntabl.bonarda.domain.project.controller;
 
+import com.turntabl.bonarda.domain.common.dto.SliceDto;
 import com.turntabl.bonarda.domain.project.dto.*;
 import com.turntabl.bonarda.domain.project.service.ProjectService;
 import com.turntabl.bonarda.security.CurrentUser;
 import com.turntabl.bonarda.security.UserPrincipal;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
@@ -26,9 +26,10 @@ public class ProjectController {
 
     @GetMapping
     @PreAuthorize("hasAuthority('PROJECT_READ')")
-    public ResponseEntity<Page<ProjectDto>> getAll(
-            @PageableDefault(size = 20) Pageable pageable) {
-        return ResponseEntity.ok(projectService.getAll(pageable));
+    public ResponseEntity<SliceDto<ProjectDto>> getAll(
+            @PageableDefault(size = 20) Pageable pageable,
+            @RequestParam(defaultValue = "false") boolean estimateTotal) {
+        return ResponseEntity.ok(projectService.getAll(pageable, estimateTotal));
     }
 
     @GetMapping("/me")
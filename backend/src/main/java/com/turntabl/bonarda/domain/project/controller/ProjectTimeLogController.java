@@ -1,5 +1,7 @@
 package com.turntabl.bonarda.domain.project.controller;
 
+import com.turntabl.bonarda.domain.common.dto.CursorPageDto;
+import com.turntabl.bonarda.domain.common.dto.ListFilter;
 import com.turntabl.bonarda.domain.project.dto.*;
 import com.turntabl.bonarda.domain.project.service.ProjectTimeLogService;
 import com.turntabl.bonarda.security.CurrentUser;
@@ -11,7 +13,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -50,13 +51,25 @@ public class ProjectTimeLogController {
 
     @GetMapping("/me")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<List<ProjectTimeLogDto>> getMyLogs(@CurrentUser UserPrincipal currentUser) {
-        return ResponseEntity.ok(timeLogService.getMyLogs(currentUser.getPublicId()));
+    public ResponseEntity<CursorPageDto<ProjectTimeLogDto>> getMyLogs(
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @CurrentUser UserPrincipal currentUser) {
+        return ResponseEntity.ok(timeLogService.getMyLogs(currentUser.getPublicId(),
+                ListFilter.of(null, from, to), cursor, size));
     }
 
     @GetMapping("/project/{projectId}")
     @PreAuthorize("hasAuthority('PROJECT_READ')")
-    public ResponseEntity<List<ProjectTimeLogDto>> getProjectLogs(@PathVariable UUID projectId) {
-        return ResponseEntity.ok(timeLogService.getLogsForProject(projectId));
+    public ResponseEntity<CursorPageDto<ProjectTimeLogDto>> getProjectLogs(
+            @PathVariable UUID projectId,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(timeLogService.getLogsForProject(projectId,
+                ListFilter.of(null, from, to), cursor, size));
     }
 }
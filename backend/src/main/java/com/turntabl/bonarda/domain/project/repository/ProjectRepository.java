@@ -2,8 +2,8 @@ package com.turntabl.bonarda.domain.project.repository;
 
 import com.turntabl.bonarda.domain.project.model.Project;
 import jakarta.persistence.LockModeType;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
@@ -29,9 +29,8 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     @Query("SELECT p FROM Project p JOIN FETCH p.client WHERE p.client.id = :clientId ORDER BY p.name ASC")
     List<Project> findByClientId(@Param("clientId") Long clientId);
 
-    @Query(value = "SELECT p FROM Project p JOIN FETCH p.client",
-           countQuery = "SELECT count(p) FROM Project p")
-    Page<Project> findAllWithClient(Pageable pageable);
+    @Query("SELECT p FROM Project p JOIN FETCH p.client")
+    Slice<Project> findAllWithClient(Pageable pageable);
 
     @Query("SELECT p FROM Project p JOIN FETCH p.client JOIN p.assignments a WHERE a.employee.id = :employeeId ORDER BY p.name ASC")
     List<Project> findByAssignedEmployeeId(@Param("employeeId") Long employeeId);
@@ -1,6 +1,7 @@
 package com.turntabl.bonarda.domain.project.repository;
 
 import com.turntabl.bonarda.domain.project.model.ProjectTimeLog;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -19,11 +20,27 @@ public interface ProjectTimeLogRepository extends JpaRepository<ProjectTimeLog,
 
     Optional<ProjectTimeLog> findByProjectIdAndEmployeeIdAndLogDate(Long projectId, Long employeeId, LocalDate logDate);
 
-    @Query("SELECT l FROM ProjectTimeLog l JOIN FETCH l.employee WHERE l.project.id = :projectId ORDER BY l.logDate DESC, l.employee.lastName ASC")
-    List<ProjectTimeLog> findByProjectIdWithEmployee(@Param("projectId") Long projectId);
-
-    @Query("SELECT l FROM ProjectTimeLog l JOIN FETCH l.project JOIN FETCH l.project.client WHERE l.employee.id = :employeeId ORDER BY l.logDate DESC")
-    List<ProjectTimeLog> findByEmployeeIdWithProject(@Param("employeeId") Long employeeId);
+    @Query("SELECT l FROM ProjectTimeLog l JOIN FETCH l.employee JOIN FETCH l.project " +
+           "WHERE l.project.id = :projectId AND l.logDate BETWEEN :from AND :to " +
+           "AND (l.logDate < :afterDate OR (l.logDate = :afterDate AND l.id < :afterId)) " +
+           "ORDER BY l.logDate DESC, l.id DESC")
+    List<ProjectTimeLog> findProjectPage(@Param("projectId") Long projectId,
+                                         @Param("from") LocalDate from,
+                                         @Param("to") LocalDate to,
+                                         @Param("afterDate") LocalDate afterDate,
+                                         @Param("afterId") Long afterId,
+                                         Pageable pageable);
+
+    @Query("SELECT l FROM ProjectTimeLog l JOIN FETCH l.employee JOIN FETCH l.project " +
+           "WHERE l.employee.id = :employeeId AND l.logDate BETWEEN :from AND :to " +
+           "AND (l.logDate < :afterDate OR (l.logDate = :afterDate AND l.id < :afterId)) " +
+           "ORDER BY l.logDate DESC, l.id DESC")
+    List<ProjectTimeLog> findEmployeePage(@Param("employeeId") Long employeeId,
+                                          @Param("from") LocalDate from,
+                                          @Param("to") LocalDate to,
+                                          @Param("afterDate") LocalDate afterDate,
+                                          @Param("afterId") Long afterId,
+                                          Pageable pageable);
 
     @Query("SELECT COALESCE(SUM(l.hours), 0) FROM ProjectTimeLog l WHERE l.project.id = :projectId")
     BigDecimal getTotalHoursForProject(@Param("projectId") Long projectId);
@@ -1,7 +1,7 @@
 package com.turntabl.bonarda.domain.project.service;
 
+import com.turntabl.bonarda.domain.common.dto.SliceDto;
 import com.turntabl.bonarda.domain.project.dto.*;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
@@ -11,7 +11,7 @@ public interface ProjectService {
     ProjectDto create(CreateProjectRequest request);
     ProjectDto update(UUID publicId, UpdateProjectRequest request);
     ProjectDto getById(UUID publicId);
-    Page<ProjectDto> getAll(Pageable pageable);
+    SliceDto<ProjectDto> getAll(Pageable pageable, boolean estimateTotal);
     List<ProjectDto> getMyProjects(UUID employeePublicId);
     ProjectAssignmentDto assignEmployee(UUID projectPublicId, AssignEmployeeRequest request);
     void removeAssignment(UUID projectPublicId, UUID assignmentPublicId);
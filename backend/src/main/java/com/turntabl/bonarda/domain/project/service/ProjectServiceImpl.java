@@ -1,7 +1,9 @@
 package com.turntabl.bonarda.domain.project.service;
 
+import com.turntabl.bonarda.domain.common.dto.SliceDto;
 import com.turntabl.bonarda.domain.common.service.EntityResolutionService;
 import com.turntabl.bonarda.domain.common.service.EnumParser;
+import com.turntabl.bonarda.domain.common.service.RowCountEstimator;
 import com.turntabl.bonarda.domain.employee.model.Employee;
 import com.turntabl.bonarda.domain.project.dto.*;
 import com.turntabl.bonarda.domain.project.model.*;
@@ -12,7 +14,6 @@ import com.turntabl.bonarda.domain.project.repository.ProjectTimeLogRepository;
 import com.turntabl.bonarda.exception.BadRequestException;
 import com.turntabl.bonarda.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -34,6 +35,7 @@ public class ProjectServiceImpl implements ProjectService {
     private final ProjectTimeLogRepository projectTimeLogRepository;
     private final EntityResolutionService entityResolution;
     private final EnumParser enumParser;
+    private final RowCountEstimator rowCountEstimator;
 
     @Override
     public ProjectDto create(CreateProjectRequest request) {
@@ -123,8 +125,9 @@ public class ProjectServiceImpl implements ProjectService {
 
     @Override
     @Transactional(readOnly = true)
-    public Page<ProjectDto> getAll(Pageable pageable) {
-        return projectRepository.findAllWithClient(pageable).map(this::toListDto);
+    public SliceDto<ProjectDto> getAll(Pageable pageable, boolean estimateTotal) {
+        return SliceDto.of(projectRepository.findAllWithClient(pageable).map(this::toListDto),
+                estimateTotal ? rowCountEstimator.estimateTable("projects", projectRepository::count) : null);
     }
 
     @Override
@@ -1,5 +1,8 @@
 package com.turntabl.bonarda.domain.project.service;
 
+import com.turntabl.bonarda.domain.common.dto.CursorPageDto;
+import com.turntabl.bonarda.domain.common.dto.KeysetCursor;
+import com.turntabl.bonarda.domain.common.dto.ListFilter;
 import com.turntabl.bonarda.domain.employee.model.Employee;
 import com.turntabl.bonarda.domain.employee.repository.EmployeeRepository;
 import com.turntabl.bonarda.domain.project.dto.*;
@@ -8,15 +11,16 @@ import com.turntabl.bonarda.domain.project.model.ProjectTimeLog;
 import com.turntabl.bonarda.domain.project.repository.ProjectAssignmentRepository;
 import com.turntabl.bonarda.domain.project.repository.ProjectRepository;
 import com.turntabl.bonarda.domain.project.repository.ProjectTimeLogRepository;
+import com.turntabl.bonarda.domain.timesheet.service.HoursReconciliationService;
 import com.turntabl.bonarda.exception.BadRequestException;
 import com.turntabl.bonarda.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -27,6 +31,7 @@ public class ProjectTimeLogServiceImpl implements ProjectTimeLogService {
     private final ProjectRepository projectRepository;
     private final EmployeeRepository employeeRepository;
     private final ProjectAssignmentRepository projectAssignmentRepository;
+    private final HoursReconciliationService reconciliationService;
 
     @Override
     public ProjectTimeLogDto logTime(UUID employeePublicId, CreateTimeLogRequest request) {
@@ -45,6 +50,8 @@ public class ProjectTimeLogServiceImpl implements ProjectTimeLogService {
                     throw new BadRequestException("A time log already exists for this project on " + request.getLogDate());
                 });
 
+        reconciliationService.validateProjectLog(employee.getId(), request.getLogDate(), request.getHours(), null);
+
         ProjectTimeLog log = ProjectTimeLog.builder()
                 .project(project)
                 .employee(employee)
@@ -68,6 +75,11 @@ public class ProjectTimeLogServiceImpl implements ProjectTimeLogService {
             throw new BadRequestException("You can only update your own time logs");
         }
 
+        reconciliationService.validateProjectLog(employee.getId(),
+                request.getLogDate() != null ? request.getLogDate() : log.getLogDate(),
+                request.getHours() != null ? request.getHours() : log.getHours(),
+                log.getId());
+
         if (request.getLogDate() != null) {
             log.setLogDate(request.getLogDate());
         }
@@ -98,23 +110,31 @@ public class ProjectTimeLogServiceImpl implements ProjectTimeLogService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<ProjectTimeLogDto> getLogsForProject(UUID projectPublicId) {
+    public CursorPageDto<ProjectTimeLogDto> getLogsForProject(UUID projectPublicId, ListFilter filter,
+                                                              String cursor, int size) {
         Project project = projectRepository.findByPublicId(projectPublicId)
                 .orElseThrow(() -> new ResourceNotFoundException("Project", "publicId", projectPublicId));
+        int limit = KeysetCursor.pageSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
 
-        return projectTimeLogRepository.findByProjectIdWithEmployee(project.getId()).stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
+        List<ProjectTimeLog> rows = projectTimeLogRepository.findProjectPage(project.getId(),
+                filter.fromOrEarliest(), filter.toOrLatest(), after.dateKey(), after.id(),
+                PageRequest.of(0, limit + 1));
+        return CursorPageDto.of(rows, limit, this::toDto, log -> KeysetCursor.after(log.getLogDate(), log.getId()));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<ProjectTimeLogDto> getMyLogs(UUID employeePublicId) {
+    public CursorPageDto<ProjectTimeLogDto> getMyLogs(UUID employeePublicId, ListFilter filter,
+                                                      String cursor, int size) {
         Employee employee = resolveEmployeeByPublicId(employeePublicId);
+        int limit = KeysetCursor.pageSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
 
-        return projectTimeLogRepository.findByEmployeeIdWithProject(employee.getId()).stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
+        List<ProjectTimeLog> rows = projectTimeLogRepository.findEmployeePage(employee.getId(),
+                filter.fromOrEarliest(), filter.toOrLatest(), after.dateKey(), after.id(),
+                PageRequest.of(0, limit + 1));
+        return CursorPageDto.of(rows, limit, this::toDto, log -> KeysetCursor.after(log.getLogDate(), log.getId()));
     }
 
     // --- Private helpers ---
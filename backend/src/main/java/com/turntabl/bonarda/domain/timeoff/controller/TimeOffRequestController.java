@@ -1,14 +1,21 @@
 package com.turntabl.bonarda.domain.timeoff.controller;
 
+import com.turntabl.bonarda.domain.common.dto.BulkReviewResultDto;
+import com.turntabl.bonarda.domain.common.dto.CursorPageDto;
+import com.turntabl.bonarda.domain.common.dto.ListFilter;
+import com.turntabl.bonarda.domain.common.dto.SliceDto;
+import com.turntabl.bonarda.domain.timeoff.dto.BulkReviewTimeOffRequestDto;
+import com.turntabl.bonarda.domain.timeoff.dto.CoverageImpactDto;
 import com.turntabl.bonarda.domain.timeoff.dto.CreateTimeOffRequestDto;
 import com.turntabl.bonarda.domain.timeoff.dto.ReviewTimeOffRequestDto;
+import com.turntabl.bonarda.domain.timeoff.dto.TeamCoverageDto;
 import com.turntabl.bonarda.domain.timeoff.dto.TimeOffRequestDto;
+import com.turntabl.bonarda.domain.timeoff.service.TimeOffCoverageService;
 import com.turntabl.bonarda.domain.timeoff.service.TimeOffRequestService;
 import com.turntabl.bonarda.security.CurrentUser;
 import com.turntabl.bonarda.security.UserPrincipal;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.core.io.Resource;
@@ -23,7 +30,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.net.MalformedURLException;
 import java.nio.file.Path;
-import java.util.List;
+import java.time.LocalDate;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -33,6 +40,7 @@ import java.util.stream.Collectors;
 public class TimeOffRequestController {
 
     private final TimeOffRequestService requestService;
+    private final TimeOffCoverageService coverageService;
 
     @PostMapping
     @PreAuthorize("hasAuthority('TIME_OFF_REQUEST_CREATE')")
@@ -45,23 +53,50 @@ public class TimeOffRequestController {
 
     @GetMapping("/me")
     @PreAuthorize("hasAuthority('TIME_OFF_REQUEST_READ_OWN')")
-    public ResponseEntity<List<TimeOffRequestDto>> getMyRequests(
+    public ResponseEntity<CursorPageDto<TimeOffRequestDto>> getMyRequests(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
             @CurrentUser UserPrincipal currentUser) {
-        return ResponseEntity.ok(requestService.getMyRequests(currentUser.getPublicId()));
+        return ResponseEntity.ok(requestService.getMyRequests(currentUser.getPublicId(),
+                ListFilter.of(status, from, to), cursor, size));
     }
 
     @GetMapping("/team")
     @PreAuthorize("hasAuthority('TIME_OFF_REQUEST_READ_TEAM')")
-    public ResponseEntity<List<TimeOffRequestDto>> getTeamRequests(
+    public ResponseEntity<CursorPageDto<TimeOffRequestDto>> getTeamRequests(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
             @CurrentUser UserPrincipal currentUser) {
-        return ResponseEntity.ok(requestService.getTeamRequests(currentUser.getPublicId()));
+        return ResponseEntity.ok(requestService.getTeamRequests(currentUser.getPublicId(),
+                ListFilter.of(status, from, to), cursor, size));
     }
 
     @GetMapping
     @PreAuthorize("hasAuthority('TIME_OFF_REQUEST_READ_ALL')")
-    public ResponseEntity<Page<TimeOffRequestDto>> getAllRequests(
-            @PageableDefault(size = 20) Pageable pageable) {
-        return ResponseEntity.ok(requestService.getAllRequests(pageable));
+    public ResponseEntity<SliceDto<TimeOffRequestDto>> getAllRequests(
+            @PageableDefault(size = 20) Pageable pageable,
+            @RequestParam(defaultValue = "false") boolean estimateTotal) {
+        return ResponseEntity.ok(requestService.getAllRequests(pageable, estimateTotal));
+    }
+
+    @GetMapping("/coverage")
+    @PreAuthorize("hasAnyAuthority('TIME_OFF_REQUEST_READ_TEAM', 'TIME_OFF_REQUEST_READ_ALL')")
+    public ResponseEntity<TeamCoverageDto> getTeamCoverage(
+            @RequestParam(required = false) UUID managerId,
+            @RequestParam String startDate,
+            @RequestParam String endDate,
+            @CurrentUser UserPrincipal currentUser) {
+        var permissions = currentUser.getAuthorities().stream()
+                .map(a -> a.getAuthority())
+                .collect(Collectors.toSet());
+        return ResponseEntity.ok(coverageService.getTeamCoverage(managerId,
+                LocalDate.parse(startDate), LocalDate.parse(endDate), currentUser.getPublicId(), permissions));
     }
 
     @GetMapping("/{id}")
@@ -76,6 +111,17 @@ public class TimeOffRequestController {
                 currentUser.getPublicId(), permissions));
     }
 
+    @GetMapping("/{id}/coverage")
+    @PreAuthorize("hasAuthority('TIME_OFF_REQUEST_APPROVE')")
+    public ResponseEntity<CoverageImpactDto> getApprovalImpact(
+            @PathVariable UUID id,
+            @CurrentUser UserPrincipal currentUser) {
+        var permissions = currentUser.getAuthorities().stream()
+                .map(a -> a.getAuthority())
+                .collect(Collectors.toSet());
+        return ResponseEntity.ok(coverageService.getApprovalImpact(id, currentUser.getPublicId(), permissions));
+    }
+
     @PutMapping("/{id}/review")
     @PreAuthorize("hasAuthority('TIME_OFF_REQUEST_APPROVE')")
     public ResponseEntity<TimeOffRequestDto> reviewRequest(
@@ -85,6 +131,14 @@ public class TimeOffRequestController {
         return ResponseEntity.ok(requestService.review(id, currentUser.getPublicId(), request));
     }
 
+    @PostMapping("/bulk-review")
+    @PreAuthorize("hasAuthority('TIME_OFF_REQUEST_APPROVE')")
+    public ResponseEntity<BulkReviewResultDto<TimeOffRequestDto>> bulkReview(
+            @CurrentUser UserPrincipal currentUser,
+            @Valid @RequestBody BulkReviewTimeOffRequestDto request) {
+        return ResponseEntity.ok(requestService.reviewAll(currentUser.getPublicId(), request));
+    }
+
     @PutMapping("/{id}/cancel")
     @PreAuthorize("hasAuthority('TIME_OFF_REQUEST_CREATE')")
     public ResponseEntity<TimeOffRequestDto> cancelRequest(
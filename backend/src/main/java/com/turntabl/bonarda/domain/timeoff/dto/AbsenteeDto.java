@@ -0,0 +1,15 @@
+package com.turntabl.bonarda.domain.timeoff.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+@Getter
+@Builder
+public class AbsenteeDto {
+    private String employeeId;
+    private String employeeName;
+    /** 1 for a full day, 0.5 for a half day. */
+    private BigDecimal weight;
+}
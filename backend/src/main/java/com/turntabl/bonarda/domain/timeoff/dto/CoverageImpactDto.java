@@ -0,0 +1,19 @@
+package com.turntabl.bonarda.domain.timeoff.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/** What approving a pending request would do to its team's coverage. */
+@Getter
+@Builder
+public class CoverageImpactDto {
+    private Integer teamSize;
+    /** Minimum share of the team that should remain available, from 0 to 1. */
+    private BigDecimal minCoverage;
+    private Boolean belowThreshold;
+    /** Business days of the request, with availability as it would be after approval. */
+    private List<DayCoverageDto> days;
+}
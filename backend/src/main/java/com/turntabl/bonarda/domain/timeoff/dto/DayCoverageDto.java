@@ -0,0 +1,18 @@
+package com.turntabl.bonarda.domain.timeoff.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Builder
+public class DayCoverageDto {
+    private LocalDate date;
+    /** Team members off, in days (half days count 0.5). */
+    private BigDecimal absent;
+    private BigDecimal available;
+    private List<AbsenteeDto> absentees;
+}
@@ -0,0 +1,15 @@
+package com.turntabl.bonarda.domain.timeoff.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class TeamCoverageDto {
+    private String managerId;
+    private Integer teamSize;
+    /** Every business day in the window, including days nobody is off. */
+    private List<DayCoverageDto> days;
+}
@@ -0,0 +1,8 @@
+package com.turntabl.bonarda.domain.timeoff.model;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/** Published when a request enters or leaves APPROVED, i.e. on approval and on cancellation. */
+public record ApprovedTimeOffChanged(UUID requestId, UUID employeeId, LocalDate startDate, LocalDate endDate) {
+}
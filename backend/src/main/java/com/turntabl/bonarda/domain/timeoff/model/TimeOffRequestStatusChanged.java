@@ -0,0 +1,11 @@
+package com.turntabl.bonarda.domain.timeoff.model;
+
+import java.util.UUID;
+
+/**
+ * Published on every status transition of a time-off request. Ids are internal
+ * employee ids; {@code managerId} is null when the employee reports to nobody.
+ */
+public record TimeOffRequestStatusChanged(UUID requestId, Long employeeId, Long managerId,
+                                          TimeOffRequestStatus status) {
+}
@@ -0,0 +1,85 @@
+package com.turntabl.bonarda.domain.timeoff.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The daily absence index from V22: one row per approved request per business day, so
+ * "who is off on these days" is an index lookup per team member rather than a
+ * range-overlap scan over every request.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TimeOffAbsenceRepository {
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public record Absence(LocalDate date, UUID employeePublicId, String firstName, String lastName,
+                          BigDecimal weight) {
+    }
+
+    /** Expands an approved request into its business days; safe to repeat. */
+    public void addRequest(Long requestId) {
+        addRequests(List.of(requestId));
+    }
+
+    public void addRequests(Collection<Long> requestIds) {
+        if (requestIds.isEmpty()) {
+            return;
+        }
+        jdbc.update("""
+                INSERT INTO time_off_absence_days (request_id, employee_id, absence_date, weight)
+                SELECT r.id, r.employee_id, d::date, CASE WHEN r.half_day THEN 0.5 ELSE 1.0 END
+                FROM time_off_requests r
+                CROSS JOIN LATERAL generate_series(r.start_date, r.end_date, INTERVAL '1 day') AS d
+                WHERE r.id IN (:requestIds)
+                  AND EXTRACT(ISODOW FROM d) < 6
+                ON CONFLICT (request_id, absence_date) DO NOTHING
+                """, new MapSqlParameterSource("requestIds", requestIds));
+    }
+
+    public void removeRequest(Long requestId) {
+        jdbc.update("DELETE FROM time_off_absence_days WHERE request_id = :requestId",
+                new MapSqlParameterSource("requestId", requestId));
+    }
+
+    public int countTeamMembers(Long managerId) {
+        Integer count = jdbc.queryForObject("""
+                SELECT count(*) FROM employees WHERE reports_to_id = :managerId AND status = 'ACTIVE'
+                """, new MapSqlParameterSource("managerId", managerId), Integer.class);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * Absences of the manager's active direct reports, one row per employee and day;
+     * a morning and an afternoon half day on the same day add up to 1.
+     */
+    public List<Absence> findTeamAbsences(Long managerId, LocalDate from, LocalDate to) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("managerId", managerId)
+                .addValue("from", from)
+                .addValue("to", to);
+
+        return jdbc.query("""
+                SELECT a.absence_date, e.public_id, e.first_name, e.last_name, sum(a.weight) AS weight
+                FROM employees e
+                JOIN time_off_absence_days a ON a.employee_id = e.id
+                WHERE e.reports_to_id = :managerId
+                  AND e.status = 'ACTIVE'
+                  AND a.absence_date BETWEEN :from AND :to
+                GROUP BY a.absence_date, e.public_id, e.first_name, e.last_name
+                ORDER BY a.absence_date, e.last_name, e.first_name
+                """, params,
+                (rs, i) -> new Absence(rs.getObject("absence_date", LocalDate.class),
+                        rs.getObject("public_id", UUID.class), rs.getString("first_name"),
+                        rs.getString("last_name"), rs.getBigDecimal("weight")));
+    }
+}
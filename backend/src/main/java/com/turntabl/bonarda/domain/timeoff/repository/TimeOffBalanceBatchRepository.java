@@ -0,0 +1,73 @@
+package com.turntabl.bonarda.domain.timeoff.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Grouped balance updates for bulk reviews: one statement moves the pending days of
+ * every affected (employee, type, year) balance, locking the rows in id order so that
+ * concurrent bulk reviews cannot deadlock on each other.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TimeOffBalanceBatchRepository {
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public record Key(Long employeeId, Long timeOffTypeId, int year) {
+    }
+
+    /**
+     * Takes the given days off each balance's pending total and, when {@code approved},
+     * adds them to used. Balances that are missing or hold fewer pending days are left
+     * untouched; the keys actually updated are returned.
+     */
+    public Set<Key> settlePending(Map<Key, BigDecimal> days, boolean approved) {
+        if (days.isEmpty()) {
+            return Set.of();
+        }
+        List<Object[]> rows = days.entrySet().stream()
+                .map(e -> new Object[]{e.getKey().employeeId(), e.getKey().timeOffTypeId(), e.getKey().year(), e.getValue()})
+                .toList();
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("deltas", rows)
+                .addValue("approved", approved);
+
+        Set<Key> settled = new HashSet<>();
+        jdbc.query("""
+                WITH v (employee_id, time_off_type_id, year, days) AS (
+                    VALUES :deltas
+                ),
+                locked AS (
+                    SELECT b.id, v.days::numeric AS days
+                    FROM time_off_balances b
+                    JOIN v ON b.employee_id = v.employee_id::bigint
+                          AND b.time_off_type_id = v.time_off_type_id::bigint
+                          AND b.year = v.year::int
+                    WHERE b.pending >= v.days::numeric
+                    ORDER BY b.id
+                    FOR UPDATE OF b
+                )
+                UPDATE time_off_balances b
+                SET pending = b.pending - l.days,
+                    used = b.used + CASE WHEN :approved THEN l.days ELSE 0 END,
+                    version = b.version + 1
+                FROM locked l
+                WHERE b.id = l.id
+                RETURNING b.employee_id, b.time_off_type_id, b.year
+                """, params,
+                rs -> {
+                    settled.add(new Key(rs.getLong("employee_id"), rs.getLong("time_off_type_id"), rs.getInt("year")));
+                });
+        return settled;
+    }
+}
@@ -3,8 +3,8 @@ package com.turntabl.bonarda.domain.timeoff.repository;
 import com.turntabl.bonarda.domain.timeoff.model.TimeOffRequest;
 import com.turntabl.bonarda.domain.timeoff.model.TimeOffRequestStatus;
 import jakarta.persistence.LockModeType;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
@@ -12,6 +12,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -24,26 +26,41 @@ public interface TimeOffRequestRepository extends JpaRepository<TimeOffRequest,
     @Query("SELECT r FROM TimeOffRequest r JOIN FETCH r.employee JOIN FETCH r.timeOffType LEFT JOIN FETCH r.reviewer WHERE r.publicId = :publicId")
     Optional<TimeOffRequest> findByPublicIdForUpdate(@Param("publicId") UUID publicId);
 
-    @Query("SELECT r FROM TimeOffRequest r JOIN FETCH r.employee JOIN FETCH r.timeOffType LEFT JOIN FETCH r.reviewer " +
-           "WHERE r.employee.id = :employeeId ORDER BY r.createdAt DESC")
-    List<TimeOffRequest> findByEmployeeIdOrderByCreatedAtDesc(@Param("employeeId") Long employeeId);
+    /** Locks in id order so that overlapping bulk reviews cannot deadlock. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM TimeOffRequest r JOIN FETCH r.employee JOIN FETCH r.timeOffType " +
+           "WHERE r.publicId IN :publicIds ORDER BY r.id")
+    List<TimeOffRequest> findAllByPublicIdInForUpdate(@Param("publicIds") Collection<UUID> publicIds);
 
+    /** Newest first; the date range matches requests overlapping it. */
     @Query("SELECT r FROM TimeOffRequest r JOIN FETCH r.employee JOIN FETCH r.timeOffType LEFT JOIN FETCH r.reviewer " +
-           "WHERE r.employee.reportsTo.id = :managerId ORDER BY r.createdAt DESC")
-    List<TimeOffRequest> findByEmployeeReportsToId(@Param("managerId") Long managerId);
-
-    @Query("SELECT r FROM TimeOffRequest r WHERE r.employee.id = :employeeId " +
-           "AND r.status IN :statuses " +
-           "AND r.startDate <= :endDate AND r.endDate >= :startDate")
-    List<TimeOffRequest> findOverlappingRequests(
-            @Param("employeeId") Long employeeId,
-            @Param("startDate") LocalDate startDate,
-            @Param("endDate") LocalDate endDate,
-            @Param("statuses") List<TimeOffRequestStatus> statuses);
+           "WHERE r.employee.id = :employeeId AND r.status IN :statuses " +
+           "AND r.startDate <= :to AND r.endDate >= :from " +
+           "AND (r.createdAt < :afterAt OR (r.createdAt = :afterAt AND r.id < :afterId)) " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<TimeOffRequest> findEmployeePage(@Param("employeeId") Long employeeId,
+                                          @Param("statuses") Collection<TimeOffRequestStatus> statuses,
+                                          @Param("from") LocalDate from,
+                                          @Param("to") LocalDate to,
+                                          @Param("afterAt") LocalDateTime afterAt,
+                                          @Param("afterId") Long afterId,
+                                          Pageable pageable);
 
-    @Query(value = "SELECT r FROM TimeOffRequest r JOIN FETCH r.employee JOIN FETCH r.timeOffType LEFT JOIN FETCH r.reviewer",
-           countQuery = "SELECT count(r) FROM TimeOffRequest r")
-    Page<TimeOffRequest> findAllWithAssociations(Pageable pageable);
+    @Query("SELECT r FROM TimeOffRequest r JOIN FETCH r.employee e JOIN FETCH r.timeOffType LEFT JOIN FETCH r.reviewer " +
+           "WHERE e.reportsTo.id = :managerId AND r.status IN :statuses " +
+           "AND r.startDate <= :to AND r.endDate >= :from " +
+           "AND (r.createdAt < :afterAt OR (r.createdAt = :afterAt AND r.id < :afterId)) " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<TimeOffRequest> findTeamPage(@Param("managerId") Long managerId,
+                                      @Param("statuses") Collection<TimeOffRequestStatus> statuses,
+                                      @Param("from") LocalDate from,
+                                      @Param("to") LocalDate to,
+                                      @Param("afterAt") LocalDateTime afterAt,
+                                      @Param("afterId") Long afterId,
+                                      Pageable pageable);
+
+    @Query("SELECT r FROM TimeOffRequest r JOIN FETCH r.employee JOIN FETCH r.timeOffType LEFT JOIN FETCH r.reviewer")
+    Slice<TimeOffRequest> findAllWithAssociations(Pageable pageable);
 
     @Query("SELECT r FROM TimeOffRequest r JOIN FETCH r.employee JOIN FETCH r.timeOffType " +
            "WHERE r.status = 'APPROVED' " +
@@ -52,4 +69,23 @@ public interface TimeOffRequestRepository extends JpaRepository<TimeOffRequest,
     List<TimeOffRequest> findApprovedRequestsOverlappingDateRange(
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT r FROM TimeOffRequest r JOIN FETCH r.employee e JOIN FETCH r.timeOffType LEFT JOIN e.reportsTo m " +
+           "WHERE r.status = 'APPROVED' " +
+           "AND (e.publicId = :managerPublicId OR m.publicId = :managerPublicId) " +
+           "AND r.startDate <= :endDate AND r.endDate >= :startDate " +
+           "ORDER BY r.startDate ASC")
+    List<TimeOffRequest> findApprovedTeamRequestsOverlappingDateRange(
+            @Param("managerPublicId") UUID managerPublicId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT r FROM TimeOffRequest r JOIN FETCH r.employee e JOIN FETCH r.timeOffType " +
+           "WHERE r.status = 'APPROVED' AND e.publicId = :employeePublicId " +
+           "AND r.startDate <= :endDate AND r.endDate >= :startDate " +
+           "ORDER BY r.startDate ASC")
+    List<TimeOffRequest> findApprovedEmployeeRequestsOverlappingDateRange(
+            @Param("employeePublicId") UUID employeePublicId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
 }
@@ -0,0 +1,50 @@
+package com.turntabl.bonarda.domain.timeoff.service;
+
+import com.turntabl.bonarda.domain.common.service.GraphSimulator;
+import com.turntabl.bonarda.domain.common.service.SimulatedGraphException;
+import com.turntabl.bonarda.domain.timeoff.model.TimeOffRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+/**
+ * Puts {@link CalendarServiceMockImpl} behind the {@link GraphSimulator}. Keeps the
+ * best-effort contract of {@link CalendarService}: simulated failures are logged,
+ * never thrown.
+ */
+@Service
+@Primary
+@Profile("graph-sim")
+@ConditionalOnProperty(name = "microsoft.graph.mock-enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+@RequiredArgsConstructor
+public class CalendarServiceSimulator implements CalendarService {
+
+    private final CalendarServiceMockImpl delegate;
+    private final GraphSimulator simulator;
+
+    @Override
+    public String createEvent(TimeOffRequest request) {
+        try {
+            return simulator.call("calendar.createEvent", () -> delegate.createEvent(request));
+        } catch (SimulatedGraphException e) {
+            log.error("Failed to create calendar event for request {}: {}", request.getPublicId(), e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public void deleteEvent(TimeOffRequest request) {
+        if (request.getCalendarEventId() == null) {
+            return;
+        }
+        try {
+            simulator.run("calendar.deleteEvent", () -> delegate.deleteEvent(request));
+        } catch (SimulatedGraphException e) {
+            log.error("Failed to delete calendar event {}: {}", request.getCalendarEventId(), e.getMessage());
+        }
+    }
+}
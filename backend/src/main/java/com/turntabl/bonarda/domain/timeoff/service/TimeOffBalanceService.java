@@ -3,9 +3,12 @@ package com.turntabl.bonarda.domain.timeoff.service;
 import com.turntabl.bonarda.domain.employee.model.Employee;
 import com.turntabl.bonarda.domain.timeoff.dto.AdjustBalanceRequest;
 import com.turntabl.bonarda.domain.timeoff.dto.TimeOffBalanceDto;
+import com.turntabl.bonarda.domain.timeoff.repository.TimeOffBalanceBatchRepository;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 public interface TimeOffBalanceService {
@@ -20,4 +23,11 @@ public interface TimeOffBalanceService {
     void updatePending(Long employeeId, Long typeId, Integer year, BigDecimal delta);
 
     void updateUsed(Long employeeId, Long typeId, Integer year, BigDecimal delta);
+
+    /**
+     * Settles the pending days of reviewed requests, grouped per balance, in one
+     * statement; approved days move to used. Returns the balances that were updated.
+     */
+    Set<TimeOffBalanceBatchRepository.Key> settlePending(Map<TimeOffBalanceBatchRepository.Key, BigDecimal> days,
+                                                         boolean approved);
 }
@@ -6,6 +6,7 @@ import com.turntabl.bonarda.domain.timeoff.dto.AdjustBalanceRequest;
 import com.turntabl.bonarda.domain.timeoff.dto.TimeOffBalanceDto;
 import com.turntabl.bonarda.domain.timeoff.model.TimeOffBalance;
 import com.turntabl.bonarda.domain.timeoff.model.TimeOffType;
+import com.turntabl.bonarda.domain.timeoff.repository.TimeOffBalanceBatchRepository;
 import com.turntabl.bonarda.domain.timeoff.repository.TimeOffBalanceRepository;
 import com.turntabl.bonarda.domain.timeoff.repository.TimeOffTypeRepository;
 import com.turntabl.bonarda.exception.BadRequestException;
@@ -16,6 +17,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -25,6 +28,7 @@ import java.util.stream.Collectors;
 public class TimeOffBalanceServiceImpl implements TimeOffBalanceService {
 
     private final TimeOffBalanceRepository balanceRepository;
+    private final TimeOffBalanceBatchRepository balanceBatchRepository;
     private final TimeOffTypeRepository typeRepository;
     private final EntityResolutionService entityResolution;
 
@@ -114,6 +118,12 @@ public class TimeOffBalanceServiceImpl implements TimeOffBalanceService {
         balanceRepository.save(balance);
     }
 
+    @Override
+    public Set<TimeOffBalanceBatchRepository.Key> settlePending(Map<TimeOffBalanceBatchRepository.Key, BigDecimal> days,
+                                                                boolean approved) {
+        return balanceBatchRepository.settlePending(days, approved);
+    }
+
     private TimeOffType resolveTypeByPublicId(UUID publicId) {
         return typeRepository.findByPublicId(publicId)
                 .orElseThrow(() -> new ResourceNotFoundException("TimeOffType", "publicId", publicId));
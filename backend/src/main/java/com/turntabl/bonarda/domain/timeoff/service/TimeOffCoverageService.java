@@ -0,0 +1,21 @@
+package com.turntabl.bonarda.domain.timeoff.service;
+
+import com.turntabl.bonarda.domain.timeoff.dto.CoverageImpactDto;
+import com.turntabl.bonarda.domain.timeoff.dto.TeamCoverageDto;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.UUID;
+
+public interface TimeOffCoverageService {
+
+    /**
+     * Absences per business day among a manager's direct reports. Callers without
+     * TIME_OFF_REQUEST_READ_ALL may only ask for their own team.
+     */
+    TeamCoverageDto getTeamCoverage(UUID managerPublicId, LocalDate startDate, LocalDate endDate,
+                                    UUID callerPublicId, Set<String> callerPermissions);
+
+    /** Team coverage on each day of a pending request as it would be after approving it. */
+    CoverageImpactDto getApprovalImpact(UUID requestPublicId, UUID callerPublicId, Set<String> callerPermissions);
+}
@@ -0,0 +1,174 @@
+package com.turntabl.bonarda.domain.timeoff.service;
+
+import com.turntabl.bonarda.domain.common.service.EntityResolutionService;
+import com.turntabl.bonarda.domain.employee.model.Employee;
+import com.turntabl.bonarda.domain.timeoff.dto.AbsenteeDto;
+import com.turntabl.bonarda.domain.timeoff.dto.CoverageImpactDto;
+import com.turntabl.bonarda.domain.timeoff.dto.DayCoverageDto;
+import com.turntabl.bonarda.domain.timeoff.dto.TeamCoverageDto;
+import com.turntabl.bonarda.domain.timeoff.model.TimeOffRequest;
+import com.turntabl.bonarda.domain.timeoff.model.TimeOffRequestStatus;
+import com.turntabl.bonarda.domain.timeoff.repository.TimeOffAbsenceRepository;
+import com.turntabl.bonarda.domain.timeoff.repository.TimeOffRequestRepository;
+import com.turntabl.bonarda.exception.BadRequestException;
+import com.turntabl.bonarda.exception.ResourceNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional(readOnly = true)
+public class TimeOffCoverageServiceImpl implements TimeOffCoverageService {
+
+    private static final long MAX_RANGE_DAYS = 92;
+
+    private final TimeOffAbsenceRepository absenceRepository;
+    private final TimeOffRequestRepository requestRepository;
+    private final EntityResolutionService entityResolution;
+    private final BigDecimal minCoverage;
+
+    public TimeOffCoverageServiceImpl(TimeOffAbsenceRepository absenceRepository,
+                                      TimeOffRequestRepository requestRepository,
+                                      EntityResolutionService entityResolution,
+                                      @Value("${app.time-off.min-coverage:0.5}") BigDecimal minCoverage) {
+        this.absenceRepository = absenceRepository;
+        this.requestRepository = requestRepository;
+        this.entityResolution = entityResolution;
+        this.minCoverage = minCoverage;
+    }
+
+    @Override
+    public TeamCoverageDto getTeamCoverage(UUID managerPublicId, LocalDate startDate, LocalDate endDate,
+                                           UUID callerPublicId, Set<String> callerPermissions) {
+        if (endDate.isBefore(startDate)) {
+            throw new BadRequestException("endDate must not be before startDate");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) > MAX_RANGE_DAYS) {
+            throw new BadRequestException("Date range must not exceed " + MAX_RANGE_DAYS + " days");
+        }
+        UUID targetPublicId = managerPublicId != null ? managerPublicId : callerPublicId;
+        if (!targetPublicId.equals(callerPublicId) && !callerPermissions.contains("TIME_OFF_REQUEST_READ_ALL")) {
+            throw new BadRequestException("You do not have permission to view this team's coverage");
+        }
+
+        Employee manager = entityResolution.resolveEmployee(targetPublicId);
+        int teamSize = absenceRepository.countTeamMembers(manager.getId());
+        Map<LocalDate, List<AbsenteeDto>> absentees = absenteesByDay(
+                absenceRepository.findTeamAbsences(manager.getId(), startDate, endDate));
+
+        List<DayCoverageDto> days = new ArrayList<>();
+        for (LocalDate day : businessDays(startDate, endDate)) {
+            days.add(dayCoverage(day, teamSize, absentees.getOrDefault(day, List.of())));
+        }
+
+        return TeamCoverageDto.builder()
+                .managerId(manager.getPublicId().toString())
+                .teamSize(teamSize)
+                .days(days)
+                .build();
+    }
+
+    @Override
+    public CoverageImpactDto getApprovalImpact(UUID requestPublicId, UUID callerPublicId,
+                                               Set<String> callerPermissions) {
+        TimeOffRequest request = requestRepository.findByPublicId(requestPublicId)
+                .orElseThrow(() -> new ResourceNotFoundException("TimeOffRequest", "publicId", requestPublicId));
+        Employee employee = request.getEmployee();
+        Employee manager = employee.getReportsTo();
+
+        boolean isTeamManager = manager != null && manager.getPublicId().equals(callerPublicId);
+        if (!isTeamManager && !callerPermissions.contains("TIME_OFF_REQUEST_READ_ALL")) {
+            throw new BadRequestException("You do not have permission to view this request");
+        }
+        if (request.getStatus() != TimeOffRequestStatus.PENDING) {
+            // An approved request is already among the team's absences; only pending ones have an impact to show
+            throw new BadRequestException("Approval impact is only available for pending requests");
+        }
+        if (manager == null) {
+            // No team to cover for
+            return CoverageImpactDto.builder()
+                    .teamSize(0)
+                    .minCoverage(minCoverage)
+                    .belowThreshold(false)
+                    .days(List.of())
+                    .build();
+        }
+
+        int teamSize = absenceRepository.countTeamMembers(manager.getId());
+        Map<LocalDate, List<AbsenteeDto>> absentees = absenteesByDay(absenceRepository.findTeamAbsences(
+                manager.getId(), request.getStartDate(), request.getEndDate()));
+        AbsenteeDto requester = AbsenteeDto.builder()
+                .employeeId(employee.getPublicId().toString())
+                .employeeName(employee.getFullName())
+                .weight(Boolean.TRUE.equals(request.getHalfDay()) ? new BigDecimal("0.5") : BigDecimal.ONE)
+                .build();
+
+        List<DayCoverageDto> days = new ArrayList<>();
+        boolean belowThreshold = false;
+        for (LocalDate day : businessDays(request.getStartDate(), request.getEndDate())) {
+            List<AbsenteeDto> after = new ArrayList<>(absentees.getOrDefault(day, List.of()));
+            after.add(requester);
+            DayCoverageDto coverage = dayCoverage(day, teamSize, after);
+            belowThreshold |= isBelowThreshold(coverage, teamSize);
+            days.add(coverage);
+        }
+
+        return CoverageImpactDto.builder()
+                .teamSize(teamSize)
+                .minCoverage(minCoverage)
+                .belowThreshold(belowThreshold)
+                .days(days)
+                .build();
+    }
+
+    private boolean isBelowThreshold(DayCoverageDto coverage, int teamSize) {
+        if (teamSize == 0) {
+            return false;
+        }
+        BigDecimal share = coverage.getAvailable().divide(BigDecimal.valueOf(teamSize), 4, RoundingMode.HALF_UP);
+        return share.compareTo(minCoverage) < 0;
+    }
+
+    private static DayCoverageDto dayCoverage(LocalDate day, int teamSize, List<AbsenteeDto> absentees) {
+        BigDecimal absent = absentees.stream()
+                .map(AbsenteeDto::getWeight)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return DayCoverageDto.builder()
+                .date(day)
+                .absent(absent)
+                .available(BigDecimal.valueOf(teamSize).subtract(absent).max(BigDecimal.ZERO))
+                .absentees(absentees)
+                .build();
+    }
+
+    private static Map<LocalDate, List<AbsenteeDto>> absenteesByDay(List<TimeOffAbsenceRepository.Absence> absences) {
+        return absences.stream().collect(Collectors.groupingBy(TimeOffAbsenceRepository.Absence::date,
+                Collectors.mapping(absence -> AbsenteeDto.builder()
+                        .employeeId(absence.employeePublicId().toString())
+                        .employeeName(absence.firstName() + " " + absence.lastName())
+                        .weight(absence.weight())
+                        .build(), Collectors.toList())));
+    }
+
+    private static List<LocalDate> businessDays(LocalDate start, LocalDate end) {
+        List<LocalDate> days = new ArrayList<>();
+        for (LocalDate day = start; !day.isAfter(end); day = day.plusDays(1)) {
+            if (day.getDayOfWeek() != DayOfWeek.SATURDAY && day.getDayOfWeek() != DayOfWeek.SUNDAY) {
+                days.add(day);
+            }
+        }
+        return days;
+    }
+}
@@ -1,9 +1,13 @@
 package com.turntabl.bonarda.domain.timeoff.service;
 
+import com.turntabl.bonarda.domain.common.dto.BulkReviewResultDto;
+import com.turntabl.bonarda.domain.common.dto.CursorPageDto;
+import com.turntabl.bonarda.domain.common.dto.ListFilter;
+import com.turntabl.bonarda.domain.common.dto.SliceDto;
+import com.turntabl.bonarda.domain.timeoff.dto.BulkReviewTimeOffRequestDto;
 import com.turntabl.bonarda.domain.timeoff.dto.CreateTimeOffRequestDto;
 import com.turntabl.bonarda.domain.timeoff.dto.ReviewTimeOffRequestDto;
 import com.turntabl.bonarda.domain.timeoff.dto.TimeOffRequestDto;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -19,15 +23,22 @@ public interface TimeOffRequestService {
 
     TimeOffRequestDto review(UUID requestPublicId, UUID reviewerPublicId, ReviewTimeOffRequestDto request);
 
+    /**
+     * Applies one decision to many pending requests. Requests that cannot be reviewed
+     * are reported per item instead of failing the whole batch.
+     */
+    BulkReviewResultDto<TimeOffRequestDto> reviewAll(UUID reviewerPublicId, BulkReviewTimeOffRequestDto request);
+
     TimeOffRequestDto cancel(UUID requestPublicId, UUID employeePublicId);
 
     TimeOffRequestDto getById(UUID publicId, UUID callerPublicId, Set<String> callerPermissions);
 
-    List<TimeOffRequestDto> getMyRequests(UUID employeePublicId);
+    CursorPageDto<TimeOffRequestDto> getMyRequests(UUID employeePublicId, ListFilter filter, String cursor, int size);
 
-    List<TimeOffRequestDto> getTeamRequests(UUID managerPublicId);
+    CursorPageDto<TimeOffRequestDto> getTeamRequests(UUID managerPublicId, ListFilter filter, String cursor, int size);
 
-    Page<TimeOffRequestDto> getAllRequests(Pageable pageable);
+    /** Admin listing without a count query; the total is an estimate and only computed on request. */
+    SliceDto<TimeOffRequestDto> getAllRequests(Pageable pageable, boolean estimateTotal);
 
     List<TimeOffRequestDto> getApprovedRequestsForDateRange(LocalDate startDate, LocalDate endDate);
 
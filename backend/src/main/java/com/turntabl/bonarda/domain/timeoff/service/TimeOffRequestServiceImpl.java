@@ -1,19 +1,31 @@
 package com.turntabl.bonarda.domain.timeoff.service;
 
+import com.turntabl.bonarda.domain.common.dto.BulkReviewItemDto;
+import com.turntabl.bonarda.domain.common.dto.BulkReviewResultDto;
+import com.turntabl.bonarda.domain.common.dto.CursorPageDto;
+import com.turntabl.bonarda.domain.common.dto.KeysetCursor;
+import com.turntabl.bonarda.domain.common.dto.ListFilter;
+import com.turntabl.bonarda.domain.common.dto.SliceDto;
 import com.turntabl.bonarda.domain.common.service.EntityResolutionService;
 import com.turntabl.bonarda.domain.common.service.EnumParser;
 import com.turntabl.bonarda.domain.common.service.FileStorageService;
+import com.turntabl.bonarda.domain.common.service.RowCountEstimator;
 import com.turntabl.bonarda.domain.employee.model.Employee;
+import com.turntabl.bonarda.domain.timeoff.dto.BulkReviewTimeOffRequestDto;
 import com.turntabl.bonarda.domain.timeoff.dto.CreateTimeOffRequestDto;
 import com.turntabl.bonarda.domain.timeoff.dto.ReviewTimeOffRequestDto;
 import com.turntabl.bonarda.domain.timeoff.dto.TimeOffRequestDto;
 import com.turntabl.bonarda.domain.timeoff.model.*;
+import com.turntabl.bonarda.domain.timeoff.repository.TimeOffAbsenceRepository;
+import com.turntabl.bonarda.domain.timeoff.repository.TimeOffBalanceBatchRepository;
 import com.turntabl.bonarda.domain.timeoff.repository.TimeOffRequestRepository;
 import com.turntabl.bonarda.domain.timeoff.repository.TimeOffTypeRepository;
 import com.turntabl.bonarda.exception.BadRequestException;
 import com.turntabl.bonarda.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,10 +34,16 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.math.BigDecimal;
 import java.nio.file.Path;
+import java.sql.SQLException;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -35,13 +53,19 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class TimeOffRequestServiceImpl implements TimeOffRequestService {
 
+    /** PostgreSQL SQLSTATE for exclusion constraint violations. */
+    private static final String EXCLUSION_VIOLATION = "23P01";
+
     private final TimeOffRequestRepository requestRepository;
+    private final TimeOffAbsenceRepository absenceRepository;
     private final TimeOffTypeRepository typeRepository;
     private final TimeOffBalanceService balanceService;
     private final CalendarService calendarService;
     private final EntityResolutionService entityResolution;
     private final EnumParser enumParser;
     private final FileStorageService fileStorageService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RowCountEstimator rowCountEstimator;
 
     @Override
     public TimeOffRequestDto create(UUID employeePublicId, CreateTimeOffRequestDto request) {
@@ -72,25 +96,6 @@ public class TimeOffRequestServiceImpl implements TimeOffRequestService {
             throw new BadRequestException("Request must include at least one business day");
         }
 
-        // Check for overlapping requests
-        List<TimeOffRequest> overlapping = requestRepository.findOverlappingRequests(
-                employee.getId(), request.getStartDate(), request.getEndDate(),
-                List.of(TimeOffRequestStatus.PENDING, TimeOffRequestStatus.APPROVED));
-
-        // Allow MORNING + AFTERNOON half-day requests on the same day
-        if (halfDay && !overlapping.isEmpty()) {
-            final HalfDayPeriod period = halfDayPeriod;
-            overlapping = overlapping.stream()
-                    .filter(existing -> !(existing.getHalfDay()
-                            && existing.getStartDate().equals(request.getStartDate())
-                            && existing.getHalfDayPeriod() != period))
-                    .collect(Collectors.toList());
-        }
-
-        if (!overlapping.isEmpty()) {
-            throw new BadRequestException("You already have a pending or approved request overlapping these dates");
-        }
-
         // Check balance (skip for unlimited types like Sick Leave)
         int year = request.getStartDate().getYear();
         if (!Boolean.TRUE.equals(type.getIsUnlimited())) {
@@ -119,10 +124,21 @@ public class TimeOffRequestServiceImpl implements TimeOffRequestService {
                 .status(TimeOffRequestStatus.PENDING)
                 .build();
 
-        TimeOffRequest saved = requestRepository.save(timeOffRequest);
+        // Overlaps are rejected by the excl_time_off_requests_overlap constraint, so
+        // concurrent submissions cannot both get through
+        TimeOffRequest saved;
+        try {
+            saved = requestRepository.saveAndFlush(timeOffRequest);
+        } catch (DataIntegrityViolationException e) {
+            if (isExclusionViolation(e)) {
+                throw new BadRequestException("You already have a pending or approved request overlapping these dates");
+            }
+            throw e;
+        }
 
         // Update pending balance
         balanceService.updatePending(employee.getId(), type.getId(), year, businessDays);
+        publishStatusChange(saved);
 
         return toDto(saved);
     }
@@ -161,6 +177,10 @@ public class TimeOffRequestServiceImpl implements TimeOffRequestService {
         timeOffRequest.setReviewedAt(LocalDateTime.now());
 
         TimeOffRequest updated = requestRepository.save(timeOffRequest);
+        publishStatusChange(updated);
+        if (decision == TimeOffRequestStatus.APPROVED) {
+            absenceRepository.addRequest(updated.getId());
+        }
 
         // Calendar sync: create event on approval (best-effort)
         if (decision == TimeOffRequestStatus.APPROVED) {
@@ -169,11 +189,84 @@ public class TimeOffRequestServiceImpl implements TimeOffRequestService {
                 updated.setCalendarEventId(eventId);
                 requestRepository.save(updated);
             }
+            publishApprovedChange(updated);
         }
 
         return toDto(updated);
     }
 
+    @Override
+    public BulkReviewResultDto<TimeOffRequestDto> reviewAll(UUID reviewerPublicId, BulkReviewTimeOffRequestDto request) {
+        TimeOffRequestStatus decision = enumParser.parse(TimeOffRequestStatus.class, request.getDecision(), "decision");
+        boolean approved = decision == TimeOffRequestStatus.APPROVED;
+        Employee reviewer = entityResolution.resolveEmployee(reviewerPublicId);
+
+        Set<UUID> ids = new LinkedHashSet<>(request.getIds());
+        Map<UUID, TimeOffRequest> locked = requestRepository.findAllByPublicIdInForUpdate(ids).stream()
+                .collect(Collectors.toMap(TimeOffRequest::getPublicId, r -> r));
+
+        Map<UUID, String> failures = new HashMap<>();
+        Map<TimeOffBalanceBatchRepository.Key, BigDecimal> days = new HashMap<>();
+        for (UUID id : ids) {
+            TimeOffRequest timeOffRequest = locked.get(id);
+            if (timeOffRequest == null) {
+                failures.put(id, "Time off request not found");
+            } else if (timeOffRequest.getStatus() != TimeOffRequestStatus.PENDING) {
+                failures.put(id, "Only pending requests can be reviewed");
+            } else if (timeOffRequest.getEmployee().getId().equals(reviewer.getId())) {
+                failures.put(id, "You cannot review your own time off request");
+            } else {
+                days.merge(balanceKey(timeOffRequest), timeOffRequest.getBusinessDays(), BigDecimal::add);
+            }
+        }
+
+        // One grouped balance update instead of two row locks per request
+        Set<TimeOffBalanceBatchRepository.Key> settled = balanceService.settlePending(days, approved);
+
+        LocalDateTime reviewedAt = LocalDateTime.now();
+        List<TimeOffRequest> reviewed = new ArrayList<>();
+        for (UUID id : ids) {
+            TimeOffRequest timeOffRequest = locked.get(id);
+            if (failures.containsKey(id)) {
+                continue;
+            }
+            if (!settled.contains(balanceKey(timeOffRequest))) {
+                failures.put(id, "Time off balance is missing or out of sync");
+                continue;
+            }
+            timeOffRequest.setStatus(decision);
+            timeOffRequest.setReviewer(reviewer);
+            timeOffRequest.setReviewNote(request.getNote());
+            timeOffRequest.setReviewedAt(reviewedAt);
+            reviewed.add(timeOffRequest);
+        }
+        requestRepository.saveAll(reviewed);
+
+        if (approved) {
+            absenceRepository.addRequests(reviewed.stream().map(TimeOffRequest::getId).toList());
+        }
+        for (TimeOffRequest timeOffRequest : reviewed) {
+            publishStatusChange(timeOffRequest);
+            if (approved) {
+                // Calendar sync stays best-effort and per request, as in review()
+                String eventId = calendarService.createEvent(timeOffRequest);
+                if (eventId != null) {
+                    timeOffRequest.setCalendarEventId(eventId);
+                }
+                publishApprovedChange(timeOffRequest);
+            }
+        }
+
+        List<BulkReviewItemDto<TimeOffRequestDto>> items = ids.stream()
+                .map(id -> failures.containsKey(id)
+                        ? BulkReviewItemDto.<TimeOffRequestDto>builder()
+                                .id(id.toString()).success(false).message(failures.get(id)).build()
+                        : BulkReviewItemDto.<TimeOffRequestDto>builder()
+                                .id(id.toString()).success(true).result(toDto(locked.get(id))).build())
+                .toList();
+        return BulkReviewResultDto.of(items);
+    }
+
     @Override
     public TimeOffRequestDto cancel(UUID requestPublicId, UUID employeePublicId) {
         TimeOffRequest timeOffRequest = resolveRequestByPublicId(requestPublicId);
@@ -200,11 +293,16 @@ public class TimeOffRequestServiceImpl implements TimeOffRequestService {
             // APPROVED: reverse used balance + delete calendar event
             balanceService.updateUsed(employeeId, typeId, year, days.negate());
             calendarService.deleteEvent(timeOffRequest);
+            absenceRepository.removeRequest(timeOffRequest.getId());
         }
 
         timeOffRequest.setStatus(TimeOffRequestStatus.CANCELLED);
         timeOffRequest.setCalendarEventId(null);
         TimeOffRequest updated = requestRepository.save(timeOffRequest);
+        publishStatusChange(updated);
+        if (currentStatus == TimeOffRequestStatus.APPROVED) {
+            publishApprovedChange(updated);
+        }
         return toDto(updated);
     }
 
@@ -228,26 +326,37 @@ public class TimeOffRequestServiceImpl implements TimeOffRequestService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<TimeOffRequestDto> getMyRequests(UUID employeePublicId) {
+    public CursorPageDto<TimeOffRequestDto> getMyRequests(UUID employeePublicId, ListFilter filter,
+                                                          String cursor, int size) {
         Employee employee = entityResolution.resolveEmployee(employeePublicId);
-        return requestRepository.findByEmployeeIdOrderByCreatedAtDesc(employee.getId()).stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
+        int limit = KeysetCursor.pageSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+
+        List<TimeOffRequest> rows = requestRepository.findEmployeePage(employee.getId(), statusFilter(filter),
+                filter.fromOrEarliest(), filter.toOrLatest(), after.dateTimeKey(), after.id(),
+                PageRequest.of(0, limit + 1));
+        return CursorPageDto.of(rows, limit, this::toDto, r -> KeysetCursor.after(r.getCreatedAt(), r.getId()));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<TimeOffRequestDto> getTeamRequests(UUID managerPublicId) {
+    public CursorPageDto<TimeOffRequestDto> getTeamRequests(UUID managerPublicId, ListFilter filter,
+                                                            String cursor, int size) {
         Employee manager = entityResolution.resolveEmployee(managerPublicId);
-        return requestRepository.findByEmployeeReportsToId(manager.getId()).stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
+        int limit = KeysetCursor.pageSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+
+        List<TimeOffRequest> rows = requestRepository.findTeamPage(manager.getId(), statusFilter(filter),
+                filter.fromOrEarliest(), filter.toOrLatest(), after.dateTimeKey(), after.id(),
+                PageRequest.of(0, limit + 1));
+        return CursorPageDto.of(rows, limit, this::toDto, r -> KeysetCursor.after(r.getCreatedAt(), r.getId()));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<TimeOffRequestDto> getAllRequests(Pageable pageable) {
-        return requestRepository.findAllWithAssociations(pageable).map(this::toDto);
+    public SliceDto<TimeOffRequestDto> getAllRequests(Pageable pageable, boolean estimateTotal) {
+        return SliceDto.of(requestRepository.findAllWithAssociations(pageable).map(this::toDto),
+                estimateTotal ? rowCountEstimator.estimateTable("time_off_requests", requestRepository::count) : null);
     }
 
     @Override
@@ -260,6 +369,36 @@ public class TimeOffRequestServiceImpl implements TimeOffRequestService {
 
     // --- Private helpers ---
 
+    private Set<TimeOffRequestStatus> statusFilter(ListFilter filter) {
+        TimeOffRequestStatus status = enumParser.parseOptional(TimeOffRequestStatus.class, filter.status(), "status");
+        return status != null ? EnumSet.of(status) : EnumSet.allOf(TimeOffRequestStatus.class);
+    }
+
+    private void publishStatusChange(TimeOffRequest request) {
+        Employee employee = request.getEmployee();
+        eventPublisher.publishEvent(new TimeOffRequestStatusChanged(request.getPublicId(), employee.getId(),
+                employee.getReportsTo() != null ? employee.getReportsTo().getId() : null, request.getStatus()));
+    }
+
+    private void publishApprovedChange(TimeOffRequest request) {
+        eventPublisher.publishEvent(new ApprovedTimeOffChanged(request.getPublicId(),
+                request.getEmployee().getPublicId(), request.getStartDate(), request.getEndDate()));
+    }
+
+    private static boolean isExclusionViolation(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sql && EXCLUSION_VIOLATION.equals(sql.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static TimeOffBalanceBatchRepository.Key balanceKey(TimeOffRequest request) {
+        return new TimeOffBalanceBatchRepository.Key(request.getEmployee().getId(),
+                request.getTimeOffType().getId(), request.getStartDate().getYear());
+    }
+
     private BigDecimal calculateBusinessDays(LocalDate start, LocalDate end, boolean halfDay) {
         if (halfDay) {
             return new BigDecimal("0.5");
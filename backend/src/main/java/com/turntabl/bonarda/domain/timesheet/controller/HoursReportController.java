@@ -0,0 +1,57 @@
+package com.turntabl.bonarda.domain.timesheet.controller;
+
+import com.turntabl.bonarda.domain.common.dto.CursorPageDto;
+import com.turntabl.bonarda.domain.common.dto.ListFilter;
+import com.turntabl.bonarda.domain.timesheet.dto.HoursBucketDto;
+import com.turntabl.bonarda.domain.timesheet.dto.ReconciliationExceptionDto;
+import com.turntabl.bonarda.domain.timesheet.service.HoursReconciliationService;
+import com.turntabl.bonarda.domain.timesheet.service.HoursReportService;
+import com.turntabl.bonarda.security.CurrentUser;
+import com.turntabl.bonarda.security.UserPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/v1/timesheets/reports")
+@RequiredArgsConstructor
+public class HoursReportController {
+
+    private final HoursReportService hoursReportService;
+    private final HoursReconciliationService reconciliationService;
+
+    @GetMapping("/hours")
+    @PreAuthorize("hasAnyAuthority('TIMESHEET_READ_TEAM', 'TIMESHEET_READ_ALL')")
+    public ResponseEntity<List<HoursBucketDto>> getHoursReport(
+            @RequestParam(defaultValue = "WEEK") String grain,
+            @RequestParam(defaultValue = "NONE") String groupBy,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @CurrentUser UserPrincipal currentUser) {
+        var permissions = currentUser.getAuthorities().stream()
+                .map(a -> a.getAuthority())
+                .collect(Collectors.toSet());
+        return ResponseEntity.ok(hoursReportService.getHoursReport(currentUser.getId(), permissions,
+                grain, groupBy, ListFilter.of(null, from, to)));
+    }
+
+    @GetMapping("/reconciliation")
+    @PreAuthorize("hasAnyAuthority('TIMESHEET_READ_TEAM', 'TIMESHEET_READ_ALL')")
+    public ResponseEntity<CursorPageDto<ReconciliationExceptionDto>> getReconciliationExceptions(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @CurrentUser UserPrincipal currentUser) {
+        var permissions = currentUser.getAuthorities().stream()
+                .map(a -> a.getAuthority())
+                .collect(Collectors.toSet());
+        return ResponseEntity.ok(reconciliationService.getExceptions(currentUser.getId(), permissions,
+                status, ListFilter.of(null, from, to), cursor, size));
+    }
+}
@@ -0,0 +1,41 @@
+package com.turntabl.bonarda.domain.timesheet.controller;
+
+import com.turntabl.bonarda.domain.common.dto.ListFilter;
+import com.turntabl.bonarda.domain.timesheet.model.PayrollExportSpec;
+import com.turntabl.bonarda.domain.timesheet.service.PayrollExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/v1/timesheets/payroll")
+@RequiredArgsConstructor
+public class PayrollExportController {
+
+    private final PayrollExportService payrollExportService;
+
+    /**
+     * Approved hours for a period, one row per employee and day. The request is validated
+     * up front; the body is then streamed from a database cursor as it is read.
+     */
+    @GetMapping("/export")
+    @PreAuthorize("hasAuthority('TIMESHEET_READ_ALL')")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(defaultValue = "CSV") String format,
+            @RequestParam(required = false) String columns,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to) {
+        PayrollExportSpec spec = payrollExportService.prepare(format, columns, ListFilter.of(null, from, to));
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(spec.format().getMediaType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + spec.fileName() + "\"")
+                .body(out -> payrollExportService.write(spec, out));
+    }
+}
@@ -1,14 +1,20 @@
 package com.turntabl.bonarda.domain.timesheet.controller;
 
+import com.turntabl.bonarda.domain.common.dto.BulkReviewResultDto;
+import com.turntabl.bonarda.domain.common.dto.CursorPageDto;
+import com.turntabl.bonarda.domain.common.dto.ListFilter;
+import com.turntabl.bonarda.domain.common.dto.SliceDto;
 import com.turntabl.bonarda.domain.timesheet.dto.*;
+import com.turntabl.bonarda.domain.timesheet.model.PunchDirection;
 import com.turntabl.bonarda.domain.timesheet.service.TimesheetService;
+import com.turntabl.bonarda.exception.BadRequestException;
 import com.turntabl.bonarda.security.CurrentUser;
 import com.turntabl.bonarda.security.UserPrincipal;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -39,20 +45,35 @@ public class TimesheetController {
     public ResponseEntity<TimesheetDto> updateEntries(
             @PathVariable UUID id,
             @CurrentUser UserPrincipal currentUser,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody UpdateTimesheetEntriesRequest request) {
-        return ResponseEntity.ok(timesheetService.updateEntries(id, request, currentUser.getPublicId()));
+        TimesheetDto updated = timesheetService.updateEntries(id, request, currentUser.getPublicId(),
+                parseVersion(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(String.valueOf(updated.getVersion()))
+                .body(updated);
     }
 
     @PostMapping("/clock-in")
     @PreAuthorize("hasAuthority('TIMESHEET_CREATE')")
-    public ResponseEntity<TimesheetDto> clockIn(@CurrentUser UserPrincipal currentUser) {
-        return ResponseEntity.ok(timesheetService.clockIn(currentUser.getPublicId()));
+    public ResponseEntity<ClockPunchDto> clockIn(
+            @CurrentUser UserPrincipal currentUser,
+            @RequestParam(defaultValue = "WEB") String source) {
+        return ResponseEntity.ok(timesheetService.punch(currentUser.getId(), PunchDirection.IN, source));
     }
 
     @PostMapping("/clock-out")
     @PreAuthorize("hasAuthority('TIMESHEET_CREATE')")
-    public ResponseEntity<TimesheetDto> clockOut(@CurrentUser UserPrincipal currentUser) {
-        return ResponseEntity.ok(timesheetService.clockOut(currentUser.getPublicId()));
+    public ResponseEntity<ClockPunchDto> clockOut(
+            @CurrentUser UserPrincipal currentUser,
+            @RequestParam(defaultValue = "WEB") String source) {
+        return ResponseEntity.ok(timesheetService.punch(currentUser.getId(), PunchDirection.OUT, source));
+    }
+
+    @GetMapping("/punches/today")
+    @PreAuthorize("hasAuthority('TIMESHEET_READ_OWN')")
+    public ResponseEntity<List<ClockPunchDto>> getTodayPunches(@CurrentUser UserPrincipal currentUser) {
+        return ResponseEntity.ok(timesheetService.getTodayPunches(currentUser.getId()));
     }
 
     @PutMapping("/{id}/submit")
@@ -72,10 +93,25 @@ public class TimesheetController {
         return ResponseEntity.ok(timesheetService.review(id, currentUser.getPublicId(), request));
     }
 
+    @PostMapping("/bulk-review")
+    @PreAuthorize("hasAuthority('TIMESHEET_APPROVE')")
+    public ResponseEntity<BulkReviewResultDto<TimesheetDto>> bulkReview(
+            @CurrentUser UserPrincipal currentUser,
+            @Valid @RequestBody BulkReviewTimesheetRequest request) {
+        return ResponseEntity.ok(timesheetService.reviewAll(currentUser.getPublicId(), request));
+    }
+
     @GetMapping("/me")
     @PreAuthorize("hasAuthority('TIMESHEET_READ_OWN')")
-    public ResponseEntity<List<TimesheetDto>> getMyTimesheets(@CurrentUser UserPrincipal currentUser) {
-        return ResponseEntity.ok(timesheetService.getMyTimesheets(currentUser.getPublicId()));
+    public ResponseEntity<CursorPageDto<TimesheetDto>> getMyTimesheets(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @CurrentUser UserPrincipal currentUser) {
+        return ResponseEntity.ok(timesheetService.getMyTimesheets(currentUser.getPublicId(),
+                ListFilter.of(status, from, to), cursor, size));
     }
 
     @GetMapping("/me/current")
@@ -90,15 +126,31 @@ public class TimesheetController {
 
     @GetMapping("/team")
     @PreAuthorize("hasAuthority('TIMESHEET_READ_TEAM')")
-    public ResponseEntity<List<TimesheetDto>> getTeamTimesheets(@CurrentUser UserPrincipal currentUser) {
-        return ResponseEntity.ok(timesheetService.getTeamTimesheets(currentUser.getPublicId()));
+    public ResponseEntity<CursorPageDto<TimesheetDto>> getTeamTimesheets(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @CurrentUser UserPrincipal currentUser) {
+        return ResponseEntity.ok(timesheetService.getTeamTimesheets(currentUser.getPublicId(),
+                ListFilter.of(status, from, to), cursor, size));
+    }
+
+    @GetMapping("/team/submissions")
+    @PreAuthorize("hasAuthority('TIMESHEET_READ_TEAM')")
+    public ResponseEntity<SubmissionReportDto> getTeamSubmissionReport(
+            @RequestParam(required = false) String weekStart,
+            @CurrentUser UserPrincipal currentUser) {
+        return ResponseEntity.ok(timesheetService.getTeamSubmissionReport(currentUser.getPublicId(), weekStart));
     }
 
     @GetMapping
     @PreAuthorize("hasAuthority('TIMESHEET_READ_ALL')")
-    public ResponseEntity<Page<TimesheetDto>> getAllTimesheets(
-            @PageableDefault(size = 20) Pageable pageable) {
-        return ResponseEntity.ok(timesheetService.getAllTimesheets(pageable));
+    public ResponseEntity<SliceDto<TimesheetDto>> getAllTimesheets(
+            @PageableDefault(size = 20) Pageable pageable,
+            @RequestParam(defaultValue = "false") boolean estimateTotal) {
+        return ResponseEntity.ok(timesheetService.getAllTimesheets(pageable, estimateTotal));
     }
 
     @GetMapping("/{id}")
@@ -111,4 +163,20 @@ public class TimesheetController {
                 .collect(Collectors.toSet());
         return ResponseEntity.ok(timesheetService.getTimesheetById(id, currentUser.getPublicId(), permissions));
     }
+
+    /** Reads the timesheet version from an {@code If-Match} value such as {@code "3"} or {@code W/"3"}. */
+    private static Long parseVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        try {
+            return Long.valueOf(tag.replace("\"", ""));
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Invalid If-Match header");
+        }
+    }
 }
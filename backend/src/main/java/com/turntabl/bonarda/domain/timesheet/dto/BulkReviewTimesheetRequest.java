@@ -0,0 +1,27 @@
+package com.turntabl.bonarda.domain.timesheet.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+public class BulkReviewTimesheetRequest {
+
+    @NotEmpty(message = "At least one timesheet id is required")
+    @Size(max = 100, message = "At most 100 timesheets can be reviewed at once")
+    private List<UUID> ids;
+
+    @NotBlank(message = "Decision is required")
+    @Pattern(regexp = "APPROVED|REJECTED", message = "Decision must be APPROVED or REJECTED")
+    private String decision;
+
+    @Size(max = 1000)
+    private String note;
+}
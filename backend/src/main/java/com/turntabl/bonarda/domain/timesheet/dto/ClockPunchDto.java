@@ -0,0 +1,14 @@
+package com.turntabl.bonarda.domain.timesheet.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class ClockPunchDto {
+    private String direction;
+    private LocalDateTime punchedAt;
+    private String source;
+}
@@ -0,0 +1,21 @@
+package com.turntabl.bonarda.domain.timesheet.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/** One row of an hours report; dimension fields are null when the report is not split by them. */
+@Getter
+@Builder
+public class HoursBucketDto {
+    private String period;
+    private String employeeId;
+    private String employeeName;
+    private String managerId;
+    private String managerName;
+    private BigDecimal loggedHours;
+    private BigDecimal approvedHours;
+    /** Approved hours over the weekly threshold; only reported for weekly buckets. */
+    private BigDecimal overtimeHours;
+}
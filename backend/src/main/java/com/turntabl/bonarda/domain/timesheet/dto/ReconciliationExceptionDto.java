@@ -0,0 +1,22 @@
+package com.turntabl.bonarda.domain.timesheet.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/** A day on which an employee's project time logs do not match their timesheet. */
+@Getter
+@Builder
+public class ReconciliationExceptionDto {
+    private String employeeId;
+    private String employeeName;
+    private String date;
+    private BigDecimal timesheetHours;
+    /** Timesheet hours covered by approved time off, which are not expected on any project. */
+    private BigDecimal timeOffHours;
+    private BigDecimal projectHours;
+    /** Project hours minus the timesheet hours worked; negative when hours went unlogged. */
+    private BigDecimal differenceHours;
+    private String status;
+}
@@ -0,0 +1,17 @@
+package com.turntabl.bonarda.domain.timesheet.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class SubmissionGapDto {
+    private String employeeId;
+    private String employeeName;
+    /** Null when the employee has no timesheet for the week. */
+    private String timesheetId;
+    private String status;
+    private LocalDateTime submittedAt;
+}
@@ -0,0 +1,17 @@
+package com.turntabl.bonarda.domain.timesheet.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/** A manager's view of one week: who has not submitted, and who submitted after the deadline. */
+@Getter
+@Builder
+public class SubmissionReportDto {
+    private String weekStart;
+    private LocalDateTime deadline;
+    private List<SubmissionGapDto> missing;
+    private List<SubmissionGapDto> late;
+}
@@ -22,4 +22,6 @@ public class TimesheetDto {
     private String reviewNote;
     private LocalDateTime reviewedAt;
     private LocalDateTime createdAt;
+    /** Sent back in {@code If-Match} when saving entries. */
+    private Long version;
 }
@@ -0,0 +1,9 @@
+package com.turntabl.bonarda.domain.timesheet.model;
+
+/** The period an hours report is bucketed by; TOTAL is one bucket over all history. */
+public enum HoursGrain {
+    DAY,
+    WEEK,
+    MONTH,
+    TOTAL
+}
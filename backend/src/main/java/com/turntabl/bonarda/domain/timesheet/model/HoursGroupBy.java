@@ -0,0 +1,8 @@
+package com.turntabl.bonarda.domain.timesheet.model;
+
+/** The dimension an hours report is split by within each period; MANAGER splits by team. */
+public enum HoursGroupBy {
+    NONE,
+    EMPLOYEE,
+    MANAGER
+}
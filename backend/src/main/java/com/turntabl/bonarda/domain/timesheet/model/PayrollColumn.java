@@ -0,0 +1,5 @@
+package com.turntabl.bonarda.domain.timesheet.model;
+
+/** One column of a payroll export: the field it carries and the header it is written under. */
+public record PayrollColumn(PayrollField field, String header) {
+}
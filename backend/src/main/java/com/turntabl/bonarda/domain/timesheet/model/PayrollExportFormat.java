@@ -0,0 +1,15 @@
+package com.turntabl.bonarda.domain.timesheet.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/** File formats a payroll export can be written in. */
+@Getter
+@RequiredArgsConstructor
+public enum PayrollExportFormat {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String mediaType;
+    private final String extension;
+}
@@ -0,0 +1,13 @@
+package com.turntabl.bonarda.domain.timesheet.model;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/** A validated payroll export: approved hours worked from {@code from} to {@code to} inclusive. */
+public record PayrollExportSpec(PayrollExportFormat format, List<PayrollColumn> columns,
+                                LocalDate from, LocalDate to) {
+
+    public String fileName() {
+        return "payroll-" + from + "-to-" + to + "." + format.getExtension();
+    }
+}
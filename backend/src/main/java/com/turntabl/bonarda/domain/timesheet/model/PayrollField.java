@@ -0,0 +1,28 @@
+package com.turntabl.bonarda.domain.timesheet.model;
+
+/**
+ * A value a payroll export row can carry. Each row is one day of an approved timesheet,
+ * flattened with its employee, week and approval; the default header is the field name
+ * in lower case. {@link #HOURS} is time worked and {@link #TIME_OFF_HOURS} the approved
+ * time off on the same day; {@link #WEEK_TOTAL_HOURS} is the timesheet total, both included.
+ */
+public enum PayrollField {
+    EMPLOYEE_ID,
+    EMPLOYEE_EMAIL,
+    FIRST_NAME,
+    LAST_NAME,
+    TIMESHEET_ID,
+    WEEK_START,
+    WORK_DATE,
+    CLOCK_IN,
+    CLOCK_OUT,
+    HOURS,
+    TIME_OFF_HOURS,
+    WEEK_TOTAL_HOURS,
+    APPROVED_AT,
+    APPROVED_BY;
+
+    public String defaultHeader() {
+        return name().toLowerCase();
+    }
+}
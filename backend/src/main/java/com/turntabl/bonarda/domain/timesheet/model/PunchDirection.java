@@ -0,0 +1,6 @@
+package com.turntabl.bonarda.domain.timesheet.model;
+
+public enum PunchDirection {
+    IN,
+    OUT
+}
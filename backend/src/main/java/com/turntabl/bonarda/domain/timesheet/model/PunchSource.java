@@ -0,0 +1,8 @@
+package com.turntabl.bonarda.domain.timesheet.model;
+
+/** Where a clock punch was recorded. */
+public enum PunchSource {
+    WEB,
+    MOBILE,
+    KIOSK
+}
@@ -0,0 +1,11 @@
+package com.turntabl.bonarda.domain.timesheet.model;
+
+/**
+ * How a day's project time logs disagree with its timesheet: UNLOGGED when timesheet
+ * hours were not booked to any project, OVER_LOGGED when projects claim more than the
+ * timesheet records.
+ */
+public enum ReconciliationStatus {
+    UNLOGGED,
+    OVER_LOGGED
+}
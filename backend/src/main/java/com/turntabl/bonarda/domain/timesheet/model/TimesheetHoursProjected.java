@@ -0,0 +1,7 @@
+package com.turntabl.bonarda.domain.timesheet.model;
+
+import java.util.Set;
+
+/** Published when the punch projector has changed entries; ids are internal employee ids. */
+public record TimesheetHoursProjected(Set<Long> employeeIds) {
+}
@@ -0,0 +1,10 @@
+package com.turntabl.bonarda.domain.timesheet.model;
+
+import java.util.UUID;
+
+/**
+ * Published when a timesheet is submitted or reviewed. Ids are internal employee ids;
+ * {@code managerId} is null when the employee reports to nobody.
+ */
+public record TimesheetStatusChanged(UUID timesheetId, Long employeeId, Long managerId, TimesheetStatus status) {
+}
@@ -0,0 +1,125 @@
+package com.turntabl.bonarda.domain.timesheet.repository;
+
+import com.turntabl.bonarda.domain.timesheet.model.PunchDirection;
+import com.turntabl.bonarda.domain.timesheet.model.PunchSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The append-only punch log from V25. Recording a punch is a single insert that takes no
+ * row locks; the guards read the employee's last punch of the day and the week's timesheet
+ * status. Two racing punches can both pass the guards, which is harmless because the
+ * projector ignores a repeated direction.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ClockPunchRepository {
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public record Punch(LocalDateTime punchedAt, PunchDirection direction, PunchSource source) {
+    }
+
+    /** Why a punch may have been refused: the week's timesheet status and the last punch today. */
+    public record PunchState(String timesheetStatus, PunchDirection lastDirection) {
+    }
+
+    /** A day with punches not yet reflected in its timesheet entry. */
+    public record PunchedDay(Long employeeId, LocalDate date) {
+    }
+
+    private static final RowMapper<Punch> PUNCH_MAPPER = (rs, rowNum) -> new Punch(
+            rs.getObject("punched_at", LocalDateTime.class),
+            PunchDirection.valueOf(rs.getString("direction")),
+            PunchSource.valueOf(rs.getString("source")));
+
+    /**
+     * Appends a punch unless it would repeat the direction of the employee's last punch today
+     * (an OUT needs an earlier IN) or the week's timesheet is already submitted or approved.
+     */
+    public Optional<Punch> insert(Long employeeId, LocalDateTime punchedAt, PunchDirection direction,
+                                  PunchSource source, LocalDate weekStart) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("employeeId", employeeId)
+                .addValue("punchedAt", punchedAt)
+                .addValue("dayStart", punchedAt.toLocalDate().atStartOfDay())
+                .addValue("direction", direction.name())
+                .addValue("source", source.name())
+                .addValue("weekStart", weekStart);
+
+        List<Punch> rows = jdbc.query("""
+                INSERT INTO clock_punches (employee_id, punched_at, direction, source)
+                SELECT :employeeId, :punchedAt, :direction, :source
+                WHERE COALESCE((SELECT p.direction FROM clock_punches p
+                                WHERE p.employee_id = :employeeId AND p.punched_at >= :dayStart
+                                ORDER BY p.punched_at DESC, p.id DESC
+                                LIMIT 1), 'OUT') <> :direction
+                  AND NOT EXISTS (SELECT 1 FROM timesheets t
+                                  WHERE t.employee_id = :employeeId
+                                    AND t.week_start = :weekStart
+                                    AND t.status IN ('SUBMITTED', 'APPROVED'))
+                RETURNING punched_at, direction, source
+                """, params, PUNCH_MAPPER);
+        return rows.stream().findFirst();
+    }
+
+    /** Read only after a punch was refused, to report why. */
+    public PunchState findPunchState(Long employeeId, LocalDate day, LocalDate weekStart) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("employeeId", employeeId)
+                .addValue("dayStart", day.atStartOfDay())
+                .addValue("weekStart", weekStart);
+
+        return jdbc.queryForObject("""
+                SELECT (SELECT t.status FROM timesheets t
+                        WHERE t.employee_id = :employeeId AND t.week_start = :weekStart) AS status,
+                       (SELECT p.direction FROM clock_punches p
+                        WHERE p.employee_id = :employeeId AND p.punched_at >= :dayStart
+                        ORDER BY p.punched_at DESC, p.id DESC
+                        LIMIT 1) AS direction
+                """, params,
+                (rs, rowNum) -> new PunchState(
+                        rs.getString("status"),
+                        rs.getString("direction") != null ? PunchDirection.valueOf(rs.getString("direction")) : null));
+    }
+
+    /** The employee's punches on one day, oldest first. */
+    public List<Punch> findDay(Long employeeId, LocalDate day) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("employeeId", employeeId)
+                .addValue("from", day.atStartOfDay())
+                .addValue("to", day.plusDays(1).atStartOfDay());
+
+        return jdbc.query("""
+                SELECT punched_at, direction, source
+                FROM clock_punches
+                WHERE employee_id = :employeeId AND punched_at >= :from AND punched_at < :to
+                ORDER BY punched_at, id
+                """, params, PUNCH_MAPPER);
+    }
+
+    /**
+     * Marks up to {@code limit} unprojected punches as projected and returns the days they
+     * fall on. SKIP LOCKED lets projectors on several nodes claim disjoint batches.
+     */
+    public List<PunchedDay> claimUnprojected(int limit) {
+        return jdbc.query("""
+                UPDATE clock_punches SET projected_at = CURRENT_TIMESTAMP
+                WHERE id IN (SELECT id FROM clock_punches
+                             WHERE projected_at IS NULL
+                             ORDER BY id
+                             LIMIT :limit
+                             FOR UPDATE SKIP LOCKED)
+                RETURNING employee_id, CAST(punched_at AS date) AS punch_date
+                """, new MapSqlParameterSource("limit", limit),
+                (rs, rowNum) -> new PunchedDay(rs.getLong("employee_id"), rs.getObject("punch_date", LocalDate.class)));
+    }
+}
@@ -0,0 +1,146 @@
+package com.turntabl.bonarda.domain.timesheet.repository;
+
+import com.turntabl.bonarda.domain.timesheet.model.ReconciliationStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reconciles timesheet hours against project time logs per employee and day. Both sides
+ * are trigger-maintained daily rollups (hours_daily from V27, project_hours_daily from
+ * V28), so a period is reconciled by one join over them and stays current as either
+ * side changes, without a batch run.
+ */
+@Repository
+@RequiredArgsConstructor
+public class HoursReconciliationRepository {
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    /** A day whose project hours differ from the timesheet hours worked. */
+    public record DiscrepancyRow(Long employeeId, UUID employeePublicId, String firstName, String lastName,
+                                 LocalDate day, BigDecimal timesheetHours, BigDecimal timeOffHours,
+                                 BigDecimal projectHours, BigDecimal differenceHours) {
+    }
+
+    /** What a new project time log for a day would be checked against. */
+    public record DayLedger(String timesheetStatus, BigDecimal timesheetHours, BigDecimal timeOffHours,
+                            BigDecimal otherProjectHours) {
+    }
+
+    /**
+     * A page of days between {@code from} and {@code to} whose project hours differ from
+     * the timesheet hours worked by more than {@code tolerance}, newest first and after
+     * the keyset {@code (afterDay, afterEmployeeId)}. Timesheet hours covered by approved
+     * time off, at {@code dayHours} per full day, are not expected on any project. A null
+     * {@code managerId} covers all employees, otherwise only the manager's direct reports;
+     * a null {@code status} returns both kinds of discrepancy.
+     */
+    public List<DiscrepancyRow> findDiscrepancies(LocalDate from, LocalDate to, Long managerId,
+                                                  ReconciliationStatus status, BigDecimal tolerance,
+                                                  BigDecimal dayHours, LocalDate afterDay,
+                                                  Long afterEmployeeId, int limit) {
+        List<String> where = new ArrayList<>();
+        where.add("abs(s.difference) > :tolerance");
+        where.add("(s.day, s.employee_id) < (:afterDay, :afterEmployeeId)");
+        if (managerId != null) {
+            where.add("e.reports_to_id = :managerId");
+        }
+        if (status == ReconciliationStatus.UNLOGGED) {
+            where.add("s.difference < 0");
+        } else if (status == ReconciliationStatus.OVER_LOGGED) {
+            where.add("s.difference > 0");
+        }
+
+        String sql = """
+                WITH days AS (
+                    SELECT COALESCE(t.employee_id, p.employee_id) AS employee_id,
+                           COALESCE(t.day, p.day) AS day,
+                           COALESCE(t.logged_hours, 0) AS timesheet_hours,
+                           COALESCE(p.hours, 0) AS project_hours
+                    FROM (SELECT employee_id, day, logged_hours FROM hours_daily
+                          WHERE day BETWEEN :from AND :to AND logged_hours <> 0) t
+                    FULL JOIN (SELECT employee_id, day, hours FROM project_hours_daily
+                               WHERE day BETWEEN :from AND :to AND hours <> 0) p
+                        ON p.employee_id = t.employee_id AND p.day = t.day
+                ), scored AS (
+                    SELECT d.employee_id, d.day, d.timesheet_hours, d.project_hours,
+                           LEAST(COALESCE(a.weight, 0), 1) * :dayHours AS time_off_hours,
+                           d.project_hours
+                               - GREATEST(d.timesheet_hours - LEAST(COALESCE(a.weight, 0), 1) * :dayHours, 0)
+                               AS difference
+                    FROM days d
+                    LEFT JOIN LATERAL (
+                        SELECT sum(weight) AS weight FROM time_off_absence_days
+                        WHERE employee_id = d.employee_id AND absence_date = d.day
+                    ) a ON true
+                )
+                SELECT s.employee_id, e.public_id, e.first_name, e.last_name, s.day,
+                       s.timesheet_hours, s.time_off_hours, s.project_hours, s.difference
+                FROM scored s
+                JOIN employees e ON e.id = s.employee_id
+                WHERE %s
+                ORDER BY s.day DESC, s.employee_id DESC
+                LIMIT :limit
+                """.formatted(String.join(" AND ", where));
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("from", from)
+                .addValue("to", to)
+                .addValue("managerId", managerId)
+                .addValue("tolerance", tolerance)
+                .addValue("dayHours", dayHours)
+                .addValue("afterDay", afterDay)
+                .addValue("afterEmployeeId", afterEmployeeId)
+                .addValue("limit", limit);
+
+        return jdbc.query(sql, params, (rs, rowNum) -> new DiscrepancyRow(
+                rs.getLong(1),
+                rs.getObject(2, UUID.class),
+                rs.getString(3),
+                rs.getString(4),
+                rs.getObject(5, LocalDate.class),
+                rs.getBigDecimal(6),
+                rs.getBigDecimal(7),
+                rs.getBigDecimal(8),
+                rs.getBigDecimal(9)));
+    }
+
+    /**
+     * The employee's timesheet status and hours for {@code day}, the approved time off
+     * that day at {@code dayHours} per full day (as {@link #findDiscrepancies} counts it),
+     * and the project hours already logged that day other than by {@code excludeLogId}.
+     * Status and hours are null when no timesheet or entry exists yet.
+     */
+    public DayLedger findDayLedger(Long employeeId, LocalDate day, BigDecimal dayHours, Long excludeLogId) {
+        return jdbc.queryForObject("""
+                SELECT (SELECT t.status FROM timesheets t
+                        WHERE t.employee_id = :employeeId AND t.week_start = :weekStart),
+                       (SELECT te.hours FROM timesheet_entries te
+                        JOIN timesheets t ON t.id = te.timesheet_id
+                        WHERE t.employee_id = :employeeId AND t.week_start = :weekStart
+                          AND te.entry_date = :day),
+                       LEAST(COALESCE((SELECT sum(a.weight) FROM time_off_absence_days a
+                                       WHERE a.employee_id = :employeeId AND a.absence_date = :day), 0), 1)
+                           * :dayHours,
+                       (SELECT COALESCE(sum(l.hours), 0) FROM project_time_logs l
+                        WHERE l.employee_id = :employeeId AND l.log_date = :day
+                          AND (CAST(:excludeLogId AS bigint) IS NULL OR l.id <> :excludeLogId))
+                """, new MapSqlParameterSource()
+                        .addValue("employeeId", employeeId)
+                        .addValue("weekStart", day.with(DayOfWeek.MONDAY))
+                        .addValue("day", day)
+                        .addValue("dayHours", dayHours)
+                        .addValue("excludeLogId", excludeLogId),
+                (rs, rowNum) -> new DayLedger(rs.getString(1), rs.getBigDecimal(2), rs.getBigDecimal(3),
+                        rs.getBigDecimal(4)));
+    }
+}
@@ -0,0 +1,139 @@
+package com.turntabl.bonarda.domain.timesheet.repository;
+
+import com.turntabl.bonarda.domain.timesheet.model.HoursGrain;
+import com.turntabl.bonarda.domain.timesheet.model.HoursGroupBy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reads the hours rollups from V27, which triggers keep current. A report touches one
+ * row per employee and period at most, so two years of weekly history is a few hundred
+ * rows per employee rather than every entry.
+ */
+@Repository
+@RequiredArgsConstructor
+public class HoursRollupRepository {
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    /** A report bucket; the dimension columns are null unless the report is grouped by them. */
+    public record HoursRow(LocalDate period, UUID employeePublicId, String employeeFirstName,
+                           String employeeLastName, UUID managerPublicId, String managerFirstName,
+                           String managerLastName, BigDecimal loggedHours, BigDecimal approvedHours,
+                           BigDecimal overtimeHours) {
+    }
+
+    /**
+     * Sums the rollup for {@code grain} between {@code from} and {@code to}, split by
+     * {@code groupBy}. A null {@code managerId} covers all employees, otherwise only the
+     * manager's direct reports. Weekly overtime counts hours worked only: approved hours
+     * covered by time off, at {@code dayHours} per full day, are netted out per day first,
+     * as the reconciliation report does.
+     */
+    public List<HoursRow> report(HoursGrain grain, HoursGroupBy groupBy, LocalDate from, LocalDate to,
+                                 Long managerId, BigDecimal overtimeThreshold, BigDecimal dayHours) {
+        String table;
+        String period;
+        LocalDate periodFrom = from;
+        switch (grain) {
+            case DAY -> {
+                table = "hours_daily";
+                period = "r.day";
+            }
+            case WEEK -> {
+                table = "hours_weekly";
+                period = "r.week_start";
+                periodFrom = from.with(DayOfWeek.MONDAY);
+            }
+            case MONTH -> {
+                table = "hours_monthly";
+                period = "r.month";
+                periodFrom = from.withDayOfMonth(1);
+            }
+            default -> {
+                table = "hours_employee";
+                period = null;
+            }
+        }
+
+        String employee = groupBy == HoursGroupBy.EMPLOYEE
+                ? "e.public_id, e.first_name, e.last_name"
+                : "CAST(NULL AS uuid), CAST(NULL AS varchar), CAST(NULL AS varchar)";
+        String manager = groupBy == HoursGroupBy.MANAGER
+                ? "m.public_id, m.first_name, m.last_name"
+                : "CAST(NULL AS uuid), CAST(NULL AS varchar), CAST(NULL AS varchar)";
+        String overtime = grain == HoursGrain.WEEK
+                ? "sum(GREATEST(COALESCE(w.worked_hours, 0) - :threshold, 0))"
+                : "CAST(NULL AS numeric)";
+        // The week's approved hours less time off, from the daily rollup it is built from
+        String worked = grain == HoursGrain.WEEK ? " " + """
+                LEFT JOIN LATERAL (
+                    SELECT sum(GREATEST(d.approved_hours - LEAST(COALESCE(a.weight, 0), 1) * :dayHours, 0))
+                               AS worked_hours
+                    FROM hours_daily d
+                    LEFT JOIN LATERAL (
+                        SELECT sum(weight) AS weight FROM time_off_absence_days
+                        WHERE employee_id = d.employee_id AND absence_date = d.day
+                    ) a ON true
+                    WHERE d.employee_id = r.employee_id
+                      AND d.day BETWEEN r.week_start AND r.week_start + 6
+                ) w ON true""" : "";
+
+        List<String> where = new ArrayList<>();
+        List<String> groupColumns = new ArrayList<>();
+        List<String> orderColumns = new ArrayList<>();
+        if (period != null) {
+            where.add(period + " BETWEEN :from AND :to");
+            groupColumns.add(period);
+            orderColumns.add(period);
+        }
+        if (managerId != null) {
+            where.add("e.reports_to_id = :managerId");
+        }
+        if (groupBy == HoursGroupBy.EMPLOYEE) {
+            groupColumns.add("e.public_id, e.first_name, e.last_name");
+            orderColumns.add("e.last_name, e.first_name");
+        } else if (groupBy == HoursGroupBy.MANAGER) {
+            groupColumns.add("m.public_id, m.first_name, m.last_name");
+            orderColumns.add("m.last_name NULLS LAST, m.first_name");
+        }
+
+        String sql = "SELECT " + (period != null ? period : "CAST(NULL AS date)") + " AS period, "
+                + employee + ", " + manager + ", "
+                + "sum(r.logged_hours), sum(r.approved_hours), " + overtime
+                + " FROM " + table + " r JOIN employees e ON e.id = r.employee_id"
+                + (groupBy == HoursGroupBy.MANAGER ? " LEFT JOIN employees m ON m.id = e.reports_to_id" : "")
+                + worked
+                + (where.isEmpty() ? "" : " WHERE " + String.join(" AND ", where))
+                + (groupColumns.isEmpty() ? "" : " GROUP BY " + String.join(", ", groupColumns))
+                + (orderColumns.isEmpty() ? "" : " ORDER BY " + String.join(", ", orderColumns));
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("from", periodFrom)
+                .addValue("to", to)
+                .addValue("managerId", managerId)
+                .addValue("threshold", overtimeThreshold)
+                .addValue("dayHours", dayHours);
+
+        return jdbc.query(sql, params, (rs, rowNum) -> new HoursRow(
+                rs.getObject(1, LocalDate.class),
+                rs.getObject(2, UUID.class),
+                rs.getString(3),
+                rs.getString(4),
+                rs.getObject(5, UUID.class),
+                rs.getString(6),
+                rs.getString(7),
+                rs.getBigDecimal(8),
+                rs.getBigDecimal(9),
+                rs.getBigDecimal(10)));
+    }
+}
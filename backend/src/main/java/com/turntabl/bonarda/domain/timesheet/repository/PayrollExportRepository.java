@@ -0,0 +1,130 @@
+package com.turntabl.bonarda.domain.timesheet.repository;
+
+import com.turntabl.bonarda.domain.timesheet.model.PayrollExportFormat;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Reads approved timesheet days for payroll. The rows are handed to a consumer as they
+ * arrive rather than collected; inside a transaction the Postgres driver fetches them
+ * through a server-side cursor {@code fetch-size} rows at a time, so a whole company's
+ * month never sits in the heap at once.
+ */
+@Repository
+public class PayrollExportRepository {
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public PayrollExportRepository(DataSource dataSource,
+                                   @Value("${app.timesheets.payroll-export.fetch-size:1000}") int fetchSize) {
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.setFetchSize(fetchSize);
+        this.jdbc = new NamedParameterJdbcTemplate(template);
+    }
+
+    /**
+     * One day of an approved timesheet, flattened with its employee and approval.
+     * {@code hours} is the time worked; {@code timeOffHours} the part of the day's entry
+     * covered by approved time off.
+     */
+    public record PayrollRow(UUID employeePublicId, String employeeEmail, String firstName, String lastName,
+                             UUID timesheetPublicId, LocalDate weekStart, LocalDate workDate,
+                             LocalTime clockIn, LocalTime clockOut, BigDecimal hours, BigDecimal timeOffHours,
+                             BigDecimal weekTotalHours, LocalDateTime approvedAt, String approvedBy) {
+    }
+
+    /**
+     * Passes each approved day from {@code from} to {@code to} to {@code consumer}, grouped
+     * by employee and in date order, and returns how many there were. The day's approved
+     * time off, at {@code dayHours} per full day and never more than the entry, is split
+     * out of its hours as the reconciliation report does. Must run inside a transaction
+     * for the driver to use a cursor.
+     */
+    public long streamApprovedDays(LocalDate from, LocalDate to, BigDecimal dayHours,
+                                   Consumer<PayrollRow> consumer) {
+        long[] count = {0};
+        jdbc.query("""
+                SELECT e.public_id, e.email, e.first_name, e.last_name,
+                       t.public_id, t.week_start, te.entry_date, te.clock_in, te.clock_out,
+                       te.hours - o.hours, o.hours,
+                       t.total_hours, t.reviewed_at, r.email
+                FROM timesheets t
+                JOIN timesheet_entries te ON te.timesheet_id = t.id
+                JOIN employees e ON e.id = t.employee_id
+                LEFT JOIN employees r ON r.id = t.reviewer_id
+                CROSS JOIN LATERAL (
+                    SELECT LEAST(LEAST(COALESCE(sum(a.weight), 0), 1) * :dayHours, te.hours) AS hours
+                    FROM time_off_absence_days a
+                    WHERE a.employee_id = t.employee_id AND a.absence_date = te.entry_date
+                ) o
+                WHERE t.status = 'APPROVED'
+                  AND t.week_start BETWEEN :weekFrom AND :to
+                  AND te.entry_date BETWEEN :from AND :to
+                ORDER BY t.employee_id, te.entry_date
+                """, new MapSqlParameterSource()
+                        .addValue("weekFrom", from.minusDays(6))
+                        .addValue("from", from)
+                        .addValue("to", to)
+                        .addValue("dayHours", dayHours),
+                rs -> {
+                    consumer.accept(new PayrollRow(
+                            rs.getObject(1, UUID.class),
+                            rs.getString(2),
+                            rs.getString(3),
+                            rs.getString(4),
+                            rs.getObject(5, UUID.class),
+                            rs.getObject(6, LocalDate.class),
+                            rs.getObject(7, LocalDate.class),
+                            rs.getObject(8, LocalTime.class),
+                            rs.getObject(9, LocalTime.class),
+                            rs.getBigDecimal(10),
+                            rs.getBigDecimal(11),
+                            rs.getBigDecimal(12),
+                            rs.getObject(13, LocalDateTime.class),
+                            rs.getString(14)));
+                    count[0]++;
+                });
+        return count[0];
+    }
+
+    /**
+     * Records a scheduled export of the period, returning its id, or empty when another
+     * run has already claimed the period in this format.
+     */
+    public Optional<Long> claimRun(LocalDate from, LocalDate to, PayrollExportFormat format, String fileName) {
+        List<Long> ids = jdbc.queryForList("""
+                INSERT INTO payroll_export_runs (period_start, period_end, format, file_name)
+                VALUES (:from, :to, :format, :fileName)
+                ON CONFLICT (period_start, period_end, format) DO NOTHING
+                RETURNING id
+                """, new MapSqlParameterSource()
+                        .addValue("from", from)
+                        .addValue("to", to)
+                        .addValue("format", format.name())
+                        .addValue("fileName", fileName), Long.class);
+        return ids.stream().findFirst();
+    }
+
+    public void completeRun(Long runId, long rowCount) {
+        jdbc.update("""
+                UPDATE payroll_export_runs
+                SET row_count = :rowCount, completed_at = CURRENT_TIMESTAMP
+                WHERE id = :id
+                """, new MapSqlParameterSource()
+                        .addValue("id", runId)
+                        .addValue("rowCount", rowCount));
+    }
+}
@@ -4,7 +4,6 @@ import com.turntabl.bonarda.domain.timesheet.model.TimesheetEntry;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -15,6 +14,4 @@ public interface TimesheetEntryRepository extends JpaRepository<TimesheetEntry,
     Optional<TimesheetEntry> findByPublicId(UUID publicId);
 
     List<TimesheetEntry> findByTimesheetIdOrderByEntryDateAsc(Long timesheetId);
-
-    Optional<TimesheetEntry> findByTimesheetIdAndEntryDate(Long timesheetId, LocalDate entryDate);
 }
@@ -0,0 +1,99 @@
+package com.turntabl.bonarda.domain.timesheet.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Writes punch-derived days into timesheets. The projector locks the week's timesheet
+ * first, the same row the entry editor locks, so the incremental total below never races
+ * a manual save. Each write moves the timesheet's version, which the entry editor checks
+ * through {@code If-Match}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TimesheetProjectionRepository {
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    /**
+     * Creates the week's timesheet if needed and locks it; empty when the timesheet is
+     * no longer editable.
+     */
+    public Optional<Long> lockEditableTimesheet(Long employeeId, LocalDate weekStart) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("employeeId", employeeId)
+                .addValue("weekStart", weekStart);
+
+        // A row inserted by the first CTE is invisible to the second, so exactly one of them yields the id
+        List<Long> ids = jdbc.queryForList("""
+                WITH created AS (
+                    INSERT INTO timesheets (employee_id, week_start, created_by, updated_by)
+                    VALUES (:employeeId, :weekStart, :employeeId, :employeeId)
+                    ON CONFLICT (employee_id, week_start) DO NOTHING
+                    RETURNING id
+                ), existing AS (
+                    SELECT id FROM timesheets
+                    WHERE employee_id = :employeeId
+                      AND week_start = :weekStart
+                      AND status IN ('DRAFT', 'REJECTED')
+                    FOR UPDATE
+                )
+                SELECT id FROM created
+                UNION ALL
+                SELECT id FROM existing
+                """, params, Long.class);
+        return ids.stream().findFirst();
+    }
+
+    /**
+     * Upserts one day's entry and moves the timesheet total by the change in its hours.
+     * Returns false when the entry already held these values, in which case nothing is written.
+     */
+    public boolean applyDay(Long timesheetId, Long employeeId, LocalDate date,
+                            LocalTime clockIn, LocalTime clockOut, BigDecimal hours) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("timesheetId", timesheetId)
+                .addValue("employeeId", employeeId)
+                .addValue("date", date)
+                .addValue("clockIn", clockIn, Types.TIME)
+                .addValue("clockOut", clockOut, Types.TIME)
+                .addValue("hours", hours);
+
+        // prev reads the entry as it was before this statement, which gives the change in hours
+        int updated = jdbc.update("""
+                WITH prev AS (
+                    SELECT hours FROM timesheet_entries
+                    WHERE timesheet_id = :timesheetId AND entry_date = :date
+                ), entry AS (
+                    INSERT INTO timesheet_entries (timesheet_id, entry_date, clock_in, clock_out, hours,
+                                                   created_by, updated_by)
+                    VALUES (:timesheetId, :date, :clockIn, :clockOut, :hours, :employeeId, :employeeId)
+                    ON CONFLICT (timesheet_id, entry_date) DO UPDATE
+                        SET clock_in = EXCLUDED.clock_in,
+                            clock_out = EXCLUDED.clock_out,
+                            hours = EXCLUDED.hours,
+                            updated_by = EXCLUDED.updated_by,
+                            version = timesheet_entries.version + 1
+                        WHERE (timesheet_entries.clock_in, timesheet_entries.clock_out, timesheet_entries.hours)
+                              IS DISTINCT FROM (EXCLUDED.clock_in, EXCLUDED.clock_out, EXCLUDED.hours)
+                    RETURNING hours
+                )
+                UPDATE timesheets t
+                SET total_hours = t.total_hours + entry.hours - COALESCE((SELECT hours FROM prev), 0),
+                    updated_by = :employeeId,
+                    version = t.version + 1
+                FROM entry
+                WHERE t.id = :timesheetId
+                """, params);
+        return updated > 0;
+    }
+}
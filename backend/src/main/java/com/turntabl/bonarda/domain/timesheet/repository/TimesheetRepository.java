@@ -1,9 +1,10 @@
 package com.turntabl.bonarda.domain.timesheet.repository;
 
 import com.turntabl.bonarda.domain.timesheet.model.Timesheet;
+import com.turntabl.bonarda.domain.timesheet.model.TimesheetStatus;
 import jakarta.persistence.LockModeType;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
@@ -11,6 +12,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -24,6 +26,12 @@ public interface TimesheetRepository extends JpaRepository<Timesheet, Long> {
     @Query("SELECT t FROM Timesheet t JOIN FETCH t.employee LEFT JOIN FETCH t.reviewer LEFT JOIN FETCH t.entries WHERE t.publicId = :publicId")
     Optional<Timesheet> findByPublicIdForUpdate(@Param("publicId") UUID publicId);
 
+    /** Locks in id order so that overlapping bulk reviews cannot deadlock. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Timesheet t JOIN FETCH t.employee LEFT JOIN FETCH t.entries " +
+           "WHERE t.publicId IN :publicIds ORDER BY t.id")
+    List<Timesheet> findAllByPublicIdInForUpdate(@Param("publicIds") Collection<UUID> publicIds);
+
     @Query("SELECT t FROM Timesheet t JOIN FETCH t.employee LEFT JOIN FETCH t.reviewer LEFT JOIN FETCH t.entries WHERE t.publicId = :publicId")
     Optional<Timesheet> findByPublicIdWithDetails(@Param("publicId") UUID publicId);
 
@@ -34,14 +42,31 @@ public interface TimesheetRepository extends JpaRepository<Timesheet, Long> {
     Optional<Timesheet> findByEmployeeIdAndWeekStartWithDetails(@Param("employeeId") Long employeeId, @Param("weekStart") LocalDate weekStart);
 
     @Query("SELECT t FROM Timesheet t JOIN FETCH t.employee LEFT JOIN FETCH t.reviewer " +
-           "WHERE t.employee.id = :employeeId ORDER BY t.weekStart DESC")
-    List<Timesheet> findByEmployeeIdOrderByWeekStartDesc(@Param("employeeId") Long employeeId);
+           "WHERE t.employee.id = :employeeId AND t.status IN :statuses " +
+           "AND t.weekStart BETWEEN :from AND :to " +
+           "AND (t.weekStart < :afterWeek OR (t.weekStart = :afterWeek AND t.id < :afterId)) " +
+           "ORDER BY t.weekStart DESC, t.id DESC")
+    List<Timesheet> findEmployeePage(@Param("employeeId") Long employeeId,
+                                     @Param("statuses") Collection<TimesheetStatus> statuses,
+                                     @Param("from") LocalDate from,
+                                     @Param("to") LocalDate to,
+                                     @Param("afterWeek") LocalDate afterWeek,
+                                     @Param("afterId") Long afterId,
+                                     Pageable pageable);
 
-    @Query("SELECT t FROM Timesheet t JOIN FETCH t.employee LEFT JOIN FETCH t.reviewer " +
-           "WHERE t.employee.reportsTo.id = :managerId ORDER BY t.weekStart DESC")
-    List<Timesheet> findByEmployeeReportsToId(@Param("managerId") Long managerId);
+    @Query("SELECT t FROM Timesheet t JOIN FETCH t.employee e LEFT JOIN FETCH t.reviewer " +
+           "WHERE e.reportsTo.id = :managerId AND t.status IN :statuses " +
+           "AND t.weekStart BETWEEN :from AND :to " +
+           "AND (t.weekStart < :afterWeek OR (t.weekStart = :afterWeek AND t.id < :afterId)) " +
+           "ORDER BY t.weekStart DESC, t.id DESC")
+    List<Timesheet> findTeamPage(@Param("managerId") Long managerId,
+                                 @Param("statuses") Collection<TimesheetStatus> statuses,
+                                 @Param("from") LocalDate from,
+                                 @Param("to") LocalDate to,
+                                 @Param("afterWeek") LocalDate afterWeek,
+                                 @Param("afterId") Long afterId,
+                                 Pageable pageable);
 
-    @Query(value = "SELECT t FROM Timesheet t JOIN FETCH t.employee LEFT JOIN FETCH t.reviewer",
-           countQuery = "SELECT count(t) FROM Timesheet t")
-    Page<Timesheet> findAllWithAssociations(Pageable pageable);
+    @Query("SELECT t FROM Timesheet t JOIN FETCH t.employee LEFT JOIN FETCH t.reviewer")
+    Slice<Timesheet> findAllWithAssociations(Pageable pageable);
 }
@@ -0,0 +1,132 @@
+package com.turntabl.bonarda.domain.timesheet.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Set-based weekly timesheet housekeeping. Every statement is a conditional insert or a
+ * claiming update, so the weekly job can run on every node and be repeated safely.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TimesheetWeekRepository {
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    /** An employee's week as it stands against the submission deadline. */
+    public record SubmissionRow(UUID employeePublicId, String firstName, String lastName, UUID timesheetPublicId,
+                                String status, LocalDateTime submittedAt) {
+    }
+
+    /** A week still unsubmitted at the deadline, with the manager to tell. */
+    public record MissingSubmission(Long managerId, String managerEmail, String managerFirstName,
+                                    String managerLastName, String firstName, String lastName) {
+    }
+
+    private static final RowMapper<SubmissionRow> SUBMISSION_MAPPER = (rs, rowNum) -> new SubmissionRow(
+            rs.getObject("employee_public_id", UUID.class),
+            rs.getString("first_name"),
+            rs.getString("last_name"),
+            rs.getObject("timesheet_public_id", UUID.class),
+            rs.getString("status"),
+            rs.getObject("submitted_at", LocalDateTime.class));
+
+    /** Creates a DRAFT timesheet for every active employee hired by the end of the week. */
+    public int createWeek(LocalDate weekStart) {
+        return jdbc.update("""
+                INSERT INTO timesheets (employee_id, week_start)
+                SELECT e.id, :weekStart
+                FROM employees e
+                WHERE e.status = 'ACTIVE'
+                  AND e.hire_date <= :weekEnd
+                ON CONFLICT (employee_id, week_start) DO NOTHING
+                """, new MapSqlParameterSource()
+                        .addValue("weekStart", weekStart)
+                        .addValue("weekEnd", weekStart.plusDays(6)));
+    }
+
+    /**
+     * Adds an entry for each approved absence day in the week's DRAFT timesheets, worth
+     * {@code dayHours} per full day, and adds those hours to the totals. Days that already
+     * have an entry are left alone. Returns the number of timesheets changed.
+     */
+    public int prefillTimeOff(LocalDate weekStart, BigDecimal dayHours) {
+        return jdbc.update("""
+                WITH filled AS (
+                    INSERT INTO timesheet_entries (timesheet_id, entry_date, hours)
+                    SELECT t.id, a.absence_date, LEAST(sum(a.weight), 1) * :dayHours
+                    FROM timesheets t
+                    JOIN time_off_absence_days a ON a.employee_id = t.employee_id
+                    WHERE t.week_start = :weekStart
+                      AND t.status = 'DRAFT'
+                      AND a.absence_date BETWEEN :weekStart AND :weekEnd
+                    GROUP BY t.id, a.absence_date
+                    ON CONFLICT (timesheet_id, entry_date) DO NOTHING
+                    RETURNING timesheet_id, hours
+                ), added AS (
+                    SELECT timesheet_id, sum(hours) AS hours FROM filled GROUP BY timesheet_id
+                )
+                UPDATE timesheets t
+                SET total_hours = t.total_hours + added.hours,
+                    version = t.version + 1
+                FROM added
+                WHERE t.id = added.timesheet_id
+                """, new MapSqlParameterSource()
+                        .addValue("weekStart", weekStart)
+                        .addValue("weekEnd", weekStart.plusDays(6))
+                        .addValue("dayHours", dayHours));
+    }
+
+    /**
+     * Stamps {@code missing_reported_at} on the week's unsubmitted timesheets of employees
+     * who report to someone, returning the claimed rows.
+     */
+    public List<MissingSubmission> claimMissing(LocalDate weekStart) {
+        return jdbc.query("""
+                UPDATE timesheets t SET missing_reported_at = CURRENT_TIMESTAMP
+                FROM employees e, employees m
+                WHERE t.employee_id = e.id
+                  AND e.reports_to_id = m.id
+                  AND t.week_start = :weekStart
+                  AND t.status IN ('DRAFT', 'REJECTED')
+                  AND t.missing_reported_at IS NULL
+                  AND e.status = 'ACTIVE'
+                RETURNING m.id, m.email, m.first_name, m.last_name, e.first_name, e.last_name
+                """, new MapSqlParameterSource("weekStart", weekStart),
+                (rs, rowNum) -> new MissingSubmission(rs.getLong(1), rs.getString(2), rs.getString(3),
+                        rs.getString(4), rs.getString(5), rs.getString(6)));
+    }
+
+    /**
+     * The manager's active direct reports whose week is unsubmitted, or was submitted at or
+     * after {@code deadline}. An employee without a timesheet for the week counts as missing.
+     */
+    public List<SubmissionRow> findTeamGaps(Long managerId, LocalDate weekStart, LocalDateTime deadline) {
+        return jdbc.query("""
+                SELECT e.public_id AS employee_public_id, e.first_name, e.last_name,
+                       t.public_id AS timesheet_public_id, t.status, t.submitted_at
+                FROM employees e
+                LEFT JOIN timesheets t ON t.employee_id = e.id AND t.week_start = :weekStart
+                WHERE e.reports_to_id = :managerId
+                  AND e.status = 'ACTIVE'
+                  AND e.hire_date <= :weekEnd
+                  AND (t.id IS NULL
+                       OR t.status IN ('DRAFT', 'REJECTED')
+                       OR t.submitted_at >= :deadline)
+                ORDER BY e.last_name, e.first_name
+                """, new MapSqlParameterSource()
+                        .addValue("managerId", managerId)
+                        .addValue("weekStart", weekStart)
+                        .addValue("weekEnd", weekStart.plusDays(6))
+                        .addValue("deadline", deadline), SUBMISSION_MAPPER);
+    }
+}
@@ -0,0 +1,119 @@
+package com.turntabl.bonarda.domain.timesheet.service;
+
+import com.turntabl.bonarda.domain.timesheet.model.PunchDirection;
+import com.turntabl.bonarda.domain.timesheet.model.TimesheetHoursProjected;
+import com.turntabl.bonarda.domain.timesheet.repository.ClockPunchRepository;
+import com.turntabl.bonarda.domain.timesheet.repository.ClockPunchRepository.Punch;
+import com.turntabl.bonarda.domain.timesheet.repository.ClockPunchRepository.PunchedDay;
+import com.turntabl.bonarda.domain.timesheet.repository.TimesheetProjectionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Derives timesheet entries from the punch log. Each tick claims a batch of new punches
+ * and recomputes every day they touch from all of that day's punches, so projecting a day
+ * twice is harmless and a day that could not be written heals on its next punch.
+ */
+@Component
+@Slf4j
+public class ClockPunchProjector {
+
+    private final ClockPunchRepository punchRepository;
+    private final TimesheetProjectionRepository projectionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+
+    public ClockPunchProjector(ClockPunchRepository punchRepository,
+                               TimesheetProjectionRepository projectionRepository,
+                               ApplicationEventPublisher eventPublisher,
+                               @Value("${app.timesheets.punches.batch-size:500}") int batchSize) {
+        this.punchRepository = punchRepository;
+        this.projectionRepository = projectionRepository;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+    }
+
+    /** A day's entry as derived from its punches. */
+    record ProjectedDay(LocalTime clockIn, LocalTime clockOut, BigDecimal hours) {
+    }
+
+    @Scheduled(fixedDelayString = "${app.timesheets.punches.projection-interval:PT5S}")
+    @Transactional
+    public void run() {
+        Set<PunchedDay> days = new LinkedHashSet<>(punchRepository.claimUnprojected(batchSize));
+        Set<Long> changedEmployees = new HashSet<>();
+
+        for (PunchedDay day : days) {
+            Optional<ProjectedDay> projected = project(punchRepository.findDay(day.employeeId(), day.date()));
+            if (projected.isEmpty()) {
+                continue;
+            }
+            Optional<Long> timesheetId = projectionRepository.lockEditableTimesheet(
+                    day.employeeId(), day.date().with(DayOfWeek.MONDAY));
+            if (timesheetId.isEmpty()) {
+                log.debug("Skipping punches of employee {} on {}: timesheet is not editable",
+                        day.employeeId(), day.date());
+                continue;
+            }
+            ProjectedDay entry = projected.get();
+            if (projectionRepository.applyDay(timesheetId.get(), day.employeeId(), day.date(),
+                    entry.clockIn(), entry.clockOut(), entry.hours())) {
+                changedEmployees.add(day.employeeId());
+            }
+        }
+
+        if (!changedEmployees.isEmpty()) {
+            eventPublisher.publishEvent(new TimesheetHoursProjected(changedEmployees));
+        }
+    }
+
+    /**
+     * Pairs each IN with the next OUT and adds up the closed intervals in whole minutes.
+     * A repeated direction (a double tap, or two devices racing) is ignored. The entry's
+     * clock-out is the last OUT, and stays empty while the employee is clocked in.
+     */
+    static Optional<ProjectedDay> project(List<Punch> punches) {
+        LocalTime firstIn = null;
+        LocalTime lastOut = null;
+        LocalDateTime openSince = null;
+        long minutes = 0;
+
+        for (Punch punch : punches) {
+            if (punch.direction() == PunchDirection.IN) {
+                if (openSince == null) {
+                    openSince = punch.punchedAt();
+                    if (firstIn == null) {
+                        firstIn = openSince.toLocalTime();
+                    }
+                }
+            } else if (openSince != null) {
+                minutes += Duration.between(openSince, punch.punchedAt()).toMinutes();
+                lastOut = punch.punchedAt().toLocalTime();
+                openSince = null;
+            }
+        }
+
+        if (firstIn == null) {
+            return Optional.empty();
+        }
+        BigDecimal hours = BigDecimal.valueOf(minutes)
+                .divide(BigDecimal.valueOf(60), 1, RoundingMode.HALF_UP);
+        return Optional.of(new ProjectedDay(firstIn, openSince == null ? lastOut : null, hours));
+    }
+}
@@ -0,0 +1,28 @@
+package com.turntabl.bonarda.domain.timesheet.service;
+
+import com.turntabl.bonarda.domain.common.dto.CursorPageDto;
+import com.turntabl.bonarda.domain.common.dto.ListFilter;
+import com.turntabl.bonarda.domain.timesheet.dto.ReconciliationExceptionDto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Set;
+
+public interface HoursReconciliationService {
+
+    /**
+     * Days on which project time logs disagree with timesheets, newest first. Callers
+     * without TIMESHEET_READ_ALL only see their direct reports.
+     */
+    CursorPageDto<ReconciliationExceptionDto> getExceptions(Long callerId, Set<String> callerPermissions,
+                                                            String status, ListFilter range,
+                                                            String cursor, int size);
+
+    /**
+     * Rejects a project time log of {@code hours} on {@code day} that the day cannot hold:
+     * more than 24 project hours in total, or more than the hours worked, net of time off,
+     * on a timesheet that is already submitted or approved. {@code replacingLogId} is the
+     * log being edited, if any.
+     */
+    void validateProjectLog(Long employeeId, LocalDate day, BigDecimal hours, Long replacingLogId);
+}
@@ -0,0 +1,104 @@
+package com.turntabl.bonarda.domain.timesheet.service;
+
+import com.turntabl.bonarda.domain.common.dto.CursorPageDto;
+import com.turntabl.bonarda.domain.common.dto.KeysetCursor;
+import com.turntabl.bonarda.domain.common.dto.ListFilter;
+import com.turntabl.bonarda.domain.common.service.EnumParser;
+import com.turntabl.bonarda.domain.timesheet.dto.ReconciliationExceptionDto;
+import com.turntabl.bonarda.domain.timesheet.model.ReconciliationStatus;
+import com.turntabl.bonarda.domain.timesheet.model.TimesheetStatus;
+import com.turntabl.bonarda.domain.timesheet.repository.HoursReconciliationRepository;
+import com.turntabl.bonarda.domain.timesheet.repository.HoursReconciliationRepository.DayLedger;
+import com.turntabl.bonarda.domain.timesheet.repository.HoursReconciliationRepository.DiscrepancyRow;
+import com.turntabl.bonarda.exception.BadRequestException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+@Service
+@Transactional(readOnly = true)
+public class HoursReconciliationServiceImpl implements HoursReconciliationService {
+
+    private static final BigDecimal MAX_DAY_HOURS = BigDecimal.valueOf(24);
+
+    private final HoursReconciliationRepository reconciliationRepository;
+    private final EnumParser enumParser;
+    private final BigDecimal tolerance;
+    private final BigDecimal standardDayHours;
+
+    public HoursReconciliationServiceImpl(HoursReconciliationRepository reconciliationRepository,
+                                          EnumParser enumParser,
+                                          @Value("${app.timesheets.reconciliation.tolerance-hours:0}") BigDecimal tolerance,
+                                          @Value("${app.timesheets.standard-day-hours:8}") BigDecimal standardDayHours) {
+        this.reconciliationRepository = reconciliationRepository;
+        this.enumParser = enumParser;
+        this.tolerance = tolerance;
+        this.standardDayHours = standardDayHours;
+    }
+
+    @Override
+    public CursorPageDto<ReconciliationExceptionDto> getExceptions(Long callerId, Set<String> callerPermissions,
+                                                                   String status, ListFilter range,
+                                                                   String cursor, int size) {
+        ReconciliationStatus reconciliationStatus = enumParser.parseOptional(ReconciliationStatus.class, status, "status");
+
+        LocalDate to = range.to() != null ? range.to() : LocalDate.now();
+        LocalDate from = range.from() != null ? range.from() : to.minusMonths(3);
+        if (to.isBefore(from)) {
+            throw new BadRequestException("'to' must not be before 'from'");
+        }
+
+        int limit = KeysetCursor.pageSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        Long managerId = callerPermissions.contains("TIMESHEET_READ_ALL") ? null : callerId;
+
+        List<DiscrepancyRow> rows = reconciliationRepository.findDiscrepancies(from, to, managerId,
+                reconciliationStatus, tolerance, standardDayHours, after.dateKey(), after.id(), limit + 1);
+        return CursorPageDto.of(rows, limit, this::toDto, row -> KeysetCursor.after(row.day(), row.employeeId()));
+    }
+
+    @Override
+    public void validateProjectLog(Long employeeId, LocalDate day, BigDecimal hours, Long replacingLogId) {
+        DayLedger ledger = reconciliationRepository.findDayLedger(employeeId, day, standardDayHours,
+                replacingLogId);
+        BigDecimal projectHours = ledger.otherProjectHours().add(hours);
+
+        if (projectHours.compareTo(MAX_DAY_HOURS) > 0) {
+            throw new BadRequestException("Project time logged on " + day + " would total "
+                    + projectHours + " hours, more than a day holds");
+        }
+
+        // A draft timesheet can still be corrected, and the reconciliation report flags it
+        // until then; a submitted or approved one cannot, so the log must fit it now
+        boolean locked = TimesheetStatus.SUBMITTED.name().equals(ledger.timesheetStatus())
+                || TimesheetStatus.APPROVED.name().equals(ledger.timesheetStatus());
+        // Hours covered by time off are not expected on any project, as in the report
+        BigDecimal timesheetHours = ledger.timesheetHours() != null ? ledger.timesheetHours() : BigDecimal.ZERO;
+        BigDecimal workedHours = timesheetHours.subtract(ledger.timeOffHours()).max(BigDecimal.ZERO);
+        if (locked && projectHours.subtract(workedHours).compareTo(tolerance) > 0) {
+            throw new BadRequestException("The timesheet for " + day + " is "
+                    + ledger.timesheetStatus().toLowerCase() + " with " + workedHours
+                    + " hours worked; project time would total " + projectHours + " hours");
+        }
+    }
+
+    private ReconciliationExceptionDto toDto(DiscrepancyRow row) {
+        return ReconciliationExceptionDto.builder()
+                .employeeId(row.employeePublicId().toString())
+                .employeeName(row.firstName() + " " + row.lastName())
+                .date(row.day().toString())
+                .timesheetHours(row.timesheetHours())
+                .timeOffHours(row.timeOffHours())
+                .projectHours(row.projectHours())
+                .differenceHours(row.differenceHours())
+                .status(row.differenceHours().signum() < 0
+                        ? ReconciliationStatus.UNLOGGED.name()
+                        : ReconciliationStatus.OVER_LOGGED.name())
+                .build();
+    }
+}
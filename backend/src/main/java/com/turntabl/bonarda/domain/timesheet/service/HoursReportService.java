@@ -0,0 +1,17 @@
+package com.turntabl.bonarda.domain.timesheet.service;
+
+import com.turntabl.bonarda.domain.common.dto.ListFilter;
+import com.turntabl.bonarda.domain.timesheet.dto.HoursBucketDto;
+
+import java.util.List;
+import java.util.Set;
+
+public interface HoursReportService {
+
+    /**
+     * Logged and approved hours bucketed by {@code grain} and split by {@code groupBy}.
+     * Callers without TIMESHEET_READ_ALL only see their direct reports.
+     */
+    List<HoursBucketDto> getHoursReport(Long callerId, Set<String> callerPermissions, String grain,
+                                        String groupBy, ListFilter range);
+}
@@ -0,0 +1,79 @@
+package com.turntabl.bonarda.domain.timesheet.service;
+
+import com.turntabl.bonarda.domain.common.dto.ListFilter;
+import com.turntabl.bonarda.domain.common.service.EnumParser;
+import com.turntabl.bonarda.domain.timesheet.dto.HoursBucketDto;
+import com.turntabl.bonarda.domain.timesheet.model.HoursGrain;
+import com.turntabl.bonarda.domain.timesheet.model.HoursGroupBy;
+import com.turntabl.bonarda.domain.timesheet.repository.HoursRollupRepository;
+import com.turntabl.bonarda.domain.timesheet.repository.HoursRollupRepository.HoursRow;
+import com.turntabl.bonarda.exception.BadRequestException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional(readOnly = true)
+public class HoursReportServiceImpl implements HoursReportService {
+
+    /** Daily buckets are capped to a year so a report cannot grow without bound. */
+    private static final long MAX_DAY_RANGE = 366;
+
+    private final HoursRollupRepository rollupRepository;
+    private final EnumParser enumParser;
+    private final BigDecimal overtimeThreshold;
+    private final BigDecimal standardDayHours;
+
+    public HoursReportServiceImpl(HoursRollupRepository rollupRepository,
+                                  EnumParser enumParser,
+                                  @Value("${app.timesheets.overtime-threshold-hours:40}") BigDecimal overtimeThreshold,
+                                  @Value("${app.timesheets.standard-day-hours:8}") BigDecimal standardDayHours) {
+        this.rollupRepository = rollupRepository;
+        this.enumParser = enumParser;
+        this.overtimeThreshold = overtimeThreshold;
+        this.standardDayHours = standardDayHours;
+    }
+
+    @Override
+    public List<HoursBucketDto> getHoursReport(Long callerId, Set<String> callerPermissions, String grain,
+                                               String groupBy, ListFilter range) {
+        HoursGrain hoursGrain = enumParser.parse(HoursGrain.class, grain, "grain");
+        HoursGroupBy hoursGroupBy = enumParser.parse(HoursGroupBy.class, groupBy, "group by");
+
+        LocalDate to = range.to() != null ? range.to() : LocalDate.now();
+        LocalDate from = range.from() != null ? range.from() : to.minusYears(1);
+        if (to.isBefore(from)) {
+            throw new BadRequestException("'to' must not be before 'from'");
+        }
+        if (hoursGrain == HoursGrain.DAY && ChronoUnit.DAYS.between(from, to) >= MAX_DAY_RANGE) {
+            throw new BadRequestException("Daily reports cover at most " + MAX_DAY_RANGE + " days");
+        }
+
+        Long managerId = callerPermissions.contains("TIMESHEET_READ_ALL") ? null : callerId;
+        List<HoursRow> rows = rollupRepository.report(hoursGrain, hoursGroupBy, from, to, managerId,
+                overtimeThreshold, standardDayHours);
+        return rows.stream()
+                .map(this::toDto)
+                .collect(Collectors.toList());
+    }
+
+    private HoursBucketDto toDto(HoursRow row) {
+        return HoursBucketDto.builder()
+                .period(row.period() != null ? row.period().toString() : null)
+                .employeeId(row.employeePublicId() != null ? row.employeePublicId().toString() : null)
+                .employeeName(row.employeePublicId() != null ? row.employeeFirstName() + " " + row.employeeLastName() : null)
+                .managerId(row.managerPublicId() != null ? row.managerPublicId().toString() : null)
+                .managerName(row.managerPublicId() != null ? row.managerFirstName() + " " + row.managerLastName() : null)
+                .loggedHours(row.loggedHours())
+                .approvedHours(row.approvedHours())
+                .overtimeHours(row.overtimeHours())
+                .build();
+    }
+}
@@ -0,0 +1,54 @@
+package com.turntabl.bonarda.domain.timesheet.service;
+
+import com.turntabl.bonarda.domain.timesheet.model.PayrollColumn;
+import com.turntabl.bonarda.domain.timesheet.model.PayrollField;
+import com.turntabl.bonarda.exception.BadRequestException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * The columns a payroll export is written with. The default comes from
+ * {@code app.timesheets.payroll-export.columns}, so each payroll provider's layout is
+ * configuration rather than code; a request may pass its own. Both are a comma-separated
+ * list of {@link PayrollField} names, each optionally renamed as {@code FIELD=header}.
+ */
+@Component
+public class PayrollColumnMapping {
+
+    private final List<PayrollColumn> defaultColumns;
+
+    public PayrollColumnMapping(@Value("${app.timesheets.payroll-export.columns:}") String columns) {
+        this.defaultColumns = columns.isBlank()
+                ? Arrays.stream(PayrollField.values())
+                        .map(field -> new PayrollColumn(field, field.defaultHeader()))
+                        .collect(Collectors.toList())
+                : parse(columns);
+    }
+
+    /** The requested columns, or the configured default when none are given. */
+    public List<PayrollColumn> resolve(String columns) {
+        return columns == null || columns.isBlank() ? defaultColumns : parse(columns);
+    }
+
+    private static List<PayrollColumn> parse(String columns) {
+        List<PayrollColumn> parsed = new ArrayList<>();
+        for (String spec : columns.split(",")) {
+            String[] parts = spec.trim().split("=", 2);
+            PayrollField field;
+            try {
+                field = PayrollField.valueOf(parts[0].trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("Invalid payroll column: '" + parts[0].trim() + "'. Valid values are: "
+                        + Arrays.stream(PayrollField.values()).map(Enum::name).collect(Collectors.joining(", ")));
+            }
+            String header = parts.length > 1 && !parts[1].isBlank() ? parts[1].trim() : field.defaultHeader();
+            parsed.add(new PayrollColumn(field, header));
+        }
+        return List.copyOf(parsed);
+    }
+}
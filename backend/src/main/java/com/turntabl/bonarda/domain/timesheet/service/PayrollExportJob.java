@@ -0,0 +1,69 @@
+package com.turntabl.bonarda.domain.timesheet.service;
+
+import com.turntabl.bonarda.domain.common.dto.ListFilter;
+import com.turntabl.bonarda.domain.timesheet.model.PayrollExportSpec;
+import com.turntabl.bonarda.domain.timesheet.repository.PayrollExportRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Writes last month's approved hours to {@code app.timesheets.payroll-export.directory}
+ * on the 1st. The period is claimed in {@code payroll_export_runs} first, so only one
+ * node exports it; a failed write rolls the claim back and the period can be exported
+ * again by rerunning the job or through the endpoint.
+ */
+@Component
+@Slf4j
+public class PayrollExportJob {
+
+    private final PayrollExportService exportService;
+    private final PayrollExportRepository exportRepository;
+    private final String format;
+    private final Path directory;
+
+    public PayrollExportJob(PayrollExportService exportService,
+                            PayrollExportRepository exportRepository,
+                            @Value("${app.timesheets.payroll-export.format:CSV}") String format,
+                            @Value("${app.timesheets.payroll-export.directory:payroll-exports}") String directory) {
+        this.exportService = exportService;
+        this.exportRepository = exportRepository;
+        this.format = format;
+        this.directory = Path.of(directory);
+    }
+
+    @Scheduled(cron = "${app.timesheets.payroll-export.cron:0 0 3 1 * *}")
+    @Transactional
+    public void run() {
+        PayrollExportSpec spec = exportService.prepare(format, null, new ListFilter(null, null, null));
+        Optional<Long> runId = exportRepository.claimRun(spec.from(), spec.to(), spec.format(), spec.fileName());
+        if (runId.isEmpty()) {
+            log.debug("Payroll export {} already claimed", spec.fileName());
+            return;
+        }
+
+        Path file = directory.resolve(spec.fileName());
+        long rows;
+        try {
+            Files.createDirectories(directory);
+            try (OutputStream out = Files.newOutputStream(file)) {
+                rows = exportService.write(spec, out);
+            }
+        } catch (IOException e) {
+            // Unchecked, so the claim is rolled back with the transaction
+            throw new UncheckedIOException("Failed to write payroll export " + file, e);
+        }
+        exportRepository.completeRun(runId.get(), rows);
+
+        log.info("Payroll export {}: {} rows written to {}", spec.fileName(), rows, file.toAbsolutePath());
+    }
+}
@@ -0,0 +1,19 @@
+package com.turntabl.bonarda.domain.timesheet.service;
+
+import com.turntabl.bonarda.domain.common.dto.ListFilter;
+import com.turntabl.bonarda.domain.timesheet.model.PayrollExportSpec;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface PayrollExportService {
+
+    /**
+     * Validates an export request before anything is written; the period defaults to last
+     * month and {@code columns} to the configured mapping.
+     */
+    PayrollExportSpec prepare(String format, String columns, ListFilter range);
+
+    /** Streams the approved days of the period to {@code out}, returning the number of rows. */
+    long write(PayrollExportSpec spec, OutputStream out) throws IOException;
+}
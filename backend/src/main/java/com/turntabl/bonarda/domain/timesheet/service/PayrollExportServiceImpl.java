@@ -0,0 +1,79 @@
+package com.turntabl.bonarda.domain.timesheet.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turntabl.bonarda.domain.common.dto.ListFilter;
+import com.turntabl.bonarda.domain.common.service.EnumParser;
+import com.turntabl.bonarda.domain.timesheet.model.PayrollExportFormat;
+import com.turntabl.bonarda.domain.timesheet.model.PayrollExportSpec;
+import com.turntabl.bonarda.domain.timesheet.repository.PayrollExportRepository;
+import com.turntabl.bonarda.exception.BadRequestException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+@Service
+@Transactional(readOnly = true)
+public class PayrollExportServiceImpl implements PayrollExportService {
+
+    /** A quarter at most per export; longer periods are exported one at a time. */
+    private static final long MAX_PERIOD_DAYS = 92;
+
+    private final PayrollExportRepository exportRepository;
+    private final PayrollColumnMapping columnMapping;
+    private final EnumParser enumParser;
+    private final ObjectMapper objectMapper;
+    private final BigDecimal standardDayHours;
+
+    public PayrollExportServiceImpl(PayrollExportRepository exportRepository,
+                                    PayrollColumnMapping columnMapping,
+                                    EnumParser enumParser,
+                                    ObjectMapper objectMapper,
+                                    @Value("${app.timesheets.standard-day-hours:8}") BigDecimal standardDayHours) {
+        this.exportRepository = exportRepository;
+        this.columnMapping = columnMapping;
+        this.enumParser = enumParser;
+        this.objectMapper = objectMapper;
+        this.standardDayHours = standardDayHours;
+    }
+
+    @Override
+    public PayrollExportSpec prepare(String format, String columns, ListFilter range) {
+        PayrollExportFormat exportFormat = enumParser.parse(PayrollExportFormat.class, format, "format");
+
+        LocalDate lastMonth = LocalDate.now().withDayOfMonth(1).minusMonths(1);
+        LocalDate from = range.from() != null ? range.from() : lastMonth;
+        LocalDate to = range.to() != null ? range.to() : from.withDayOfMonth(from.lengthOfMonth());
+        if (to.isBefore(from)) {
+            throw new BadRequestException("'to' must not be before 'from'");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_PERIOD_DAYS) {
+            throw new BadRequestException("Payroll exports cover at most " + MAX_PERIOD_DAYS + " days");
+        }
+
+        return new PayrollExportSpec(exportFormat, columnMapping.resolve(columns), from, to);
+    }
+
+    @Override
+    public long write(PayrollExportSpec spec, OutputStream out) throws IOException {
+        PayrollRowWriter writer = new PayrollRowWriter(spec.format(), spec.columns(),
+                new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)), objectMapper);
+        long rows;
+        try {
+            rows = exportRepository.streamApprovedDays(spec.from(), spec.to(), standardDayHours, writer::write);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.finish();
+        return rows;
+    }
+}
@@ -0,0 +1,92 @@
+package com.turntabl.bonarda.domain.timesheet.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turntabl.bonarda.domain.timesheet.model.PayrollColumn;
+import com.turntabl.bonarda.domain.timesheet.model.PayrollExportFormat;
+import com.turntabl.bonarda.domain.timesheet.repository.PayrollExportRepository.PayrollRow;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes payroll rows as CSV or one JSON object per line, straight through to the
+ * underlying writer so an export is never held in memory as a whole. Dates and times are
+ * ISO-8601 text and hours are numbers in both formats.
+ */
+class PayrollRowWriter {
+
+    private final PayrollExportFormat format;
+    private final List<PayrollColumn> columns;
+    private final Writer out;
+    private final ObjectMapper objectMapper;
+    private final CSVPrinter csv;
+
+    PayrollRowWriter(PayrollExportFormat format, List<PayrollColumn> columns, Writer out,
+                     ObjectMapper objectMapper) throws IOException {
+        this.format = format;
+        this.columns = columns;
+        this.out = out;
+        this.objectMapper = objectMapper;
+        this.csv = format == PayrollExportFormat.CSV
+                ? new CSVPrinter(out, CSVFormat.DEFAULT.builder()
+                        .setHeader(columns.stream().map(PayrollColumn::header).toArray(String[]::new))
+                        .build())
+                : null;
+    }
+
+    /** Unchecked so it can be called from a row callback; the caller unwraps the failure. */
+    void write(PayrollRow row) {
+        try {
+            if (csv != null) {
+                List<Object> values = new ArrayList<>(columns.size());
+                for (PayrollColumn column : columns) {
+                    values.add(value(column, row));
+                }
+                csv.printRecord(values);
+            } else {
+                Map<String, Object> values = new LinkedHashMap<>();
+                for (PayrollColumn column : columns) {
+                    values.put(column.header(), value(column, row));
+                }
+                out.write(objectMapper.writeValueAsString(values));
+                out.write('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write " + format + " payroll row", e);
+        }
+    }
+
+    void finish() throws IOException {
+        out.flush();
+    }
+
+    private static Object value(PayrollColumn column, PayrollRow row) {
+        Object value = switch (column.field()) {
+            case EMPLOYEE_ID -> row.employeePublicId();
+            case EMPLOYEE_EMAIL -> row.employeeEmail();
+            case FIRST_NAME -> row.firstName();
+            case LAST_NAME -> row.lastName();
+            case TIMESHEET_ID -> row.timesheetPublicId();
+            case WEEK_START -> row.weekStart();
+            case WORK_DATE -> row.workDate();
+            case CLOCK_IN -> row.clockIn();
+            case CLOCK_OUT -> row.clockOut();
+            case HOURS -> row.hours();
+            case TIME_OFF_HOURS -> row.timeOffHours();
+            case WEEK_TOTAL_HOURS -> row.weekTotalHours();
+            case APPROVED_AT -> row.approvedAt();
+            case APPROVED_BY -> row.approvedBy();
+        };
+        if (value == null || value instanceof Number) {
+            return value;
+        }
+        return value.toString();
+    }
+}
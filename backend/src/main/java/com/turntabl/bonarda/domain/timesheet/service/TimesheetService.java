@@ -1,7 +1,11 @@
 package com.turntabl.bonarda.domain.timesheet.service;
 
+import com.turntabl.bonarda.domain.common.dto.BulkReviewResultDto;
+import com.turntabl.bonarda.domain.common.dto.CursorPageDto;
+import com.turntabl.bonarda.domain.common.dto.ListFilter;
+import com.turntabl.bonarda.domain.common.dto.SliceDto;
 import com.turntabl.bonarda.domain.timesheet.dto.*;
-import org.springframework.data.domain.Page;
+import com.turntabl.bonarda.domain.timesheet.model.PunchDirection;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
@@ -12,23 +16,45 @@ public interface TimesheetService {
 
     TimesheetDto getOrCreateTimesheet(UUID employeePublicId, CreateTimesheetRequest request);
 
-    TimesheetDto updateEntries(UUID timesheetPublicId, UpdateTimesheetEntriesRequest request, UUID currentUserPublicId);
+    /**
+     * Reconciles the week's entries by date: only changed days are written. When
+     * {@code expectedVersion} is given it must match the timesheet's current version.
+     */
+    TimesheetDto updateEntries(UUID timesheetPublicId, UpdateTimesheetEntriesRequest request,
+                               UUID currentUserPublicId, Long expectedVersion);
 
-    TimesheetDto clockIn(UUID employeePublicId);
+    /**
+     * Appends a clock punch to the log. The day's entry and the week's total follow once
+     * the projector has run, usually within seconds.
+     */
+    ClockPunchDto punch(Long employeeId, PunchDirection direction, String source);
 
-    TimesheetDto clockOut(UUID employeePublicId);
+    List<ClockPunchDto> getTodayPunches(Long employeeId);
 
     TimesheetDto submit(UUID timesheetPublicId, UUID employeePublicId);
 
     TimesheetDto review(UUID timesheetPublicId, UUID reviewerPublicId, ReviewTimesheetRequest request);
 
-    List<TimesheetDto> getMyTimesheets(UUID employeePublicId);
+    /**
+     * Applies one decision to many submitted timesheets. Timesheets that cannot be
+     * reviewed are reported per item instead of failing the whole batch.
+     */
+    BulkReviewResultDto<TimesheetDto> reviewAll(UUID reviewerPublicId, BulkReviewTimesheetRequest request);
+
+    CursorPageDto<TimesheetDto> getMyTimesheets(UUID employeePublicId, ListFilter filter, String cursor, int size);
 
     TimesheetDto getCurrentWeekTimesheet(UUID employeePublicId);
 
-    List<TimesheetDto> getTeamTimesheets(UUID managerPublicId);
+    CursorPageDto<TimesheetDto> getTeamTimesheets(UUID managerPublicId, ListFilter filter, String cursor, int size);
+
+    /**
+     * The manager's direct reports who have not submitted the week, or submitted it late.
+     * Defaults to last week; the deadline is the end of the week's Sunday.
+     */
+    SubmissionReportDto getTeamSubmissionReport(UUID managerPublicId, String weekStart);
 
-    Page<TimesheetDto> getAllTimesheets(Pageable pageable);
+    /** Admin listing without a count query; the total is an estimate and only computed on request. */
+    SliceDto<TimesheetDto> getAllTimesheets(Pageable pageable, boolean estimateTotal);
 
     TimesheetDto getTimesheetById(UUID publicId, UUID callerPublicId, Set<String> callerPermissions);
 }
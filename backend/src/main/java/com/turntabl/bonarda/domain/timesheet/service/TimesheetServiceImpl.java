@@ -1,29 +1,47 @@
 package com.turntabl.bonarda.domain.timesheet.service;
 
+import com.turntabl.bonarda.domain.common.dto.BulkReviewItemDto;
+import com.turntabl.bonarda.domain.common.dto.BulkReviewResultDto;
+import com.turntabl.bonarda.domain.common.dto.CursorPageDto;
+import com.turntabl.bonarda.domain.common.dto.KeysetCursor;
+import com.turntabl.bonarda.domain.common.dto.ListFilter;
+import com.turntabl.bonarda.domain.common.dto.SliceDto;
+import com.turntabl.bonarda.domain.common.service.EnumParser;
+import com.turntabl.bonarda.domain.common.service.RowCountEstimator;
 import com.turntabl.bonarda.domain.employee.model.Employee;
 import com.turntabl.bonarda.domain.employee.repository.EmployeeRepository;
 import com.turntabl.bonarda.domain.timesheet.dto.*;
+import com.turntabl.bonarda.domain.timesheet.model.PunchDirection;
+import com.turntabl.bonarda.domain.timesheet.model.PunchSource;
 import com.turntabl.bonarda.domain.timesheet.model.Timesheet;
 import com.turntabl.bonarda.domain.timesheet.model.TimesheetEntry;
 import com.turntabl.bonarda.domain.timesheet.model.TimesheetStatus;
-import com.turntabl.bonarda.domain.timesheet.repository.TimesheetEntryRepository;
+import com.turntabl.bonarda.domain.timesheet.model.TimesheetStatusChanged;
+import com.turntabl.bonarda.domain.timesheet.repository.ClockPunchRepository;
 import com.turntabl.bonarda.domain.timesheet.repository.TimesheetRepository;
+import com.turntabl.bonarda.domain.timesheet.repository.TimesheetWeekRepository;
 import com.turntabl.bonarda.exception.BadRequestException;
+import com.turntabl.bonarda.exception.PreconditionFailedException;
 import com.turntabl.bonarda.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.DayOfWeek;
-import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -34,8 +52,12 @@ import java.util.stream.Collectors;
 public class TimesheetServiceImpl implements TimesheetService {
 
     private final TimesheetRepository timesheetRepository;
-    private final TimesheetEntryRepository entryRepository;
+    private final ClockPunchRepository punchRepository;
+    private final TimesheetWeekRepository weekRepository;
     private final EmployeeRepository employeeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EnumParser enumParser;
+    private final RowCountEstimator rowCountEstimator;
 
     @Override
     public TimesheetDto getOrCreateTimesheet(UUID employeePublicId, CreateTimesheetRequest request) {
@@ -63,7 +85,8 @@ public class TimesheetServiceImpl implements TimesheetService {
     }
 
     @Override
-    public TimesheetDto updateEntries(UUID timesheetPublicId, UpdateTimesheetEntriesRequest request, UUID currentUserPublicId) {
+    public TimesheetDto updateEntries(UUID timesheetPublicId, UpdateTimesheetEntriesRequest request,
+                                     UUID currentUserPublicId, Long expectedVersion) {
         Timesheet timesheet = timesheetRepository.findByPublicIdForUpdate(timesheetPublicId)
                 .orElseThrow(() -> new ResourceNotFoundException("Timesheet", "publicId", timesheetPublicId));
 
@@ -74,6 +97,10 @@ public class TimesheetServiceImpl implements TimesheetService {
             throw new BadRequestException("You can only update your own timesheets");
         }
 
+        if (expectedVersion != null && !expectedVersion.equals(timesheet.getVersion())) {
+            throw new PreconditionFailedException("This timesheet has changed since it was loaded");
+        }
+
         // Validate status allows editing
         if (timesheet.getStatus() != TimesheetStatus.DRAFT && timesheet.getStatus() != TimesheetStatus.REJECTED) {
             throw new BadRequestException("Only DRAFT or REJECTED timesheets can be edited");
@@ -90,122 +117,70 @@ public class TimesheetServiceImpl implements TimesheetService {
         LocalDate weekEnd = weekStart.plusDays(6);
 
         // Validate all entry dates are within the week
+        Map<LocalDate, TimesheetEntryRequest> requested = new HashMap<>();
         for (TimesheetEntryRequest entryReq : request.getEntries()) {
             if (entryReq.getEntryDate().isBefore(weekStart) || entryReq.getEntryDate().isAfter(weekEnd)) {
                 throw new BadRequestException("Entry date " + entryReq.getEntryDate() +
                         " is outside the timesheet week (" + weekStart + " to " + weekEnd + ")");
             }
+            if (requested.put(entryReq.getEntryDate(), entryReq) != null) {
+                throw new BadRequestException("Entry date " + entryReq.getEntryDate() + " appears more than once");
+            }
         }
 
-        // Clear existing entries and replace
-        timesheet.getEntries().clear();
-
-        for (TimesheetEntryRequest entryReq : request.getEntries()) {
+        // Reconcile by date: changed days are updated in place, missing days deleted, new days inserted
+        boolean changed = timesheet.getEntries().removeIf(entry -> !requested.containsKey(entry.getEntryDate()));
+        for (TimesheetEntry entry : timesheet.getEntries()) {
+            changed |= applyEntry(entry, requested.remove(entry.getEntryDate()));
+        }
+        for (TimesheetEntryRequest entryReq : requested.values()) {
             TimesheetEntry entry = TimesheetEntry.builder()
+                    .publicId(UUID.randomUUID())
                     .timesheet(timesheet)
                     .entryDate(entryReq.getEntryDate())
-                    .clockIn(entryReq.getClockIn())
-                    .clockOut(entryReq.getClockOut())
-                    .hours(entryReq.getHours())
                     .build();
+            applyEntry(entry, entryReq);
             timesheet.getEntries().add(entry);
+            changed = true;
         }
+        timesheet.getEntries().sort(Comparator.comparing(TimesheetEntry::getEntryDate));
 
-        timesheet.recalculateTotalHours();
-        Timesheet saved = timesheetRepository.save(timesheet);
+        if (changed) {
+            // Dirty the timesheet so its version, the one clients send in If-Match, moves with any entry edit
+            timesheet.setUpdatedAt(LocalDateTime.now());
+            timesheet.recalculateTotalHours();
+        }
+        Timesheet saved = timesheetRepository.saveAndFlush(timesheet);
         return toDto(saved);
     }
 
     @Override
-    public TimesheetDto clockIn(UUID employeePublicId) {
-        Employee employee = resolveEmployeeByPublicId(employeePublicId);
-
-        LocalDate today = LocalDate.now();
+    public ClockPunchDto punch(Long employeeId, PunchDirection direction, String source) {
+        PunchSource punchSource = enumParser.parse(PunchSource.class, source, "source");
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate today = now.toLocalDate();
         LocalDate weekStart = today.with(DayOfWeek.MONDAY);
 
-        // Get or create this week's timesheet
-        Timesheet timesheet = timesheetRepository.findByEmployeeIdAndWeekStartWithDetails(
-                employee.getId(), weekStart)
-                .orElseGet(() -> {
-                    Timesheet newTimesheet = Timesheet.builder()
-                            .employee(employee)
-                            .weekStart(weekStart)
-                            .build();
-                    return timesheetRepository.save(newTimesheet);
-                });
-
-        if (timesheet.getStatus() != TimesheetStatus.DRAFT && timesheet.getStatus() != TimesheetStatus.REJECTED) {
-            throw new BadRequestException("Cannot clock in — this week's timesheet has already been " +
-                    timesheet.getStatus().name().toLowerCase());
-        }
-
-        // Check if today already has an entry with clockIn
-        entryRepository.findByTimesheetIdAndEntryDate(timesheet.getId(), today)
-                .ifPresent(existing -> {
-                    if (existing.getClockIn() != null) {
-                        throw new BadRequestException("You have already clocked in today");
+        return punchRepository.insert(employeeId, now, direction, punchSource, weekStart)
+                .map(this::toPunchDto)
+                .orElseThrow(() -> {
+                    ClockPunchRepository.PunchState state = punchRepository.findPunchState(employeeId, today, weekStart);
+                    if (state.timesheetStatus() != null && !isEditable(state.timesheetStatus())) {
+                        return new BadRequestException("Cannot clock " + direction.name().toLowerCase() +
+                                " — this week's timesheet has already been " + state.timesheetStatus().toLowerCase());
                     }
+                    return direction == PunchDirection.IN
+                            ? new BadRequestException("You are already clocked in")
+                            : new BadRequestException("You are not clocked in");
                 });
-
-        // Create or update today's entry
-        TimesheetEntry entry = entryRepository.findByTimesheetIdAndEntryDate(timesheet.getId(), today)
-                .orElse(TimesheetEntry.builder()
-                        .timesheet(timesheet)
-                        .entryDate(today)
-                        .hours(BigDecimal.ZERO)
-                        .build());
-
-        entry.setClockIn(LocalTime.now());
-        entryRepository.save(entry);
-
-        // Reload with details
-        Timesheet reloaded = timesheetRepository.findByPublicIdWithDetails(timesheet.getPublicId())
-                .orElseThrow();
-        reloaded.recalculateTotalHours();
-        timesheetRepository.save(reloaded);
-
-        return toDto(reloaded);
     }
 
     @Override
-    public TimesheetDto clockOut(UUID employeePublicId) {
-        Employee employee = resolveEmployeeByPublicId(employeePublicId);
-
-        LocalDate today = LocalDate.now();
-        LocalDate weekStart = today.with(DayOfWeek.MONDAY);
-
-        Timesheet timesheet = timesheetRepository.findByEmployeeIdAndWeekStartWithDetails(
-                employee.getId(), weekStart)
-                .orElseThrow(() -> new BadRequestException("No timesheet found for this week. Please clock in first."));
-
-        TimesheetEntry entry = entryRepository.findByTimesheetIdAndEntryDate(timesheet.getId(), today)
-                .orElseThrow(() -> new BadRequestException("No entry found for today. Please clock in first."));
-
-        if (entry.getClockIn() == null) {
-            throw new BadRequestException("You have not clocked in today");
-        }
-
-        if (entry.getClockOut() != null) {
-            throw new BadRequestException("You have already clocked out today");
-        }
-
-        LocalTime clockOut = LocalTime.now();
-        entry.setClockOut(clockOut);
-
-        // Compute hours from duration
-        Duration duration = Duration.between(entry.getClockIn(), clockOut);
-        BigDecimal hours = BigDecimal.valueOf(duration.toMinutes())
-                .divide(BigDecimal.valueOf(60), 1, RoundingMode.HALF_UP);
-        entry.setHours(hours);
-        entryRepository.save(entry);
-
-        // Recalculate total
-        Timesheet reloaded = timesheetRepository.findByPublicIdWithDetails(timesheet.getPublicId())
-                .orElseThrow();
-        reloaded.recalculateTotalHours();
-        timesheetRepository.save(reloaded);
-
-        return toDto(reloaded);
+    @Transactional(readOnly = true)
+    public List<ClockPunchDto> getTodayPunches(Long employeeId) {
+        return punchRepository.findDay(employeeId, LocalDate.now()).stream()
+                .map(this::toPunchDto)
+                .collect(Collectors.toList());
     }
 
     @Override
@@ -238,6 +213,7 @@ public class TimesheetServiceImpl implements TimesheetService {
         timesheet.setReviewedAt(null);
 
         Timesheet saved = timesheetRepository.save(timesheet);
+        publishStatusChange(saved);
         return toDto(saved);
     }
 
@@ -273,16 +249,63 @@ public class TimesheetServiceImpl implements TimesheetService {
         timesheet.setReviewedAt(LocalDateTime.now());
 
         Timesheet saved = timesheetRepository.save(timesheet);
+        publishStatusChange(saved);
         return toDto(saved);
     }
 
+    @Override
+    public BulkReviewResultDto<TimesheetDto> reviewAll(UUID reviewerPublicId, BulkReviewTimesheetRequest request) {
+        TimesheetStatus decision = enumParser.parse(TimesheetStatus.class, request.getDecision(), "decision");
+        Employee reviewer = resolveEmployeeByPublicId(reviewerPublicId);
+
+        Set<UUID> ids = new LinkedHashSet<>(request.getIds());
+        Map<UUID, Timesheet> locked = timesheetRepository.findAllByPublicIdInForUpdate(ids).stream()
+                .collect(Collectors.toMap(Timesheet::getPublicId, t -> t));
+
+        LocalDateTime reviewedAt = LocalDateTime.now();
+        Map<UUID, String> failures = new HashMap<>();
+        List<Timesheet> reviewed = new ArrayList<>();
+        for (UUID id : ids) {
+            Timesheet timesheet = locked.get(id);
+            if (timesheet == null) {
+                failures.put(id, "Timesheet not found");
+            } else if (timesheet.getStatus() != TimesheetStatus.SUBMITTED) {
+                failures.put(id, "Only submitted timesheets can be reviewed");
+            } else if (timesheet.getEmployee().getId().equals(reviewer.getId())) {
+                failures.put(id, "You cannot review your own timesheet");
+            } else {
+                timesheet.setStatus(decision);
+                timesheet.setReviewer(reviewer);
+                timesheet.setReviewNote(request.getNote());
+                timesheet.setReviewedAt(reviewedAt);
+                reviewed.add(timesheet);
+            }
+        }
+        timesheetRepository.saveAll(reviewed);
+        reviewed.forEach(this::publishStatusChange);
+
+        List<BulkReviewItemDto<TimesheetDto>> items = ids.stream()
+                .map(id -> failures.containsKey(id)
+                        ? BulkReviewItemDto.<TimesheetDto>builder()
+                                .id(id.toString()).success(false).message(failures.get(id)).build()
+                        : BulkReviewItemDto.<TimesheetDto>builder()
+                                .id(id.toString()).success(true).result(toDto(locked.get(id))).build())
+                .toList();
+        return BulkReviewResultDto.of(items);
+    }
+
     @Override
     @Transactional(readOnly = true)
-    public List<TimesheetDto> getMyTimesheets(UUID employeePublicId) {
+    public CursorPageDto<TimesheetDto> getMyTimesheets(UUID employeePublicId, ListFilter filter,
+                                                       String cursor, int size) {
         Employee employee = resolveEmployeeByPublicId(employeePublicId);
-        return timesheetRepository.findByEmployeeIdOrderByWeekStartDesc(employee.getId()).stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
+        int limit = KeysetCursor.pageSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+
+        List<Timesheet> rows = timesheetRepository.findEmployeePage(employee.getId(), statusFilter(filter),
+                filter.fromOrEarliest(), filter.toOrLatest(), after.dateKey(), after.id(),
+                PageRequest.of(0, limit + 1));
+        return CursorPageDto.of(rows, limit, this::toDto, t -> KeysetCursor.after(t.getWeekStart(), t.getId()));
     }
 
     @Override
@@ -298,17 +321,44 @@ public class TimesheetServiceImpl implements TimesheetService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<TimesheetDto> getTeamTimesheets(UUID managerPublicId) {
+    public CursorPageDto<TimesheetDto> getTeamTimesheets(UUID managerPublicId, ListFilter filter,
+                                                         String cursor, int size) {
         Employee manager = resolveEmployeeByPublicId(managerPublicId);
-        return timesheetRepository.findByEmployeeReportsToId(manager.getId()).stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
+        int limit = KeysetCursor.pageSize(size);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+
+        List<Timesheet> rows = timesheetRepository.findTeamPage(manager.getId(), statusFilter(filter),
+                filter.fromOrEarliest(), filter.toOrLatest(), after.dateKey(), after.id(),
+                PageRequest.of(0, limit + 1));
+        return CursorPageDto.of(rows, limit, this::toDto, t -> KeysetCursor.after(t.getWeekStart(), t.getId()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SubmissionReportDto getTeamSubmissionReport(UUID managerPublicId, String weekStart) {
+        Employee manager = resolveEmployeeByPublicId(managerPublicId);
+        LocalDate week = parseWeekStart(weekStart);
+        LocalDateTime deadline = week.plusWeeks(1).atStartOfDay();
+
+        Map<Boolean, List<SubmissionGapDto>> gaps = weekRepository.findTeamGaps(manager.getId(), week, deadline)
+                .stream()
+                .collect(Collectors.partitioningBy(
+                        row -> row.status() == null || isEditable(row.status()),
+                        Collectors.mapping(this::toGapDto, Collectors.toList())));
+
+        return SubmissionReportDto.builder()
+                .weekStart(week.toString())
+                .deadline(deadline)
+                .missing(gaps.get(true))
+                .late(gaps.get(false))
+                .build();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<TimesheetDto> getAllTimesheets(Pageable pageable) {
-        return timesheetRepository.findAllWithAssociations(pageable).map(this::toDto);
+    public SliceDto<TimesheetDto> getAllTimesheets(Pageable pageable, boolean estimateTotal) {
+        return SliceDto.of(timesheetRepository.findAllWithAssociations(pageable).map(this::toDto),
+                estimateTotal ? rowCountEstimator.estimateTable("timesheets", timesheetRepository::count) : null);
     }
 
     @Override
@@ -342,6 +392,11 @@ public class TimesheetServiceImpl implements TimesheetService {
         }
     }
 
+    private Set<TimesheetStatus> statusFilter(ListFilter filter) {
+        TimesheetStatus status = enumParser.parseOptional(TimesheetStatus.class, filter.status(), "status");
+        return status != null ? EnumSet.of(status) : EnumSet.allOf(TimesheetStatus.class);
+    }
+
     private Employee resolveEmployeeByPublicId(UUID publicId) {
         return employeeRepository.findByPublicId(publicId)
                 .orElseThrow(() -> new ResourceNotFoundException("Employee", "publicId", publicId));
@@ -368,6 +423,59 @@ public class TimesheetServiceImpl implements TimesheetService {
                 .reviewNote(timesheet.getReviewNote())
                 .reviewedAt(timesheet.getReviewedAt())
                 .createdAt(timesheet.getCreatedAt())
+                .version(timesheet.getVersion())
+                .build();
+    }
+
+    /** Copies the requested values onto the entry and reports whether any of them differed. */
+    private static boolean applyEntry(TimesheetEntry entry, TimesheetEntryRequest request) {
+        boolean changed = !Objects.equals(entry.getClockIn(), request.getClockIn())
+                || !Objects.equals(entry.getClockOut(), request.getClockOut())
+                || entry.getHours() == null
+                || entry.getHours().compareTo(request.getHours()) != 0;
+        if (changed) {
+            entry.setClockIn(request.getClockIn());
+            entry.setClockOut(request.getClockOut());
+            entry.setHours(request.getHours());
+        }
+        return changed;
+    }
+
+    private static boolean isEditable(String status) {
+        return TimesheetStatus.DRAFT.name().equals(status) || TimesheetStatus.REJECTED.name().equals(status);
+    }
+
+    private static LocalDate parseWeekStart(String weekStart) {
+        if (weekStart == null || weekStart.isBlank()) {
+            return LocalDate.now().with(DayOfWeek.MONDAY).minusWeeks(1);
+        }
+        LocalDate week;
+        try {
+            week = LocalDate.parse(weekStart);
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("Invalid 'weekStart' date: '" + weekStart + "'");
+        }
+        if (week.getDayOfWeek() != DayOfWeek.MONDAY) {
+            throw new BadRequestException("Week start date must be a Monday");
+        }
+        return week;
+    }
+
+    private SubmissionGapDto toGapDto(TimesheetWeekRepository.SubmissionRow row) {
+        return SubmissionGapDto.builder()
+                .employeeId(row.employeePublicId().toString())
+                .employeeName(row.firstName() + " " + row.lastName())
+                .timesheetId(row.timesheetPublicId() != null ? row.timesheetPublicId().toString() : null)
+                .status(row.status())
+                .submittedAt(row.submittedAt())
+                .build();
+    }
+
+    private ClockPunchDto toPunchDto(ClockPunchRepository.Punch punch) {
+        return ClockPunchDto.builder()
+                .direction(punch.direction().name())
+                .punchedAt(punch.punchedAt())
+                .source(punch.source().name())
                 .build();
     }
 
@@ -380,4 +488,10 @@ public class TimesheetServiceImpl implements TimesheetService {
                 .hours(entry.getHours())
                 .build();
     }
+
+    private void publishStatusChange(Timesheet timesheet) {
+        Employee employee = timesheet.getEmployee();
+        eventPublisher.publishEvent(new TimesheetStatusChanged(timesheet.getPublicId(), employee.getId(),
+                employee.getReportsTo() != null ? employee.getReportsTo().getId() : null, timesheet.getStatus()));
+    }
 }
@@ -0,0 +1,73 @@
+package com.turntabl.bonarda.domain.timesheet.service;
+
+import com.turntabl.bonarda.domain.common.model.Notification;
+import com.turntabl.bonarda.domain.common.service.NotificationSink;
+import com.turntabl.bonarda.domain.timesheet.repository.TimesheetWeekRepository;
+import com.turntabl.bonarda.domain.timesheet.repository.TimesheetWeekRepository.MissingSubmission;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Monday housekeeping for timesheets: opens the new week for every active employee with
+ * approved time off already filled in, and sends each manager one digest of last week's
+ * unsubmitted timesheets. Inserts are conditional and the digest rows are claimed by a
+ * conditional update, so the job can run on every node; a sink failure rolls the claim
+ * back and the rows are picked up again on the next run.
+ */
+@Component
+@Slf4j
+public class TimesheetWeekJob {
+
+    private final TimesheetWeekRepository weekRepository;
+    private final NotificationSink notificationSink;
+    private final BigDecimal standardDayHours;
+
+    public TimesheetWeekJob(TimesheetWeekRepository weekRepository,
+                            NotificationSink notificationSink,
+                            @Value("${app.timesheets.standard-day-hours:8}") BigDecimal standardDayHours) {
+        this.weekRepository = weekRepository;
+        this.notificationSink = notificationSink;
+        this.standardDayHours = standardDayHours;
+    }
+
+    @Scheduled(cron = "${app.timesheets.week-job.cron:0 0 6 * * MON}")
+    @Transactional
+    public void run() {
+        LocalDate thisWeek = LocalDate.now().with(DayOfWeek.MONDAY);
+        LocalDate lastWeek = thisWeek.minusWeeks(1);
+
+        // Last week too, so anyone who never opened it shows up as missing
+        int created = weekRepository.createWeek(thisWeek) + weekRepository.createWeek(lastWeek);
+        int prefilled = weekRepository.prefillTimeOff(thisWeek, standardDayHours);
+
+        Map<Long, List<MissingSubmission>> byManager = weekRepository.claimMissing(lastWeek).stream()
+                .collect(Collectors.groupingBy(MissingSubmission::managerId, LinkedHashMap::new, Collectors.toList()));
+        byManager.values().forEach(rows -> notificationSink.send(toDigest(lastWeek, rows)));
+
+        log.info("Timesheet week {}: {} timesheets created, {} prefilled with time off, {} managers notified",
+                thisWeek, created, prefilled, byManager.size());
+    }
+
+    private static Notification toDigest(LocalDate weekStart, List<MissingSubmission> rows) {
+        MissingSubmission first = rows.get(0);
+        List<String> lines = rows.stream()
+                .map(row -> row.firstName() + " " + row.lastName())
+                .sorted()
+                .collect(Collectors.toList());
+        return new Notification(first.managerEmail(),
+                first.managerFirstName() + " " + first.managerLastName(),
+                rows.size() + " timesheet(s) not submitted for the week of " + weekStart,
+                lines);
+    }
+}
@@ -0,0 +1,8 @@
+package com.turntabl.bonarda.exception;
+
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
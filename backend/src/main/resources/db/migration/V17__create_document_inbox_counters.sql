@@ -0,0 +1,28 @@
+-- V17: Per-employee document inbox counters + inbox keyset indexes
+
+CREATE TABLE document_inbox_counters (
+    employee_id BIGINT PRIMARY KEY,
+    unread_count INT NOT NULL DEFAULT 0,
+    pending_signature_count INT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_document_inbox_counters_employee
+        FOREIGN KEY (employee_id) REFERENCES employees(id) ON DELETE CASCADE,
+    CONSTRAINT chk_document_inbox_counters_non_negative
+        CHECK (unread_count >= 0 AND pending_signature_count >= 0)
+);
+
+CREATE TRIGGER update_document_inbox_counters_updated_at BEFORE UPDATE ON document_inbox_counters
+    FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
+
+-- Backfill from existing shares and signatures
+INSERT INTO document_inbox_counters (employee_id, unread_count, pending_signature_count)
+SELECT e.id,
+       (SELECT COUNT(*) FROM document_shares s WHERE s.employee_id = e.id AND s.viewed_at IS NULL),
+       (SELECT COUNT(*) FROM document_signatures g WHERE g.employee_id = e.id AND g.status = 'PENDING')
+FROM employees e;
+
+-- Keyset ordering for the inbox: newest first, id as tie-breaker
+CREATE INDEX idx_document_shares_employee_inbox
+    ON document_shares(employee_id, created_at DESC, document_id DESC);
+CREATE INDEX idx_documents_company_wide_inbox
+    ON documents(created_at DESC, id DESC) WHERE company_wide = true;
@@ -0,0 +1,14 @@
+-- V18: Read receipts for company-wide documents
+-- One row per document; reader_bitmap is a deflated bitset indexed by employees.id.
+
+CREATE TABLE document_read_receipts (
+    document_id BIGINT PRIMARY KEY,
+    reader_bitmap BYTEA NOT NULL,
+    reader_count INT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_document_read_receipts_document
+        FOREIGN KEY (document_id) REFERENCES documents(id) ON DELETE CASCADE
+);
+
+CREATE TRIGGER update_document_read_receipts_updated_at BEFORE UPDATE ON document_read_receipts
+    FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
@@ -0,0 +1,12 @@
+-- V19: Full-text search over document metadata
+
+-- Title weighs most, then description, then the file name. File names use the
+-- 'simple' configuration so tokens like "handbook_v2" are not stemmed away.
+ALTER TABLE documents ADD COLUMN search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(description, '')), 'B') ||
+        setweight(to_tsvector('simple', coalesce(sharepoint_file_name, '')), 'C')
+    ) STORED;
+
+CREATE INDEX idx_documents_search_vector ON documents USING GIN (search_vector);
@@ -0,0 +1,13 @@
+-- V20: Signature deadline reminders and expiry
+
+ALTER TABLE document_signatures ADD COLUMN reminder_sent_at TIMESTAMP;
+
+ALTER TABLE document_signatures DROP CONSTRAINT chk_signature_status;
+ALTER TABLE document_signatures ADD CONSTRAINT chk_signature_status
+    CHECK (status IN ('PENDING', 'SIGNED', 'DECLINED', 'EXPIRED'));
+
+-- The deadline sweep walks documents by deadline, then their pending signatures
+CREATE INDEX idx_documents_signature_deadline
+    ON documents(signature_deadline) WHERE requires_signature = true AND signature_deadline IS NOT NULL;
+CREATE INDEX idx_document_signatures_pending
+    ON document_signatures(document_id) WHERE status = 'PENDING';
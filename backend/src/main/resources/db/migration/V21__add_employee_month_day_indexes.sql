@@ -0,0 +1,10 @@
+-- V21: Month-day expression indexes for the birthdays & anniversaries feed
+-- The key is month * 100 + day (e.g. 229 for 29 February). Queries must use the same expression.
+
+CREATE INDEX idx_employees_birthday_month_day
+    ON employees ((EXTRACT(MONTH FROM birthday)::int * 100 + EXTRACT(DAY FROM birthday)::int))
+    WHERE status = 'ACTIVE' AND birthday IS NOT NULL;
+
+CREATE INDEX idx_employees_hire_date_month_day
+    ON employees ((EXTRACT(MONTH FROM hire_date)::int * 100 + EXTRACT(DAY FROM hire_date)::int))
+    WHERE status = 'ACTIVE';
@@ -0,0 +1,28 @@
+-- V22: Daily absence index — one row per approved request per business day
+-- Maintained by the application on approve and cancel; weight is 0.5 for half days.
+
+CREATE TABLE time_off_absence_days (
+    request_id BIGINT NOT NULL,
+    employee_id BIGINT NOT NULL,
+    absence_date DATE NOT NULL,
+    weight NUMERIC(2,1) NOT NULL,
+    PRIMARY KEY (request_id, absence_date),
+    CONSTRAINT fk_time_off_absence_days_request
+        FOREIGN KEY (request_id) REFERENCES time_off_requests(id) ON DELETE CASCADE,
+    CONSTRAINT fk_time_off_absence_days_employee
+        FOREIGN KEY (employee_id) REFERENCES employees(id) ON DELETE CASCADE,
+    CONSTRAINT chk_time_off_absence_days_weight
+        CHECK (weight IN (0.5, 1.0))
+);
+
+-- Coverage queries walk a team's members, then each member's days in the window
+CREATE INDEX idx_time_off_absence_days_employee_date
+    ON time_off_absence_days (employee_id, absence_date) INCLUDE (weight);
+
+-- Backfill from requests approved so far
+INSERT INTO time_off_absence_days (request_id, employee_id, absence_date, weight)
+SELECT r.id, r.employee_id, d::date, CASE WHEN r.half_day THEN 0.5 ELSE 1.0 END
+FROM time_off_requests r
+CROSS JOIN LATERAL generate_series(r.start_date, r.end_date, INTERVAL '1 day') AS d
+WHERE r.status = 'APPROVED'
+  AND EXTRACT(ISODOW FROM d) < 6;
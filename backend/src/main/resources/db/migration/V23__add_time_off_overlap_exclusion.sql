@@ -0,0 +1,17 @@
+-- V23: Database-enforced overlap prevention for time off requests
+-- An employee's pending and approved requests may not share a day, except a MORNING
+-- and an AFTERNOON half day. Each request covers a slot range within its days:
+-- [0,1) morning, [1,2) afternoon, [0,2) full day.
+
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+ALTER TABLE time_off_requests ADD CONSTRAINT excl_time_off_requests_overlap
+    EXCLUDE USING gist (
+        employee_id WITH =,
+        daterange(start_date, end_date, '[]') WITH &&,
+        int4range(
+            CASE WHEN half_day AND half_day_period = 'AFTERNOON' THEN 1 ELSE 0 END,
+            CASE WHEN half_day AND half_day_period = 'MORNING' THEN 1 ELSE 2 END
+        ) WITH &&
+    )
+    WHERE (status IN ('PENDING', 'APPROVED'));
@@ -0,0 +1,26 @@
+-- V24: Keyset indexes for the personal and team list endpoints
+-- Each list is read newest first on (sort key, id) within one employee or project, so a
+-- page is a single index range however far back the cursor points. Status filters are
+-- applied to the rows the range yields.
+
+CREATE INDEX idx_time_off_requests_employee_created
+    ON time_off_requests(employee_id, created_at DESC, id DESC);
+
+CREATE INDEX idx_timesheets_employee_week
+    ON timesheets(employee_id, week_start DESC, id DESC);
+
+CREATE INDEX idx_project_time_logs_employee_date
+    ON project_time_logs(employee_id, log_date DESC, id DESC);
+CREATE INDEX idx_project_time_logs_project_date_id
+    ON project_time_logs(project_id, log_date DESC, id DESC);
+
+CREATE INDEX idx_document_signatures_employee_created
+    ON document_signatures(employee_id, created_at DESC, id DESC);
+
+-- Superseded by the composites above, which share their leading columns
+DROP INDEX IF EXISTS idx_time_off_requests_employee;
+DROP INDEX IF EXISTS idx_timesheets_employee;
+DROP INDEX IF EXISTS idx_project_time_logs_employee;
+DROP INDEX IF EXISTS idx_project_time_logs_project;
+DROP INDEX IF EXISTS idx_project_time_logs_project_date;
+DROP INDEX IF EXISTS idx_document_signatures_employee;
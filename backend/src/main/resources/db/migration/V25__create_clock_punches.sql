@@ -0,0 +1,41 @@
+-- V25: Append-only clock punch log
+-- A punch is one insert with no row locks. Daily timesheet entries and weekly totals are
+-- derived from the punches by a background projector, which claims unprojected rows
+-- through projected_at.
+
+CREATE TABLE clock_punches (
+    id BIGSERIAL PRIMARY KEY,
+    employee_id BIGINT NOT NULL,
+    punched_at TIMESTAMP NOT NULL,
+    direction VARCHAR(3) NOT NULL,
+    source VARCHAR(20) NOT NULL DEFAULT 'WEB',
+    projected_at TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT fk_clock_punches_employee
+        FOREIGN KEY (employee_id) REFERENCES employees(id) ON DELETE CASCADE,
+    CONSTRAINT chk_clock_punch_direction
+        CHECK (direction IN ('IN', 'OUT')),
+    CONSTRAINT chk_clock_punch_source
+        CHECK (source IN ('WEB', 'MOBILE', 'KIOSK'))
+);
+
+-- An employee's punches for a day, in order
+CREATE INDEX idx_clock_punches_employee_at ON clock_punches(employee_id, punched_at);
+
+-- The projector's queue; rows leave the index once projected
+CREATE INDEX idx_clock_punches_unprojected ON clock_punches(id) WHERE projected_at IS NULL;
+
+-- Carry over the punches already recorded on editable timesheets, so a day clocked in
+-- before this migration can still be clocked out. They are marked projected because the
+-- entries they came from are already up to date.
+INSERT INTO clock_punches (employee_id, punched_at, direction, projected_at)
+SELECT t.employee_id, e.entry_date + e.clock_in, 'IN', CURRENT_TIMESTAMP
+FROM timesheet_entries e
+JOIN timesheets t ON t.id = e.timesheet_id
+WHERE t.status IN ('DRAFT', 'REJECTED') AND e.clock_in IS NOT NULL
+UNION ALL
+SELECT t.employee_id, e.entry_date + e.clock_out, 'OUT', CURRENT_TIMESTAMP
+FROM timesheet_entries e
+JOIN timesheets t ON t.id = e.timesheet_id
+WHERE t.status IN ('DRAFT', 'REJECTED') AND e.clock_in IS NOT NULL AND e.clock_out IS NOT NULL;
@@ -0,0 +1,11 @@
+-- V26: Weekly timesheet generation and missing-submission reporting
+-- Every active employee gets a DRAFT timesheet each Monday, so an unsubmitted week is a
+-- row in a known state rather than a row that does not exist. missing_reported_at records
+-- that the week was included in the manager's digest, which claims it exactly once.
+
+ALTER TABLE timesheets ADD COLUMN missing_reported_at TIMESTAMP;
+
+-- Weeks not yet submitted, which is all the report and the digest read
+CREATE INDEX idx_timesheets_week_unsubmitted
+    ON timesheets(week_start, employee_id)
+    WHERE status IN ('DRAFT', 'REJECTED');
@@ -0,0 +1,157 @@
+-- V27: Hours rollups per employee by day, week, month and overall
+-- Logged hours follow every change to timesheet_entries, and approved hours are added
+-- when a timesheet becomes APPROVED. Entries are written by the JPA editor, the punch
+-- projector and the weekly prefill, so the rollups are maintained by triggers rather
+-- than by each writer. Reports read these tables instead of scanning entries.
+
+CREATE TABLE hours_daily (
+    employee_id BIGINT NOT NULL,
+    day DATE NOT NULL,
+    logged_hours NUMERIC(6,1) NOT NULL DEFAULT 0,
+    approved_hours NUMERIC(6,1) NOT NULL DEFAULT 0,
+    PRIMARY KEY (employee_id, day),
+    CONSTRAINT fk_hours_daily_employee
+        FOREIGN KEY (employee_id) REFERENCES employees(id) ON DELETE CASCADE
+);
+
+CREATE TABLE hours_weekly (
+    employee_id BIGINT NOT NULL,
+    week_start DATE NOT NULL,
+    logged_hours NUMERIC(7,1) NOT NULL DEFAULT 0,
+    approved_hours NUMERIC(7,1) NOT NULL DEFAULT 0,
+    PRIMARY KEY (employee_id, week_start),
+    CONSTRAINT fk_hours_weekly_employee
+        FOREIGN KEY (employee_id) REFERENCES employees(id) ON DELETE CASCADE
+);
+
+CREATE TABLE hours_monthly (
+    employee_id BIGINT NOT NULL,
+    month DATE NOT NULL,
+    logged_hours NUMERIC(8,1) NOT NULL DEFAULT 0,
+    approved_hours NUMERIC(8,1) NOT NULL DEFAULT 0,
+    PRIMARY KEY (employee_id, month),
+    CONSTRAINT fk_hours_monthly_employee
+        FOREIGN KEY (employee_id) REFERENCES employees(id) ON DELETE CASCADE
+);
+
+CREATE TABLE hours_employee (
+    employee_id BIGINT PRIMARY KEY,
+    logged_hours NUMERIC(10,1) NOT NULL DEFAULT 0,
+    approved_hours NUMERIC(10,1) NOT NULL DEFAULT 0,
+    CONSTRAINT fk_hours_employee_employee
+        FOREIGN KEY (employee_id) REFERENCES employees(id) ON DELETE CASCADE
+);
+
+-- Company-wide reports read a period range across all employees
+CREATE INDEX idx_hours_daily_day ON hours_daily(day);
+CREATE INDEX idx_hours_weekly_week ON hours_weekly(week_start);
+CREATE INDEX idx_hours_monthly_month ON hours_monthly(month);
+
+-- Adds the deltas for one employee and day to every rollup
+CREATE OR REPLACE FUNCTION add_rollup_hours(p_employee_id BIGINT, p_day DATE,
+                                            p_logged NUMERIC, p_approved NUMERIC)
+RETURNS VOID AS $$
+BEGIN
+    IF p_employee_id IS NULL OR (p_logged = 0 AND p_approved = 0) THEN
+        RETURN;
+    END IF;
+
+    INSERT INTO hours_daily (employee_id, day, logged_hours, approved_hours)
+    VALUES (p_employee_id, p_day, p_logged, p_approved)
+    ON CONFLICT (employee_id, day) DO UPDATE
+        SET logged_hours = hours_daily.logged_hours + EXCLUDED.logged_hours,
+            approved_hours = hours_daily.approved_hours + EXCLUDED.approved_hours;
+
+    INSERT INTO hours_weekly (employee_id, week_start, logged_hours, approved_hours)
+    VALUES (p_employee_id, date_trunc('week', p_day)::date, p_logged, p_approved)
+    ON CONFLICT (employee_id, week_start) DO UPDATE
+        SET logged_hours = hours_weekly.logged_hours + EXCLUDED.logged_hours,
+            approved_hours = hours_weekly.approved_hours + EXCLUDED.approved_hours;
+
+    INSERT INTO hours_monthly (employee_id, month, logged_hours, approved_hours)
+    VALUES (p_employee_id, date_trunc('month', p_day)::date, p_logged, p_approved)
+    ON CONFLICT (employee_id, month) DO UPDATE
+        SET logged_hours = hours_monthly.logged_hours + EXCLUDED.logged_hours,
+            approved_hours = hours_monthly.approved_hours + EXCLUDED.approved_hours;
+
+    INSERT INTO hours_employee (employee_id, logged_hours, approved_hours)
+    VALUES (p_employee_id, p_logged, p_approved)
+    ON CONFLICT (employee_id) DO UPDATE
+        SET logged_hours = hours_employee.logged_hours + EXCLUDED.logged_hours,
+            approved_hours = hours_employee.approved_hours + EXCLUDED.approved_hours;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Logged hours: undo the old row, apply the new one. An entry of an approved timesheet
+-- is not editable, so only logged hours move here.
+CREATE OR REPLACE FUNCTION rollup_timesheet_entry_hours()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        PERFORM add_rollup_hours((SELECT employee_id FROM timesheets WHERE id = OLD.timesheet_id),
+                                 OLD.entry_date, -OLD.hours, 0);
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        PERFORM add_rollup_hours((SELECT employee_id FROM timesheets WHERE id = NEW.timesheet_id),
+                                 NEW.entry_date, NEW.hours, 0);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Approved hours: a timesheet's entries count once it enters APPROVED, and stop if it leaves
+CREATE OR REPLACE FUNCTION rollup_timesheet_approval()
+RETURNS TRIGGER AS $$
+DECLARE
+    v_sign INT := CASE WHEN NEW.status = 'APPROVED' THEN 1 ELSE -1 END;
+    v_entry RECORD;
+BEGIN
+    FOR v_entry IN SELECT entry_date, hours FROM timesheet_entries WHERE timesheet_id = NEW.id LOOP
+        PERFORM add_rollup_hours(NEW.employee_id, v_entry.entry_date, 0, v_sign * v_entry.hours);
+    END LOOP;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER rollup_timesheet_entries_insert_delete
+    AFTER INSERT OR DELETE ON timesheet_entries
+    FOR EACH ROW EXECUTE FUNCTION rollup_timesheet_entry_hours();
+
+CREATE TRIGGER rollup_timesheet_entries_update
+    AFTER UPDATE OF hours, entry_date ON timesheet_entries
+    FOR EACH ROW
+    WHEN (OLD.hours IS DISTINCT FROM NEW.hours OR OLD.entry_date IS DISTINCT FROM NEW.entry_date)
+    EXECUTE FUNCTION rollup_timesheet_entry_hours();
+
+CREATE TRIGGER rollup_timesheets_approval
+    AFTER UPDATE OF status ON timesheets
+    FOR EACH ROW
+    WHEN ((OLD.status = 'APPROVED') IS DISTINCT FROM (NEW.status = 'APPROVED'))
+    EXECUTE FUNCTION rollup_timesheet_approval();
+
+-- Backfill from the history recorded so far
+WITH days AS (
+    SELECT t.employee_id, e.entry_date AS day,
+           sum(e.hours) AS logged,
+           sum(e.hours) FILTER (WHERE t.status = 'APPROVED') AS approved
+    FROM timesheet_entries e
+    JOIN timesheets t ON t.id = e.timesheet_id
+    GROUP BY t.employee_id, e.entry_date
+)
+INSERT INTO hours_daily (employee_id, day, logged_hours, approved_hours)
+SELECT employee_id, day, logged, COALESCE(approved, 0) FROM days;
+
+INSERT INTO hours_weekly (employee_id, week_start, logged_hours, approved_hours)
+SELECT employee_id, date_trunc('week', day)::date, sum(logged_hours), sum(approved_hours)
+FROM hours_daily
+GROUP BY employee_id, date_trunc('week', day)::date;
+
+INSERT INTO hours_monthly (employee_id, month, logged_hours, approved_hours)
+SELECT employee_id, date_trunc('month', day)::date, sum(logged_hours), sum(approved_hours)
+FROM hours_daily
+GROUP BY employee_id, date_trunc('month', day)::date;
+
+INSERT INTO hours_employee (employee_id, logged_hours, approved_hours)
+SELECT employee_id, sum(logged_hours), sum(approved_hours)
+FROM hours_daily
+GROUP BY employee_id;
@@ -0,0 +1,53 @@
+-- V28: Project hours per employee and day, for reconciling against timesheets
+-- Timesheet hours per day already live in hours_daily (V27). This is the other side of
+-- the ledger: every project time log adds to its employee's day, kept current by a
+-- trigger, so a reconciliation over any period is a join of two compact daily tables
+-- rather than a scan of entries and logs.
+
+CREATE TABLE project_hours_daily (
+    employee_id BIGINT NOT NULL,
+    day DATE NOT NULL,
+    hours NUMERIC(5,1) NOT NULL DEFAULT 0,
+    PRIMARY KEY (employee_id, day),
+    CONSTRAINT fk_project_hours_daily_employee
+        FOREIGN KEY (employee_id) REFERENCES employees(id) ON DELETE CASCADE
+);
+
+-- Company-wide reconciliation reads a period range across all employees
+CREATE INDEX idx_project_hours_daily_day ON project_hours_daily(day);
+
+CREATE OR REPLACE FUNCTION rollup_project_time_log_hours()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        UPDATE project_hours_daily
+        SET hours = hours - OLD.hours
+        WHERE employee_id = OLD.employee_id AND day = OLD.log_date;
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        INSERT INTO project_hours_daily (employee_id, day, hours)
+        VALUES (NEW.employee_id, NEW.log_date, NEW.hours)
+        ON CONFLICT (employee_id, day) DO UPDATE
+            SET hours = project_hours_daily.hours + EXCLUDED.hours;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER rollup_project_time_logs_insert_delete
+    AFTER INSERT OR DELETE ON project_time_logs
+    FOR EACH ROW EXECUTE FUNCTION rollup_project_time_log_hours();
+
+CREATE TRIGGER rollup_project_time_logs_update
+    AFTER UPDATE OF hours, log_date, employee_id ON project_time_logs
+    FOR EACH ROW
+    WHEN (OLD.hours IS DISTINCT FROM NEW.hours
+          OR OLD.log_date IS DISTINCT FROM NEW.log_date
+          OR OLD.employee_id IS DISTINCT FROM NEW.employee_id)
+    EXECUTE FUNCTION rollup_project_time_log_hours();
+
+-- Backfill from the logs recorded so far
+INSERT INTO project_hours_daily (employee_id, day, hours)
+SELECT employee_id, log_date, sum(hours)
+FROM project_time_logs
+GROUP BY employee_id, log_date;
@@ -0,0 +1,24 @@
+-- V29: Payroll exports of approved timesheet hours
+-- The scheduled export claims its period here before writing a file, so with several
+-- nodes running the job each period is exported once. Exports served over HTTP are not
+-- recorded.
+
+CREATE TABLE payroll_export_runs (
+    id BIGSERIAL PRIMARY KEY,
+    period_start DATE NOT NULL,
+    period_end DATE NOT NULL,
+    format VARCHAR(10) NOT NULL,
+    file_name VARCHAR(255) NOT NULL,
+    row_count BIGINT,
+    started_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    completed_at TIMESTAMP,
+
+    CONSTRAINT uq_payroll_export_runs_period
+        UNIQUE (period_start, period_end, format),
+    CONSTRAINT chk_payroll_export_runs_format
+        CHECK (format IN ('CSV', 'NDJSON'))
+);
+
+-- The export reads the approved weeks overlapping a period
+CREATE INDEX idx_timesheets_approved_week
+    ON timesheets(week_start, employee_id) WHERE status = 'APPROVED';
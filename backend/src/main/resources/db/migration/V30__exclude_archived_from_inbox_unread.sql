@@ -0,0 +1,37 @@
+-- V30: Unread inbox counts exclude archived documents, as the inbox itself does
+-- The V17 backfill counted every unviewed share, so badges could show documents the
+-- inbox no longer lists. Counts are rebuilt with the inbox's filter, and a trigger moves
+-- a document's unviewed shares out of (or back into) the counts when its status crosses
+-- ARCHIVED, whichever path changes it.
+
+UPDATE document_inbox_counters c
+SET unread_count = (
+    SELECT COUNT(*)
+    FROM document_shares s
+    JOIN documents d ON d.id = s.document_id
+    WHERE s.employee_id = c.employee_id
+      AND s.viewed_at IS NULL
+      AND d.status <> 'ARCHIVED'
+);
+
+CREATE OR REPLACE FUNCTION adjust_inbox_unread_on_archive()
+RETURNS TRIGGER AS $$
+DECLARE
+    v_delta INT := CASE WHEN NEW.status = 'ARCHIVED' THEN -1 ELSE 1 END;
+BEGIN
+    INSERT INTO document_inbox_counters (employee_id, unread_count)
+    SELECT s.employee_id, GREATEST(v_delta, 0)
+    FROM document_shares s
+    WHERE s.document_id = NEW.id
+      AND s.viewed_at IS NULL
+    ON CONFLICT (employee_id) DO UPDATE
+        SET unread_count = GREATEST(document_inbox_counters.unread_count + v_delta, 0);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER documents_archive_inbox_unread
+    AFTER UPDATE OF status ON documents
+    FOR EACH ROW
+    WHEN ((OLD.status = 'ARCHIVED') IS DISTINCT FROM (NEW.status = 'ARCHIVED'))
+    EXECUTE FUNCTION adjust_inbox_unread_on_archive();
@@ -0,0 +1,10 @@
+-- V31: Per-employee generation for calendar feed URLs
+-- Feed tokens carry the employee they were issued to and this generation. Bumping it
+-- revokes every URL that employee was handed; an employee without a row is on
+-- generation 0, so existing employees need no backfill.
+
+CREATE TABLE calendar_feed_keys (
+    employee_id BIGINT PRIMARY KEY REFERENCES employees(id) ON DELETE CASCADE,
+    generation INT NOT NULL DEFAULT 0,
+    reset_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
@@ -0,0 +1,46 @@
+-- V32: Pending signature counts exclude archived documents, as the inbox itself does
+-- V30 took archived documents out of unread counts only, so badges still counted
+-- signatures the inbox no longer lists. Pending counts are rebuilt with the inbox's
+-- filter, and the archive trigger now moves a document's pending signatures out of
+-- (or back into) the counts alongside its unviewed shares.
+
+UPDATE document_inbox_counters c
+SET pending_signature_count = (
+    SELECT COUNT(*)
+    FROM document_signatures g
+    JOIN documents d ON d.id = g.document_id
+    WHERE g.employee_id = c.employee_id
+      AND g.status = 'PENDING'
+      AND d.status <> 'ARCHIVED'
+);
+
+CREATE OR REPLACE FUNCTION adjust_inbox_unread_on_archive()
+RETURNS TRIGGER AS $$
+DECLARE
+    v_delta INT := CASE WHEN NEW.status = 'ARCHIVED' THEN -1 ELSE 1 END;
+BEGIN
+    INSERT INTO document_inbox_counters (employee_id)
+    SELECT s.employee_id FROM document_shares s WHERE s.document_id = NEW.id
+    UNION
+    SELECT g.employee_id FROM document_signatures g WHERE g.document_id = NEW.id
+    ON CONFLICT (employee_id) DO NOTHING;
+
+    UPDATE document_inbox_counters c
+    SET unread_count = GREATEST(c.unread_count + v_delta * x.unread, 0),
+        pending_signature_count = GREATEST(c.pending_signature_count + v_delta * x.pending, 0)
+    FROM (SELECT employee_id, SUM(unread) AS unread, SUM(pending) AS pending
+          FROM (SELECT s.employee_id, 1 AS unread, 0 AS pending
+                FROM document_shares s
+                WHERE s.document_id = NEW.id
+                  AND s.viewed_at IS NULL
+                UNION ALL
+                SELECT g.employee_id, 0, 1
+                FROM document_signatures g
+                WHERE g.document_id = NEW.id
+                  AND g.status = 'PENDING') d
+          GROUP BY employee_id) x
+    WHERE c.employee_id = x.employee_id;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
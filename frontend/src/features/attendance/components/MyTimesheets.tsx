@@ -3,10 +3,12 @@ import { Clock, LogIn, LogOut } from 'lucide-react';
 import {
   useMyTimesheets,
   useCurrentTimesheet,
+  useTodayPunches,
   useClockIn,
   useClockOut,
   useCreateOrGetTimesheet,
 } from '../hooks/useAttendance';
+import LoadMoreButton from '../../../shared/components/ui/LoadMoreButton';
 import { getApiErrorMessage } from '../../../shared/utils/getApiErrorMessage';
 import type { TimesheetStatus } from '../types/attendance.types';
 
@@ -28,8 +30,16 @@ function getMondayOfCurrentWeek(): string {
 
 export default function MyTimesheets() {
   const navigate = useNavigate();
-  const { data: timesheets, isLoading, isError } = useMyTimesheets();
+  const {
+    data: timesheets,
+    isLoading,
+    isError,
+    hasNextPage,
+    fetchNextPage,
+    isFetchingNextPage,
+  } = useMyTimesheets();
   const { data: currentTimesheet } = useCurrentTimesheet();
+  const { data: todayPunches } = useTodayPunches();
   const clockIn = useClockIn();
   const clockOut = useClockOut();
   const createTimesheet = useCreateOrGetTimesheet();
@@ -61,11 +71,8 @@ export default function MyTimesheets() {
     }
   };
 
-  // Determine clock status from current week's timesheet
-  const todayStr = new Date().toISOString().split('T')[0];
-  const todayEntry = currentTimesheet?.entries?.find((e) => e.entryDate === todayStr);
-  const hasClockedIn = todayEntry?.clockIn != null;
-  const hasClockedOut = todayEntry?.clockOut != null;
+  // Clock status comes from today's punches; the timesheet entry catches up a few seconds later
+  const isClockedIn = todayPunches?.[todayPunches.length - 1]?.direction === 'IN';
 
   return (
     <div className="space-y-6">
@@ -87,7 +94,7 @@ export default function MyTimesheets() {
           </div>
 
           <div className="flex items-center gap-3">
-            {!hasClockedIn && (
+            {!isClockedIn && (
               <button
                 onClick={handleClockIn}
                 disabled={clockIn.isPending}
@@ -97,7 +104,7 @@ export default function MyTimesheets() {
                 {clockIn.isPending ? 'Clocking in...' : 'Clock In'}
               </button>
             )}
-            {hasClockedIn && !hasClockedOut && (
+            {isClockedIn && (
               <button
                 onClick={handleClockOut}
                 disabled={clockOut.isPending}
@@ -185,6 +192,7 @@ export default function MyTimesheets() {
                 ))}
               </tbody>
             </table>
+            <LoadMoreButton hasMore={hasNextPage} loading={isFetchingNextPage} onClick={() => fetchNextPage()} />
           </div>
         )}
       </div>
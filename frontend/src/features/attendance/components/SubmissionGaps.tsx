@@ -0,0 +1,32 @@
+import { AlertTriangle } from 'lucide-react';
+import { useTeamSubmissionReport } from '../hooks/useAttendance';
+
+/** Last week's missing and late submissions across the manager's direct reports. */
+export default function SubmissionGaps() {
+  const { data: report } = useTeamSubmissionReport();
+
+  if (!report || (report.missing.length === 0 && report.late.length === 0)) {
+    return null;
+  }
+
+  return (
+    <div className="bg-amber-50 border border-amber-200 rounded-lg p-4 mb-4 text-sm">
+      <div className="flex items-center gap-2 font-medium text-amber-800 mb-2">
+        <AlertTriangle size={16} />
+        Week of {report.weekStart}
+      </div>
+      {report.missing.length > 0 && (
+        <p className="text-amber-800">
+          <span className="font-medium">Not submitted:</span>{' '}
+          {report.missing.map((gap) => gap.employeeName).join(', ')}
+        </p>
+      )}
+      {report.late.length > 0 && (
+        <p className="text-amber-700 mt-1">
+          <span className="font-medium">Submitted late:</span>{' '}
+          {report.late.map((gap) => gap.employeeName).join(', ')}
+        </p>
+      )}
+    </div>
+  );
+}
@@ -2,8 +2,10 @@ import { useState } from 'react';
 import { useNavigate } from 'react-router-dom';
 import { Clock } from 'lucide-react';
 import { useAuth } from '../../auth/context/AuthContext';
-import { useTeamTimesheets } from '../hooks/useAttendance';
+import { useApproveAllSubmittedTimesheets, useTeamTimesheets } from '../hooks/useAttendance';
 import ReviewTimesheetModal from './ReviewTimesheetModal';
+import SubmissionGaps from './SubmissionGaps';
+import LoadMoreButton from '../../../shared/components/ui/LoadMoreButton';
 import type { Timesheet, TimesheetStatus } from '../types/attendance.types';
 
 const statusStyles: Record<TimesheetStatus, string> = {
@@ -16,27 +18,26 @@ const statusStyles: Record<TimesheetStatus, string> = {
 export default function TeamTimesheets() {
   const navigate = useNavigate();
   const { hasPermission } = useAuth();
-  const { data: timesheets, isLoading, isError } = useTeamTimesheets();
+  // The review queue is its own server-filtered query, so it is complete however
+  // few pages of the history have been loaded
+  const queue = useTeamTimesheets({ status: 'SUBMITTED' });
+  const history = useTeamTimesheets();
   const [reviewTimesheet, setReviewTimesheet] = useState<Timesheet | null>(null);
   const canApprove = hasPermission('TIMESHEET_APPROVE');
+  const approveAll = useApproveAllSubmittedTimesheets();
 
-  const sortedTimesheets = timesheets
-    ? [...timesheets].sort((a, b) => {
-        if (a.status === 'SUBMITTED' && b.status !== 'SUBMITTED') return -1;
-        if (a.status !== 'SUBMITTED' && b.status === 'SUBMITTED') return 1;
-        return b.weekStart.localeCompare(a.weekStart);
-      })
-    : [];
-
-  if (isLoading) {
+  if (queue.isLoading || history.isLoading) {
     return <div className="text-gray-500 text-sm py-8">Loading team timesheets...</div>;
   }
 
-  if (isError) {
+  if (queue.isError || history.isError) {
     return <div className="text-red-600 text-sm py-8">Failed to load team timesheets</div>;
   }
 
-  if (!timesheets || timesheets.length === 0) {
+  const submitted = queue.data ?? [];
+  const reviewedOrDraft = (history.data ?? []).filter((ts) => ts.status !== 'SUBMITTED');
+
+  if (submitted.length === 0 && reviewedOrDraft.length === 0 && !history.hasNextPage) {
     return (
       <div className="text-center py-12 text-gray-500 text-sm">
         <Clock size={32} className="mx-auto mb-2 text-gray-300" />
@@ -45,51 +46,89 @@ export default function TeamTimesheets() {
     );
   }
 
-  return (
-    <>
-      <div className="bg-white rounded-lg border border-gray-200 overflow-hidden">
-        <table className="w-full">
-          <thead className="bg-gray-50 border-b border-gray-200">
-            <tr>
-              <th className="text-left px-6 py-3 text-xs font-medium text-gray-500 uppercase tracking-wider">Employee</th>
-              <th className="text-left px-6 py-3 text-xs font-medium text-gray-500 uppercase tracking-wider">Week Of</th>
-              <th className="text-left px-6 py-3 text-xs font-medium text-gray-500 uppercase tracking-wider">Hours</th>
-              <th className="text-left px-6 py-3 text-xs font-medium text-gray-500 uppercase tracking-wider">Status</th>
-              <th className="text-left px-6 py-3 text-xs font-medium text-gray-500 uppercase tracking-wider">Actions</th>
-            </tr>
-          </thead>
-          <tbody className="divide-y divide-gray-100">
-            {sortedTimesheets.map((ts) => (
-              <tr key={ts.id} className="hover:bg-gray-50">
-                <td className="px-6 py-4 text-sm font-medium text-gray-900">{ts.employeeName}</td>
-                <td className="px-6 py-4 text-sm text-gray-700">{ts.weekStart}</td>
-                <td className="px-6 py-4 text-sm text-gray-700">{ts.totalHours}h</td>
-                <td className="px-6 py-4">
-                  <span className={`inline-flex items-center px-2 py-0.5 rounded-full text-xs font-medium ${statusStyles[ts.status]}`}>
-                    {ts.status}
-                  </span>
-                </td>
-                <td className="px-6 py-4 flex items-center gap-3">
+  const renderTable = (
+    rows: Timesheet[],
+    page: { hasNextPage: boolean; isFetchingNextPage: boolean; fetchNextPage: () => unknown },
+  ) => (
+    <div className="bg-white rounded-lg border border-gray-200 overflow-hidden">
+      <table className="w-full">
+        <thead className="bg-gray-50 border-b border-gray-200">
+          <tr>
+            <th className="text-left px-6 py-3 text-xs font-medium text-gray-500 uppercase tracking-wider">Employee</th>
+            <th className="text-left px-6 py-3 text-xs font-medium text-gray-500 uppercase tracking-wider">Week Of</th>
+            <th className="text-left px-6 py-3 text-xs font-medium text-gray-500 uppercase tracking-wider">Hours</th>
+            <th className="text-left px-6 py-3 text-xs font-medium text-gray-500 uppercase tracking-wider">Status</th>
+            <th className="text-left px-6 py-3 text-xs font-medium text-gray-500 uppercase tracking-wider">Actions</th>
+          </tr>
+        </thead>
+        <tbody className="divide-y divide-gray-100">
+          {rows.map((ts) => (
+            <tr key={ts.id} className="hover:bg-gray-50">
+              <td className="px-6 py-4 text-sm font-medium text-gray-900">{ts.employeeName}</td>
+              <td className="px-6 py-4 text-sm text-gray-700">{ts.weekStart}</td>
+              <td className="px-6 py-4 text-sm text-gray-700">{ts.totalHours}h</td>
+              <td className="px-6 py-4">
+                <span className={`inline-flex items-center px-2 py-0.5 rounded-full text-xs font-medium ${statusStyles[ts.status]}`}>
+                  {ts.status}
+                </span>
+              </td>
+              <td className="px-6 py-4 flex items-center gap-3">
+                <button
+                  onClick={() => navigate(`/attendance/${ts.id}`)}
+                  className="text-blue-600 hover:text-blue-700 text-sm font-medium"
+                >
+                  View
+                </button>
+                {ts.status === 'SUBMITTED' && canApprove && (
                   <button
-                    onClick={() => navigate(`/attendance/${ts.id}`)}
-                    className="text-blue-600 hover:text-blue-700 text-sm font-medium"
+                    onClick={() => setReviewTimesheet(ts)}
+                    className="text-green-600 hover:text-green-700 text-sm font-medium"
                   >
-                    View
+                    Review
                   </button>
-                  {ts.status === 'SUBMITTED' && canApprove && (
-                    <button
-                      onClick={() => setReviewTimesheet(ts)}
-                      className="text-green-600 hover:text-green-700 text-sm font-medium"
-                    >
-                      Review
-                    </button>
-                  )}
-                </td>
-              </tr>
-            ))}
-          </tbody>
-        </table>
-      </div>
+                )}
+              </td>
+            </tr>
+          ))}
+        </tbody>
+      </table>
+      <LoadMoreButton hasMore={page.hasNextPage} loading={page.isFetchingNextPage} onClick={() => page.fetchNextPage()} />
+    </div>
+  );
+
+  return (
+    <>
+      <SubmissionGaps />
+      {submitted.length > 0 && (
+        <div className="mb-6">
+          <div className="flex items-center justify-between gap-3 mb-3">
+            <h3 className="text-sm font-semibold text-gray-900">Awaiting review</h3>
+            {canApprove && (submitted.length > 1 || queue.hasNextPage) && (
+              <div className="flex items-center gap-3">
+                {approveAll.data && approveAll.data.failed > 0 && (
+                  <span className="text-xs text-red-600">
+                    {approveAll.data.failed} timesheet{approveAll.data.failed !== 1 ? 's' : ''} could not be approved
+                  </span>
+                )}
+                {approveAll.isError && (
+                  <span className="text-xs text-red-600">Approval stopped partway; refresh to see what remains</span>
+                )}
+                <button
+                  onClick={() => approveAll.mutate()}
+                  disabled={approveAll.isPending}
+                  className="px-3 py-1.5 text-sm font-medium text-white bg-green-600 rounded-lg hover:bg-green-700 disabled:opacity-50 transition-colors"
+                >
+                  {approveAll.isPending
+                    ? 'Approving...'
+                    : `Approve all submitted (${submitted.length}${queue.hasNextPage ? '+' : ''})`}
+                </button>
+              </div>
+            )}
+          </div>
+          {renderTable(submitted, queue)}
+        </div>
+      )}
+      {(reviewedOrDraft.length > 0 || history.hasNextPage) && renderTable(reviewedOrDraft, history)}
 
       {reviewTimesheet && (
         <ReviewTimesheetModal timesheet={reviewTimesheet} onClose={() => setReviewTimesheet(null)} />
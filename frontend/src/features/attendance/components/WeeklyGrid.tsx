@@ -76,7 +76,11 @@ export default function WeeklyGrid({ timesheet, editable = false }: WeeklyGridPr
       }));
 
     try {
-      await updateEntries.mutateAsync({ id: timesheet.id, data: { entries } });
+      await updateEntries.mutateAsync({
+        id: timesheet.id,
+        data: { entries },
+        version: timesheet.version,
+      });
     } catch {
       // Error handled by mutation state
     }
@@ -1,16 +1,24 @@
-import { useQuery, useMutation, useQueryClient } from '@tanstack/react-query';
+import { useInfiniteQuery, useQuery, useMutation, useQueryClient } from '@tanstack/react-query';
 import { attendanceService } from '../services/attendanceService';
 import type {
   CreateTimesheetRequest,
   UpdateTimesheetEntriesRequest,
   ReviewTimesheetRequest,
 } from '../types/attendance.types';
+import type { BulkReviewResult, ListFilter } from '../../../shared/types/common.types';
+import type { Timesheet } from '../types/attendance.types';
+
+/** Page and batch size for acting on the whole queue; both endpoints cap at 100. */
+const QUEUE_BATCH_SIZE = 100;
 
 // --- Query hooks ---
-export function useMyTimesheets() {
-  return useQuery({
-    queryKey: ['timesheets', 'me'],
-    queryFn: () => attendanceService.getMyTimesheets(),
+export function useMyTimesheets(filter: ListFilter = {}) {
+  return useInfiniteQuery({
+    queryKey: ['timesheets', 'me', filter],
+    queryFn: ({ pageParam }) => attendanceService.getMyTimesheets(filter, pageParam),
+    initialPageParam: null as string | null,
+    getNextPageParam: (lastPage) => lastPage.nextCursor,
+    select: (data) => data.pages.flatMap((page) => page.items),
   });
 }
 
@@ -22,6 +30,13 @@ export function useCurrentTimesheet() {
   });
 }
 
+export function useTodayPunches() {
+  return useQuery({
+    queryKey: ['timesheets', 'punches', 'today'],
+    queryFn: () => attendanceService.getTodayPunches(),
+  });
+}
+
 export function useTimesheet(id: string) {
   return useQuery({
     queryKey: ['timesheets', id],
@@ -30,10 +45,20 @@ export function useTimesheet(id: string) {
   });
 }
 
-export function useTeamTimesheets() {
+export function useTeamTimesheets(filter: ListFilter = {}) {
+  return useInfiniteQuery({
+    queryKey: ['timesheets', 'team', filter],
+    queryFn: ({ pageParam }) => attendanceService.getTeamTimesheets(filter, pageParam),
+    initialPageParam: null as string | null,
+    getNextPageParam: (lastPage) => lastPage.nextCursor,
+    select: (data) => data.pages.flatMap((page) => page.items),
+  });
+}
+
+export function useTeamSubmissionReport(weekStart?: string) {
   return useQuery({
-    queryKey: ['timesheets', 'team'],
-    queryFn: () => attendanceService.getTeamTimesheets(),
+    queryKey: ['timesheets', 'team', 'submissions', weekStart ?? 'last'],
+    queryFn: () => attendanceService.getTeamSubmissionReport(weekStart),
   });
 }
 
@@ -58,9 +83,17 @@ export function useCreateOrGetTimesheet() {
 export function useUpdateEntries() {
   const queryClient = useQueryClient();
   return useMutation({
-    mutationFn: ({ id, data }: { id: string; data: UpdateTimesheetEntriesRequest }) =>
-      attendanceService.updateEntries(id, data),
-    onSuccess: () => {
+    mutationFn: ({
+      id,
+      data,
+      version,
+    }: {
+      id: string;
+      data: UpdateTimesheetEntriesRequest;
+      version?: number;
+    }) => attendanceService.updateEntries(id, data, version),
+    // A 412 means the timesheet changed elsewhere; refetching shows the current entries
+    onSettled: () => {
       queryClient.invalidateQueries({ queryKey: ['timesheets'] });
     },
   });
@@ -96,6 +129,40 @@ export function useSubmitTimesheet() {
   });
 }
 
+/**
+ * Approves every submitted team timesheet, not just the loaded pages: the queue is read
+ * from the server with status=SUBMITTED, then reviewed in batches the endpoint accepts.
+ */
+export function useApproveAllSubmittedTimesheets() {
+  const queryClient = useQueryClient();
+  return useMutation({
+    mutationFn: async (): Promise<BulkReviewResult<Timesheet>> => {
+      const ids: string[] = [];
+      let cursor: string | null = null;
+      do {
+        const page = await attendanceService.getTeamTimesheets({ status: 'SUBMITTED' }, cursor, QUEUE_BATCH_SIZE);
+        ids.push(...page.items.map((ts) => ts.id));
+        cursor = page.nextCursor;
+      } while (cursor);
+
+      const result: BulkReviewResult<Timesheet> = { succeeded: 0, failed: 0, items: [] };
+      for (let i = 0; i < ids.length; i += QUEUE_BATCH_SIZE) {
+        const batch = await attendanceService.bulkReviewTimesheets({
+          ids: ids.slice(i, i + QUEUE_BATCH_SIZE),
+          decision: 'APPROVED',
+        });
+        result.succeeded += batch.succeeded;
+        result.failed += batch.failed;
+        result.items.push(...batch.items);
+      }
+      return result;
+    },
+    onSettled: () => {
+      queryClient.invalidateQueries({ queryKey: ['timesheets'] });
+    },
+  });
+}
+
 export function useReviewTimesheet() {
   const queryClient = useQueryClient();
   return useMutation({
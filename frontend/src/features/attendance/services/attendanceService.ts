@@ -1,6 +1,14 @@
 import apiClient from '../../../api/apiClient';
-import type { PagedResponse } from '../../../shared/types/common.types';
 import type {
+  BulkReviewRequest,
+  BulkReviewResult,
+  CursorPage,
+  ListFilter,
+  SlicedResponse,
+} from '../../../shared/types/common.types';
+import type {
+  ClockPunch,
+  SubmissionReport,
   Timesheet,
   CreateTimesheetRequest,
   UpdateTimesheetEntriesRequest,
@@ -13,17 +21,32 @@ export const attendanceService = {
     return response.data;
   },
 
-  updateEntries: async (id: string, data: UpdateTimesheetEntriesRequest): Promise<Timesheet> => {
-    const response = await apiClient.put(`/timesheets/${id}/entries`, data);
+  updateEntries: async (
+    id: string,
+    data: UpdateTimesheetEntriesRequest,
+    version?: number
+  ): Promise<Timesheet> => {
+    const headers = version != null ? { 'If-Match': `"${version}"` } : undefined;
+    const response = await apiClient.put(`/timesheets/${id}/entries`, data, { headers });
+    return response.data;
+  },
+
+  getTeamSubmissionReport: async (weekStart?: string): Promise<SubmissionReport> => {
+    const response = await apiClient.get('/timesheets/team/submissions', { params: { weekStart } });
+    return response.data;
+  },
+
+  getTodayPunches: async (): Promise<ClockPunch[]> => {
+    const response = await apiClient.get('/timesheets/punches/today');
     return response.data;
   },
 
-  clockIn: async (): Promise<Timesheet> => {
+  clockIn: async (): Promise<ClockPunch> => {
     const response = await apiClient.post('/timesheets/clock-in');
     return response.data;
   },
 
-  clockOut: async (): Promise<Timesheet> => {
+  clockOut: async (): Promise<ClockPunch> => {
     const response = await apiClient.post('/timesheets/clock-out');
     return response.data;
   },
@@ -38,8 +61,17 @@ export const attendanceService = {
     return response.data;
   },
 
-  getMyTimesheets: async (): Promise<Timesheet[]> => {
-    const response = await apiClient.get('/timesheets/me');
+  bulkReviewTimesheets: async (data: BulkReviewRequest): Promise<BulkReviewResult<Timesheet>> => {
+    const response = await apiClient.post('/timesheets/bulk-review', data);
+    return response.data;
+  },
+
+  getMyTimesheets: async (
+    filter: ListFilter = {},
+    cursor?: string | null,
+    size = 20,
+  ): Promise<CursorPage<Timesheet>> => {
+    const response = await apiClient.get('/timesheets/me', { params: { ...filter, cursor: cursor ?? undefined, size } });
     return response.data;
   },
 
@@ -54,13 +86,17 @@ export const attendanceService = {
     return response.data;
   },
 
-  getTeamTimesheets: async (): Promise<Timesheet[]> => {
-    const response = await apiClient.get('/timesheets/team');
+  getTeamTimesheets: async (
+    filter: ListFilter = {},
+    cursor?: string | null,
+    size = 20,
+  ): Promise<CursorPage<Timesheet>> => {
+    const response = await apiClient.get('/timesheets/team', { params: { ...filter, cursor: cursor ?? undefined, size } });
     return response.data;
   },
 
-  getAllTimesheets: async (page = 0, size = 20): Promise<PagedResponse<Timesheet>> => {
-    const response = await apiClient.get('/timesheets', { params: { page, size } });
+  getAllTimesheets: async (page = 0, size = 20): Promise<SlicedResponse<Timesheet>> => {
+    const response = await apiClient.get('/timesheets', { params: { page, size, estimateTotal: true } });
     return response.data;
   },
 };
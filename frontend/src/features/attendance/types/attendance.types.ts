@@ -21,6 +21,28 @@ export interface Timesheet {
   reviewNote?: string | null;
   reviewedAt?: string | null;
   createdAt: string;
+  version: number;
+}
+
+export interface ClockPunch {
+  direction: 'IN' | 'OUT';
+  punchedAt: string;
+  source: 'WEB' | 'MOBILE' | 'KIOSK';
+}
+
+export interface SubmissionGap {
+  employeeId: string;
+  employeeName: string;
+  timesheetId?: string | null;
+  status?: TimesheetStatus | null;
+  submittedAt?: string | null;
+}
+
+export interface SubmissionReport {
+  weekStart: string;
+  deadline: string;
+  missing: SubmissionGap[];
+  late: SubmissionGap[];
 }
 
 export interface CreateTimesheetRequest {
@@ -0,0 +1,62 @@
+import { useState } from 'react';
+import { Check, Copy, RefreshCw, Rss } from 'lucide-react';
+import { useCalendarFeeds, useResetCalendarFeeds } from '../hooks/useDashboard';
+
+export default function CalendarFeeds() {
+  const { data: feeds } = useCalendarFeeds();
+  const resetFeeds = useResetCalendarFeeds();
+  const [copiedUrl, setCopiedUrl] = useState<string | null>(null);
+
+  if (!feeds || feeds.length === 0) return null;
+
+  const handleCopy = async (url: string) => {
+    await navigator.clipboard.writeText(url);
+    setCopiedUrl(url);
+    setTimeout(() => setCopiedUrl((current) => (current === url ? null : current)), 2000);
+  };
+
+  const handleReset = () => {
+    if (window.confirm('Reset your calendar links? Calendars subscribed with the current links will stop updating.')) {
+      resetFeeds.mutate();
+    }
+  };
+
+  return (
+    <div className="bg-white rounded-lg border border-gray-200 shadow-sm mt-6">
+      <div className="flex items-center justify-between px-5 py-4 border-b border-gray-200">
+        <div className="flex items-center gap-2">
+          <Rss size={18} className="text-blue-600" />
+          <h2 className="text-base font-semibold text-gray-900">Calendar Subscriptions</h2>
+        </div>
+        <button
+          onClick={handleReset}
+          disabled={resetFeeds.isPending}
+          className="flex items-center gap-1 text-sm text-gray-600 hover:text-gray-800 font-medium disabled:opacity-50"
+        >
+          <RefreshCw size={14} className={resetFeeds.isPending ? 'animate-spin' : ''} />
+          Reset links
+        </button>
+      </div>
+      <p className="px-5 pt-3 text-xs text-gray-500">
+        Subscribe from Outlook, Google or Apple Calendar. Anyone with a link can read that calendar, so keep them private.
+      </p>
+      <div className="divide-y divide-gray-100">
+        {feeds.map((feed) => (
+          <div key={feed.url} className="flex items-center gap-3 px-5 py-3">
+            <div className="min-w-0 flex-1">
+              <p className="text-sm font-medium text-gray-900">{feed.name}</p>
+              <p className="text-xs text-gray-500 truncate">{feed.url}</p>
+            </div>
+            <button
+              onClick={() => handleCopy(feed.url)}
+              className="shrink-0 flex items-center gap-1 text-xs font-medium text-blue-700 bg-blue-50 hover:bg-blue-100 px-2.5 py-1 rounded-full transition-colors"
+            >
+              {copiedUrl === feed.url ? <Check size={12} /> : <Copy size={12} />}
+              {copiedUrl === feed.url ? 'Copied' : 'Copy'}
+            </button>
+          </div>
+        ))}
+      </div>
+    </div>
+  );
+}
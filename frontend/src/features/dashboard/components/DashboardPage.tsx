@@ -1,15 +1,16 @@
 import { useMemo, useState } from 'react';
 import { useNavigate } from 'react-router-dom';
-import { CalendarDays, Plus, MapPin, Clock, UserX, Pencil, Trash2, FileSignature } from 'lucide-react';
+import { CalendarDays, Plus, MapPin, Clock, UserX, Pencil, Trash2, FileSignature, Cake, Award } from 'lucide-react';
 import { useDashboardWeek, useDeleteEvent } from '../hooks/useDashboard';
 import { usePendingSignatures } from '../../documents/hooks/useDocuments';
 import { useAuth } from '../../auth/context/AuthContext';
 import CreateEventModal from './CreateEventModal';
 import EditEventModal from './EditEventModal';
 import ClockInWidget from './ClockInWidget';
+import CalendarFeeds from './CalendarFeeds';
 import { getEventTypeStyle } from '../constants';
 import { getMonday, formatDate, formatTime, formatDateRange, formatWeekLabel } from '../../../shared/utils/dateUtils';
-import type { CompanyEvent } from '../types/dashboard.types';
+import type { Celebration, CompanyEvent } from '../types/dashboard.types';
 import type { TimeOffRequest } from '../../timeoff/types/timeoff.types';
 
 export default function DashboardPage() {
@@ -138,6 +139,28 @@ export default function DashboardPage() {
               )}
             </div>
             <div className="p-5">
+              {data?.celebrations && data.celebrations.length > 0 && (
+                <div className="space-y-2 mb-4">
+                  {data.celebrations.map((c: Celebration) => (
+                    <div
+                      key={`${c.type}-${c.employeeId}`}
+                      className="flex items-center justify-between px-3 py-2 bg-pink-50 rounded-lg"
+                    >
+                      <span className="flex items-center gap-2 text-sm font-medium text-gray-900">
+                        {c.type === 'BIRTHDAY' ? (
+                          <Cake size={14} className="text-pink-600" />
+                        ) : (
+                          <Award size={14} className="text-pink-600" />
+                        )}
+                        {c.type === 'BIRTHDAY'
+                          ? `${c.employeeName}'s birthday`
+                          : `${c.employeeName} – ${c.years} year${c.years === 1 ? '' : 's'}`}
+                      </span>
+                      <span className="text-xs text-gray-500">{formatDate(c.date)}</span>
+                    </div>
+                  ))}
+                </div>
+              )}
               {data?.upcomingEvents && data.upcomingEvents.length > 0 ? (
                 <div className="space-y-3">
                   {data.upcomingEvents.map((event: CompanyEvent) => {
@@ -266,6 +289,9 @@ export default function DashboardPage() {
             </div>
           </div>
         </div>
+
+        {/* Calendar Subscriptions */}
+        <CalendarFeeds />
         </>
       )}
 
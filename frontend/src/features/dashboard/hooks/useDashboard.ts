@@ -1,5 +1,5 @@
 import { useQuery, useMutation, useQueryClient } from '@tanstack/react-query';
-import { dashboardService, eventService } from '../services/dashboardService';
+import { calendarFeedService, dashboardService, eventService } from '../services/dashboardService';
 import type { CreateEventRequest, UpdateEventRequest } from '../types/dashboard.types';
 
 export function useDashboardWeek(startDate: string, endDate: string) {
@@ -44,3 +44,21 @@ export function useDeleteEvent() {
     },
   });
 }
+
+export function useCalendarFeeds() {
+  return useQuery({
+    queryKey: ['calendar', 'feeds'],
+    queryFn: calendarFeedService.getFeeds,
+    staleTime: Infinity,
+  });
+}
+
+export function useResetCalendarFeeds() {
+  const queryClient = useQueryClient();
+  return useMutation({
+    mutationFn: calendarFeedService.resetFeeds,
+    onSuccess: (feeds) => {
+      queryClient.setQueryData(['calendar', 'feeds'], feeds);
+    },
+  });
+}
@@ -0,0 +1,81 @@
+import { useEffect } from 'react';
+import { useQueryClient } from '@tanstack/react-query';
+import apiClient from '../../../api/apiClient';
+
+// Which cached queries each server event makes stale
+const INVALIDATIONS: Record<string, string[][]> = {
+  'time-off.requested': [['time-off-requests']],
+  'time-off.decided': [['time-off-requests'], ['time-off-balances']],
+  'time-off.cancelled': [['time-off-requests'], ['time-off-balances']],
+  'timesheet.submitted': [['timesheets']],
+  'timesheet.decided': [['timesheets']],
+  'timesheet.updated': [['timesheets']],
+  'document.shared': [['documents']],
+  'signature.requested': [['documents'], ['signatures']],
+  'event.changed': [['dashboard'], ['events']],
+  'dashboard.changed': [['dashboard']],
+};
+
+const RECONNECT_DELAY_MS = 5000;
+
+/**
+ * Subscribes to the server's live update stream and invalidates affected queries.
+ * Uses fetch rather than EventSource so the bearer token can be sent as a header.
+ */
+export function useLiveUpdates() {
+  const queryClient = useQueryClient();
+
+  useEffect(() => {
+    const controller = new AbortController();
+    let reconnectTimer: ReturnType<typeof setTimeout> | undefined;
+
+    const handle = (eventName: string) => {
+      if (eventName === 'resync') {
+        queryClient.invalidateQueries();
+        return;
+      }
+      INVALIDATIONS[eventName]?.forEach((queryKey) => queryClient.invalidateQueries({ queryKey }));
+    };
+
+    const connect = async () => {
+      const token = localStorage.getItem('token');
+      if (!token) return;
+      try {
+        const response = await fetch(`${apiClient.defaults.baseURL}/live`, {
+          headers: { Authorization: `Bearer ${token}`, Accept: 'text/event-stream' },
+          signal: controller.signal,
+        });
+        if (!response.ok || !response.body) throw new Error(`Live stream failed: ${response.status}`);
+
+        const reader = response.body.pipeThrough(new TextDecoderStream()).getReader();
+        let buffer = '';
+        for (;;) {
+          const { value, done } = await reader.read();
+          if (done) break;
+          buffer += value;
+          let boundary = buffer.indexOf('\n\n');
+          while (boundary >= 0) {
+            const frame = buffer.slice(0, boundary);
+            buffer = buffer.slice(boundary + 2);
+            const eventLine = frame.split('\n').find((line) => line.startsWith('event:'));
+            if (eventLine) handle(eventLine.slice('event:'.length).trim());
+            boundary = buffer.indexOf('\n\n');
+          }
+        }
+      } catch {
+        if (controller.signal.aborted) return;
+      }
+      if (!controller.signal.aborted) {
+        // Anything may have changed while disconnected
+        queryClient.invalidateQueries();
+        reconnectTimer = setTimeout(connect, RECONNECT_DELAY_MS);
+      }
+    };
+
+    connect();
+    return () => {
+      controller.abort();
+      clearTimeout(reconnectTimer);
+    };
+  }, [queryClient]);
+}
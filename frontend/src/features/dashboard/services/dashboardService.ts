@@ -1,10 +1,11 @@
 import apiClient from '../../../api/apiClient';
-import type { PagedResponse } from '../../../shared/types/common.types';
+import type { SlicedResponse } from '../../../shared/types/common.types';
 import type {
   CompanyEvent,
   CreateEventRequest,
   UpdateEventRequest,
   DashboardWeekData,
+  CalendarFeed,
 } from '../types/dashboard.types';
 
 export const dashboardService = {
@@ -16,9 +17,21 @@ export const dashboardService = {
   },
 };
 
+export const calendarFeedService = {
+  getFeeds: async (): Promise<CalendarFeed[]> => {
+    const response = await apiClient.get('/calendar/feeds');
+    return response.data;
+  },
+
+  resetFeeds: async (): Promise<CalendarFeed[]> => {
+    const response = await apiClient.post('/calendar/feeds/reset');
+    return response.data;
+  },
+};
+
 export const eventService = {
-  getAll: async (page = 0, size = 20): Promise<PagedResponse<CompanyEvent>> => {
-    const response = await apiClient.get('/events', { params: { page, size } });
+  getAll: async (page = 0, size = 20): Promise<SlicedResponse<CompanyEvent>> => {
+    const response = await apiClient.get('/events', { params: { page, size, estimateTotal: true } });
     return response.data;
   },
 
@@ -36,7 +36,27 @@ export interface UpdateEventRequest {
   eventType?: EventType;
 }
 
+export type CelebrationType = 'BIRTHDAY' | 'WORK_ANNIVERSARY';
+
+export interface Celebration {
+  employeeId: string;
+  employeeName: string;
+  position?: string | null;
+  type: CelebrationType;
+  date: string;
+  years?: number | null;
+}
+
 export interface DashboardWeekData {
   upcomingEvents: CompanyEvent[];
   approvedTimeOff: TimeOffRequest[];
+  celebrations: Celebration[];
+}
+
+export type CalendarFeedScope = 'COMPANY' | 'TEAM' | 'EMPLOYEE';
+
+export interface CalendarFeed {
+  scope: CalendarFeedScope;
+  name: string;
+  url: string;
 }
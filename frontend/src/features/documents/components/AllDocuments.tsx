@@ -19,7 +19,6 @@ export default function AllDocuments() {
   if (isLoading) return <div className="text-sm text-gray-500">Loading...</div>;
 
   const documents = data?.content || [];
-  const totalPages = data?.totalPages || 0;
 
   return (
     <div className="bg-white rounded-lg border border-gray-200 overflow-hidden">
@@ -66,21 +65,22 @@ export default function AllDocuments() {
         </tbody>
       </table>
 
-      {totalPages > 1 && (
+      {data && !(data.first && data.last) && (
         <div className="flex items-center justify-between px-4 py-3 border-t border-gray-200 bg-gray-50">
           <button
             onClick={() => setPage((p) => Math.max(0, p - 1))}
-            disabled={page === 0}
+            disabled={data.first}
             className="text-sm text-gray-600 disabled:opacity-40"
           >
             Previous
           </button>
           <span className="text-xs text-gray-500">
-            Page {page + 1} of {totalPages}
+            Page {page + 1}
+            {data.estimatedTotal != null && <> · about {data.estimatedTotal.toLocaleString()} documents</>}
           </span>
           <button
             onClick={() => setPage((p) => p + 1)}
-            disabled={page >= totalPages - 1}
+            disabled={data.last}
             className="text-sm text-gray-600 disabled:opacity-40"
           >
             Next
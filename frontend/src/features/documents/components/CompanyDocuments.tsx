@@ -9,7 +9,6 @@ export default function CompanyDocuments() {
   const navigate = useNavigate();
 
   const documents = data?.content || [];
-  const totalPages = data?.totalPages || 0;
 
   if (isLoading) {
     return <div className="text-sm text-gray-500">Loading company documents...</div>;
@@ -52,21 +51,21 @@ export default function CompanyDocuments() {
         ))}
       </div>
 
-      {totalPages > 1 && (
+      {data && !(data.first && data.last) && (
         <div className="flex items-center justify-center gap-4 mt-6">
           <button
             onClick={() => setPage((p) => Math.max(0, p - 1))}
-            disabled={page === 0}
+            disabled={data.first}
             className="p-1 text-gray-400 hover:text-gray-600 disabled:opacity-30"
           >
             <ChevronLeft size={20} />
           </button>
           <span className="text-sm text-gray-600">
-            Page {page + 1} of {totalPages}
+            Page {page + 1}
           </span>
           <button
-            onClick={() => setPage((p) => Math.min(totalPages - 1, p + 1))}
-            disabled={page >= totalPages - 1}
+            onClick={() => setPage((p) => p + 1)}
+            disabled={data.last}
             className="p-1 text-gray-400 hover:text-gray-600 disabled:opacity-30"
           >
             <ChevronRight size={20} />
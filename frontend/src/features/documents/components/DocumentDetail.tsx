@@ -218,6 +218,8 @@ export default function DocumentDetail() {
                           ? 'bg-green-100 text-green-700'
                           : sig.status === 'DECLINED'
                           ? 'bg-red-100 text-red-700'
+                          : sig.status === 'EXPIRED'
+                          ? 'bg-gray-100 text-gray-600'
                           : 'bg-orange-100 text-orange-700'
                       }`}
                     >
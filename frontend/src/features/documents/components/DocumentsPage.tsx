@@ -1,24 +1,28 @@
 import { useState } from 'react';
+import { useSearchParams } from 'react-router-dom';
 import { Plus } from 'lucide-react';
 import Header from '../../../shared/components/layout/Header';
 import { useAuth } from '../../auth/context/AuthContext';
+import InboxDocuments from './InboxDocuments';
 import CompanyDocuments from './CompanyDocuments';
 import MyDocuments from './MyDocuments';
 import MyUploads from './MyUploads';
 import AllDocuments from './AllDocuments';
 import CreateDocumentModal from './CreateDocumentModal';
 
-type Tab = 'company' | 'my' | 'uploads' | 'all';
+type Tab = 'inbox' | 'company' | 'my' | 'uploads' | 'all';
 
 export default function DocumentsPage() {
   const { hasPermission } = useAuth();
-  const [activeTab, setActiveTab] = useState<Tab>('company');
+  const [searchParams] = useSearchParams();
+  const [activeTab, setActiveTab] = useState<Tab>(searchParams.get('tab') === 'inbox' ? 'inbox' : 'company');
   const [showCreateModal, setShowCreateModal] = useState(false);
 
   const canViewAll = hasPermission('DOCUMENT_READ_ALL');
   const canCreate = hasPermission('DOCUMENT_CREATE');
 
   const tabs: { key: Tab; label: string; visible: boolean }[] = [
+    { key: 'inbox', label: 'Inbox', visible: true },
     { key: 'company', label: 'Company Documents', visible: true },
     { key: 'my', label: 'My Documents', visible: true },
     { key: 'uploads', label: 'My Uploads', visible: true },
@@ -66,6 +70,7 @@ export default function DocumentsPage() {
           )}
         </div>
 
+        {activeTab === 'inbox' && <InboxDocuments />}
         {activeTab === 'company' && <CompanyDocuments />}
         {activeTab === 'my' && <MyDocuments />}
         {activeTab === 'uploads' && <MyUploads />}
@@ -70,6 +70,11 @@ export default function MyDocuments() {
                       Declined
                     </span>
                   )}
+                  {doc.mySignatureStatus === 'EXPIRED' && (
+                    <span className="text-xs px-2 py-0.5 rounded-full bg-gray-100 text-gray-600">
+                      Expired
+                    </span>
+                  )}
                   <span className="text-xs text-gray-400">by {doc.uploadedByName}</span>
                 </div>
               </div>
@@ -1,4 +1,4 @@
-import { useQuery, useMutation, useQueryClient } from '@tanstack/react-query';
+import { useInfiniteQuery, useQuery, useMutation, useQueryClient } from '@tanstack/react-query';
 import { documentService } from '../services/documentService';
 import { sharePointService } from '../services/sharePointService';
 import type {
@@ -7,6 +7,7 @@ import type {
   SignDocumentRequest,
   RequestSignatureRequest,
 } from '../types/document.types';
+import type { ListFilter } from '../../../shared/types/common.types';
 
 // ===================== Document Queries =====================
 
@@ -24,6 +25,23 @@ export function useMyDocuments() {
   });
 }
 
+export function useDocumentInbox(size = 20) {
+  return useInfiniteQuery({
+    queryKey: ['documents', 'inbox', 'items', size],
+    queryFn: ({ pageParam }) => documentService.getInbox(pageParam, size),
+    initialPageParam: null as string | null,
+    getNextPageParam: (lastPage) => lastPage.nextCursor,
+    select: (data) => data.pages.flatMap((page) => page.items),
+  });
+}
+
+export function useDocumentInboxCounts() {
+  return useQuery({
+    queryKey: ['documents', 'inbox', 'counts'],
+    queryFn: () => documentService.getInboxCounts(),
+  });
+}
+
 export function useCompanyWideDocuments(page = 0, size = 20) {
   return useQuery({
     queryKey: ['documents', 'company-wide', page, size],
@@ -63,10 +81,13 @@ export function usePendingSignatures() {
   });
 }
 
-export function useMySignatures() {
-  return useQuery({
-    queryKey: ['signatures', 'mine'],
-    queryFn: () => documentService.getMySignatures(),
+export function useMySignatures(filter: ListFilter = {}) {
+  return useInfiniteQuery({
+    queryKey: ['signatures', 'mine', filter],
+    queryFn: ({ pageParam }) => documentService.getMySignatures(filter, pageParam),
+    initialPageParam: null as string | null,
+    getNextPageParam: (lastPage) => lastPage.nextCursor,
+    select: (data) => data.pages.flatMap((page) => page.items),
   });
 }
 
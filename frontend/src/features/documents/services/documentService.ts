@@ -1,10 +1,16 @@
 import apiClient from '../../../api/apiClient';
-import type { PagedResponse } from '../../../shared/types/common.types';
+import type { CursorPage, ListFilter, SlicedResponse } from '../../../shared/types/common.types';
 import type {
   Document,
+  DocumentInbox,
+  DocumentInboxCounts,
+  DocumentReadReceipts,
+  DocumentSearchResult,
   CreateDocumentRequest,
   DocumentShare,
   ShareDocumentRequest,
+  DocumentAudienceRequest,
+  DocumentAudienceResult,
   DocumentSignature,
   SignDocumentRequest,
   RequestSignatureRequest,
@@ -12,8 +18,8 @@ import type {
 
 export const documentService = {
   // --- Documents ---
-  getAll: async (page = 0, size = 20): Promise<PagedResponse<Document>> => {
-    const response = await apiClient.get('/documents', { params: { page, size } });
+  getAll: async (page = 0, size = 20): Promise<SlicedResponse<Document>> => {
+    const response = await apiClient.get('/documents', { params: { page, size, estimateTotal: true } });
     return response.data;
   },
 
@@ -22,8 +28,27 @@ export const documentService = {
     return response.data;
   },
 
-  getCompanyWideDocuments: async (page = 0, size = 20): Promise<PagedResponse<Document>> => {
-    const response = await apiClient.get('/documents/company-wide', { params: { page, size } });
+  getInbox: async (cursor?: string | null, size = 20): Promise<DocumentInbox> => {
+    const response = await apiClient.get('/documents/inbox', {
+      params: cursor ? { cursor, size } : { size },
+    });
+    return response.data;
+  },
+
+  search: async (q: string, cursor?: string | null, size = 20): Promise<DocumentSearchResult> => {
+    const response = await apiClient.get('/documents/search', {
+      params: cursor ? { q, cursor, size } : { q, size },
+    });
+    return response.data;
+  },
+
+  getInboxCounts: async (): Promise<DocumentInboxCounts> => {
+    const response = await apiClient.get('/documents/inbox/counts');
+    return response.data;
+  },
+
+  getCompanyWideDocuments: async (page = 0, size = 20): Promise<SlicedResponse<Document>> => {
+    const response = await apiClient.get('/documents/company-wide', { params: { page, size, estimateTotal: true } });
     return response.data;
   },
 
@@ -61,6 +86,16 @@ export const documentService = {
     return response.data;
   },
 
+  shareWithAudience: async (id: string, data: DocumentAudienceRequest): Promise<DocumentAudienceResult> => {
+    const response = await apiClient.post(`/documents/${id}/shares/audience`, data);
+    return response.data;
+  },
+
+  getReadReceipts: async (id: string, limit = 100): Promise<DocumentReadReceipts> => {
+    const response = await apiClient.get(`/documents/${id}/read-receipts`, { params: { limit } });
+    return response.data;
+  },
+
   getShares: async (id: string): Promise<DocumentShare[]> => {
     const response = await apiClient.get(`/documents/${id}/shares`);
     return response.data;
@@ -76,8 +111,14 @@ export const documentService = {
     return response.data;
   },
 
-  getMySignatures: async (): Promise<DocumentSignature[]> => {
-    const response = await apiClient.get('/document-signatures/me');
+  getMySignatures: async (
+    filter: ListFilter = {},
+    cursor?: string | null,
+    size = 20,
+  ): Promise<CursorPage<DocumentSignature>> => {
+    const response = await apiClient.get('/document-signatures/me', {
+      params: { ...filter, cursor: cursor ?? undefined, size },
+    });
     return response.data;
   },
 
@@ -100,4 +141,9 @@ export const documentService = {
     const response = await apiClient.post(`/document-signatures/document/${docId}/request`, data);
     return response.data;
   },
+
+  requestSignaturesFromAudience: async (docId: string, data: DocumentAudienceRequest): Promise<DocumentAudienceResult> => {
+    const response = await apiClient.post(`/document-signatures/document/${docId}/request/audience`, data);
+    return response.data;
+  },
 };
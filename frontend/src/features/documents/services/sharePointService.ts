@@ -31,11 +31,9 @@ export const sharePointService = {
   },
 
   upload: async (driveId: string, file: File, folderId?: string): Promise<SharePointItem> => {
-    const formData = new FormData();
-    formData.append('file', file);
-    const response = await apiClient.post(`/sharepoint/drives/${driveId}/upload`, formData, {
-      headers: { 'Content-Type': 'multipart/form-data' },
-      params: folderId ? { folderId } : undefined,
+    const response = await apiClient.put(`/sharepoint/drives/${driveId}/upload/stream`, file, {
+      headers: { 'Content-Type': 'application/octet-stream' },
+      params: folderId ? { fileName: file.name, folderId } : { fileName: file.name },
     });
     return response.data;
   },
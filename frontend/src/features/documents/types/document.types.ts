@@ -1,6 +1,6 @@
 export type DocumentType = 'GENERAL' | 'POLICY' | 'CONTRACT' | 'ONBOARDING' | 'COMPLIANCE' | 'OTHER';
 export type DocumentStatus = 'ACTIVE' | 'ARCHIVED' | 'DRAFT';
-export type SignatureStatus = 'PENDING' | 'SIGNED' | 'DECLINED';
+export type SignatureStatus = 'PENDING' | 'SIGNED' | 'DECLINED' | 'EXPIRED';
 
 // --- Document ---
 export interface Document {
@@ -27,9 +27,44 @@ export interface Document {
   pendingSignatureCount: number;
   mySignatureStatus?: SignatureStatus | null;
   mySignatureId?: string | null;
+  inboxSource?: 'SHARED' | 'COMPANY_WIDE' | null;
+  receivedAt?: string | null;
+  viewedAt?: string | null;
+  /** Search only: HTML-escaped text with matched terms wrapped in <mark>. */
+  titleHighlight?: string | null;
+  descriptionHighlight?: string | null;
   createdAt: string;
 }
 
+export interface DocumentInboxCounts {
+  unreadCount: number;
+  pendingSignatureCount: number;
+}
+
+export interface DocumentInbox extends DocumentInboxCounts {
+  items: Document[];
+  nextCursor: string | null;
+}
+
+export interface DocumentSearchResult {
+  items: Document[];
+  nextCursor: string | null;
+}
+
+export interface DocumentReader {
+  employeeId: string;
+  name: string;
+  email: string;
+}
+
+export interface DocumentReadReceipts {
+  documentId: string;
+  activeEmployeeCount: number;
+  readCount: number;
+  unreadCount: number;
+  unreadEmployees: DocumentReader[];
+}
+
 export interface CreateDocumentRequest {
   title: string;
   description?: string;
@@ -63,6 +98,22 @@ export interface ShareDocumentRequest {
   employeeIds: string[];
 }
 
+export interface DocumentAudienceRequest {
+  employeeIds?: string[];
+  roles?: string[];
+  managerId?: string;
+  includeIndirectReports?: boolean;
+  allActiveEmployees?: boolean;
+}
+
+export interface DocumentAudienceResult {
+  documentId: string;
+  audienceSize: number;
+  queued: boolean;
+  sharesCreated: number;
+  signaturesCreated: number;
+}
+
 // --- Signature ---
 export interface DocumentSignature {
   id: string;
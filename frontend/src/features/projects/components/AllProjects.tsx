@@ -1,7 +1,8 @@
 import { useState } from 'react';
 import { useNavigate } from 'react-router-dom';
-import { ChevronLeft, ChevronRight, FolderKanban } from 'lucide-react';
+import { FolderKanban } from 'lucide-react';
 import { useProjects } from '../hooks/useProjects';
+import SlicePagination from '../../../shared/components/ui/SlicePagination';
 import type { ProjectStatus } from '../types/project.types';
 
 const statusStyles: Record<ProjectStatus, string> = {
@@ -76,32 +77,11 @@ export default function AllProjects() {
         </table>
       </div>
 
-      {/* Pagination */}
-      <div className="flex items-center justify-between mt-4 text-sm text-gray-600">
-        <span>
-          Showing {data.number * data.size + 1}–
-          {Math.min((data.number + 1) * data.size, data.totalElements)} of {data.totalElements}
-        </span>
-        <div className="flex items-center gap-2">
-          <button
-            onClick={() => setPage((p) => Math.max(0, p - 1))}
-            disabled={data.first}
-            className="p-1 rounded hover:bg-gray-100 disabled:opacity-30 disabled:cursor-not-allowed"
-          >
-            <ChevronLeft size={20} />
-          </button>
-          <span>
-            Page {data.number + 1} of {data.totalPages}
-          </span>
-          <button
-            onClick={() => setPage((p) => p + 1)}
-            disabled={data.last}
-            className="p-1 rounded hover:bg-gray-100 disabled:opacity-30 disabled:cursor-not-allowed"
-          >
-            <ChevronRight size={20} />
-          </button>
-        </div>
-      </div>
+      <SlicePagination
+        data={data}
+        onPrevious={() => setPage((p) => Math.max(0, p - 1))}
+        onNext={() => setPage((p) => p + 1)}
+      />
 
     </>
   );
@@ -3,6 +3,7 @@ import { useNavigate, useParams } from 'react-router-dom';
 import { ArrowLeft, Plus, X, Clock, Pencil } from 'lucide-react';
 import Header from '../../../shared/components/layout/Header';
 import { useAuth } from '../../auth/context/AuthContext';
+import LoadMoreButton from '../../../shared/components/ui/LoadMoreButton';
 import { getApiErrorMessage } from '../../../shared/utils/getApiErrorMessage';
 import {
   useProject,
@@ -40,7 +41,12 @@ export default function ProjectDetail() {
 
   const { data: project, isLoading, isError, error } = useProject(id!);
   const { data: assignments } = useProjectAssignments(id!);
-  const { data: timeLogs } = useProjectTimeLogs(id!);
+  const {
+    data: timeLogs,
+    hasNextPage: hasMoreLogs,
+    fetchNextPage: fetchMoreLogs,
+    isFetchingNextPage: isFetchingMoreLogs,
+  } = useProjectTimeLogs(id!);
 
   const removeAssignment = useRemoveAssignment();
 
@@ -346,6 +352,11 @@ export default function ProjectDetail() {
                   )}
                 </tbody>
               </table>
+              <LoadMoreButton
+                hasMore={hasMoreLogs}
+                loading={isFetchingMoreLogs}
+                onClick={() => fetchMoreLogs()}
+              />
             </div>
           </div>
         )}
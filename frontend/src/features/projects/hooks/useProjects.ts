@@ -1,4 +1,4 @@
-import { useQuery, useMutation, useQueryClient } from '@tanstack/react-query';
+import { useInfiniteQuery, useQuery, useMutation, useQueryClient } from '@tanstack/react-query';
 import { clientService } from '../services/clientService';
 import { projectService } from '../services/projectService';
 import type {
@@ -9,6 +9,7 @@ import type {
   AssignEmployeeRequest,
   CreateTimeLogRequest,
 } from '../types/project.types';
+import type { ListFilter } from '../../../shared/types/common.types';
 
 // ===================== Client Hooks =====================
 
@@ -154,18 +155,24 @@ export function useRemoveAssignment() {
 
 // ===================== Time Log Hooks =====================
 
-export function useProjectTimeLogs(projectId: string) {
-  return useQuery({
-    queryKey: ['project-time-logs', projectId],
-    queryFn: () => projectService.getProjectLogs(projectId),
+export function useProjectTimeLogs(projectId: string, filter: ListFilter = {}) {
+  return useInfiniteQuery({
+    queryKey: ['project-time-logs', projectId, filter],
+    queryFn: ({ pageParam }) => projectService.getProjectLogs(projectId, filter, pageParam),
+    initialPageParam: null as string | null,
+    getNextPageParam: (lastPage) => lastPage.nextCursor,
+    select: (data) => data.pages.flatMap((page) => page.items),
     enabled: !!projectId,
   });
 }
 
-export function useMyTimeLogs() {
-  return useQuery({
-    queryKey: ['project-time-logs', 'me'],
-    queryFn: () => projectService.getMyLogs(),
+export function useMyTimeLogs(filter: ListFilter = {}) {
+  return useInfiniteQuery({
+    queryKey: ['project-time-logs', 'me', filter],
+    queryFn: ({ pageParam }) => projectService.getMyLogs(filter, pageParam),
+    initialPageParam: null as string | null,
+    getNextPageParam: (lastPage) => lastPage.nextCursor,
+    select: (data) => data.pages.flatMap((page) => page.items),
   });
 }
 
@@ -1,5 +1,5 @@
 import apiClient from '../../../api/apiClient';
-import type { PagedResponse } from '../../../shared/types/common.types';
+import type { CursorPage, ListFilter, SlicedResponse } from '../../../shared/types/common.types';
 import type {
   Project,
   CreateProjectRequest,
@@ -12,8 +12,8 @@ import type {
 
 export const projectService = {
   // --- Projects ---
-  getAll: async (page = 0, size = 20): Promise<PagedResponse<Project>> => {
-    const response = await apiClient.get('/projects', { params: { page, size } });
+  getAll: async (page = 0, size = 20): Promise<SlicedResponse<Project>> => {
+    const response = await apiClient.get('/projects', { params: { page, size, estimateTotal: true } });
     return response.data;
   },
 
@@ -57,13 +57,26 @@ export const projectService = {
   },
 
   // --- Time Logs ---
-  getProjectLogs: async (projectId: string): Promise<ProjectTimeLog[]> => {
-    const response = await apiClient.get(`/project-time-logs/project/${projectId}`);
+  getProjectLogs: async (
+    projectId: string,
+    filter: ListFilter = {},
+    cursor?: string | null,
+    size = 20,
+  ): Promise<CursorPage<ProjectTimeLog>> => {
+    const response = await apiClient.get(`/project-time-logs/project/${projectId}`, {
+      params: { from: filter.from, to: filter.to, cursor: cursor ?? undefined, size },
+    });
     return response.data;
   },
 
-  getMyLogs: async (): Promise<ProjectTimeLog[]> => {
-    const response = await apiClient.get('/project-time-logs/me');
+  getMyLogs: async (
+    filter: ListFilter = {},
+    cursor?: string | null,
+    size = 20,
+  ): Promise<CursorPage<ProjectTimeLog>> => {
+    const response = await apiClient.get('/project-time-logs/me', {
+      params: { from: filter.from, to: filter.to, cursor: cursor ?? undefined, size },
+    });
     return response.data;
   },
 
@@ -1,8 +1,9 @@
 import { useState } from 'react';
-import { ChevronLeft, ChevronRight, Clock, Calendar, Paperclip, AlertCircle } from 'lucide-react';
+import { Clock, Calendar, Paperclip, AlertCircle } from 'lucide-react';
 import { useAuth } from '../../auth/context/AuthContext';
 import { useAllTimeOffRequests } from '../hooks/useTimeOff';
 import ReviewModal from './ReviewModal';
+import SlicePagination from '../../../shared/components/ui/SlicePagination';
 import type { TimeOffRequest, TimeOffRequestStatus } from '../types/timeoff.types';
 
 const statusStyles: Record<TimeOffRequestStatus, string> = {
@@ -107,32 +108,11 @@ export default function AllTimeOff() {
         </table>
       </div>
 
-      {/* Pagination */}
-      <div className="flex items-center justify-between mt-4 text-sm text-gray-600">
-        <span>
-          Showing {data.number * data.size + 1}–
-          {Math.min((data.number + 1) * data.size, data.totalElements)} of {data.totalElements}
-        </span>
-        <div className="flex items-center gap-2">
-          <button
-            onClick={() => setPage((p) => Math.max(0, p - 1))}
-            disabled={data.first}
-            className="p-1 rounded hover:bg-gray-100 disabled:opacity-30 disabled:cursor-not-allowed"
-          >
-            <ChevronLeft size={20} />
-          </button>
-          <span>
-            Page {data.number + 1} of {data.totalPages}
-          </span>
-          <button
-            onClick={() => setPage((p) => p + 1)}
-            disabled={data.last}
-            className="p-1 rounded hover:bg-gray-100 disabled:opacity-30 disabled:cursor-not-allowed"
-          >
-            <ChevronRight size={20} />
-          </button>
-        </div>
-      </div>
+      <SlicePagination
+        data={data}
+        onPrevious={() => setPage((p) => Math.max(0, p - 1))}
+        onNext={() => setPage((p) => p + 1)}
+      />
 
       {reviewRequest && (
         <ReviewModal request={reviewRequest} onClose={() => setReviewRequest(null)} />
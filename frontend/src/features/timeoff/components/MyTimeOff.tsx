@@ -1,6 +1,7 @@
 import { useState } from 'react';
 import { Plus, Clock, XCircle, Calendar, Paperclip, AlertCircle } from 'lucide-react';
 import { useMyBalances, useMyTimeOffRequests, useCancelTimeOffRequest } from '../hooks/useTimeOff';
+import LoadMoreButton from '../../../shared/components/ui/LoadMoreButton';
 import { getApiErrorMessage } from '../../../shared/utils/getApiErrorMessage';
 import BalanceCard from './BalanceCard';
 import RequestTimeOffModal from './RequestTimeOffModal';
@@ -16,7 +17,14 @@ const statusStyles: Record<TimeOffRequestStatus, string> = {
 export default function MyTimeOff() {
   const [showModal, setShowModal] = useState(false);
   const { data: balances, isLoading: balancesLoading, isError: balancesError } = useMyBalances();
-  const { data: requests, isLoading: requestsLoading, isError: requestsError } = useMyTimeOffRequests();
+  const {
+    data: requests,
+    isLoading: requestsLoading,
+    isError: requestsError,
+    hasNextPage,
+    fetchNextPage,
+    isFetchingNextPage,
+  } = useMyTimeOffRequests();
   const cancelRequest = useCancelTimeOffRequest();
 
   const handleCancel = async (requestId: string) => {
@@ -142,6 +150,7 @@ export default function MyTimeOff() {
                 ))}
               </tbody>
             </table>
+            <LoadMoreButton hasMore={hasNextPage} loading={isFetchingNextPage} onClick={() => fetchNextPage()} />
           </div>
         )}
       </div>
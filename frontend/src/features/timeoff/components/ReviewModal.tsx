@@ -1,8 +1,8 @@
 import { useState, useEffect, useCallback } from 'react';
-import { Check, XCircle } from 'lucide-react';
+import { AlertTriangle, Check, XCircle } from 'lucide-react';
 import { Modal, ModalBody, ModalError } from '../../../shared/components/ui/Modal';
 import { FormTextarea } from '../../../shared/components/ui/FormFields';
-import { useReviewTimeOffRequest } from '../hooks/useTimeOff';
+import { useApprovalImpact, useReviewTimeOffRequest } from '../hooks/useTimeOff';
 import { getApiErrorMessage } from '../../../shared/utils/getApiErrorMessage';
 import type { TimeOffRequest } from '../types/timeoff.types';
 
@@ -13,6 +13,7 @@ interface ReviewModalProps {
 
 export default function ReviewModal({ request, onClose }: ReviewModalProps) {
   const reviewMutation = useReviewTimeOffRequest();
+  const { data: impact } = useApprovalImpact(request.id, request.status === 'PENDING');
   const [note, setNote] = useState('');
 
   // Reset mutation state on mount so stale errors from prior opens are cleared
@@ -77,6 +78,22 @@ export default function ReviewModal({ request, onClose }: ReviewModalProps) {
           )}
         </div>
 
+        {impact?.belowThreshold && (
+          <div className="flex gap-2 bg-amber-50 border border-amber-200 rounded-lg p-3 text-sm text-amber-800">
+            <AlertTriangle size={16} className="shrink-0 mt-0.5" />
+            <div>
+              <p className="font-medium">Approving leaves the team short</p>
+              <p className="text-xs mt-1">
+                Fewer than {Math.round(impact.minCoverage * 100)}% of {impact.teamSize} team members would be available on{' '}
+                {impact.days
+                  .filter((day) => day.available / impact.teamSize < impact.minCoverage)
+                  .map((day) => day.date)
+                  .join(', ')}
+              </p>
+            </div>
+          </div>
+        )}
+
         <FormTextarea
           label="Note (optional)"
           value={note}
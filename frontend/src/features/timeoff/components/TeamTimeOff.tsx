@@ -1,8 +1,9 @@
 import { useState } from 'react';
 import { Clock, Calendar, Paperclip, AlertCircle } from 'lucide-react';
 import { useAuth } from '../../auth/context/AuthContext';
-import { useTeamTimeOffRequests } from '../hooks/useTimeOff';
+import { useBulkReviewTimeOffRequests, useTeamTimeOffRequests } from '../hooks/useTimeOff';
 import ReviewModal from './ReviewModal';
+import LoadMoreButton from '../../../shared/components/ui/LoadMoreButton';
 import type { TimeOffRequest, TimeOffRequestStatus } from '../types/timeoff.types';
 
 const statusStyles: Record<TimeOffRequestStatus, string> = {
@@ -14,9 +15,34 @@ const statusStyles: Record<TimeOffRequestStatus, string> = {
 
 export default function TeamTimeOff() {
   const { hasPermission } = useAuth();
-  const { data: requests, isLoading, isError } = useTeamTimeOffRequests();
+  const {
+    data: requests,
+    isLoading,
+    isError,
+    hasNextPage,
+    fetchNextPage,
+    isFetchingNextPage,
+  } = useTeamTimeOffRequests();
   const [reviewRequest, setReviewRequest] = useState<TimeOffRequest | null>(null);
   const canApprove = hasPermission('TIME_OFF_REQUEST_APPROVE');
+  const bulkReview = useBulkReviewTimeOffRequests();
+  const [selectedIds, setSelectedIds] = useState<Set<string>>(new Set());
+
+  const toggle = (id: string) => {
+    setSelectedIds((prev) => {
+      const next = new Set(prev);
+      if (next.has(id)) next.delete(id);
+      else next.add(id);
+      return next;
+    });
+  };
+
+  const handleBulkReview = (decision: 'APPROVED' | 'REJECTED') => {
+    bulkReview.mutate(
+      { ids: [...selectedIds], decision },
+      { onSuccess: () => setSelectedIds(new Set()) },
+    );
+  };
 
   // Sort pending requests first
   const sortedRequests = requests
@@ -46,10 +72,41 @@ export default function TeamTimeOff() {
 
   return (
     <>
+      {canApprove && (selectedIds.size > 0 || (bulkReview.data && bulkReview.data.failed > 0)) && (
+        <div className="flex items-center justify-end gap-3 mb-3">
+          {bulkReview.data && bulkReview.data.failed > 0 && (
+            <span className="text-xs text-red-600">
+              {bulkReview.data.failed} request{bulkReview.data.failed !== 1 ? 's' : ''} could not be reviewed
+            </span>
+          )}
+          {selectedIds.size > 100 && (
+            <span className="text-xs text-red-600">Select at most 100 requests at once</span>
+          )}
+          {selectedIds.size > 0 && (
+            <>
+              <button
+                onClick={() => handleBulkReview('REJECTED')}
+                disabled={bulkReview.isPending || selectedIds.size > 100}
+                className="px-3 py-1.5 text-sm font-medium text-red-700 bg-red-50 rounded-lg hover:bg-red-100 disabled:opacity-50 transition-colors"
+              >
+                Reject selected ({selectedIds.size})
+              </button>
+              <button
+                onClick={() => handleBulkReview('APPROVED')}
+                disabled={bulkReview.isPending || selectedIds.size > 100}
+                className="px-3 py-1.5 text-sm font-medium text-white bg-green-600 rounded-lg hover:bg-green-700 disabled:opacity-50 transition-colors"
+              >
+                Approve selected ({selectedIds.size})
+              </button>
+            </>
+          )}
+        </div>
+      )}
       <div className="bg-white rounded-lg border border-gray-200 overflow-hidden">
         <table className="w-full">
           <thead className="bg-gray-50 border-b border-gray-200">
             <tr>
+              {canApprove && <th className="w-10 px-4 py-3" />}
               <th className="text-left px-6 py-3 text-xs font-medium text-gray-500 uppercase tracking-wider">Employee</th>
               <th className="text-left px-6 py-3 text-xs font-medium text-gray-500 uppercase tracking-wider">Type</th>
               <th className="text-left px-6 py-3 text-xs font-medium text-gray-500 uppercase tracking-wider">Dates</th>
@@ -61,6 +118,19 @@ export default function TeamTimeOff() {
           <tbody className="divide-y divide-gray-100">
             {sortedRequests.map((req) => (
               <tr key={req.id} className="hover:bg-gray-50">
+                {canApprove && (
+                  <td className="px-4 py-4">
+                    {req.status === 'PENDING' && (
+                      <input
+                        type="checkbox"
+                        checked={selectedIds.has(req.id)}
+                        onChange={() => toggle(req.id)}
+                        aria-label={`Select ${req.employeeName}'s request`}
+                        className="rounded border-gray-300 text-blue-600 focus:ring-blue-500"
+                      />
+                    )}
+                  </td>
+                )}
                 <td className="px-6 py-4 text-sm font-medium text-gray-900">{req.employeeName}</td>
                 <td className="px-6 py-4 text-sm text-gray-700">{req.timeOffTypeName}</td>
                 <td className="px-6 py-4 text-sm text-gray-700">
@@ -111,6 +181,7 @@ export default function TeamTimeOff() {
             ))}
           </tbody>
         </table>
+        <LoadMoreButton hasMore={hasNextPage} loading={isFetchingNextPage} onClick={() => fetchNextPage()} />
       </div>
 
       {reviewRequest && (
@@ -1,4 +1,4 @@
-import { useQuery, useMutation, useQueryClient } from '@tanstack/react-query';
+import { useInfiniteQuery, useQuery, useMutation, useQueryClient } from '@tanstack/react-query';
 import { timeOffService } from '../services/timeOffService';
 import type {
   CreateTimeOffRequest,
@@ -6,6 +6,7 @@ import type {
   UpdateTimeOffTypeRequest,
   ReviewTimeOffRequest,
 } from '../types/timeoff.types';
+import type { BulkReviewRequest, ListFilter } from '../../../shared/types/common.types';
 
 // --- Type hooks ---
 export function useTimeOffTypes(activeOnly = true) {
@@ -35,17 +36,39 @@ export function useEmployeeBalances(employeeId: string, year?: number) {
 }
 
 // --- Request hooks ---
-export function useMyTimeOffRequests() {
+export function useMyTimeOffRequests(filter: ListFilter = {}) {
+  return useInfiniteQuery({
+    queryKey: ['time-off-requests', 'me', filter],
+    queryFn: ({ pageParam }) => timeOffService.getMyRequests(filter, pageParam),
+    initialPageParam: null as string | null,
+    getNextPageParam: (lastPage) => lastPage.nextCursor,
+    select: (data) => data.pages.flatMap((page) => page.items),
+  });
+}
+
+export function useTeamTimeOffRequests(filter: ListFilter = {}) {
+  return useInfiniteQuery({
+    queryKey: ['time-off-requests', 'team', filter],
+    queryFn: ({ pageParam }) => timeOffService.getTeamRequests(filter, pageParam),
+    initialPageParam: null as string | null,
+    getNextPageParam: (lastPage) => lastPage.nextCursor,
+    select: (data) => data.pages.flatMap((page) => page.items),
+  });
+}
+
+export function useTeamCoverage(startDate: string, endDate: string, managerId?: string) {
   return useQuery({
-    queryKey: ['time-off-requests', 'me'],
-    queryFn: () => timeOffService.getMyRequests(),
+    queryKey: ['time-off-requests', 'coverage', startDate, endDate, managerId],
+    queryFn: () => timeOffService.getTeamCoverage(startDate, endDate, managerId),
+    enabled: !!startDate && !!endDate,
   });
 }
 
-export function useTeamTimeOffRequests() {
+export function useApprovalImpact(requestId: string, enabled = true) {
   return useQuery({
-    queryKey: ['time-off-requests', 'team'],
-    queryFn: () => timeOffService.getTeamRequests(),
+    queryKey: ['time-off-requests', requestId, 'coverage'],
+    queryFn: () => timeOffService.getApprovalImpact(requestId),
+    enabled: !!requestId && enabled,
   });
 }
 
@@ -68,6 +91,17 @@ export function useCreateTimeOffRequest() {
   });
 }
 
+export function useBulkReviewTimeOffRequests() {
+  const queryClient = useQueryClient();
+  return useMutation({
+    mutationFn: (data: BulkReviewRequest) => timeOffService.bulkReviewRequests(data),
+    onSuccess: () => {
+      queryClient.invalidateQueries({ queryKey: ['time-off-requests'] });
+      queryClient.invalidateQueries({ queryKey: ['time-off-balances'] });
+    },
+  });
+}
+
 export function useReviewTimeOffRequest() {
   const queryClient = useQueryClient();
   return useMutation({
@@ -1,5 +1,11 @@
 import apiClient from '../../../api/apiClient';
-import type { PagedResponse } from '../../../shared/types/common.types';
+import type {
+  BulkReviewRequest,
+  BulkReviewResult,
+  CursorPage,
+  ListFilter,
+  SlicedResponse,
+} from '../../../shared/types/common.types';
 import type {
   TimeOffType,
   TimeOffBalance,
@@ -9,6 +15,8 @@ import type {
   UpdateTimeOffTypeRequest,
   ReviewTimeOffRequest,
   AdjustBalanceRequest,
+  TeamCoverage,
+  CoverageImpact,
 } from '../types/timeoff.types';
 
 export const timeOffService = {
@@ -68,18 +76,30 @@ export const timeOffService = {
     return response.data;
   },
 
-  getMyRequests: async (): Promise<TimeOffRequest[]> => {
-    const response = await apiClient.get('/time-off-requests/me');
+  getMyRequests: async (
+    filter: ListFilter = {},
+    cursor?: string | null,
+    size = 20,
+  ): Promise<CursorPage<TimeOffRequest>> => {
+    const response = await apiClient.get('/time-off-requests/me', {
+      params: { ...filter, cursor: cursor ?? undefined, size },
+    });
     return response.data;
   },
 
-  getTeamRequests: async (): Promise<TimeOffRequest[]> => {
-    const response = await apiClient.get('/time-off-requests/team');
+  getTeamRequests: async (
+    filter: ListFilter = {},
+    cursor?: string | null,
+    size = 20,
+  ): Promise<CursorPage<TimeOffRequest>> => {
+    const response = await apiClient.get('/time-off-requests/team', {
+      params: { ...filter, cursor: cursor ?? undefined, size },
+    });
     return response.data;
   },
 
-  getAllRequests: async (page = 0, size = 20): Promise<PagedResponse<TimeOffRequest>> => {
-    const response = await apiClient.get('/time-off-requests', { params: { page, size } });
+  getAllRequests: async (page = 0, size = 20): Promise<SlicedResponse<TimeOffRequest>> => {
+    const response = await apiClient.get('/time-off-requests', { params: { page, size, estimateTotal: true } });
     return response.data;
   },
 
@@ -88,11 +108,28 @@ export const timeOffService = {
     return response.data;
   },
 
+  getTeamCoverage: async (startDate: string, endDate: string, managerId?: string): Promise<TeamCoverage> => {
+    const response = await apiClient.get('/time-off-requests/coverage', {
+      params: { startDate, endDate, managerId },
+    });
+    return response.data;
+  },
+
+  getApprovalImpact: async (id: string): Promise<CoverageImpact> => {
+    const response = await apiClient.get(`/time-off-requests/${id}/coverage`);
+    return response.data;
+  },
+
   reviewRequest: async (id: string, data: ReviewTimeOffRequest): Promise<TimeOffRequest> => {
     const response = await apiClient.put(`/time-off-requests/${id}/review`, data);
     return response.data;
   },
 
+  bulkReviewRequests: async (data: BulkReviewRequest): Promise<BulkReviewResult<TimeOffRequest>> => {
+    const response = await apiClient.post('/time-off-requests/bulk-review', data);
+    return response.data;
+  },
+
   cancelRequest: async (id: string): Promise<TimeOffRequest> => {
     const response = await apiClient.put(`/time-off-requests/${id}/cancel`);
     return response.data;
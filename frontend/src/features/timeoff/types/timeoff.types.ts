@@ -70,6 +70,32 @@ export interface ReviewTimeOffRequest {
   note?: string;
 }
 
+export interface Absentee {
+  employeeId: string;
+  employeeName: string;
+  weight: number;
+}
+
+export interface DayCoverage {
+  date: string;
+  absent: number;
+  available: number;
+  absentees: Absentee[];
+}
+
+export interface TeamCoverage {
+  managerId: string;
+  teamSize: number;
+  days: DayCoverage[];
+}
+
+export interface CoverageImpact {
+  teamSize: number;
+  minCoverage: number;
+  belowThreshold: boolean;
+  days: DayCoverage[];
+}
+
 export interface AdjustBalanceRequest {
   adjustment: number;
   reason?: string;
@@ -1,5 +1,7 @@
 import { Bell, Search } from 'lucide-react';
+import { useNavigate } from 'react-router-dom';
 import { useAuth } from '../../../features/auth/context/AuthContext';
+import { useDocumentInboxCounts } from '../../../features/documents/hooks/useDocuments';
 
 interface HeaderProps {
   title: string;
@@ -7,6 +9,9 @@ interface HeaderProps {
 
 export default function Header({ title }: HeaderProps) {
   const { user } = useAuth();
+  const navigate = useNavigate();
+  const { data: inboxCounts } = useDocumentInboxCounts();
+  const inboxTotal = inboxCounts ? inboxCounts.unreadCount + inboxCounts.pendingSignatureCount : 0;
 
   const initials = user
     ? user.name
@@ -29,8 +34,21 @@ export default function Header({ title }: HeaderProps) {
           />
         </div>
 
-        <button className="relative p-2 text-gray-500 hover:text-gray-700 hover:bg-gray-50 rounded-lg">
+        <button
+          onClick={() => navigate('/documents?tab=inbox')}
+          title={
+            inboxCounts
+              ? `${inboxCounts.unreadCount} unread, ${inboxCounts.pendingSignatureCount} awaiting signature`
+              : 'Document inbox'
+          }
+          className="relative p-2 text-gray-500 hover:text-gray-700 hover:bg-gray-50 rounded-lg"
+        >
           <Bell size={20} />
+          {inboxTotal > 0 && (
+            <span className="absolute -top-0.5 -right-0.5 min-w-[18px] h-[18px] px-1 rounded-full bg-red-600 text-white text-[10px] font-semibold flex items-center justify-center">
+              {inboxTotal > 99 ? '99+' : inboxTotal}
+            </span>
+          )}
         </button>
 
         <div className="w-8 h-8 rounded-full bg-blue-600 flex items-center justify-center text-white text-sm font-medium">
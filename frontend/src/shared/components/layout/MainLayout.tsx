@@ -2,9 +2,11 @@ import { useState } from 'react';
 import { Outlet } from 'react-router-dom';
 import Sidebar from './Sidebar';
 import ErrorBoundary from '../ErrorBoundary';
+import { useLiveUpdates } from '../../../features/dashboard/hooks/useLiveUpdates';
 
 export default function MainLayout() {
   const [sidebarCollapsed, setSidebarCollapsed] = useState(false);
+  useLiveUpdates();
 
   return (
     <div className="flex min-h-screen bg-gray-50">
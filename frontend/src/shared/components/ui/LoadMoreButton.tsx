@@ -0,0 +1,25 @@
+export interface LoadMoreButtonProps {
+  /** Whether the server reported another page */
+  hasMore: boolean;
+  /** Whether the next page is being fetched */
+  loading: boolean;
+  onClick: () => void;
+}
+
+/**
+ * Footer button for cursor-paginated lists; renders nothing on the last page.
+ */
+export default function LoadMoreButton({ hasMore, loading, onClick }: LoadMoreButtonProps) {
+  if (!hasMore) return null;
+  return (
+    <div className="flex justify-center py-4">
+      <button
+        onClick={onClick}
+        disabled={loading}
+        className="px-4 py-2 text-sm font-medium text-gray-700 bg-white border border-gray-300 rounded-lg hover:bg-gray-50 disabled:opacity-50 transition-colors"
+      >
+        {loading ? 'Loading...' : 'Load more'}
+      </button>
+    </div>
+  );
+}
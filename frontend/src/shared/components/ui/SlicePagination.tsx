@@ -0,0 +1,43 @@
+import { ChevronLeft, ChevronRight } from 'lucide-react';
+import type { SlicedResponse } from '../../types/common.types';
+
+export interface SlicePaginationProps<T> {
+  /** The current slice */
+  data: SlicedResponse<T>;
+  onPrevious: () => void;
+  onNext: () => void;
+}
+
+/**
+ * Previous/next footer for count-free admin tables. The total, when the server sent
+ * one, is an estimate and is shown as such.
+ */
+export default function SlicePagination<T>({ data, onPrevious, onNext }: SlicePaginationProps<T>) {
+  const firstRow = data.number * data.size + 1;
+  const lastRow = data.number * data.size + data.content.length;
+  return (
+    <div className="flex items-center justify-between mt-4 text-sm text-gray-600">
+      <span>
+        Showing {firstRow}–{lastRow}
+        {data.estimatedTotal != null && <> of about {data.estimatedTotal.toLocaleString()}</>}
+      </span>
+      <div className="flex items-center gap-2">
+        <button
+          onClick={onPrevious}
+          disabled={data.first}
+          className="p-1 rounded hover:bg-gray-100 disabled:opacity-30 disabled:cursor-not-allowed"
+        >
+          <ChevronLeft size={20} />
+        </button>
+        <span>Page {data.number + 1}</span>
+        <button
+          onClick={onNext}
+          disabled={data.last}
+          className="p-1 rounded hover:bg-gray-100 disabled:opacity-30 disabled:cursor-not-allowed"
+        >
+          <ChevronRight size={20} />
+        </button>
+      </div>
+    </div>
+  );
+}
@@ -8,9 +8,51 @@ export interface PagedResponse<T> {
   last: boolean;
 }
 
+/** A page read without a count query; the total is approximate when present. */
+export interface SlicedResponse<T> {
+  content: T[];
+  size: number;
+  number: number;
+  first: boolean;
+  last: boolean;
+  estimatedTotal: number | null;
+}
+
 export interface ErrorResponse {
   status: number;
   message: string;
   errors?: Record<string, string>;
   timestamp: string;
 }
+
+export interface BulkReviewItem<T> {
+  id: string;
+  success: boolean;
+  message?: string | null;
+  result?: T | null;
+}
+
+export interface BulkReviewResult<T> {
+  succeeded: number;
+  failed: number;
+  items: BulkReviewItem<T>[];
+}
+
+export interface BulkReviewRequest {
+  ids: string[];
+  decision: 'APPROVED' | 'REJECTED';
+  note?: string;
+}
+
+export interface CursorPage<T> {
+  items: T[];
+  /** Opaque cursor for the next page; null on the last page. */
+  nextCursor: string | null;
+}
+
+export interface ListFilter {
+  status?: string;
+  /** Inclusive ISO dates */
+  from?: string;
+  to?: string;
+}